@@ -7,10 +7,12 @@ import org.uma.jmetal.operator.MutationOperator;
 import org.uma.jmetal.operator.SelectionOperator;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.impl.DoublePopulation;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,6 +26,7 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
   protected List<S> archive;
   protected final StrengthRawFitness<S> strenghtRawFitness = new StrengthRawFitness<S>();
   protected final EnvironmentalSelection<S> environmentalSelection;
+  private int insertedOffspring;
 
   public SPEA2(Problem<S> problem, int maxIterations, int populationSize,
       CrossoverOperator<S> crossoverOperator, MutationOperator<S> mutationOperator,
@@ -45,6 +48,7 @@ public class SPEA2<S extends Solution<?>> extends AbstractGeneticAlgorithm<S, Li
   @Override
 public void initProgress() {
     iterations = 1;
+    insertedOffspring = 0;
   }
 
   @Override
@@ -69,7 +73,15 @@ public boolean isStoppingConditionReached() {
     union.addAll(archive);
     union.addAll(population);
     strenghtRawFitness.computeDensityEstimator(union);
+    List<S> previousArchive = archive;
     archive = environmentalSelection.execute(union);
+
+    List<S> survivors = new ArrayList<>(archive.size() + population.size());
+    survivors.addAll(archive);
+    survivors.addAll(population);
+    if (isReleaseDiscardedSolutions()) {
+      DoublePopulation.releaseDiscarded(survivors, previousArchive);
+    }
     return archive;
   }
 
@@ -88,6 +100,9 @@ public boolean isStoppingConditionReached() {
       List<S> offspring = crossoverOperator.execute(parents);
       mutationOperator.execute(offspring.get(0));
       offSpringPopulation.add(offspring.get(0));
+      if (isReleaseDiscardedSolutions()) {
+        DoublePopulation.releaseDiscarded(parents, offspring.subList(1, offspring.size()));
+      }
     }
     return offSpringPopulation;
   }
@@ -98,6 +113,40 @@ public boolean isStoppingConditionReached() {
     return offspringPopulation;
   }
 
+  /** The solutions of the population which are in the archive survive the replacement */
+  @Override
+  protected void releaseDiscardedSolutions(List<S> population, List<S> offspringPopulation,
+      List<S> survivors) {
+    List<S> allSurvivors = new ArrayList<>(archive.size() + survivors.size());
+    allSurvivors.addAll(archive);
+    allSurvivors.addAll(survivors);
+    DoublePopulation.releaseDiscarded(allSurvivors, population, offspringPopulation);
+  }
+
+  /**
+   * Steady-state insertion used in the asynchronous mode: the population is the window of the last
+   * evaluated offspring, and a generation is counted every time it has been completely renewed.
+   * The archive is updated by {@link #selection(List)} each time a new batch of offspring is
+   * created.
+   */
+  @Override
+  protected List<S> insertOffspring(List<S> population, S offspring) {
+    population.add(offspring);
+    if (population.size() > getMaxPopulationSize()) {
+      S removed = population.remove(0);
+      if (isReleaseDiscardedSolutions()) {
+        DoublePopulation.releaseDiscarded(archive, Collections.singletonList(removed));
+      }
+    }
+
+    insertedOffspring++;
+    if (insertedOffspring == getMaxPopulationSize()) {
+      insertedOffspring = 0;
+      updateProgress();
+    }
+    return population;
+  }
+
   @Override
   public List<S> getResult() {
     return archive;
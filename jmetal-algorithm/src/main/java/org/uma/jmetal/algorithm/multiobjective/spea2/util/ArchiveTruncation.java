@@ -0,0 +1,211 @@
+package org.uma.jmetal.algorithm.multiobjective.spea2.util;
+
+import java.util.Arrays;
+
+/**
+ * Truncation of the archive of SPEA2. Given the distances among the solutions of the archive, the
+ * solution with the smallest distance to its nearest remaining neighbour is removed, one at a time,
+ * until the requested number of solutions is left; if several solutions are at the same distance
+ * of their nearest neighbours, the one in the first position is removed.
+ *
+ * The neighbours of each solution are sorted by distance once, into an array of indices. Removed
+ * solutions are marked as such and skipped when they are found in those arrays, so no array is
+ * modified after it is built. The solutions are kept in a binary heap ordered by the distance to
+ * their nearest remaining neighbour and by their position; when a solution is removed, only the
+ * solutions having it as nearest neighbour are updated.
+ */
+public class ArchiveTruncation {
+  private final double[][] distance ;
+  private final int[][] neighbours ;
+  private final int[] nearest ;
+  private final boolean[] removed ;
+  private final int[] firstWatcher ;
+  private final int[] nextWatcher ;
+  private final int[] heap ;
+  private final int[] heapPosition ;
+  private int heapSize ;
+  private int remaining ;
+
+  /**
+   * Constructor
+   * @param distance Matrix of distances among the solutions
+   */
+  public ArchiveTruncation(double[][] distance) {
+    int size = distance.length ;
+    this.distance = distance ;
+    neighbours = new int[size][] ;
+    nearest = new int[size] ;
+    removed = new boolean[size] ;
+    firstWatcher = new int[size] ;
+    nextWatcher = new int[size] ;
+    heap = new int[size] ;
+    heapPosition = new int[size] ;
+
+    Arrays.fill(firstWatcher, -1) ;
+    int[] buffer = new int[Math.max(0, size - 1)] ;
+    for (int i = 0; i < size; i++) {
+      int[] row = new int[size - 1] ;
+      int k = 0 ;
+      for (int j = 0; j < size; j++) {
+        if (j != i) {
+          row[k++] = j ;
+        }
+      }
+      sortByDistance(row, distance[i], buffer) ;
+      neighbours[i] = row ;
+      if (row.length > 0) {
+        watch(i, row[0]) ;
+      }
+    }
+
+    for (int i = 0; i < size; i++) {
+      heap[i] = i ;
+      heapPosition[i] = i ;
+    }
+    heapSize = size ;
+    for (int i = size / 2 - 1; i >= 0; i--) {
+      siftDown(i) ;
+    }
+    remaining = size ;
+  }
+
+  /**
+   * Removes solutions until the number of remaining ones is the given size
+   * @param size Number of solutions to keep
+   * @return The positions of the remaining solutions, in increasing order
+   */
+  public int[] truncate(int size) {
+    while (remaining > Math.max(size, 0)) {
+      remove(heap[0]) ;
+    }
+
+    int[] result = new int[remaining] ;
+    int k = 0 ;
+    for (int i = 0; i < removed.length; i++) {
+      if (!removed[i]) {
+        result[k++] = i ;
+      }
+    }
+    return result ;
+  }
+
+  private void remove(int solution) {
+    removed[solution] = true ;
+    remaining-- ;
+
+    int position = heapPosition[solution] ;
+    int last = heap[--heapSize] ;
+    if (position < heapSize) {
+      heap[position] = last ;
+      heapPosition[last] = position ;
+      siftDown(position) ;
+      siftUp(heapPosition[last]) ;
+    }
+
+    int watcher = firstWatcher[solution] ;
+    firstWatcher[solution] = -1 ;
+    while (watcher != -1) {
+      int next = nextWatcher[watcher] ;
+      if (!removed[watcher]) {
+        int[] row = neighbours[watcher] ;
+        int k = nearest[watcher] ;
+        while (k < row.length && removed[row[k]]) {
+          k++ ;
+        }
+        nearest[watcher] = k ;
+        if (k < row.length) {
+          watch(watcher, row[k]) ;
+        }
+        siftDown(heapPosition[watcher]) ;
+      }
+      watcher = next ;
+    }
+  }
+
+  /** Records that the nearest remaining neighbour of a solution is another one */
+  private void watch(int solution, int neighbour) {
+    nextWatcher[solution] = firstWatcher[neighbour] ;
+    firstWatcher[neighbour] = solution ;
+  }
+
+  private double nearestDistance(int solution) {
+    int[] row = neighbours[solution] ;
+    int k = nearest[solution] ;
+
+    return k < row.length ? distance[solution][row[k]] : Double.POSITIVE_INFINITY ;
+  }
+
+  private boolean precedes(int solution1, int solution2) {
+    double distance1 = nearestDistance(solution1) ;
+    double distance2 = nearestDistance(solution2) ;
+
+    return distance1 < distance2 || (distance1 == distance2 && solution1 < solution2) ;
+  }
+
+  private void siftUp(int position) {
+    int solution = heap[position] ;
+    while (position > 0) {
+      int parent = (position - 1) / 2 ;
+      if (!precedes(solution, heap[parent])) {
+        break ;
+      }
+      heap[position] = heap[parent] ;
+      heapPosition[heap[position]] = position ;
+      position = parent ;
+    }
+    heap[position] = solution ;
+    heapPosition[solution] = position ;
+  }
+
+  private void siftDown(int position) {
+    int solution = heap[position] ;
+    while (true) {
+      int child = 2 * position + 1 ;
+      if (child >= heapSize) {
+        break ;
+      }
+      if (child + 1 < heapSize && precedes(heap[child + 1], heap[child])) {
+        child++ ;
+      }
+      if (!precedes(heap[child], solution)) {
+        break ;
+      }
+      heap[position] = heap[child] ;
+      heapPosition[heap[position]] = position ;
+      position = child ;
+    }
+    heap[position] = solution ;
+    heapPosition[solution] = position ;
+  }
+
+  /** Stable merge sort of an array of indices by their values in an array of distances */
+  private static void sortByDistance(int[] indices, double[] values, int[] buffer) {
+    int length = indices.length ;
+    int[] source = indices ;
+    int[] target = buffer ;
+    for (int width = 1; width < length; width *= 2) {
+      for (int low = 0; low < length; low += 2 * width) {
+        int middle = Math.min(low + width, length) ;
+        int high = Math.min(low + 2 * width, length) ;
+        int i = low ;
+        int j = middle ;
+        int k = low ;
+        while (i < middle && j < high) {
+          target[k++] = values[source[j]] < values[source[i]] ? source[j++] : source[i++] ;
+        }
+        while (i < middle) {
+          target[k++] = source[i++] ;
+        }
+        while (j < high) {
+          target[k++] = source[j++] ;
+        }
+      }
+      int[] swap = source ;
+      source = target ;
+      target = swap ;
+    }
+    if (source != indices) {
+      System.arraycopy(source, 0, indices, 0, length) ;
+    }
+  }
+}
@@ -8,7 +8,14 @@ import junit.framework.Test;
 import junit.framework.TestSuite;
 
 @RunWith(Suite.class)
-@SuiteClasses({ SPEA2Test.class, ZDT1Test.class })
+@SuiteClasses({ SPEA2Test.class, ZDT1Test.class, DominanceRankingTest.class,
+		DoublePopulationTest.class, BinaryFrontFormatTest.class,
+		HypervolumeTest.class, CachingSolutionListEvaluatorTest.class,
+		HypervolumeContributionEngineTest.class, SolutionListOutputTest.class,
+		AsynchronousPushMeasureTest.class,
+		FrontIndexTest.class,
+		NonDominatedTreeArchiveTest.class,
+		MeasureExporterTest.class })
 public class AllTests {
 	public static Test suite() {
 		TestSuite suite = new TestSuite("All Test");
@@ -17,6 +24,28 @@ public class AllTests {
 		
 		suite.addTest(new TestSuite(ZDT1Test.class));
 		
+		suite.addTest(new TestSuite(DominanceRankingTest.class));
+		
+		suite.addTest(new TestSuite(DoublePopulationTest.class));
+		
+		suite.addTest(new TestSuite(BinaryFrontFormatTest.class));
+		
+		suite.addTest(new TestSuite(HypervolumeTest.class));
+		
+		suite.addTest(new TestSuite(CachingSolutionListEvaluatorTest.class));
+		
+		suite.addTest(new TestSuite(HypervolumeContributionEngineTest.class));
+		
+		suite.addTest(new TestSuite(SolutionListOutputTest.class));
+		
+		suite.addTest(new TestSuite(AsynchronousPushMeasureTest.class));
+		
+		suite.addTest(new TestSuite(FrontIndexTest.class));
+		
+		suite.addTest(new TestSuite(NonDominatedTreeArchiveTest.class));
+		
+		suite.addTest(new TestSuite(MeasureExporterTest.class));
+		
 		return suite;
 	}
 
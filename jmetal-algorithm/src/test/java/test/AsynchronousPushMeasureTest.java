@@ -0,0 +1,200 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.BatchMeasureListener;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.impl.AsynchronousPushMeasure;
+import org.uma.jmetal.measure.impl.AsynchronousPushMeasure.OverflowPolicy;
+
+public class AsynchronousPushMeasureTest {
+	/** Listener recording the values delivered and counting them down */
+	private static class RecordingListener<Value> implements MeasureListener<Value> {
+		private final List<Value> values = Collections.synchronizedList(new ArrayList<Value>());
+		private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+		private final CountDownLatch latch;
+
+		RecordingListener(int expectedValues) {
+			latch = new CountDownLatch(expectedValues);
+		}
+
+		@Override
+		public void measureGenerated(Value value) {
+			values.add(value);
+			threads.add(Thread.currentThread());
+			latch.countDown();
+		}
+
+		void await() throws InterruptedException {
+			assertTrue(latch.await(20, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test(timeout = 30000)
+	public void testValuesOfSeveralProducersAreDeliveredInOrder() throws InterruptedException {
+		final int producers = 4;
+		final int valuesPerProducer = 20000;
+		final AsynchronousPushMeasure<Long> measure = new AsynchronousPushMeasure<>("values", "", 64,
+				OverflowPolicy.BLOCK);
+		RecordingListener<Long> listener = new RecordingListener<>(producers * valuesPerProducer);
+		final AtomicInteger batchValues = new AtomicInteger();
+		measure.register(listener);
+		measure.register(new BatchMeasureListener<Long>() {
+			@Override
+			public void measuresGenerated(List<Long> values) {
+				assertTrue(values.size() <= 256);
+				batchValues.addAndGet(values.size());
+			}
+
+			@Override
+			public void measureGenerated(Long value) {
+				fail("A batch listener receives the values by batches");
+			}
+		});
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			final long producer = p;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < valuesPerProducer; i++) {
+						measure.push(producer << 32 | i);
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		listener.await();
+		measure.close();
+
+		// no value is lost and each producer's values arrive in the order pushed
+		int[] next = new int[producers];
+		for (long value : listener.values) {
+			int producer = (int) (value >>> 32);
+			assertEquals(next[producer]++, (int) value);
+		}
+		for (int p = 0; p < producers; p++) {
+			assertEquals(valuesPerProducer, next[p]);
+		}
+		assertEquals(0, measure.getNumberOfDroppedValues());
+		assertEquals(producers * valuesPerProducer, batchValues.get());
+	}
+
+	@Test(timeout = 30000)
+	public void testMeasuresShareOneDispatcherThread() throws InterruptedException {
+		List<AsynchronousPushMeasure<Integer>> measures = new ArrayList<>();
+		List<RecordingListener<Integer>> listeners = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			AsynchronousPushMeasure<Integer> measure = new AsynchronousPushMeasure<>("measure " + i, "");
+			RecordingListener<Integer> listener = new RecordingListener<>(100);
+			measure.register(listener);
+			measures.add(measure);
+			listeners.add(listener);
+		}
+
+		for (int value = 0; value < 100; value++) {
+			for (AsynchronousPushMeasure<Integer> measure : measures) {
+				measure.push(value);
+			}
+		}
+		Set<Thread> threads = new HashSet<>();
+		for (RecordingListener<Integer> listener : listeners) {
+			listener.await();
+			threads.addAll(listener.threads);
+			assertEquals(100, listener.values.size());
+			for (int value = 0; value < 100; value++) {
+				assertEquals(Integer.valueOf(value), listener.values.get(value));
+			}
+		}
+		assertEquals(1, threads.size());
+		assertFalse(threads.contains(Thread.currentThread()));
+
+		for (AsynchronousPushMeasure<Integer> measure : measures) {
+			measure.close();
+		}
+		// the dispatcher thread terminates once no measure has to be delivered
+		Thread dispatcher = threads.iterator().next();
+		dispatcher.join(10000);
+		assertFalse(dispatcher.isAlive());
+	}
+
+	@Test(timeout = 30000)
+	public void testListenerCanPushToAnotherBlockingMeasure() throws InterruptedException {
+		final AsynchronousPushMeasure<Integer> source = new AsynchronousPushMeasure<>("source", "", 4,
+				OverflowPolicy.BLOCK);
+		final AsynchronousPushMeasure<Integer> target = new AsynchronousPushMeasure<>("target", "", 2,
+				OverflowPolicy.BLOCK);
+		RecordingListener<Integer> listener = new RecordingListener<>(1000);
+		target.register(listener);
+		source.register(new MeasureListener<Integer>() {
+			@Override
+			public void measureGenerated(Integer value) {
+				// the buffer of the target is full after two values
+				for (int i = 0; i < 100; i++) {
+					target.push(value * 100 + i);
+				}
+			}
+		});
+
+		for (int value = 0; value < 10; value++) {
+			source.push(value);
+		}
+		listener.await();
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(Integer.valueOf(i), listener.values.get(i));
+		}
+		source.close();
+		target.close();
+	}
+
+	@Test(timeout = 30000)
+	public void testDeserializedMeasureDeliversValues() throws Exception {
+		AsynchronousPushMeasure<String> measure = new AsynchronousPushMeasure<>("name", "description", 10,
+				OverflowPolicy.COALESCE_LATEST);
+		measure.register(new RecordingListener<String>(0));
+		measure.push("before");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(measure);
+		}
+		measure.close();
+		@SuppressWarnings("unchecked")
+		AsynchronousPushMeasure<String> copy = (AsynchronousPushMeasure<String>) new ObjectInputStream(
+				new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+		assertEquals(16, copy.getCapacity());
+		assertEquals(OverflowPolicy.COALESCE_LATEST, copy.getOverflowPolicy());
+
+		// the listeners are not serialized
+		copy.push("ignored");
+		RecordingListener<String> listener = new RecordingListener<>(2);
+		copy.register(listener);
+		copy.push("first");
+		copy.push("second");
+		listener.await();
+		assertEquals(Arrays.asList("first", "second"), listener.values);
+		copy.close();
+	}
+}
@@ -0,0 +1,155 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.BinaryFileOutputContext;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.MappedFront;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
+import org.uma.jmetal.util.point.Point;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+
+public class BinaryFrontFormatTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private List<DoubleSolution> createSolutions(int numberOfSolutions) {
+		ZDT1 problem = new ZDT1(5);
+		Random random = new Random(1);
+		List<DoubleSolution> solutions = new ArrayList<>();
+		for (int i = 0; i < numberOfSolutions; i++) {
+			DoubleSolution solution = problem.createSolution();
+			solution.setObjective(0, random.nextDouble() * 1e6);
+			solution.setObjective(1, -random.nextDouble() / 3.0);
+			solutions.add(solution);
+		}
+		return solutions;
+	}
+
+	@Test
+	public void testDoublePrecisionRoundTripIsExact() throws Exception {
+		List<DoubleSolution> solutions = createSolutions(50);
+		String varFile = new File(folder.getRoot(), "VAR0.bin").getPath();
+		String funFile = new File(folder.getRoot(), "FUN0.bin").getPath();
+		new SolutionListOutput(solutions)
+				.setVarFileOutputContext(new BinaryFileOutputContext(varFile))
+				.setFunFileOutputContext(new BinaryFileOutputContext(funFile))
+				.print();
+
+		assertTrue(BinaryFrontFormat.isBinaryFile(funFile));
+		Front fun = BinaryFrontFormat.readFront(funFile);
+		Front var = BinaryFrontFormat.readFront(varFile);
+		assertTrue(fun instanceof MappedFront);
+		assertEquals(50, fun.getNumberOfPoints());
+		assertEquals(2, fun.getPointDimensions());
+		assertEquals(5, var.getPointDimensions());
+
+		for (int i = 0; i < solutions.size(); i++) {
+			for (int j = 0; j < 2; j++) {
+				assertEquals(solutions.get(i).getObjective(j), fun.getPoint(i).getDimensionValue(j), 0.0);
+				assertEquals(solutions.get(i).getObjective(j), ((MappedFront) fun).getValue(i, j), 0.0);
+			}
+			for (int j = 0; j < 5; j++) {
+				assertEquals(solutions.get(i).getVariableValue(j), var.getPoint(i).getDimensionValue(j), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testSinglePrecisionStoresFloats() throws Exception {
+		double[] values = { Math.PI, -Math.E, 1e-10, 123456789.123, 0.1, Double.MAX_VALUE / 2 };
+		String file = new File(folder.getRoot(), "FUN1.bin").getPath();
+		new BinaryFileOutputContext(file, true).write(values, 3, 2);
+
+		assertEquals(BinaryFrontFormat.HEADER_SIZE + values.length * 4, new File(file).length());
+		MappedFront front = new MappedFront(file);
+		assertEquals(3, front.getNumberOfPoints());
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 2; j++) {
+				assertEquals((double) (float) values[i * 2 + j], front.getValue(i, j), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testObjectivesToBeMaximizedAreNegated() throws Exception {
+		List<DoubleSolution> solutions = createSolutions(10);
+		String varFile = new File(folder.getRoot(), "VAR2.bin").getPath();
+		String funFile = new File(folder.getRoot(), "FUN2.bin").getPath();
+		new SolutionListOutput(solutions)
+				.setVarFileOutputContext(new BinaryFileOutputContext(varFile))
+				.setFunFileOutputContext(new BinaryFileOutputContext(funFile))
+				.setObjectiveMinimizingObjectiveList(Arrays.asList(true, false))
+				.print();
+
+		MappedFront front = new MappedFront(funFile);
+		for (int i = 0; i < solutions.size(); i++) {
+			assertEquals(solutions.get(i).getObjective(0), front.getValue(i, 0), 0.0);
+			assertEquals(-solutions.get(i).getObjective(1), front.getValue(i, 1), 0.0);
+		}
+	}
+
+	@Test
+	public void testSortReordersAnIndexOfTheFile() throws Exception {
+		double[] values = { 3.0, 0.5, 1.0, 2.5, 2.0, 1.5, 0.0, 3.5 };
+		String file = new File(folder.getRoot(), "FUN3.bin").getPath();
+		new BinaryFileOutputContext(file).write(values, 4, 2);
+
+		MappedFront front = new MappedFront(file);
+		front.sort((point1, point2) -> Double.compare(point1.getDimensionValue(0), point2.getDimensionValue(0)));
+
+		double[] expected = { 0.0, 1.0, 2.0, 3.0 };
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], front.getPoint(i).getDimensionValue(0), 0.0);
+			assertEquals(expected[i], front.getValue(i, 0), 0.0);
+		}
+		assertEquals(3.5, front.getValue(0, 1), 0.0);
+
+		front.sort((point1, point2) -> Double.compare(point1.getDimensionValue(1), point2.getDimensionValue(1)));
+		assertEquals(0.5, front.getValue(0, 1), 0.0);
+		assertEquals(3.0, front.getValue(0, 0), 0.0);
+
+		MappedFront unsorted = new MappedFront(file);
+		for (int i = 0; i < 4; i++) {
+			assertEquals(values[i * 2], unsorted.getValue(i, 0), 0.0);
+		}
+	}
+
+	@Test(expected = JMetalException.class)
+	public void testMappedFrontIsReadOnly() throws Exception {
+		String file = new File(folder.getRoot(), "FUN4.bin").getPath();
+		new BinaryFileOutputContext(file).write(new double[] { 1.0, 2.0 }, 1, 2);
+
+		Point point = new ArrayPoint(new double[] { 0.0, 0.0 });
+		new MappedFront(file).setPoint(0, point);
+	}
+
+	@Test
+	public void testTextFilesAreReadAsArrayFronts() throws Exception {
+		File file = new File(folder.getRoot(), "FUN5.tsv");
+		try (PrintWriter writer = new PrintWriter(file)) {
+			writer.println("1.0 2.0");
+			writer.println("3.0 4.0");
+		}
+
+		assertFalse(BinaryFrontFormat.isBinaryFile(file.getPath()));
+		Front front = BinaryFrontFormat.readFront(file.getPath());
+		assertTrue(front instanceof ArrayFront);
+		assertEquals(4.0, front.getPoint(1).getDimensionValue(1), 0.0);
+	}
+}
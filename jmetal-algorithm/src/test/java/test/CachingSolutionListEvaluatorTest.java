@@ -0,0 +1,168 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.impl.AbstractIntegerProblem;
+import org.uma.jmetal.solution.IntegerSolution;
+import org.uma.jmetal.util.evaluator.impl.CachingSolutionListEvaluator;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+public class CachingSolutionListEvaluatorTest {
+	/** Problem counting its evaluations, which violates its constraint when the first variable exceeds 50 */
+	@SuppressWarnings("serial")
+	private static class CountingProblem extends AbstractIntegerProblem {
+		private final OverallConstraintViolation<IntegerSolution> overallConstraintViolation = new OverallConstraintViolation<>();
+		private final NumberOfViolatedConstraints<IntegerSolution> numberOfViolatedConstraints = new NumberOfViolatedConstraints<>();
+		private int evaluations = 0;
+
+		CountingProblem() {
+			setNumberOfVariables(2);
+			setNumberOfObjectives(2);
+			setNumberOfConstraints(1);
+			setLowerLimit(Arrays.asList(0, 0));
+			setUpperLimit(Arrays.asList(1000, 1000));
+		}
+
+		@Override
+		public void evaluate(IntegerSolution solution) {
+			evaluations++;
+			int x = solution.getVariableValue(0);
+			int y = solution.getVariableValue(1);
+			solution.setObjective(0, x + y);
+			solution.setObjective(1, x - 0.5 * y);
+			if (x > 50) {
+				overallConstraintViolation.setAttribute(solution, 50.0 - x);
+				numberOfViolatedConstraints.setAttribute(solution, 1);
+			} else {
+				overallConstraintViolation.setAttribute(solution, 0.0);
+				numberOfViolatedConstraints.setAttribute(solution, 0);
+			}
+		}
+	}
+
+	private final CountingProblem problem = new CountingProblem();
+
+	private IntegerSolution createSolution(int x, int y) {
+		IntegerSolution solution = problem.createSolution();
+		solution.setVariableValue(0, x);
+		solution.setVariableValue(1, y);
+		return solution;
+	}
+
+	private CachingSolutionListEvaluator<IntegerSolution> createEvaluator(int capacity) {
+		return new CachingSolutionListEvaluator<>(new SequentialSolutionListEvaluator<IntegerSolution>(), capacity);
+	}
+
+	/** Evaluates a solution alone, returning true if its evaluation was taken from the cache */
+	private boolean isHit(CachingSolutionListEvaluator<IntegerSolution> evaluator, int x, int y) {
+		long hits = evaluator.getCacheHits();
+		evaluator.evaluate(new ArrayList<>(Arrays.asList(createSolution(x, y))), problem);
+		return evaluator.getCacheHits() > hits;
+	}
+
+	@Test
+	public void testHitsAndMissesAreCounted() {
+		CachingSolutionListEvaluator<IntegerSolution> evaluator = createEvaluator(100);
+
+		evaluator.evaluate(Arrays.asList(createSolution(1, 2), createSolution(3, 4), createSolution(5, 6)), problem);
+		assertEquals(0, evaluator.getCacheHits());
+		assertEquals(3, evaluator.getCacheMisses());
+		assertEquals(3, problem.evaluations);
+
+		List<IntegerSolution> solutions = Arrays.asList(createSolution(3, 4), createSolution(7, 8),
+				createSolution(1, 2));
+		evaluator.evaluate(solutions, problem);
+		assertEquals(2, evaluator.getCacheHits());
+		assertEquals(4, evaluator.getCacheMisses());
+		assertEquals(4, problem.evaluations);
+		assertEquals(4, evaluator.size());
+
+		assertEquals(7.0, solutions.get(0).getObjective(0), 0.0);
+		assertEquals(1.0, solutions.get(0).getObjective(1), 0.0);
+		assertEquals(3.0, solutions.get(2).getObjective(0), 0.0);
+		assertEquals(0.0, solutions.get(2).getObjective(1), 0.0);
+
+		assertEquals(Long.valueOf(2), evaluator.getMeasureManager().<Long>getPullMeasure("cacheHits").get());
+		assertEquals(Long.valueOf(4), evaluator.getMeasureManager().<Long>getPullMeasure("cacheMisses").get());
+	}
+
+	@Test
+	public void testDuplicatesOfAListAreEvaluatedOnce() {
+		CachingSolutionListEvaluator<IntegerSolution> evaluator = createEvaluator(100);
+		List<IntegerSolution> solutions = Arrays.asList(createSolution(10, 20), createSolution(30, 40),
+				createSolution(10, 20), createSolution(10, 20));
+
+		evaluator.evaluate(solutions, problem);
+
+		assertEquals(2, problem.evaluations);
+		assertEquals(2, evaluator.getCacheMisses());
+		assertEquals(2, evaluator.getCacheHits());
+		assertEquals(2, evaluator.size());
+		for (int i : new int[] { 2, 3 }) {
+			assertEquals(solutions.get(0).getObjective(0), solutions.get(i).getObjective(0), 0.0);
+			assertEquals(solutions.get(0).getObjective(1), solutions.get(i).getObjective(1), 0.0);
+		}
+	}
+
+	@Test
+	public void testCapacityIsNotExceeded() {
+		CachingSolutionListEvaluator<IntegerSolution> evaluator = createEvaluator(1);
+		assertFalse(isHit(evaluator, 1, 1));
+		assertTrue(isHit(evaluator, 1, 1));
+		assertFalse(isHit(evaluator, 2, 2));
+		assertEquals(1, evaluator.size());
+		assertFalse(isHit(evaluator, 1, 1));
+
+		evaluator = createEvaluator(32);
+		List<IntegerSolution> solutions = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			solutions.add(createSolution(i % 100, i / 100));
+		}
+		evaluator.evaluate(solutions, problem);
+		assertEquals(32, evaluator.size());
+
+		evaluator.clear();
+		assertEquals(0, evaluator.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntryIsEvicted() {
+		CachingSolutionListEvaluator<IntegerSolution> evaluator = createEvaluator(32);
+		assertFalse(isHit(evaluator, 0, 0));
+
+		// the entry used after each insertion is never the least recently used one of its segment
+		for (int i = 1; i <= 500; i++) {
+			assertFalse(isHit(evaluator, i, i));
+			assertTrue(isHit(evaluator, 0, 0));
+		}
+		assertEquals(32, evaluator.size());
+		assertFalse(isHit(evaluator, 1, 1));
+	}
+
+	@Test
+	public void testConstraintAttributesAreCopiedOnHits() {
+		CachingSolutionListEvaluator<IntegerSolution> evaluator = createEvaluator(100);
+		OverallConstraintViolation<IntegerSolution> overallConstraintViolation = new OverallConstraintViolation<>();
+		NumberOfViolatedConstraints<IntegerSolution> numberOfViolatedConstraints = new NumberOfViolatedConstraints<>();
+
+		evaluator.evaluate(Arrays.asList(createSolution(80, 1), createSolution(20, 1)), problem);
+
+		List<IntegerSolution> solutions = Arrays.asList(createSolution(80, 1), createSolution(20, 1));
+		assertNull(overallConstraintViolation.getAttribute(solutions.get(0)));
+		evaluator.evaluate(solutions, problem);
+
+		assertEquals(2, evaluator.getCacheHits());
+		assertEquals(2, problem.evaluations);
+		assertEquals(-30.0, overallConstraintViolation.getAttribute(solutions.get(0)), 0.0);
+		assertEquals(Integer.valueOf(1), numberOfViolatedConstraints.getAttribute(solutions.get(0)));
+		assertEquals(0.0, overallConstraintViolation.getAttribute(solutions.get(1)), 0.0);
+		assertEquals(Integer.valueOf(0), numberOfViolatedConstraints.getAttribute(solutions.get(1)));
+	}
+}
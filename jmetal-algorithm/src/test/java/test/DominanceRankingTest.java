@@ -0,0 +1,160 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.BestOrderSortEngine;
+import org.uma.jmetal.util.ranking.impl.DivideAndConquerSortingEngine;
+import org.uma.jmetal.util.ranking.impl.EfficientNonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.FastNonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.ParallelNonDominatedSortingEngine;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+public class DominanceRankingTest {
+	private static final NonDominatedSortingEngine[] ENGINES = {
+			new FastNonDominatedSortingEngine(),
+			new EfficientNonDominatedSortingEngine(EfficientNonDominatedSortingEngine.SearchStrategy.SEQUENTIAL),
+			new EfficientNonDominatedSortingEngine(EfficientNonDominatedSortingEngine.SearchStrategy.BINARY),
+			new BestOrderSortEngine(),
+			new DivideAndConquerSortingEngine(),
+			new AdaptiveNonDominatedSortingEngine(),
+			new ParallelNonDominatedSortingEngine(2, 50, new FastNonDominatedSortingEngine()) };
+
+	@SuppressWarnings("serial")
+	private static class MockProblem extends AbstractDoubleProblem {
+		MockProblem(int numberOfObjectives) {
+			setNumberOfVariables(1);
+			setNumberOfObjectives(numberOfObjectives);
+			List<Double> bounds = new ArrayList<>();
+			bounds.add(0.0);
+			setLowerLimit(bounds);
+			setUpperLimit(bounds);
+		}
+
+		@Override
+		public void evaluate(DoubleSolution solution) {
+		}
+	}
+
+	private List<DoubleSolution> createSolutions(int size, int numberOfObjectives, int levels,
+			boolean constrained, long seed) {
+		Random random = new Random(seed);
+		DoubleProblem problem = new MockProblem(numberOfObjectives);
+		OverallConstraintViolation<DoubleSolution> violation = new OverallConstraintViolation<>();
+		List<DoubleSolution> solutions = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			DoubleSolution solution = problem.createSolution();
+			for (int j = 0; j < numberOfObjectives; j++) {
+				solution.setObjective(j, random.nextInt(levels));
+			}
+			if (constrained) {
+				violation.setAttribute(solution, random.nextBoolean() ? 0.0 : -random.nextInt(3));
+			}
+			solutions.add(solution);
+		}
+		return solutions;
+	}
+
+	/** Classical fast non-dominated sorting, used as the reference */
+	private List<List<DoubleSolution>> referenceRanking(List<DoubleSolution> solutions) {
+		DominanceComparator<DoubleSolution> comparator = new DominanceComparator<>();
+		int size = solutions.size();
+		int[] dominateMe = new int[size];
+		List<List<Integer>> iDominate = new ArrayList<>();
+		for (int p = 0; p < size; p++) {
+			iDominate.add(new ArrayList<Integer>());
+		}
+		for (int p = 0; p < size - 1; p++) {
+			for (int q = p + 1; q < size; q++) {
+				int flag = comparator.compare(solutions.get(p), solutions.get(q));
+				if (flag == -1) {
+					iDominate.get(p).add(q);
+					dominateMe[q]++;
+				} else if (flag == 1) {
+					iDominate.get(q).add(p);
+					dominateMe[p]++;
+				}
+			}
+		}
+
+		List<List<Integer>> fronts = new ArrayList<>();
+		List<Integer> front = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			if (dominateMe[i] == 0) {
+				front.add(i);
+			}
+		}
+		while (!front.isEmpty()) {
+			fronts.add(front);
+			List<Integer> next = new ArrayList<>();
+			for (int p : front) {
+				for (int q : iDominate.get(p)) {
+					if (--dominateMe[q] == 0) {
+						next.add(q);
+					}
+				}
+			}
+			front = next;
+		}
+
+		List<List<DoubleSolution>> result = new ArrayList<>();
+		for (List<Integer> indices : fronts) {
+			List<DoubleSolution> subfront = new ArrayList<>();
+			for (int index : indices) {
+				subfront.add(solutions.get(index));
+			}
+			result.add(subfront);
+		}
+		return result;
+	}
+
+	private void checkAllEngines(List<DoubleSolution> solutions) {
+		List<List<DoubleSolution>> expected = referenceRanking(solutions);
+		for (NonDominatedSortingEngine engine : ENGINES) {
+			Ranking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>(engine).computeRanking(solutions);
+			assertEquals(engine.getClass().getSimpleName(), expected.size(), ranking.getNumberOfSubfronts());
+			for (int rank = 0; rank < expected.size(); rank++) {
+				List<DoubleSolution> subfront = ranking.getSubfront(rank);
+				assertEquals(expected.get(rank).size(), subfront.size());
+				for (int i = 0; i < subfront.size(); i++) {
+					assertSame(engine.getClass().getSimpleName(), expected.get(rank).get(i), subfront.get(i));
+					assertEquals(rank, (int) ranking.getAttribute(subfront.get(i)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testEnginesMatchClassicalRanking() {
+		for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+			for (int levels : new int[] { 3, 20, 1000 }) {
+				checkAllEngines(createSolutions(300, numberOfObjectives, levels, false, 31 * numberOfObjectives + levels));
+			}
+		}
+	}
+
+	@Test
+	public void testEnginesMatchClassicalRankingWithConstraints() {
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+			checkAllEngines(createSolutions(200, numberOfObjectives, 10, true, numberOfObjectives));
+		}
+	}
+
+	@Test
+	public void testEmptyList() {
+		Ranking<DoubleSolution> ranking = new DominanceRanking<DoubleSolution>().computeRanking(new ArrayList<DoubleSolution>());
+		assertEquals(0, ranking.getNumberOfSubfronts());
+	}
+}
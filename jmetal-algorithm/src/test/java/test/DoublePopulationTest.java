@@ -0,0 +1,281 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.operator.impl.selection.BinaryTournamentSelection;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.impl.DoublePopulation;
+import org.uma.jmetal.solution.impl.DoubleSolutionView;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.evaluator.impl.SequentialSolutionListEvaluator;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+public class DoublePopulationTest {
+	@SuppressWarnings("serial")
+	private static class ViewZDT1 extends ZDT1 {
+		private final DoublePopulation population;
+
+		ViewZDT1(int numberOfVariables) {
+			super(numberOfVariables);
+			population = new DoublePopulation(this, 10);
+		}
+
+		@Override
+		public DoubleSolution createSolution() {
+			return population.createSolution();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static class ConstrainedZDT1 extends ZDT1 {
+		ConstrainedZDT1(int numberOfVariables) {
+			super(numberOfVariables);
+			setNumberOfConstraints(2);
+		}
+	}
+
+	@Test
+	public void testCreateSolutionWithinBounds() {
+		DoublePopulation population = new DoublePopulation(new ZDT1(5), 2);
+		List<DoubleSolution> solutions = population.createSolutionList(10);
+
+		assertEquals(10, population.size());
+		assertTrue(population.capacity() >= 10);
+		for (DoubleSolution solution : solutions) {
+			for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+				assertTrue(solution.getVariableValue(i) >= 0.0);
+				assertTrue(solution.getVariableValue(i) <= 1.0);
+			}
+			assertEquals(0.0, solution.getObjective(0), 0.0);
+		}
+	}
+
+	@Test
+	public void testCopyIsIndependent() {
+		DoublePopulation population = new DoublePopulation(new ZDT1(5));
+		DoubleSolutionView solution = population.createSolution();
+		solution.setObjective(1, 3.0);
+		solution.setAttribute("key", "value");
+		new CrowdingDistance<DoubleSolution>().setAttribute(solution, 2.5);
+
+		DoubleSolutionView copy = solution.copy();
+		assertNotSame(solution, copy);
+		assertEquals(solution.getVariable(2), copy.getVariable(2), 0.0);
+		assertEquals(3.0, copy.getObjective(1), 0.0);
+		assertEquals("value", copy.getAttribute("key"));
+		assertEquals(2.5, new CrowdingDistance<DoubleSolution>().getAttribute(copy), 0.0);
+
+		double value = solution.getVariable(2);
+		copy.setVariable(2, value + 0.5);
+		assertEquals(value, solution.getVariable(2), 0.0);
+	}
+
+	@Test
+	public void testReleasedSlotsAreReused() {
+		DoublePopulation population = new DoublePopulation(new ZDT1(5), 4);
+		List<DoubleSolution> solutions = population.createSolutionList(4);
+		population.release(((DoubleSolutionView) solutions.get(0)).copy());
+		int capacity = population.capacity();
+
+		for (int i = 0; i < 100; i++) {
+			DoubleSolutionView copy = ((DoubleSolutionView) solutions.get(i % 4)).copy();
+			population.release(copy);
+		}
+
+		assertEquals(4, population.size());
+		assertEquals(capacity, population.capacity());
+	}
+
+	@Test
+	public void testReleaseDiscardedKeepsSurvivors() {
+		DoublePopulation population = new DoublePopulation(new ZDT1(5));
+		List<DoubleSolution> parents = population.createSolutionList(4);
+		List<DoubleSolution> offspring = population.createSolutionList(4);
+		List<DoubleSolution> survivors = new ArrayList<>();
+		survivors.addAll(parents.subList(0, 2));
+		survivors.addAll(offspring.subList(2, 4));
+
+		DoublePopulation.releaseDiscarded(survivors, parents, offspring);
+
+		assertEquals(4, population.size());
+		for (DoubleSolution solution : survivors) {
+			assertFalse(((DoubleSolutionView) solution).isReleased());
+		}
+		assertTrue(((DoubleSolutionView) parents.get(3)).isReleased());
+		assertTrue(((DoubleSolutionView) offspring.get(0)).isReleased());
+	}
+
+	@Test
+	public void testAddCopiesObjectivesAndAttributes() {
+		ZDT1 problem = new ZDT1(5);
+		DoubleSolution solution = problem.createSolution();
+		solution.setObjective(0, 1.5);
+		solution.setAttribute("key", "value");
+		new DominanceRanking<DoubleSolution>().setAttribute(solution, 3);
+
+		DoublePopulation population = new DoublePopulation(problem);
+		DoubleSolutionView view = population.add(solution);
+
+		for (int i = 0; i < solution.getNumberOfVariables(); i++) {
+			assertEquals(solution.getVariableValue(i), view.getVariable(i), 0.0);
+		}
+		assertEquals(1.5, view.getObjective(0), 0.0);
+		assertEquals("value", view.getAttribute("key"));
+		assertEquals(Integer.valueOf(3), new DominanceRanking<DoubleSolution>().getAttribute(view));
+	}
+
+	@Test
+	public void testAddCopiesConstraintsOfViews() {
+		ZDT1 problem = new ConstrainedZDT1(5);
+		DoublePopulation source = new DoublePopulation(problem);
+		DoubleSolutionView solution = source.createSolution();
+		solution.setConstraint(1, -2.0);
+		solution.setAttribute("key", "value");
+
+		DoublePopulation target = new DoublePopulation(problem);
+		DoubleSolutionView view = target.add(solution);
+
+		assertSame(target, view.getPopulation());
+		assertEquals(-2.0, view.getConstraint(1), 0.0);
+		assertEquals("value", view.getAttribute("key"));
+		assertEquals(solution.getVariable(4), view.getVariable(4), 0.0);
+	}
+
+	@Test
+	public void testOperatorsOnViewsMatchDefaultSolutions() {
+		ZDT1 problem = new ZDT1(10);
+		DoublePopulation population = new DoublePopulation(problem);
+
+		JMetalRandom.getInstance().setSeed(3);
+		List<DoubleSolution> defaultParents = Arrays.asList(problem.createSolution(), problem.createSolution());
+		List<DoubleSolution> defaultOffspring = new SBXCrossover(1.0, 20).execute(defaultParents);
+		new PolynomialMutation(1.0, 20).execute(defaultOffspring.get(0));
+
+		JMetalRandom.getInstance().setSeed(3);
+		List<DoubleSolution> viewParents = Arrays.<DoubleSolution>asList(population.createSolution(),
+				population.createSolution());
+		List<DoubleSolution> viewOffspring = new SBXCrossover(1.0, 20).execute(viewParents);
+		new PolynomialMutation(1.0, 20).execute(viewOffspring.get(0));
+
+		for (int i = 0; i < 2; i++) {
+			for (int j = 0; j < problem.getNumberOfVariables(); j++) {
+				assertEquals(defaultOffspring.get(i).getVariableValue(j), viewOffspring.get(i).getVariableValue(j), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testStoreDoesNotGrowDuringTheSearch() {
+		JMetalRandom.getInstance().setSeed(7);
+		ZDT1 problem = new ZDT1(30);
+		List<String> expected = runSPEA2(problem, false);
+
+		JMetalRandom.getInstance().setSeed(7);
+		ViewZDT1 viewProblem = new ViewZDT1(30);
+		List<String> result = runSPEA2(viewProblem, true);
+
+		assertEquals(expected, result);
+		assertEquals(100, viewProblem.population.size());
+		assertTrue(viewProblem.population.capacity() <= 200);
+	}
+
+	@Test
+	public void testGrowthWaitsForWritersHoldingTheResizeLock() throws Exception {
+		DoublePopulation population = new DoublePopulation(new ZDT1(5), 1);
+		DoubleSolutionView solution = population.createSolution();
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch write = new CountDownLatch(1);
+
+		Thread writer = new Thread(() -> {
+			population.getResizeLock().readLock().lock();
+			try {
+				locked.countDown();
+				write.await();
+				solution.setObjective(0, 1.5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				population.getResizeLock().readLock().unlock();
+			}
+		});
+		writer.start();
+		locked.await();
+
+		Thread grower = new Thread(() -> population.createSolution());
+		grower.start();
+		grower.join(200);
+		assertTrue(grower.isAlive());
+		assertEquals(1, population.capacity());
+
+		write.countDown();
+		grower.join();
+		writer.join();
+		assertTrue(population.capacity() > 1);
+		assertEquals(1.5, solution.getObjective(0), 0.0);
+	}
+
+	@Test
+	public void testDiscardedSolutionsAreKeptByDefault() {
+		JMetalRandom.getInstance().setSeed(9);
+		ViewZDT1 problem = new ViewZDT1(30);
+		NonDominatedSolutionListArchive<DoubleSolution> externalArchive = new NonDominatedSolutionListArchive<>();
+		List<double[]> archivedObjectives = new ArrayList<>();
+		SPEA2<DoubleSolution> algorithm = new SPEA2<DoubleSolution>(problem, 20, 10, new SBXCrossover(0.9, 20),
+				new PolynomialMutation(1.0 / 30, 20), new BinaryTournamentSelection<DoubleSolution>(),
+				new SequentialSolutionListEvaluator<DoubleSolution>()) {
+			@Override
+			protected void updateProgress() {
+				super.updateProgress();
+				// the archive keeps the views of the first generation, which are discarded by the next ones
+				if (archivedObjectives.isEmpty()) {
+					for (DoubleSolution solution : getPopulation()) {
+						if (externalArchive.add(solution)) {
+							archivedObjectives.add(new double[] { solution.getObjective(0), solution.getObjective(1) });
+						}
+					}
+				}
+			}
+		};
+		assertFalse(algorithm.isReleaseDiscardedSolutions());
+		algorithm.run();
+
+		List<DoubleSolution> archived = externalArchive.getSolutionList();
+		assertFalse(archived.isEmpty());
+		for (DoubleSolution solution : archived) {
+			assertFalse(((DoubleSolutionView) solution).isReleased());
+			boolean found = false;
+			for (double[] objectives : archivedObjectives) {
+				found |= objectives[0] == solution.getObjective(0) && objectives[1] == solution.getObjective(1);
+			}
+			assertTrue(found);
+		}
+	}
+
+	private List<String> runSPEA2(ZDT1 problem, boolean releaseDiscardedSolutions) {
+		SPEA2<DoubleSolution> algorithm = new SPEA2<>(problem, 100, 50, new SBXCrossover(0.9, 20),
+				new PolynomialMutation(1.0 / 30, 20), new BinaryTournamentSelection<DoubleSolution>(),
+				new SequentialSolutionListEvaluator<DoubleSolution>());
+		algorithm.setReleaseDiscardedSolutions(releaseDiscardedSolutions);
+		algorithm.run();
+
+		List<String> result = new ArrayList<>();
+		for (DoubleSolution solution : algorithm.getResult()) {
+			result.add(solution.getObjective(0) + " " + solution.getObjective(1) + " " + solution.getVariableValue(0));
+		}
+		Collections.sort(result);
+		return result;
+	}
+}
@@ -0,0 +1,138 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
+import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.point.impl.ArrayPoint;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+public class FrontIndexTest {
+	/** Distance from a to b, computed as defined by each metric */
+	private static double distance(double[] a, double[] b, FrontIndex.Metric metric) {
+		switch (metric) {
+		case EUCLIDEAN:
+			double sum = 0.0;
+			for (int i = 0; i < a.length; i++) {
+				sum += (a[i] - b[i]) * (a[i] - b[i]);
+			}
+			return Math.sqrt(sum);
+		case DOMINANCE:
+			sum = 0.0;
+			for (int i = 0; i < a.length; i++) {
+				double difference = Math.max(b[i] - a[i], 0.0);
+				sum += difference * difference;
+			}
+			return Math.sqrt(sum);
+		default:
+			double epsilon = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < a.length; i++) {
+				epsilon = Math.max(epsilon, b[i] - a[i]);
+			}
+			return epsilon;
+		}
+	}
+
+	private static double bruteForce(double[] point, double[][] front, FrontIndex.Metric metric) {
+		double minimum = Double.POSITIVE_INFINITY;
+		for (double[] other : front) {
+			minimum = Math.min(minimum, distance(point, other, metric));
+		}
+		return minimum;
+	}
+
+	private static Front toFront(double[][] points) {
+		Front front = new ArrayFront(points.length, points[0].length);
+		for (int i = 0; i < points.length; i++) {
+			front.setPoint(i, new ArrayPoint(points[i].clone()));
+		}
+		return front;
+	}
+
+	@Test
+	public void testQueriesMatchBruteForce() {
+		Random random = new Random(16);
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			for (int dimensions = 1; dimensions <= 6; dimensions++) {
+				for (int run = 0; run < 20; run++) {
+					// fronts small enough to be a single leaf and large enough to have many nodes
+					double[][] front = HypervolumeTest.createFront(random, 1 + random.nextInt(run < 5 ? 8 : 400),
+							dimensions);
+					double[][] queries = HypervolumeTest.createFront(random, 50, dimensions);
+					System.arraycopy(front, 0, queries, 0, Math.min(front.length, 10));
+					FrontIndex index = new FrontIndex(front);
+					assertEquals(front.length, index.getNumberOfPoints());
+					assertEquals(dimensions, index.getPointDimensions());
+
+					for (FrontIndex.Metric metric : FrontIndex.Metric.values()) {
+						double[] distances = new FrontIndex(toFront(front)).distancesToClosestPoints(toFront(queries),
+								metric, pool);
+						for (int i = 0; i < queries.length; i++) {
+							double expected = bruteForce(queries[i], front, metric);
+							assertEquals(expected, index.distanceToClosestPoint(queries[i], metric), 1e-12);
+							assertEquals(expected, distances[i], 1e-12);
+						}
+					}
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testPointsOfTheFrontAreAtDistanceZero() {
+		double[][] front = { { 0.0, 1.0 }, { 0.5, 0.5 }, { 0.5, 0.5 }, { 1.0, 0.0 } };
+		FrontIndex index = new FrontIndex(front);
+		for (double[] point : front) {
+			for (FrontIndex.Metric metric : FrontIndex.Metric.values()) {
+				assertEquals(0.0, index.distanceToClosestPoint(point, metric), 0.0);
+			}
+		}
+		// a point dominating the front is at dominance distance from it, a dominated one is not
+		assertEquals(Math.sqrt(0.5), index.distanceToClosestPoint(new double[] { 0.0, 0.0 },
+				FrontIndex.Metric.DOMINANCE), 1e-15);
+		assertEquals(0.0, index.distanceToClosestPoint(new double[] { 2.0, 2.0 }, FrontIndex.Metric.DOMINANCE), 0.0);
+		assertEquals(-1.5, index.distanceToClosestPoint(new double[] { 2.0, 2.0 },
+				FrontIndex.Metric.ADDITIVE_EPSILON), 0.0);
+	}
+
+	@Test
+	public void testGenerationalDistanceIndexesAModifiedReferenceFrontAgain() {
+		Random random = new Random(6);
+		Front referenceFront = toFront(HypervolumeTest.createFront(random, 100, 3));
+		Front front = toFront(HypervolumeTest.createFront(random, 30, 3));
+		List<PointSolution> solutions = FrontUtils.convertFrontToSolutionList(front);
+
+		GenerationalDistance<PointSolution> indicator = new GenerationalDistance<>(referenceFront);
+		double before = indicator.evaluate(solutions);
+		assertEquals(new GenerationalDistance<PointSolution>(toFront(copy(referenceFront))).evaluate(solutions),
+				before, 0.0);
+
+		// the reference front now contains the points of the evaluated front
+		for (int i = 0; i < front.getNumberOfPoints(); i++) {
+			referenceFront.getPoint(i).setDimensionValue(0, front.getPoint(i).getDimensionValue(0));
+			referenceFront.getPoint(i).setDimensionValue(1, front.getPoint(i).getDimensionValue(1));
+			referenceFront.getPoint(i).setDimensionValue(2, front.getPoint(i).getDimensionValue(2));
+		}
+		assertEquals(0.0, indicator.evaluate(solutions), 0.0);
+		assertTrue(before > 0.0);
+	}
+
+	private static double[][] copy(Front front) {
+		double[][] points = new double[front.getNumberOfPoints()][];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = front.getPoint(i).getValues().clone();
+		}
+		return points;
+	}
+}
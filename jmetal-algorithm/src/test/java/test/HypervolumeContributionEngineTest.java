@@ -0,0 +1,141 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.uma.jmetal.util.densityestimator.HypervolumeContributionEngine;
+
+public class HypervolumeContributionEngineTest {
+	private static final double TOLERANCE = 1e-12;
+	/** Error allowed to the contributions updated incrementally between two exact refreshes */
+	private static final double INCREMENTAL_TOLERANCE = 1e-10;
+
+	/** Contribution of each point computed by slicing objectives, as the volume lost without it */
+	private static double[] slicingContributions(List<double[]> points, double[] referencePoint) {
+		int numberOfObjectives = referencePoint.length;
+		double volume = HypervolumeTest.hso(points, numberOfObjectives, referencePoint);
+		double[] contributions = new double[points.size()];
+		for (int i = 0; i < points.size(); i++) {
+			List<double[]> others = new ArrayList<>(points);
+			others.remove(i);
+			contributions[i] = volume - HypervolumeTest.hso(others, numberOfObjectives, referencePoint);
+		}
+		return contributions;
+	}
+
+	/** Random point of a sphere, so that the points are mutually non-dominated most of the times */
+	private static double[] createPoint(Random random, int numberOfObjectives) {
+		double[] point = new double[numberOfObjectives];
+		double norm = 0.0;
+		for (int i = 0; i < numberOfObjectives; i++) {
+			point[i] = random.nextDouble();
+			norm += point[i] * point[i];
+		}
+		for (int i = 0; i < numberOfObjectives; i++) {
+			point[i] /= Math.sqrt(norm);
+		}
+		return point;
+	}
+
+	@Test
+	public void testStaticContributionsMatchSlicing() {
+		Random random = new Random(12);
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[] referencePoint = new double[numberOfObjectives];
+			Arrays.fill(referencePoint, 1.1);
+			for (int run = 0; run < 50; run++) {
+				double[][] front = HypervolumeTest.createFront(random, 1 + random.nextInt(numberOfObjectives <= 4 ? 25 : 10),
+						numberOfObjectives);
+				double[] expected = slicingContributions(Arrays.asList(front), referencePoint);
+				double[] contributions = HypervolumeContributionEngine.computeContributions(front, referencePoint);
+				for (int i = 0; i < front.length; i++) {
+					assertEquals(expected[i], contributions[i], TOLERANCE);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testIncrementalUpdatesMatchComputeContributions() {
+		Random random = new Random(21);
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			double[] referencePoint = new double[numberOfObjectives];
+			Arrays.fill(referencePoint, 1.05);
+			HypervolumeContributionEngine<double[]> engine = new HypervolumeContributionEngine<>(referencePoint);
+			List<double[]> points = new ArrayList<>();
+
+			for (int step = 0; step < 400; step++) {
+				int action = random.nextInt(10);
+				if (action < 5 || points.size() < 3) {
+					double[] point = createPoint(random, numberOfObjectives);
+					if (numberOfObjectives == 2 && !isNonDominated(point, points)) {
+						continue;
+					}
+					points.add(point);
+					engine.add(point, point.clone());
+				} else if (action < 9) {
+					double[] point = points.remove(random.nextInt(points.size()));
+					assertTrue(engine.remove(point));
+				} else {
+					// the reference point grows in some objectives
+					for (int i = 0; i < numberOfObjectives; i++) {
+						if (random.nextBoolean()) {
+							referencePoint[i] += random.nextDouble() * 0.2;
+						}
+					}
+					engine.setReferencePoint(referencePoint);
+				}
+
+				assertEquals(points.size(), engine.size());
+				double[] expected = HypervolumeContributionEngine.computeContributions(
+						points.toArray(new double[points.size()][]), referencePoint);
+				double minimum = Double.POSITIVE_INFINITY;
+				for (int i = 0; i < points.size(); i++) {
+					assertEquals(expected[i], engine.getContribution(points.get(i)), INCREMENTAL_TOLERANCE);
+					minimum = Math.min(minimum, expected[i]);
+				}
+				if (!points.isEmpty()) {
+					assertEquals(minimum, engine.getContribution(engine.getLeastContributor()), INCREMENTAL_TOLERANCE);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testReferencePointDecreaseComputesAgain() {
+		double[] referencePoint = { 2.0, 2.0, 2.0 };
+		HypervolumeContributionEngine<double[]> engine = new HypervolumeContributionEngine<>(referencePoint);
+		double[][] points = { { 0.0, 1.0, 1.0 }, { 1.0, 0.0, 1.0 }, { 1.0, 1.0, 0.0 }, { 1.5, 1.5, 1.5 } };
+		for (double[] point : points) {
+			engine.add(point, point);
+		}
+
+		double[] smaller = { 1.5, 3.0, 2.0 };
+		engine.setReferencePoint(smaller);
+		double[] expected = slicingContributions(Arrays.asList(points), smaller);
+		for (int i = 0; i < points.length; i++) {
+			assertEquals(expected[i], engine.getContribution(points[i]), TOLERANCE);
+		}
+		assertEquals(0.0, engine.getContribution(points[3]), 0.0);
+	}
+
+	private static boolean isNonDominated(double[] point, List<double[]> points) {
+		for (double[] other : points) {
+			boolean pointIsBetter = false;
+			boolean otherIsBetter = false;
+			for (int i = 0; i < point.length; i++) {
+				pointIsBetter |= point[i] < other[i];
+				otherIsBetter |= other[i] < point[i];
+			}
+			if (!pointIsBetter || !otherIsBetter) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,212 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeKernel;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeCalculator;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+public class HypervolumeTest {
+	private static final double TOLERANCE = 1e-12;
+
+	/**
+	 * Hypervolume by slicing objectives: the points are sorted by the last objective and each slice
+	 * between two consecutive points adds its depth times the volume of the points below it in one
+	 * objective less
+	 */
+	static double hso(List<double[]> points, int numberOfObjectives, double[] referencePoint) {
+		List<double[]> inside = new ArrayList<>();
+		for (double[] point : points) {
+			boolean isInside = true;
+			for (int i = 0; i < numberOfObjectives; i++) {
+				isInside &= point[i] < referencePoint[i];
+			}
+			if (isInside) {
+				inside.add(point);
+			}
+		}
+		if (inside.isEmpty()) {
+			return 0.0;
+		}
+
+		final int last = numberOfObjectives - 1;
+		if (last == 0) {
+			double minimum = referencePoint[0];
+			for (double[] point : inside) {
+				minimum = Math.min(minimum, point[0]);
+			}
+			return referencePoint[0] - minimum;
+		}
+
+		inside.sort(Comparator.comparingDouble(point -> point[last]));
+		double volume = 0.0;
+		for (int i = 0; i < inside.size(); i++) {
+			double next = i + 1 < inside.size() ? inside.get(i + 1)[last] : referencePoint[last];
+			double depth = next - inside.get(i)[last];
+			if (depth > 0.0) {
+				volume += depth * hso(inside.subList(0, i + 1), last, referencePoint);
+			}
+		}
+		return volume;
+	}
+
+	/**
+	 * Creates a small random front mixing points of a sphere, which are mutually non-dominated,
+	 * points of a box, repeated points and points beyond the reference point
+	 */
+	static double[][] createFront(Random random, int numberOfPoints, int numberOfObjectives) {
+		double[][] front = new double[numberOfPoints][numberOfObjectives];
+		for (int i = 0; i < numberOfPoints; i++) {
+			int kind = random.nextInt(8);
+			if (kind == 0 && i > 0) {
+				front[i] = front[random.nextInt(i)].clone();
+			} else if (kind < 4) {
+				double norm = 0.0;
+				for (int j = 0; j < numberOfObjectives; j++) {
+					front[i][j] = random.nextDouble();
+					norm += front[i][j] * front[i][j];
+				}
+				for (int j = 0; j < numberOfObjectives; j++) {
+					front[i][j] /= Math.sqrt(norm);
+				}
+			} else {
+				for (int j = 0; j < numberOfObjectives; j++) {
+					front[i][j] = random.nextDouble() * 1.3;
+				}
+			}
+		}
+		return front;
+	}
+
+	@Test
+	public void testKernelMatchesSlicing() {
+		Random random = new Random(13);
+		for (int numberOfObjectives = 2; numberOfObjectives <= 4; numberOfObjectives++) {
+			assertTrue(HypervolumeKernel.isSupported(numberOfObjectives));
+			double[] referencePoint = new double[numberOfObjectives];
+			Arrays.fill(referencePoint, 1.1);
+
+			for (int run = 0; run < 200; run++) {
+				double[][] front = createFront(random, 1 + random.nextInt(30), numberOfObjectives);
+				double expected = hso(Arrays.asList(front), numberOfObjectives, referencePoint);
+
+				assertEquals(expected, HypervolumeKernel.compute(front, referencePoint), TOLERANCE);
+				assertEquals(expected,
+						HypervolumeKernel.compute(Arrays.asList(front), numberOfObjectives, referencePoint), TOLERANCE);
+			}
+		}
+	}
+
+	@Test
+	public void testWfgMatchesSlicing() {
+		Random random = new Random(15);
+		WfgHypervolumeCalculator sequential = new WfgHypervolumeCalculator();
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			WfgHypervolumeCalculator parallel = new WfgHypervolumeCalculator(3, 2);
+			WfgHypervolumeCalculator shared = new WfgHypervolumeCalculator(pool);
+			for (int numberOfObjectives = 1; numberOfObjectives <= 6; numberOfObjectives++) {
+				double[] referencePoint = new double[numberOfObjectives];
+				Arrays.fill(referencePoint, 1.1);
+
+				for (int run = 0; run < 100; run++) {
+					double[][] front = createFront(random, 1 + random.nextInt(numberOfObjectives <= 4 ? 30 : 12),
+							numberOfObjectives);
+					double expected = hso(Arrays.asList(front), numberOfObjectives, referencePoint);
+
+					double volume = sequential.compute(front, referencePoint);
+					assertEquals(expected, volume, TOLERANCE);
+					assertEquals(volume, parallel.compute(front, referencePoint), 0.0);
+					assertEquals(volume, shared.compute(front, referencePoint), 0.0);
+
+					double[] packed = new double[front.length * numberOfObjectives];
+					for (int i = 0; i < front.length; i++) {
+						System.arraycopy(front[i], 0, packed, i * numberOfObjectives, numberOfObjectives);
+					}
+					assertEquals(volume, sequential.compute(packed, front.length, numberOfObjectives, referencePoint),
+							0.0);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testWfgOfFirstObjectives() {
+		Random random = new Random(16);
+		double[] referencePoint = { 1.1, 1.1, 1.1, 1.1, 1.1 };
+		for (int run = 0; run < 50; run++) {
+			double[][] front = createFront(random, 1 + random.nextInt(20), 5);
+			double expected = hso(Arrays.asList(front), 3, referencePoint);
+			assertEquals(expected, new WfgHypervolumeCalculator().compute(Arrays.asList(front), 3, referencePoint),
+					TOLERANCE);
+		}
+	}
+
+	private static List<PointSolution> toSolutions(double[][] front) {
+		List<PointSolution> solutions = new ArrayList<>();
+		for (double[] point : front) {
+			PointSolution solution = new PointSolution(point.length);
+			for (int i = 0; i < point.length; i++) {
+				solution.setObjective(i, point[i]);
+			}
+			solutions.add(solution);
+		}
+		return solutions;
+	}
+
+	@Test
+	public void testMonteCarloEstimateIsWithinItsConfidenceInterval() {
+		Random random = new Random(17);
+		MonteCarloHypervolume<PointSolution> indicator = new MonteCarloHypervolume<>();
+		indicator.setConfidenceLevel(0.999);
+		for (int numberOfObjectives = 3; numberOfObjectives <= 6; numberOfObjectives++) {
+			double[] referencePoint = new double[numberOfObjectives];
+			Arrays.fill(referencePoint, 1.0);
+			for (int run = 0; run < 5; run++) {
+				double[][] front = createFront(random, 10 + random.nextInt(30), numberOfObjectives);
+				double exact = new WfgHypervolumeCalculator().compute(front, referencePoint);
+
+				MonteCarloHypervolume.Estimation estimation = indicator.estimate(toSolutions(front));
+				assertTrue(estimation.getHalfWidth() > 0.0);
+				assertEquals(exact, estimation.getValue(), estimation.getHalfWidth());
+				assertEquals(estimation.getValue(), indicator.evaluate(toSolutions(front)), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testMonteCarloDoesNotStopBeforeTheMinimumNumberOfSamples() {
+		MonteCarloHypervolume<PointSolution> indicator = new MonteCarloHypervolume<>();
+		indicator.setMinimumNumberOfSamples(100000);
+
+		// the volume is so small that the first chunk of samples does not hit it
+		double[][] front = { { 0.0, 0.9999, 0.9999 }, { 0.9999, 0.0, 0.9999 }, { 0.9999, 0.9999, 0.0 } };
+		MonteCarloHypervolume.Estimation estimation = indicator.estimate(toSolutions(front));
+		assertTrue(estimation.getNumberOfSamples() >= 100000);
+
+		indicator.setAbsoluteError(0.5);
+		indicator.setMinimumNumberOfSamples(0);
+		assertEquals(indicator.getChunkSize() * indicator.getNumberOfReplicates(),
+				indicator.estimate(toSolutions(front)).getNumberOfSamples());
+	}
+
+	@Test
+	public void testKernelOfEmptyAndOutsideFronts() {
+		double[] referencePoint = { 1.0, 1.0, 1.0 };
+		assertEquals(0.0, HypervolumeKernel.compute(new double[0][], referencePoint), 0.0);
+		assertEquals(0.0, HypervolumeKernel.compute(new double[][] { { 0.5, 1.0, 0.5 }, { 2.0, 0.0, 0.0 } },
+				referencePoint), 0.0);
+		assertEquals(0.125, HypervolumeKernel.compute(new double[][] { { 0.5, 0.5, 0.5 } }, referencePoint), 0.0);
+	}
+}
@@ -0,0 +1,188 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+import org.uma.jmetal.measure.impl.CountingMeasure;
+import org.uma.jmetal.measure.impl.MeasureExporter;
+import org.uma.jmetal.measure.impl.SimpleMeasureManager;
+import org.uma.jmetal.measure.impl.SimplePullMeasure;
+import org.uma.jmetal.measure.impl.SimplePushMeasure;
+
+public class MeasureExporterTest {
+	private static SimplePullMeasure<Double> constant(String description, final double value) {
+		return new SimplePullMeasure<Double>("", description) {
+			@Override
+			public Double get() {
+				return value;
+			}
+		};
+	}
+
+	/** Manager with a counter, a push measure, two keys sanitized to the same name and a population */
+	private static SimpleMeasureManager createManager(CountingMeasure evaluations,
+			SimplePushMeasure<Double> hypervolume) {
+		SimpleMeasureManager manager = new SimpleMeasureManager();
+		manager.setMeasure("evaluations", evaluations);
+		manager.setPushMeasure("hypervolume", hypervolume);
+		manager.setPullMeasure("best.value", constant("Best value", 1.5));
+		manager.setPullMeasure("best_value", constant(null, 2.5));
+		manager.setPullMeasure("population", new SimplePullMeasure<Object>() {
+			@Override
+			public Object get() {
+				return new Object();
+			}
+		});
+		return manager;
+	}
+
+	@Test
+	public void testScrapeUsesTheTextFormatOfPrometheus() {
+		CountingMeasure evaluations = new CountingMeasure("evaluations", "Number of evaluations");
+		SimplePushMeasure<Double> hypervolume = new SimplePushMeasure<>("hypervolume", "Hypervolume");
+		try (MeasureExporter exporter = new MeasureExporter()) {
+			exporter.addMeasureManager("nsgaii", createManager(evaluations, hypervolume));
+			// the values pushed before the first read are published
+			evaluations.increment(3);
+			hypervolume.push(0.25);
+
+			String disambiguated = "jmetal_best_value_" + Integer.toHexString("best.value".hashCode());
+			String expected = "# HELP " + disambiguated + " Best value\n"
+					+ "# TYPE " + disambiguated + " gauge\n"
+					+ disambiguated + "{manager=\"nsgaii\"} 1.5\n"
+					+ "# TYPE jmetal_best_value gauge\n"
+					+ "jmetal_best_value{manager=\"nsgaii\"} 2.5\n"
+					+ "# HELP jmetal_evaluations_total Number of evaluations\n"
+					+ "# TYPE jmetal_evaluations_total counter\n"
+					+ "jmetal_evaluations_total{manager=\"nsgaii\"} 3\n"
+					+ "# HELP jmetal_hypervolume Hypervolume\n"
+					+ "# TYPE jmetal_hypervolume gauge\n"
+					+ "jmetal_hypervolume{manager=\"nsgaii\"} 0.25\n";
+			assertEquals(expected, exporter.scrape());
+		}
+	}
+
+	@Test
+	public void testKeysWhichAllNeedToBeSanitizedAreAllDisambiguated() {
+		SimpleMeasureManager manager = new SimpleMeasureManager();
+		manager.setPullMeasure("a.b", constant(null, 1));
+		manager.setPullMeasure("a-b", constant(null, 2));
+		manager.setPullMeasure("c d", constant(null, 3));
+		try (MeasureExporter exporter = new MeasureExporter()) {
+			exporter.addMeasureManager("m", manager);
+			String expected = "# TYPE jmetal_a_b_" + Integer.toHexString("a-b".hashCode()) + " gauge\n"
+					+ "jmetal_a_b_" + Integer.toHexString("a-b".hashCode()) + "{manager=\"m\"} 2.0\n"
+					+ "# TYPE jmetal_a_b_" + Integer.toHexString("a.b".hashCode()) + " gauge\n"
+					+ "jmetal_a_b_" + Integer.toHexString("a.b".hashCode()) + "{manager=\"m\"} 1.0\n"
+					+ "# TYPE jmetal_c_d gauge\n"
+					+ "jmetal_c_d{manager=\"m\"} 3.0\n";
+			assertEquals(expected, exporter.scrape());
+		}
+	}
+
+	@Test
+	public void testMetricsOfSeveralManagersAreLabelled() {
+		try (MeasureExporter exporter = new MeasureExporter()) {
+			for (String name : new String[] { "first", "quoted \"second\"" }) {
+				SimpleMeasureManager manager = new SimpleMeasureManager();
+				manager.setPullMeasure("value", constant(null, name.length()));
+				exporter.addMeasureManager(name, manager);
+			}
+			String expected = "# TYPE jmetal_value gauge\n"
+					+ "jmetal_value{manager=\"first\"} 5.0\n"
+					+ "jmetal_value{manager=\"quoted \\\"second\\\"\"} 15.0\n";
+			assertEquals(expected, exporter.scrape());
+		}
+	}
+
+	@Test(timeout = 30000)
+	public void testHttpServerPublishesTheScrape() throws Exception {
+		CountingMeasure evaluations = new CountingMeasure("evaluations", "Number of evaluations");
+		SimplePushMeasure<Double> hypervolume = new SimplePushMeasure<>("hypervolume", "Hypervolume");
+		try (MeasureExporter exporter = new MeasureExporter()) {
+			exporter.addMeasureManager("nsgaii", createManager(evaluations, hypervolume));
+			InetSocketAddress address = exporter.startHttpServer(0);
+			evaluations.increment();
+
+			URL url = new URL("http", address.getHostString(), address.getPort(), "/metrics");
+			HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+			try {
+				assertEquals(200, connection.getResponseCode());
+				assertEquals("text/plain; version=0.0.4; charset=utf-8", connection.getContentType());
+				ByteArrayOutputStream body = new ByteArrayOutputStream();
+				try (InputStream input = connection.getInputStream()) {
+					byte[] buffer = new byte[4096];
+					for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+						body.write(buffer, 0, read);
+					}
+				}
+				String text = new String(body.toByteArray(), StandardCharsets.UTF_8);
+				assertEquals(exporter.scrape(), text);
+				assertTrue(text.contains("jmetal_evaluations_total{manager=\"nsgaii\"} 1\n"));
+			} finally {
+				connection.disconnect();
+			}
+		}
+	}
+
+	@Test
+	public void testJmxAttributesAreTheMeasures() throws Exception {
+		CountingMeasure evaluations = new CountingMeasure("evaluations", "Number of evaluations");
+		SimplePushMeasure<Double> hypervolume = new SimplePushMeasure<>("hypervolume", "Hypervolume");
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = MeasureExporter.getObjectName("jmx test");
+		try (MeasureExporter exporter = new MeasureExporter()) {
+			exporter.exportToJmx();
+			exporter.addMeasureManager("jmx test", createManager(evaluations, hypervolume));
+			assertTrue(server.isRegistered(name));
+
+			evaluations.increment(7);
+			hypervolume.push(0.5);
+			assertEquals(7L, server.getAttribute(name, "evaluations"));
+			assertEquals(0.5, server.getAttribute(name, "hypervolume"));
+			// the attributes are the keys, so the keys sanitized to the same metric name are distinct
+			assertEquals(1.5, server.getAttribute(name, "best.value"));
+			assertEquals(2.5, server.getAttribute(name, "best_value"));
+			assertNull(server.getAttribute(name, "population"));
+
+			Set<String> attributes = new HashSet<>();
+			for (MBeanAttributeInfo info : server.getMBeanInfo(name).getAttributes()) {
+				assertTrue(info.isReadable());
+				assertFalse(info.isWritable());
+				attributes.add(info.getName());
+			}
+			assertEquals(new HashSet<>(Arrays.asList("evaluations", "hypervolume", "best.value",
+					"best_value", "population")), attributes);
+
+			AttributeList list = server.getAttributes(name, new String[] { "evaluations", "unknown" });
+			assertEquals(1, list.size());
+			assertEquals("evaluations", ((Attribute) list.get(0)).getName());
+
+			try {
+				server.getAttribute(name, "unknown");
+				fail("The attribute does not exist");
+			} catch (AttributeNotFoundException e) {
+				// expected
+			}
+		}
+		assertFalse(server.isRegistered(name));
+	}
+}
@@ -0,0 +1,106 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+import org.uma.jmetal.util.archive.impl.NonDominatedSolutionListArchive;
+import org.uma.jmetal.util.archive.impl.NonDominatedTreeArchive;
+import org.uma.jmetal.util.point.util.PointSolution;
+
+public class NonDominatedTreeArchiveTest {
+	/**
+	 * Creates a solution whose objectives take few distinct values, so that many solutions are equal
+	 * or tied in some objectives; some of them are shifted away from the front to be dominated
+	 */
+	private static PointSolution createSolution(Random random, int numberOfObjectives, int levels) {
+		PointSolution solution = new PointSolution(numberOfObjectives);
+		double sum = 0.0;
+		for (int i = 0; i < numberOfObjectives; i++) {
+			double value = random.nextInt(levels);
+			solution.setObjective(i, value);
+			sum += value;
+		}
+		if (random.nextInt(3) == 0) {
+			for (int i = 0; i < numberOfObjectives; i++) {
+				solution.setObjective(i, solution.getObjective(i) + random.nextInt(3));
+			}
+		} else {
+			// most solutions are close to the hyperplane of the front
+			double shift = (levels * numberOfObjectives / 2.0 - sum) / numberOfObjectives;
+			for (int i = 0; i < numberOfObjectives; i++) {
+				solution.setObjective(i, Math.max(0.0, Math.round(solution.getObjective(i) + shift)));
+			}
+		}
+		return solution;
+	}
+
+	private static Set<PointSolution> identitySet(List<PointSolution> solutions) {
+		Set<PointSolution> set = Collections.newSetFromMap(new IdentityHashMap<PointSolution, Boolean>());
+		set.addAll(solutions);
+		assertEquals(solutions.size(), set.size());
+		return set;
+	}
+
+	@Test
+	public void testContentsMatchTheListArchive() {
+		Random random = new Random(11);
+		int[][] treeParameters = { { 20, -1 }, { 2, 2 }, { 3, 5 } };
+		for (int numberOfObjectives = 2; numberOfObjectives <= 5; numberOfObjectives++) {
+			for (int[] parameters : treeParameters) {
+				for (int run = 0; run < 5; run++) {
+					NonDominatedTreeArchive<PointSolution> tree = new NonDominatedTreeArchive<>(parameters[0],
+							parameters[1]);
+					NonDominatedSolutionListArchive<PointSolution> list = new NonDominatedSolutionListArchive<>();
+					int levels = 4 + random.nextInt(30);
+
+					for (int step = 0; step < 1500; step++) {
+						PointSolution solution = step > 0 && random.nextInt(10) == 0
+								? list.get(random.nextInt(list.size())).copy()
+								: createSolution(random, numberOfObjectives, levels);
+						assertEquals(list.add(solution), tree.add(solution));
+						assertEquals(list.size(), tree.size());
+
+						if (step % 100 == 99) {
+							assertEquals(identitySet(list.getSolutionList()), identitySet(tree.getSolutionList()));
+						}
+					}
+					assertEquals(identitySet(list.getSolutionList()), identitySet(tree.getSolutionList()));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testDuplicatesAndDominatedSolutionsAreRejected() {
+		NonDominatedTreeArchive<PointSolution> tree = new NonDominatedTreeArchive<>(2, 2);
+		double[][] points = { { 1.0, 4.0 }, { 2.0, 3.0 }, { 3.0, 2.0 }, { 4.0, 1.0 } };
+		for (double[] point : points) {
+			assertTrue(tree.add(createSolution(point)));
+		}
+		assertFalse(tree.add(createSolution(new double[] { 2.0, 3.0 })));
+		assertFalse(tree.add(createSolution(new double[] { 5.0, 5.0 })));
+		assertFalse(tree.add(createSolution(new double[] { 2.0, 4.0 })));
+		assertEquals(4, tree.size());
+
+		// a solution dominating all but the extremes replaces them
+		assertTrue(tree.add(createSolution(new double[] { 1.5, 1.5 })));
+		assertEquals(3, tree.size());
+		assertTrue(tree.add(createSolution(new double[] { 0.0, 0.0 })));
+		assertEquals(1, tree.size());
+		assertEquals(0.0, tree.get(0).getObjective(0), 0.0);
+	}
+
+	private static PointSolution createSolution(double[] point) {
+		PointSolution solution = new PointSolution(point.length);
+		for (int i = 0; i < point.length; i++) {
+			solution.setObjective(i, point[i]);
+		}
+		return solution;
+	}
+}
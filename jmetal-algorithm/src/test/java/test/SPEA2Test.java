@@ -8,6 +8,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.uma.jmetal.algorithm.impl.AsynchronousEvolutionaryAlgorithm;
 import org.uma.jmetal.algorithm.multiobjective.spea2.SPEA2;
 import org.uma.jmetal.operator.CrossoverOperator;
 import org.uma.jmetal.operator.MutationOperator;
@@ -66,6 +67,16 @@ public class SPEA2Test {
 		assertEquals(tf, true);
 	}
 
+	@Test
+	public void testAsynchronousRun() {
+		AsynchronousEvolutionaryAlgorithm<DoubleSolution, List<DoubleSolution>> algorithm =
+				new AsynchronousEvolutionaryAlgorithm<>(s, 4);
+		algorithm.run();
+
+		assertTrue(s.isStoppingConditionReached());
+		assertEquals(100, algorithm.getResult().size());
+	}
+
 	@Test
 	public void testGetName() {
 		String str=s.getName();
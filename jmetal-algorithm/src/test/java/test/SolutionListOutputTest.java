@@ -0,0 +1,149 @@
+package test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.StreamingSolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+public class SolutionListOutputTest {
+	private static final double[] SPECIAL_VALUES = { 0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+			Double.NEGATIVE_INFINITY, Double.MIN_VALUE, -Double.MIN_VALUE, 2 * Double.MIN_VALUE, 1.0E-322,
+			Double.MIN_NORMAL, Math.nextDown(Double.MIN_NORMAL), Double.MAX_VALUE, 1.0E23, 0.001, 9.999E-4, 1.0E-4,
+			9999999.0, 1.0E7, 1.0E7 + 0.5, 0.1, 1.0 / 3, -123456.789, 100.0, 2.82879384806159E17 };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	/** Creates solutions whose objectives and variables take the special values and random doubles */
+	private List<DoubleSolution> createSolutions(int numberOfSolutions) {
+		ZDT1 problem = new ZDT1(3);
+		Random random = new Random(19);
+		List<DoubleSolution> solutions = new ArrayList<>();
+		for (int i = 0; i < numberOfSolutions; i++) {
+			DoubleSolution solution = problem.createSolution();
+			for (int j = 0; j < 2; j++) {
+				solution.setObjective(j, createValue(random, 2 * i + j));
+			}
+			for (int j = 0; j < 3; j++) {
+				solution.setVariableValue(j, createValue(random, 3 * i + j + SPECIAL_VALUES.length / 2));
+			}
+			solutions.add(solution);
+		}
+		return solutions;
+	}
+
+	private double createValue(Random random, int index) {
+		if (index < SPECIAL_VALUES.length) {
+			return SPECIAL_VALUES[index];
+		}
+		switch (index % 4) {
+		case 0:
+			return Double.longBitsToDouble(random.nextLong());
+		case 1:
+			return Double.longBitsToDouble(random.nextLong() & 0x000fffffffffffffL);
+		case 2:
+			return random.nextDouble() * Math.pow(10, random.nextInt(30) - 15);
+		default:
+			return random.nextInt(2000) - 1000.0;
+		}
+	}
+
+	/** Returns the lines written by the former writer, which formatted each value with Double.toString */
+	private List<String> formerLines(List<DoubleSolution> solutions, boolean objectives) {
+		List<String> lines = new ArrayList<>();
+		for (DoubleSolution solution : solutions) {
+			StringBuilder line = new StringBuilder();
+			int numberOfValues = objectives ? solution.getNumberOfObjectives() : solution.getNumberOfVariables();
+			for (int j = 0; j < numberOfValues; j++) {
+				line.append(objectives ? solution.getObjective(j) : solution.getVariableValue(j)).append(' ');
+			}
+			lines.add(line.toString());
+		}
+		return lines;
+	}
+
+	/**
+	 * Checks that each value is the one written by the former writer or, where Double.toString wrote
+	 * more digits than needed, a shorter text read back as the same double
+	 */
+	private void assertSameValues(List<String> expected, List<String> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			String[] expectedValues = expected.get(i).split(" ");
+			String[] actualValues = actual.get(i).split(" ");
+			assertEquals(expectedValues.length, actualValues.length);
+			for (int j = 0; j < expectedValues.length; j++) {
+				if (!expectedValues[j].equals(actualValues[j])) {
+					assertEquals(Double.doubleToRawLongBits(Double.parseDouble(expectedValues[j])),
+							Double.doubleToRawLongBits(Double.parseDouble(actualValues[j])));
+					assertTrue(actualValues[j].length() <= expectedValues[j].length());
+				}
+			}
+		}
+	}
+
+	private List<String> read(String file) throws Exception {
+		return Files.readAllLines(new File(file).toPath());
+	}
+
+	@Test
+	public void testValuesMatchTheFormerWriter() throws Exception {
+		List<DoubleSolution> solutions = createSolutions(2000);
+		String funFile = new File(folder.getRoot(), "FUN.tsv").getPath();
+		String varFile = new File(folder.getRoot(), "VAR.tsv").getPath();
+		new SolutionListOutput(solutions).setFunFileOutputContext(new DefaultFileOutputContext(funFile))
+				.setVarFileOutputContext(new DefaultFileOutputContext(varFile)).print();
+
+		assertSameValues(formerLines(solutions, true), read(funFile));
+		assertSameValues(formerLines(solutions, false), read(varFile));
+	}
+
+	@Test
+	public void testSpecialValuesAreWrittenExactly() throws Exception {
+		List<DoubleSolution> solutions = createSolutions(SPECIAL_VALUES.length / 2);
+		String funFile = new File(folder.getRoot(), "FUN.tsv").getPath();
+		new SolutionListOutput(solutions).printObjectivesToFile(new DefaultFileOutputContext(funFile), solutions);
+
+		String[] expected = { "0.0", "-0.0", "NaN", "Infinity", "-Infinity", "4.9E-324", "-4.9E-324", "9.9E-324",
+				"9.9E-323", "2.2250738585072014E-308", "2.225073858507201E-308", "1.7976931348623157E308", "1.0E23",
+				"0.001", "9.999E-4", "1.0E-4", "9999999.0", "1.0E7", "1.00000005E7", "0.1", "0.3333333333333333",
+				"-123456.789", "100.0", "2.82879384806159E17" };
+		List<String> lines = read(funFile);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], lines.get(i / 2).split(" ")[i % 2]);
+		}
+	}
+
+	@Test
+	public void testStreamingOutputMatchesSolutionListOutput() throws Exception {
+		List<DoubleSolution> solutions = createSolutions(500);
+		String funFile = new File(folder.getRoot(), "FUN.tsv").getPath();
+		String varFile = new File(folder.getRoot(), "VAR.tsv").getPath();
+		new SolutionListOutput(solutions).setFunFileOutputContext(new DefaultFileOutputContext(funFile))
+				.setVarFileOutputContext(new DefaultFileOutputContext(varFile)).print();
+
+		String streamedFunFile = new File(folder.getRoot(), "FUN_STREAM.tsv").getPath();
+		String streamedVarFile = new File(folder.getRoot(), "VAR_STREAM.tsv").getPath();
+		try (StreamingSolutionListOutput output = new StreamingSolutionListOutput(
+				new DefaultFileOutputContext(streamedFunFile), new DefaultFileOutputContext(streamedVarFile))) {
+			output.write(solutions.subList(0, 200));
+			output.write(solutions.subList(200, 500));
+		}
+
+		assertEquals(read(funFile), read(streamedFunFile));
+		assertEquals(read(varFile), read(streamedVarFile));
+		assertSameValues(formerLines(solutions, true), read(streamedFunFile));
+	}
+}
@@ -3,11 +3,19 @@ package test;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.uma.jmetal.problem.DoubleBatchEvaluableProblem;
 import org.uma.jmetal.problem.multiobjective.zdt.ZDT1;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT2;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT3;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT4;
+import org.uma.jmetal.problem.multiobjective.zdt.ZDT6;
 import org.uma.jmetal.solution.DoubleSolution;
 
 public class ZDT1Test {
@@ -38,4 +46,28 @@ public class ZDT1Test {
 		assertEquals(g, 19.0, 0.0);
 	}
 
+	@Test
+	public void testBatchEvaluationMatchesEvaluate() {
+		for (DoubleBatchEvaluableProblem problem : new DoubleBatchEvaluableProblem[] { new ZDT1(7), new ZDT2(7),
+				new ZDT3(7), new ZDT4(7), new ZDT6(7) }) {
+			List<DoubleSolution> solutions = new ArrayList<>();
+			List<DoubleSolution> expected = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				DoubleSolution solution = problem.createSolution();
+				solutions.add(solution);
+				DoubleSolution copy = (DoubleSolution) solution.copy();
+				problem.evaluate(copy);
+				expected.add(copy);
+			}
+
+			problem.evaluate(solutions);
+
+			for (int i = 0; i < solutions.size(); i++) {
+				for (int j = 0; j < problem.getNumberOfObjectives(); j++) {
+					assertEquals(expected.get(i).getObjective(j), solutions.get(i).getObjective(j), 0.0);
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,76 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.archive.impl.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link Archive} implementations: each invocation adds a stream of solutions to an
+ * empty archive. The bounded archives have a capacity of {@link #BOUNDED_ARCHIVE_SIZE} solutions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ArchiveBenchmark {
+  private static final int BOUNDED_ARCHIVE_SIZE = 100 ;
+  private static final int GRID_BISECTIONS = 5 ;
+
+  @Param({"1000", "10000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  @Param({"NON_DOMINATED_LIST", "NON_DOMINATED_TREE", "CROWDING_DISTANCE", "ADAPTIVE_GRID", "HYPERVOLUME"})
+  public String archive ;
+
+  private List<DoubleSolution> solutions ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    solutions = BenchmarkData.createFrontApproximation(problem, populationSize) ;
+  }
+
+  @Benchmark
+  public Archive<DoubleSolution> add() {
+    Archive<DoubleSolution> result = createArchive() ;
+    for (DoubleSolution solution : solutions) {
+      result.add(solution) ;
+    }
+
+    return result ;
+  }
+
+  private Archive<DoubleSolution> createArchive() {
+    switch (archive) {
+      case "NON_DOMINATED_LIST":
+        return new NonDominatedSolutionListArchive<>() ;
+      case "NON_DOMINATED_TREE":
+        return new NonDominatedTreeArchive<>() ;
+      case "CROWDING_DISTANCE":
+        return new CrowdingDistanceArchive<>(BOUNDED_ARCHIVE_SIZE) ;
+      case "ADAPTIVE_GRID":
+        return new AdaptiveGridArchive<>(BOUNDED_ARCHIVE_SIZE, GRID_BISECTIONS, numberOfObjectives) ;
+      case "HYPERVOLUME":
+        return new HypervolumeArchive<>(BOUNDED_ARCHIVE_SIZE, new PISAHypervolume<DoubleSolution>()) ;
+      default:
+        throw new JMetalException("Unknown archive: " + archive) ;
+    }
+  }
+}
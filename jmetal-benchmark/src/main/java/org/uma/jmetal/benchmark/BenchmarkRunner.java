@@ -0,0 +1,31 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of jMetal and writes the results to a JSON file, so that the results of
+ * two versions can be compared. The benchmarks can also be run with the command line interface of
+ * JMH, which allows to select the values of the parameters (option -p).
+ *
+ * Usage: BenchmarkRunner [regular expression of the benchmarks to run] [output file]
+ *
+ * By default all the benchmarks are run and the results are written in file jmh-result.json.
+ */
+public class BenchmarkRunner {
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : "org\\.uma\\.jmetal\\.benchmark\\..*" ;
+    String resultFile = args.length > 1 ? args[1] : "jmh-result.json" ;
+
+    Options options = new OptionsBuilder()
+        .include(include)
+        .resultFormat(ResultFormatType.JSON)
+        .result(resultFile)
+        .build() ;
+
+    new Runner(options).run() ;
+  }
+}
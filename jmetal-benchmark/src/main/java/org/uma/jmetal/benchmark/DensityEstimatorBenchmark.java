@@ -0,0 +1,71 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.algorithm.multiobjective.spea2.util.EnvironmentalSelection;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance;
+import org.uma.jmetal.util.solutionattribute.impl.StrengthRawFitness;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the density estimators of NSGA-II and SPEA2 ({@link CrowdingDistance} and
+ * {@link StrengthRawFitness}) and of the environmental selection of SPEA2, which reduces a
+ * population to half its size
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DensityEstimatorBenchmark {
+  @Param({"100", "1000", "5000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> population ;
+  private List<DoubleSolution> front ;
+  private CrowdingDistance<DoubleSolution> crowdingDistance ;
+  private StrengthRawFitness<DoubleSolution> strengthRawFitness ;
+  private EnvironmentalSelection<DoubleSolution> environmentalSelection ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    population = BenchmarkData.createPopulation(problem, populationSize) ;
+    front = BenchmarkData.createFrontApproximation(problem, populationSize) ;
+
+    crowdingDistance = new CrowdingDistance<>() ;
+    strengthRawFitness = new StrengthRawFitness<>() ;
+    environmentalSelection = new EnvironmentalSelection<>(populationSize / 2) ;
+    strengthRawFitness.computeDensityEstimator(front);
+  }
+
+  @Benchmark
+  public List<DoubleSolution> crowdingDistance() {
+    crowdingDistance.computeDensityEstimator(front);
+    return front ;
+  }
+
+  @Benchmark
+  public List<DoubleSolution> strengthRawFitness() {
+    strengthRawFitness.computeDensityEstimator(population);
+    return population ;
+  }
+
+  /** Truncation of a set of non-dominated solutions, the expensive case of the selection */
+  @Benchmark
+  public List<DoubleSolution> environmentalSelection() {
+    return environmentalSelection.execute(front) ;
+  }
+}
@@ -0,0 +1,77 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.Epsilon;
+import org.uma.jmetal.qualityindicator.impl.GenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistance;
+import org.uma.jmetal.qualityindicator.impl.InvertedGenerationalDistancePlus;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.front.Front;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the quality indicators based on distances between the points of a front and the
+ * ones of a reference front: GD, IGD, IGD+ and additive epsilon
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DistanceIndicatorBenchmark {
+  @Param({"100", "1000"})
+  public int populationSize ;
+
+  @Param({"1000", "10000"})
+  public int referenceFrontSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> front ;
+  private GenerationalDistance<DoubleSolution> generationalDistance ;
+  private InvertedGenerationalDistance<DoubleSolution> invertedGenerationalDistance ;
+  private InvertedGenerationalDistancePlus<DoubleSolution> invertedGenerationalDistancePlus ;
+  private Epsilon<DoubleSolution> epsilon ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    front = BenchmarkData.createFrontApproximation(problem, populationSize) ;
+    Front referenceFront = BenchmarkData.createReferenceFront(problem, referenceFrontSize) ;
+
+    generationalDistance = new GenerationalDistance<>(referenceFront) ;
+    invertedGenerationalDistance = new InvertedGenerationalDistance<>(referenceFront) ;
+    invertedGenerationalDistancePlus = new InvertedGenerationalDistancePlus<>(referenceFront) ;
+    epsilon = new Epsilon<>(referenceFront) ;
+  }
+
+  @Benchmark
+  public double generationalDistance() {
+    return generationalDistance.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double invertedGenerationalDistance() {
+    return invertedGenerationalDistance.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double invertedGenerationalDistancePlus() {
+    return invertedGenerationalDistancePlus.evaluate(front) ;
+  }
+
+  @Benchmark
+  public double epsilon() {
+    return epsilon.evaluate(front) ;
+  }
+}
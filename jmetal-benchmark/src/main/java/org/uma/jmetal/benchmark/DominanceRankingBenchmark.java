@@ -0,0 +1,70 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.*;
+import org.uma.jmetal.util.solutionattribute.Ranking;
+import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link DominanceRanking#computeRanking(List)} with each non-dominated sorting engine
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DominanceRankingBenchmark {
+  @Param({"100", "1000", "5000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  @Param({"FAST", "EFFICIENT", "BEST_ORDER", "DIVIDE_AND_CONQUER", "ADAPTIVE"})
+  public String engine ;
+
+  private List<DoubleSolution> population ;
+  private DominanceRanking<DoubleSolution> ranking ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    population = BenchmarkData.createPopulation(problem, populationSize) ;
+    ranking = new DominanceRanking<>(createEngine(engine)) ;
+  }
+
+  @Benchmark
+  public Ranking<DoubleSolution> computeRanking() {
+    return ranking.computeRanking(population) ;
+  }
+
+  private static NonDominatedSortingEngine createEngine(String name) {
+    switch (name) {
+      case "FAST":
+        return new FastNonDominatedSortingEngine() ;
+      case "EFFICIENT":
+        return new EfficientNonDominatedSortingEngine() ;
+      case "BEST_ORDER":
+        return new BestOrderSortEngine() ;
+      case "DIVIDE_AND_CONQUER":
+        return new DivideAndConquerSortingEngine() ;
+      case "ADAPTIVE":
+        return new AdaptiveNonDominatedSortingEngine() ;
+      default:
+        throw new JMetalException("Unknown non-dominated sorting engine: " + name) ;
+    }
+  }
+}
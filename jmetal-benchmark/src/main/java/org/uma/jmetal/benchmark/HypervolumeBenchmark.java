@@ -0,0 +1,63 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.PISAHypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.WFGHypervolume;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.front.Front;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the exact hypervolume indicators {@link WFGHypervolume} and {@link PISAHypervolume}
+ * on approximations of the Pareto front. The WFG indicator takes its reference point from the
+ * evaluated front, so it is not given the reference front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HypervolumeBenchmark {
+  private static final int REFERENCE_FRONT_SIZE = 1000 ;
+
+  @Param({"100", "500"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  @Param({"30"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> front ;
+  private WFGHypervolume<DoubleSolution> wfgHypervolume ;
+  private PISAHypervolume<DoubleSolution> pisaHypervolume ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    front = BenchmarkData.createFrontApproximation(problem, populationSize) ;
+    Front referenceFront = BenchmarkData.createReferenceFront(problem, REFERENCE_FRONT_SIZE) ;
+
+    wfgHypervolume = new WFGHypervolume<>() ;
+    pisaHypervolume = new PISAHypervolume<>(referenceFront) ;
+  }
+
+  /** The WFG indicator sorts the list it evaluates, so a copy is given */
+  @Benchmark
+  public double wfgHypervolume() {
+    return wfgHypervolume.evaluate(new ArrayList<>(front)) ;
+  }
+
+  @Benchmark
+  public double pisaHypervolume() {
+    return pisaHypervolume.evaluate(front) ;
+  }
+}
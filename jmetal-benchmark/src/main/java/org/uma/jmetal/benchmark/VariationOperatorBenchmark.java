@@ -0,0 +1,84 @@
+package org.uma.jmetal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.uma.jmetal.benchmark.util.BenchmarkBinaryProblem;
+import org.uma.jmetal.benchmark.util.BenchmarkData;
+import org.uma.jmetal.benchmark.util.BenchmarkDoubleProblem;
+import org.uma.jmetal.operator.impl.crossover.SBXCrossover;
+import org.uma.jmetal.operator.impl.mutation.BitFlipMutation;
+import org.uma.jmetal.operator.impl.mutation.PolynomialMutation;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the variation operators {@link SBXCrossover}, {@link PolynomialMutation} and
+ * {@link BitFlipMutation}. Each invocation applies the operator to a whole population, as an
+ * algorithm does in a generation; the mutation operators modify the solutions in place. The
+ * probabilities are the usual ones: 0.9 for the crossover and 1 / (number of variables or bits)
+ * for the mutations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class VariationOperatorBenchmark {
+  private static final int BITS_PER_VARIABLE = 32 ;
+  private static final double DISTRIBUTION_INDEX = 20.0 ;
+
+  @Param({"100", "1000"})
+  public int populationSize ;
+
+  @Param({"2", "3"})
+  public int numberOfObjectives ;
+
+  @Param({"30", "1000"})
+  public int numberOfVariables ;
+
+  private List<DoubleSolution> population ;
+  private List<BinarySolution> binaryPopulation ;
+  private SBXCrossover crossover ;
+  private PolynomialMutation polynomialMutation ;
+  private BitFlipMutation bitFlipMutation ;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkData.resetRandomGenerator();
+    BenchmarkDoubleProblem problem = new BenchmarkDoubleProblem(numberOfVariables, numberOfObjectives) ;
+    population = BenchmarkData.createPopulation(problem, populationSize) ;
+    BenchmarkBinaryProblem binaryProblem =
+        new BenchmarkBinaryProblem(numberOfVariables, BITS_PER_VARIABLE, numberOfObjectives) ;
+    binaryPopulation = BenchmarkData.createPopulation(binaryProblem, populationSize) ;
+
+    crossover = new SBXCrossover(0.9, DISTRIBUTION_INDEX) ;
+    polynomialMutation = new PolynomialMutation(1.0 / numberOfVariables, DISTRIBUTION_INDEX) ;
+    bitFlipMutation = new BitFlipMutation(1.0 / binaryProblem.getTotalNumberOfBits()) ;
+  }
+
+  @Benchmark
+  public void sbxCrossover(Blackhole blackhole) {
+    for (int i = 0; i + 1 < population.size(); i += 2) {
+      blackhole.consume(crossover.execute(Arrays.asList(population.get(i), population.get(i + 1))));
+    }
+  }
+
+  @Benchmark
+  public void polynomialMutation(Blackhole blackhole) {
+    for (DoubleSolution solution : population) {
+      blackhole.consume(polynomialMutation.execute(solution));
+    }
+  }
+
+  @Benchmark
+  public void bitFlipMutation(Blackhole blackhole) {
+    for (BinarySolution solution : binaryPopulation) {
+      blackhole.consume(bitFlipMutation.execute(solution));
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package org.uma.jmetal.benchmark.util;
+
+import org.uma.jmetal.problem.impl.AbstractBinaryProblem;
+import org.uma.jmetal.solution.BinarySolution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+/**
+ * Binary problem used by the benchmarks, with any number of variables and objectives. The objective
+ * j is the number of bits set to zero in the variables of index j, j + m, j + 2m... where m is the
+ * number of objectives.
+ */
+@SuppressWarnings("serial")
+public class BenchmarkBinaryProblem extends AbstractBinaryProblem {
+  private final int bitsPerVariable ;
+
+  /**
+   * Constructor
+   * @param numberOfVariables Number of variables
+   * @param bitsPerVariable Number of bits of each variable
+   * @param numberOfObjectives Number of objectives
+   */
+  public BenchmarkBinaryProblem(int numberOfVariables, int bitsPerVariable, int numberOfObjectives) {
+    this.bitsPerVariable = bitsPerVariable ;
+    setNumberOfVariables(numberOfVariables);
+    setNumberOfObjectives(numberOfObjectives);
+    setNumberOfConstraints(0);
+    setName("BenchmarkBinaryProblem");
+  }
+
+  @Override
+  protected int getBitsPerVariable(int index) {
+    return bitsPerVariable ;
+  }
+
+  @Override
+  public void evaluate(BinarySolution solution) {
+    double[] f = new double[getNumberOfObjectives()] ;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      BinarySet bits = solution.getVariableValue(i) ;
+      f[i % f.length] += bitsPerVariable - bits.cardinality() ;
+    }
+
+    for (int i = 0; i < f.length; i++) {
+      solution.setObjective(i, f[i]);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package org.uma.jmetal.benchmark.util;
+
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creation of the data of the benchmarks. The pseudo-random generator of jMetal is seeded with
+ * {@link #SEED} before creating the data, so all the runs of a benchmark measure the same inputs.
+ */
+public class BenchmarkData {
+  public static final long SEED = 1L ;
+
+  private BenchmarkData() {
+  }
+
+  /** Seeds the pseudo-random generator of jMetal with {@link #SEED} */
+  public static void resetRandomGenerator() {
+    JMetalRandom.getInstance().setSeed(SEED);
+  }
+
+  /**
+   * Creates a list of random evaluated solutions of a problem
+   * @param problem Problem
+   * @param size Number of solutions
+   */
+  public static <S extends Solution<?>> List<S> createPopulation(Problem<S> problem, int size) {
+    List<S> population = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      S solution = problem.createSolution() ;
+      problem.evaluate(solution);
+      population.add(solution) ;
+    }
+
+    return population ;
+  }
+
+  /**
+   * Creates a list of evaluated solutions close to the Pareto front of a {@link BenchmarkDoubleProblem},
+   * most of them non-dominated, as the result of a run of an algorithm would be
+   * @param problem Problem
+   * @param size Number of solutions
+   */
+  public static List<DoubleSolution> createFrontApproximation(BenchmarkDoubleProblem problem, int size) {
+    JMetalRandom random = JMetalRandom.getInstance() ;
+    List<DoubleSolution> front = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = problem.getNumberOfObjectives() - 1; j < problem.getNumberOfVariables(); j++) {
+        solution.setVariableValue(j, 0.5 + random.nextDouble(-0.05, 0.05));
+      }
+      problem.evaluate(solution);
+      front.add(solution) ;
+    }
+
+    return front ;
+  }
+
+  /**
+   * Creates a front of points of the Pareto front of a {@link BenchmarkDoubleProblem}
+   * @param problem Problem
+   * @param size Number of points
+   */
+  public static Front createReferenceFront(BenchmarkDoubleProblem problem, int size) {
+    List<DoubleSolution> solutions = new ArrayList<>(size) ;
+    for (int i = 0; i < size; i++) {
+      DoubleSolution solution = problem.createSolution() ;
+      for (int j = problem.getNumberOfObjectives() - 1; j < problem.getNumberOfVariables(); j++) {
+        solution.setVariableValue(j, 0.5);
+      }
+      problem.evaluate(solution);
+      solutions.add(solution) ;
+    }
+
+    return new ArrayFront(solutions) ;
+  }
+}
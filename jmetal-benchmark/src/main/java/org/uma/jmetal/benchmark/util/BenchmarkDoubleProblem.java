@@ -0,0 +1,66 @@
+package org.uma.jmetal.benchmark.util;
+
+import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Continuous problem used by the benchmarks, with any number of variables and objectives. It is
+ * the DTLZ2 problem: the first (numberOfObjectives - 1) variables give the position of a solution
+ * on the front, which is a sphere of radius one, and the remaining ones its distance to the front.
+ */
+@SuppressWarnings("serial")
+public class BenchmarkDoubleProblem extends AbstractDoubleProblem {
+
+  /**
+   * Constructor
+   * @param numberOfVariables Number of variables; it must not be lower than the number of objectives
+   * @param numberOfObjectives Number of objectives
+   */
+  public BenchmarkDoubleProblem(int numberOfVariables, int numberOfObjectives) {
+    if (numberOfVariables < numberOfObjectives) {
+      throw new JMetalException("The number of variables (" + numberOfVariables + ") is lower " +
+          "than the number of objectives (" + numberOfObjectives + ")") ;
+    }
+    setNumberOfVariables(numberOfVariables);
+    setNumberOfObjectives(numberOfObjectives);
+    setNumberOfConstraints(0);
+    setName("BenchmarkDoubleProblem");
+
+    List<Double> lowerLimit = new ArrayList<>(getNumberOfVariables()) ;
+    List<Double> upperLimit = new ArrayList<>(getNumberOfVariables()) ;
+
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      lowerLimit.add(0.0);
+      upperLimit.add(1.0);
+    }
+
+    setLowerLimit(lowerLimit);
+    setUpperLimit(upperLimit);
+  }
+
+  @Override
+  public void evaluate(DoubleSolution solution) {
+    int numberOfObjectives = getNumberOfObjectives() ;
+
+    double g = 0.0 ;
+    for (int i = numberOfObjectives - 1; i < getNumberOfVariables(); i++) {
+      double x = solution.getVariableValue(i) - 0.5 ;
+      g += x * x ;
+    }
+
+    for (int i = 0; i < numberOfObjectives; i++) {
+      double f = 1.0 + g ;
+      for (int j = 0; j < numberOfObjectives - (i + 1); j++) {
+        f *= Math.cos(solution.getVariableValue(j) * 0.5 * Math.PI) ;
+      }
+      if (i != 0) {
+        f *= Math.sin(solution.getVariableValue(numberOfObjectives - (i + 1)) * 0.5 * Math.PI) ;
+      }
+      solution.setObjective(i, f);
+    }
+  }
+}
@@ -1,7 +1,12 @@
 package org.uma.jmetal.algorithm.impl;
 
 import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.measure.impl.PhaseProfiler;
+import org.uma.jmetal.measure.impl.PhaseProfiler.Phase;
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.impl.DoublePopulation;
+
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,6 +20,8 @@ import java.util.List;
 public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<R>{
   protected List<S> population;
   protected Problem<S> problem ;
+  private transient PhaseProfiler phaseProfiler ;
+  private boolean releaseDiscardedSolutions = false ;
 
   public List<S> getPopulation() {
     return population;
@@ -30,6 +37,31 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
     return problem ;
   }
 
+  /**
+   * Sets the profiler measuring the selection, reproduction, evaluation and replacement phases of
+   * each generation of {@link #run()}; null, the default value, disables the profiling
+   */
+  public void setPhaseProfiler(PhaseProfiler phaseProfiler) {
+    this.phaseProfiler = phaseProfiler ;
+  }
+  public PhaseProfiler getPhaseProfiler() {
+    return phaseProfiler ;
+  }
+
+  /**
+   * Enables giving the discarded solutions back to their {@link DoublePopulation} after each
+   * replacement (see {@link #releaseDiscardedSolutions(List, List, List)}). It is disabled by
+   * default, as a released solution is overwritten later on: it must only be enabled when nothing
+   * else (an external archive, an observer, a result list) keeps references to the solutions of
+   * past generations.
+   */
+  public void setReleaseDiscardedSolutions(boolean releaseDiscardedSolutions) {
+    this.releaseDiscardedSolutions = releaseDiscardedSolutions ;
+  }
+  public boolean isReleaseDiscardedSolutions() {
+    return releaseDiscardedSolutions ;
+  }
+
   protected abstract void initProgress();
 
   protected abstract void updateProgress();
@@ -48,18 +80,76 @@ public abstract class AbstractEvolutionaryAlgorithm<S, R>  implements Algorithm<
 
   @Override public abstract R getResult();
 
+  /**
+   * Steady-state hook used by {@link AsynchronousEvolutionaryAlgorithm}: creates new solutions to
+   * be evaluated from the current population. By default, selection and reproduction are applied.
+   * @param population The current population
+   * @return The new solutions (not evaluated)
+   */
+  protected List<S> createOffspring(List<S> population) {
+    return reproduction(selection(population)) ;
+  }
+
+  /**
+   * Steady-state hook used by {@link AsynchronousEvolutionaryAlgorithm}: inserts a solution into
+   * the population as soon as its evaluation has finished. By default, the replacement is applied
+   * to a singleton offspring population and the progress is updated.
+   * @param population The current population
+   * @param offspring The evaluated solution
+   * @return The new population
+   */
+  protected List<S> insertOffspring(List<S> population, S offspring) {
+    List<S> offspringPopulation = Collections.singletonList(offspring) ;
+    List<S> newPopulation = replacement(population, offspringPopulation) ;
+    if (releaseDiscardedSolutions) {
+      releaseDiscardedSolutions(population, offspringPopulation, newPopulation);
+    }
+    updateProgress();
+    return newPopulation ;
+  }
+
+  /**
+   * Called after each replacement, if enabled with {@link #setReleaseDiscardedSolutions(boolean)}, to
+   * give the solutions which have not survived back to their {@link DoublePopulation}, so that the
+   * slots of the discarded offspring are reused instead of growing the store. Only the views of a
+   * {@link DoublePopulation} are concerned. An algorithm keeping solutions outside of its population
+   * (in an archive, for instance) must override this method to keep them as well.
+   * @param population The population before the replacement
+   * @param offspringPopulation The offspring population taking part in the replacement
+   * @param survivors The population after the replacement
+   */
+  protected void releaseDiscardedSolutions(List<S> population, List<S> offspringPopulation,
+      List<S> survivors) {
+    DoublePopulation.releaseDiscarded(survivors, population, offspringPopulation);
+  }
+
   @Override public void run() {
     List<S> offspringPopulation;
     List<S> matingPopulation;
+    List<S> previousPopulation;
 
     population = createInitialPopulation();
     population = evaluatePopulation(population);
     initProgress();
     while (!isStoppingConditionReached()) {
+      PhaseProfiler profiler = phaseProfiler != null ? phaseProfiler : PhaseProfiler.DISABLED ;
+      profiler.start(Phase.SELECTION);
       matingPopulation = selection(population);
+      profiler.stop(Phase.SELECTION);
+      profiler.start(Phase.REPRODUCTION);
       offspringPopulation = reproduction(matingPopulation);
+      profiler.stop(Phase.REPRODUCTION);
+      profiler.start(Phase.EVALUATION);
       offspringPopulation = evaluatePopulation(offspringPopulation);
-      population = replacement(population, offspringPopulation);
+      profiler.stop(Phase.EVALUATION);
+      profiler.start(Phase.REPLACEMENT);
+      previousPopulation = population;
+      population = replacement(previousPopulation, offspringPopulation);
+      if (releaseDiscardedSolutions) {
+        releaseDiscardedSolutions(previousPopulation, offspringPopulation, population);
+      }
+      profiler.stop(Phase.REPLACEMENT);
+      profiler.endGeneration();
       updateProgress();
     }
   }
@@ -0,0 +1,209 @@
+package org.uma.jmetal.algorithm.impl;
+
+import org.uma.jmetal.algorithm.Algorithm;
+import org.uma.jmetal.solution.impl.DoublePopulation;
+import org.uma.jmetal.solution.impl.DoubleSolutionView;
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Asynchronous, barrier-free execution of an {@link AbstractEvolutionaryAlgorithm}. Instead of
+ * evaluating whole offspring populations, a fixed number of evaluations are kept in flight on an
+ * {@link ExecutorService}; each solution is inserted into the population as soon as its evaluation
+ * finishes, and a new one is submitted in its place. This way, workers do not wait for the slowest
+ * evaluation of each generation.
+ *
+ * The algorithm keeps its operators: only the evaluation runs on the executor, while the
+ * selection, reproduction and replacement steps run in the thread calling {@link #run()}. The
+ * wrapped algorithm takes part through two steady-state hooks,
+ * {@link AbstractEvolutionaryAlgorithm#createOffspring(List)}, whose solutions are submitted one
+ * by one, and {@link AbstractEvolutionaryAlgorithm#insertOffspring(List, Object)}, which must also
+ * update the progress of the algorithm. Algorithms whose replacement is generational should
+ * override the second one. The initial population is fully evaluated before the steady-state
+ * phase starts; evaluations still in flight when the stopping condition is reached are discarded.
+ *
+ * The problem must support concurrent evaluations. Solutions stored in a
+ * {@link DoublePopulation} are evaluated holding the read lock of its
+ * {@link DoublePopulation#getResizeLock()}, so that the store does not grow while their objectives
+ * are being written.
+ *
+ * @param <S> Solution
+ * @param <R> Result
+ */
+@SuppressWarnings("serial")
+public class AsynchronousEvolutionaryAlgorithm<S, R> implements Algorithm<R> {
+  private final AbstractEvolutionaryAlgorithm<S, R> algorithm ;
+  private final int numberOfEvaluationsInFlight ;
+  private transient ExecutorService executor ;
+  private final boolean ownsExecutor ;
+
+  /**
+   * Constructor. The evaluations are run on a fixed pool owned by this object, which is shut down
+   * at the end of {@link #run()}.
+   * @param algorithm The algorithm to run
+   * @param numberOfThreads Number of threads, which is also the number of evaluations in flight
+   */
+  public AsynchronousEvolutionaryAlgorithm(AbstractEvolutionaryAlgorithm<S, R> algorithm,
+      int numberOfThreads) {
+    this(algorithm, numberOfThreads, null) ;
+  }
+
+  /**
+   * Constructor
+   * @param algorithm The algorithm to run
+   * @param numberOfEvaluationsInFlight Number of solutions evaluated at the same time
+   * @param executor Executor running the evaluations. It is not shut down by this object
+   */
+  public AsynchronousEvolutionaryAlgorithm(AbstractEvolutionaryAlgorithm<S, R> algorithm,
+      int numberOfEvaluationsInFlight, ExecutorService executor) {
+    if (algorithm == null) {
+      throw new JMetalException("The algorithm is null") ;
+    } else if (numberOfEvaluationsInFlight <= 0) {
+      throw new JMetalException("The number of evaluations in flight must be positive: "
+          + numberOfEvaluationsInFlight) ;
+    }
+
+    this.algorithm = algorithm ;
+    this.numberOfEvaluationsInFlight = numberOfEvaluationsInFlight ;
+    this.executor = executor ;
+    this.ownsExecutor = executor == null ;
+  }
+
+  /* Getters */
+  public AbstractEvolutionaryAlgorithm<S, R> getAlgorithm() {
+    return algorithm;
+  }
+
+  public int getNumberOfEvaluationsInFlight() {
+    return numberOfEvaluationsInFlight;
+  }
+
+  @Override
+  public void run() {
+    ExecutorService executorService = ownsExecutor ?
+        Executors.newFixedThreadPool(numberOfEvaluationsInFlight) : executor ;
+    try {
+      run(executorService);
+    } finally {
+      if (ownsExecutor) {
+        executorService.shutdownNow() ;
+      }
+    }
+  }
+
+  private void run(ExecutorService executorService) {
+    CompletionService<S> completionService = new ExecutorCompletionService<>(executorService) ;
+
+    List<S> population = algorithm.createInitialPopulation() ;
+    List<Future<S>> initialEvaluations = new ArrayList<>(population.size()) ;
+    for (S solution : population) {
+      initialEvaluations.add(completionService.submit(() -> evaluate(solution))) ;
+    }
+    List<S> evaluatedPopulation = new ArrayList<>(population.size()) ;
+    for (int i = 0; i < initialEvaluations.size(); i++) {
+      waitFor(completionService) ;
+    }
+    for (Future<S> evaluation : initialEvaluations) {
+      evaluatedPopulation.add(getResult(evaluation)) ;
+    }
+    population = evaluatedPopulation ;
+    algorithm.setPopulation(population);
+    algorithm.initProgress();
+
+    Deque<S> pendingSolutions = new ArrayDeque<>() ;
+    int evaluationsInFlight = 0 ;
+    while (evaluationsInFlight < numberOfEvaluationsInFlight && !algorithm.isStoppingConditionReached()) {
+      S solution = nextSolution(population, pendingSolutions) ;
+      completionService.submit(() -> evaluate(solution)) ;
+      evaluationsInFlight++ ;
+    }
+
+    while (evaluationsInFlight > 0) {
+      S offspring = getResult(waitFor(completionService)) ;
+      evaluationsInFlight-- ;
+
+      if (!algorithm.isStoppingConditionReached()) {
+        population = algorithm.insertOffspring(population, offspring) ;
+        algorithm.setPopulation(population);
+
+        if (!algorithm.isStoppingConditionReached()) {
+          S solution = nextSolution(population, pendingSolutions) ;
+          completionService.submit(() -> evaluate(solution)) ;
+          evaluationsInFlight++ ;
+        }
+      }
+    }
+  }
+
+  private S nextSolution(List<S> population, Deque<S> pendingSolutions) {
+    if (pendingSolutions.isEmpty()) {
+      List<S> offspring = algorithm.createOffspring(population) ;
+      if (offspring.isEmpty()) {
+        throw new JMetalException("The algorithm did not create any offspring") ;
+      }
+      pendingSolutions.addAll(offspring) ;
+    }
+    return pendingSolutions.poll() ;
+  }
+
+  private S evaluate(S solution) {
+    if (!(solution instanceof DoubleSolutionView)) {
+      return algorithm.evaluatePopulation(Collections.singletonList(solution)).get(0) ;
+    }
+
+    Lock lock = ((DoubleSolutionView) solution).getPopulation().getResizeLock().readLock() ;
+    lock.lock() ;
+    try {
+      return algorithm.evaluatePopulation(Collections.singletonList(solution)).get(0) ;
+    } finally {
+      lock.unlock() ;
+    }
+  }
+
+  private Future<S> waitFor(CompletionService<S> completionService) {
+    try {
+      return completionService.take() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e) ;
+    }
+  }
+
+  private S getResult(Future<S> evaluation) {
+    try {
+      return evaluation.get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JMetalException("Interrupted while waiting for an evaluation", e) ;
+    } catch (ExecutionException e) {
+      throw new JMetalException("Error evaluating a solution", e) ;
+    }
+  }
+
+  @Override
+  public R getResult() {
+    return algorithm.getResult() ;
+  }
+
+  @Override
+  public String getName() {
+    return algorithm.getName() ;
+  }
+
+  @Override
+  public String getDescription() {
+    return algorithm.getDescription() + " (asynchronous)" ;
+  }
+}
@@ -0,0 +1,25 @@
+package org.uma.jmetal.measure;
+
+import java.util.List;
+
+/**
+ * A {@link BatchMeasureListener} is a {@link MeasureListener} which can
+ * receive several values of a {@link PushMeasure} at once. A
+ * {@link PushMeasure} delivering its values asynchronously, such as
+ * {@link org.uma.jmetal.measure.impl.AsynchronousPushMeasure}, notifies the
+ * values accumulated since its last notification through
+ * {@link #measuresGenerated(List)} instead of calling
+ * {@link #measureGenerated(Object)} for each of them, which allows costly
+ * listeners (charts, files) to process them in a single update.
+ *
+ * @param <Value>
+ */
+public interface BatchMeasureListener<Value> extends MeasureListener<Value> {
+	/**
+	 *
+	 * @param values
+	 *            the values generated by the {@link PushMeasure}, from the
+	 *            oldest to the most recent
+	 */
+	public void measuresGenerated(List<Value> values);
+}
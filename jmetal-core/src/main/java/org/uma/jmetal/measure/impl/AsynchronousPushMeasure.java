@@ -0,0 +1,303 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.BatchMeasureListener;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.PushMeasure;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+/**
+ * An {@link AsynchronousPushMeasure} is a {@link PushMeasure} which notifies
+ * its listeners in a background {@link Thread}, so that slow listeners (charts,
+ * logs, etc.) do not slow down the algorithm pushing the values. The values
+ * pushed are stored in a bounded lock-free ring buffer, without allocating
+ * memory, and the background {@link Thread} delivers them by batches: a
+ * {@link BatchMeasureListener} receives each batch in a single call, while
+ * other {@link MeasureListener}s receive the values one by one, in the order
+ * they have been pushed.<br/>
+ * <br/>
+ * When the listeners are slower than the pushes and the buffer is full, the
+ * {@link OverflowPolicy} decides what happens to the new values. The
+ * background {@link Thread} is shared by all the
+ * {@link AsynchronousPushMeasure}s: a measure is delivered from the
+ * registration of its first listener until its last listener has been
+ * unregistered and its pending values have been delivered, or until
+ * {@link #close()} is called; the values pushed while no listener is
+ * registered are ignored. Because the listeners of all the measures are
+ * notified by the same {@link Thread}, a listener blocking for long delays the
+ * other measures. A listener must not push values to the measure notifying it
+ * with the {@link OverflowPolicy#BLOCK} policy, because the values pushed
+ * would be delivered before the rest of the current batch.
+ *
+ * @param <Value>
+ */
+@SuppressWarnings("serial")
+public class AsynchronousPushMeasure<Value> extends SimplePushMeasure<Value>
+		implements AutoCloseable {
+	public static final int DEFAULT_CAPACITY = 1024;
+	private static final long BLOCKED_PARK_NANOS = 100000;
+	private static final Object NO_VALUE = new Object();
+	private static final Logger log = Logger
+			.getLogger(AsynchronousPushMeasure.class.getName());
+
+	/**
+	 * What to do with a value pushed when the buffer is full.
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * The oldest value of the buffer is discarded to store the new one.
+		 */
+		DROP_OLDEST,
+		/**
+		 * The values pushed while the buffer is full replace each other, so
+		 * that only the most recent one is delivered after the values of the
+		 * buffer.
+		 */
+		COALESCE_LATEST,
+		/**
+		 * The push waits until the buffer has room for the value, so no value
+		 * is lost but the algorithm is slowed down to the pace of the
+		 * listeners.
+		 */
+		BLOCK
+	}
+
+	private final int capacity;
+	private final OverflowPolicy overflowPolicy;
+	private transient PushMeasureDispatcher dispatcher;
+	private transient Set<MeasureListener<Value>> listeners;
+	private transient BoundedRingBuffer buffer;
+	private transient AtomicReference<Object> latestValue;
+	private transient AtomicLong droppedValues;
+	private transient volatile boolean closed;
+
+	/**
+	 * Create an {@link AsynchronousPushMeasure} with a given name and a given
+	 * description.
+	 *
+	 * @param name
+	 *            the name of the {@link PushMeasure}
+	 * @param description
+	 *            the description of the {@link PushMeasure}
+	 * @param capacity
+	 *            the number of values which can wait to be delivered; it is
+	 *            rounded up to a power of two
+	 * @param overflowPolicy
+	 *            what to do with the values pushed when the buffer is full
+	 */
+	public AsynchronousPushMeasure(String name, String description,
+			int capacity, OverflowPolicy overflowPolicy) {
+		super(name, description);
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		initialize();
+	}
+
+	/**
+	 * Create an {@link AsynchronousPushMeasure} with a given name and a given
+	 * description, a buffer of {@link #DEFAULT_CAPACITY} values and the
+	 * {@link OverflowPolicy#DROP_OLDEST} policy.
+	 *
+	 * @param name
+	 *            the name of the {@link PushMeasure}
+	 * @param description
+	 *            the description of the {@link PushMeasure}
+	 */
+	public AsynchronousPushMeasure(String name, String description) {
+		this(name, description, DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Create the state which is not serialized: a deserialized measure has no
+	 * listener and an empty buffer.
+	 */
+	private void initialize() {
+		dispatcher = PushMeasureDispatcher.getInstance();
+		listeners = new CopyOnWriteArraySet<>();
+		buffer = new BoundedRingBuffer(capacity);
+		latestValue = new AtomicReference<>(NO_VALUE);
+		droppedValues = new AtomicLong();
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException,
+			ClassNotFoundException {
+		in.defaultReadObject();
+		initialize();
+	}
+
+	@Override
+	public void register(MeasureListener<Value> listener) {
+		listeners.add(listener);
+		if (!closed) {
+			dispatcher.add(this);
+		}
+	}
+
+	@Override
+	public void unregister(MeasureListener<Value> listener) {
+		listeners.remove(listener);
+		if (listeners.isEmpty()) {
+			dispatcher.wake();
+		}
+	}
+
+	@Override
+	protected boolean hasListeners() {
+		return !listeners.isEmpty();
+	}
+
+	/**
+	 * Store a value to be notified to the listeners by the background
+	 * {@link Thread}. This method does not allocate memory; with the
+	 * {@link OverflowPolicy#BLOCK} policy, it waits while the buffer is full,
+	 * unless it is called by a listener of another measure, in which case the
+	 * values of the buffer are delivered immediately.
+	 *
+	 * @param value
+	 *            the value to send to the observers
+	 */
+	@Override
+	public void push(Value value) {
+		if (closed || listeners.isEmpty()) {
+			return;
+		}
+
+		switch (overflowPolicy) {
+		case DROP_OLDEST:
+			while (!buffer.offer(value)) {
+				if (buffer.poll() != BoundedRingBuffer.EMPTY) {
+					droppedValues.incrementAndGet();
+				}
+			}
+			break;
+		case COALESCE_LATEST:
+			if (latestValue.get() != NO_VALUE || !buffer.offer(value)) {
+				if (latestValue.getAndSet(value) != NO_VALUE) {
+					droppedValues.incrementAndGet();
+				}
+			}
+			break;
+		case BLOCK:
+			while (!buffer.offer(value)) {
+				if (closed || listeners.isEmpty()) {
+					return;
+				} else if (dispatcher.isDispatcherThread()) {
+					// waiting would block the thread which empties the buffer
+					dispatch(new Object[PushMeasureDispatcher.MAXIMUM_BATCH_SIZE]);
+				} else {
+					dispatcher.wake();
+					LockSupport.parkNanos(this, BLOCKED_PARK_NANOS);
+				}
+			}
+			break;
+		}
+		dispatcher.wake();
+	}
+
+	/**
+	 * Stop the deliveries once the values already pushed have been delivered.
+	 * The values pushed after are ignored.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		dispatcher.wake();
+	}
+
+	/**
+	 *
+	 * @return the number of values lost because the buffer was full
+	 */
+	public long getNumberOfDroppedValues() {
+		return droppedValues.get();
+	}
+
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	public int getCapacity() {
+		return buffer.getCapacity();
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if no value waits to be delivered
+	 */
+	boolean isEmpty() {
+		return buffer.isEmpty() && latestValue.get() == NO_VALUE;
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if the pending values do not need to be
+	 *         delivered anymore
+	 */
+	boolean isUnused() {
+		return closed || listeners.isEmpty();
+	}
+
+	/**
+	 * Deliver the next batch of values, called by the {@link Thread} of the
+	 * {@link PushMeasureDispatcher}.
+	 *
+	 * @param batch
+	 *            array filled with the values, emptied before returning
+	 * @return <code>true</code> if values have been delivered
+	 */
+	boolean dispatch(Object[] batch) {
+		int size = 0;
+		Object value;
+		while (size < batch.length
+				&& (value = buffer.poll()) != BoundedRingBuffer.EMPTY) {
+			batch[size++] = value;
+		}
+		if (size < batch.length && buffer.isEmpty()) {
+			Object latest = latestValue.getAndSet(NO_VALUE);
+			if (latest != NO_VALUE) {
+				batch[size++] = latest;
+			}
+		}
+		if (size == 0) {
+			return false;
+		}
+
+		deliver(batch, size);
+		Arrays.fill(batch, 0, size, null);
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void deliver(Object[] batch, int size) {
+		List<Value> values = null;
+		for (MeasureListener<Value> listener : listeners) {
+			try {
+				if (listener instanceof BatchMeasureListener) {
+					if (values == null) {
+						values = Collections.unmodifiableList(Arrays
+								.asList((Value[]) Arrays.copyOf(batch, size)));
+					}
+					((BatchMeasureListener<Value>) listener)
+							.measuresGenerated(values);
+				} else {
+					for (int i = 0; i < size; i++) {
+						listener.measureGenerated((Value) batch[i]);
+					}
+				}
+			} catch (RuntimeException e) {
+				log.warning("Error in a listener of the measure " + getName()
+						+ ": " + e);
+			}
+		}
+	}
+}
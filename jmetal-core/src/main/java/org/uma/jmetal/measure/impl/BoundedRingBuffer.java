@@ -0,0 +1,112 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue which can be used by several producers and
+ * consumers. Each slot of the circular buffer has a sequence number telling
+ * whether it can be written or read for a given position, so
+ * {@link #offer(Object)} and {@link #poll()} only need a compare-and-set on
+ * the position and do not allocate memory. <code>null</code> values are
+ * accepted: {@link #poll()} returns {@link #EMPTY} when there is no value.
+ */
+class BoundedRingBuffer {
+	/**
+	 * Value returned by {@link #poll()} when the buffer is empty.
+	 */
+	static final Object EMPTY = new Object();
+
+	private final AtomicReferenceArray<Object> values;
+	private final AtomicLongArray sequences;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 *
+	 * @param capacity
+	 *            the minimum number of values which can be stored; it is
+	 *            rounded up to a power of two
+	 */
+	BoundedRingBuffer(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new JMetalException("Invalid capacity: " + capacity);
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		values = new AtomicReferenceArray<>(size);
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		mask = size - 1;
+	}
+
+	int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 *
+	 * @return <code>false</code> if the buffer is full
+	 */
+	boolean offer(Object value) {
+		long position = tail.get();
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					values.lazySet(index, value);
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return the oldest value, or {@link #EMPTY} if the buffer is empty
+	 */
+	Object poll() {
+		long position = head.get();
+		while (true) {
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (head.compareAndSet(position, position + 1)) {
+					Object value = values.get(index);
+					values.lazySet(index, null);
+					sequences.set(index, position + mask + 1);
+					return value;
+				}
+				position = head.get();
+			} else if (difference < 0) {
+				return EMPTY;
+			} else {
+				position = head.get();
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if no value has been offered since the last
+	 *         value polled
+	 */
+	boolean isEmpty() {
+		return head.get() >= tail.get();
+	}
+}
@@ -0,0 +1,500 @@
+package org.uma.jmetal.measure.impl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.uma.jmetal.measure.Measure;
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PullMeasure;
+import org.uma.jmetal.measure.PushMeasure;
+import org.uma.jmetal.util.JMetalException;
+
+import javax.management.*;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Publishes the measures of {@link MeasureManager}s outside of the JVM, so that long runs can be
+ * watched while they are running:
+ * <ul>
+ *   <li>as JMX MBeans, one per manager, named "org.uma.jmetal:type=MeasureManager,name=..." and
+ *   having an attribute per measure ({@link #exportToJmx()});</li>
+ *   <li>as an HTTP endpoint "/metrics" in the text format of Prometheus, served by the HTTP server
+ *   of the JDK ({@link #startHttpServer(int)}), which only listens on the loopback interface unless
+ *   another address is given ({@link #startHttpServer(InetAddress, int)}).</li>
+ * </ul>
+ * The {@link PullMeasure}s are read when the MBean attributes or the endpoint are read, so nothing
+ * is computed while nobody is looking. For the measures which are only {@link PushMeasure}s, the
+ * last value pushed is published; the exporter listens to them from the moment their manager is
+ * added, so the values pushed before the first read are not missed. Only the values which are numbers or booleans (as 0 or 1) are
+ * exported; other values, such as populations, are ignored.
+ *
+ * Example:
+ * <pre>
+ * MeasureExporter exporter = new MeasureExporter() ;
+ * exporter.addMeasureManager("nsgaii", algorithm.getMeasureManager()) ;
+ * exporter.exportToJmx() ;
+ * exporter.startHttpServer(9400) ;
+ * algorithm.run() ;
+ * exporter.close() ;
+ * </pre>
+ * The HTTP server keeps the JVM alive until {@link #close()} is called.
+ */
+public class MeasureExporter implements AutoCloseable {
+  public static final String METRIC_PREFIX = "jmetal_" ;
+  public static final String JMX_DOMAIN = "org.uma.jmetal" ;
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8" ;
+
+  private final Map<String, ExportedManager> managers = new LinkedHashMap<>() ;
+  private MBeanServer mBeanServer ;
+  private HttpServer httpServer ;
+  private ExecutorService httpExecutor ;
+
+  /**
+   * Adds a manager whose measures are exported
+   * @param name Name of the manager, used in the name of its MBean and as the value of the label
+   *             "manager" of its metrics
+   * @param measureManager Manager
+   */
+  public synchronized void addMeasureManager(String name, MeasureManager measureManager) {
+    if (managers.containsKey(name)) {
+      throw new JMetalException("A measure manager named " + name + " is already exported") ;
+    }
+    ExportedManager manager = new ExportedManager(name, measureManager) ;
+    managers.put(name, manager) ;
+    if (mBeanServer != null) {
+      registerMBean(manager) ;
+    }
+  }
+
+  /** Stops exporting the measures of a manager */
+  public synchronized void removeMeasureManager(String name) {
+    ExportedManager manager = managers.remove(name) ;
+    if (manager != null) {
+      if (mBeanServer != null) {
+        unregisterMBean(manager) ;
+      }
+      manager.close() ;
+    }
+  }
+
+  /** Registers an MBean for each manager, current or future, in the platform MBean server */
+  public synchronized void exportToJmx() {
+    if (mBeanServer == null) {
+      mBeanServer = ManagementFactory.getPlatformMBeanServer() ;
+      for (ExportedManager manager : managers.values()) {
+        registerMBean(manager) ;
+      }
+    }
+  }
+
+  /**
+   * Starts an HTTP server publishing the measures at the path "/metrics" of the loopback interface,
+   * so they can only be read from the same machine
+   * @param port Port of the server; 0 selects any free port
+   * @return The address of the server
+   */
+  public InetSocketAddress startHttpServer(int port) {
+    return startHttpServer(InetAddress.getLoopbackAddress(), port) ;
+  }
+
+  /**
+   * Starts an HTTP server publishing the measures at the path "/metrics"
+   * @param bindAddress Address of the interface the server listens on; null means all the
+   *                    interfaces
+   * @param port Port of the server; 0 selects any free port
+   * @return The address of the server
+   */
+  public synchronized InetSocketAddress startHttpServer(InetAddress bindAddress, int port) {
+    if (httpServer != null) {
+      throw new JMetalException("The HTTP server is already started") ;
+    }
+
+    try {
+      httpServer = HttpServer.create(new InetSocketAddress(bindAddress, port), 0) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error starting the HTTP server on " + bindAddress + ":" + port, e) ;
+    }
+    httpExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+      @Override
+      public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "jMetal measure exporter") ;
+        thread.setDaemon(true);
+        return thread ;
+      }
+    }) ;
+    httpServer.setExecutor(httpExecutor);
+    httpServer.createContext("/metrics", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        byte[] body = scrape().getBytes(StandardCharsets.UTF_8) ;
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+          outputStream.write(body);
+        }
+      }
+    }) ;
+    httpServer.start();
+
+    return httpServer.getAddress() ;
+  }
+
+  /**
+   * Returns the current values of the measures in the text format of Prometheus. The name of a
+   * metric is {@link #METRIC_PREFIX} followed by the key of the measure, where the characters which
+   * are not allowed are replaced by '_'; the metrics of a {@link CountingMeasure} are counters, whose
+   * name ends with "_total", and the other ones gauges. When several keys give the same name, such
+   * as "a.b" and "a_b", the key which was not changed by the replacement keeps it and the names of
+   * the other ones are followed by a hash of the key (all of them if no key, or several keys, were
+   * not changed), so that the values of different measures are never mixed in one metric.
+   */
+  public String scrape() {
+    List<ExportedManager> currentManagers ;
+    synchronized (this) {
+      currentManagers = new ArrayList<>(managers.values()) ;
+    }
+
+    List<ExportedValue> values = new ArrayList<>() ;
+    for (ExportedManager manager : currentManagers) {
+      for (Object key : manager.getKeys()) {
+        Number value = manager.getValue(key) ;
+        if (value != null) {
+          values.add(new ExportedValue(manager, key, manager.getMeasure(key), value)) ;
+        }
+      }
+    }
+
+    // the keys giving each name, and those among them which did not need to be sanitized
+    Map<String, Set<String>> keysByName = new HashMap<>() ;
+    Map<String, Set<String>> unchangedKeysByName = new HashMap<>() ;
+    for (ExportedValue exported : values) {
+      String metricName = exported.getMetricName() ;
+      addKey(keysByName, metricName, exported.key) ;
+      if (exported.isUnchanged()) {
+        addKey(unchangedKeysByName, metricName, exported.key) ;
+      }
+    }
+
+    Map<String, StringBuilder> metrics = new LinkedHashMap<>() ;
+    for (ExportedValue exported : values) {
+      String metricName = exported.getMetricName() ;
+      Set<String> unchangedKeys = unchangedKeysByName.get(metricName) ;
+      boolean keepsName = keysByName.get(metricName).size() == 1
+          || (exported.isUnchanged() && unchangedKeys.size() == 1) ;
+      if (!keepsName) {
+        metricName = exported.getDisambiguatedMetricName() ;
+      }
+
+      StringBuilder metric = metrics.get(metricName) ;
+      if (metric == null) {
+        metric = new StringBuilder() ;
+        Measure<?> measure = exported.measure ;
+        String description = measure.getDescription() ;
+        if (description != null) {
+          metric.append("# HELP ").append(metricName).append(' ')
+              .append(description.replace("\\", "\\\\").replace("\n", "\\n")).append('\n') ;
+        }
+        metric.append("# TYPE ").append(metricName).append(' ')
+            .append(exported.isCounter() ? "counter" : "gauge").append('\n') ;
+        metrics.put(metricName, metric) ;
+      }
+      metric.append(metricName).append("{manager=\"")
+          .append(exported.manager.name.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+          .append("\"} ").append(formatValue(exported.value)).append('\n') ;
+    }
+
+    StringBuilder text = new StringBuilder() ;
+    for (StringBuilder metric : metrics.values()) {
+      text.append(metric) ;
+    }
+    return text.toString() ;
+  }
+
+  private static void addKey(Map<String, Set<String>> keysByName, String metricName, String key) {
+    Set<String> keys = keysByName.get(metricName) ;
+    if (keys == null) {
+      keys = new HashSet<>() ;
+      keysByName.put(metricName, keys) ;
+    }
+    keys.add(key) ;
+  }
+
+  /** Stops the HTTP server, unregisters the MBeans and stops listening to the push measures */
+  @Override
+  public synchronized void close() {
+    if (httpServer != null) {
+      httpServer.stop(0);
+      httpExecutor.shutdown();
+      httpServer = null ;
+      httpExecutor = null ;
+    }
+    for (ExportedManager manager : managers.values()) {
+      if (mBeanServer != null) {
+        unregisterMBean(manager) ;
+      }
+      manager.close() ;
+    }
+    managers.clear();
+    mBeanServer = null ;
+  }
+
+  /** Returns the name of the MBean of a manager */
+  public static ObjectName getObjectName(String managerName) {
+    try {
+      return new ObjectName(JMX_DOMAIN + ":type=MeasureManager,name=" + ObjectName.quote(managerName)) ;
+    } catch (MalformedObjectNameException e) {
+      throw new JMetalException("Invalid name of measure manager: " + managerName, e) ;
+    }
+  }
+
+  /**
+   * Returns the name of the Prometheus metric of a measure, without the suffix "_total" of the
+   * counters and the hash added when the name of another key is the same (see {@link #scrape()})
+   */
+  public static String getMetricName(Object key) {
+    String name = METRIC_PREFIX + key ;
+    StringBuilder metricName = new StringBuilder(name.length()) ;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i) ;
+      boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+          || (c >= '0' && c <= '9') ;
+      metricName.append(valid ? c : '_') ;
+    }
+    return metricName.toString() ;
+  }
+
+  private static String formatValue(Number value) {
+    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return Long.toString(value.longValue()) ;
+    }
+
+    double number = value.doubleValue() ;
+    if (Double.isNaN(number)) {
+      return "NaN" ;
+    } else if (Double.isInfinite(number)) {
+      return number > 0 ? "+Inf" : "-Inf" ;
+    }
+    return Double.toString(number) ;
+  }
+
+  private void registerMBean(ExportedManager manager) {
+    try {
+      mBeanServer.registerMBean(manager, getObjectName(manager.name)) ;
+    } catch (JMException e) {
+      throw new JMetalException("Error registering the MBean of the measure manager " + manager.name, e) ;
+    }
+  }
+
+  private void unregisterMBean(ExportedManager manager) {
+    try {
+      mBeanServer.unregisterMBean(getObjectName(manager.name));
+    } catch (InstanceNotFoundException e) {
+      // already unregistered
+    } catch (MBeanRegistrationException e) {
+      throw new JMetalException("Error unregistering the MBean of the measure manager " + manager.name, e) ;
+    }
+  }
+
+  /**
+   * Measures of a manager, exported as a dynamic MBean whose attributes are the measures. The keys
+   * are read from the manager each time, so the measures added to the manager after it is exported
+   * are also published; the push measures of the manager are listened to when it is exported, and
+   * those added later when they are first read.
+   */
+  private static class ExportedManager implements DynamicMBean {
+    private final String name ;
+    private final MeasureManager measureManager ;
+    private final Map<Object, LastValueListener> pushListeners = new HashMap<>() ;
+
+    ExportedManager(String name, MeasureManager measureManager) {
+      this.name = name ;
+      this.measureManager = measureManager ;
+      for (Object key : measureManager.getMeasureKeys()) {
+        PushMeasure<Object> push = measureManager.getPushMeasure(key) ;
+        if (push != null && measureManager.getPullMeasure(key) == null) {
+          getPushListener(key, push) ;
+        }
+      }
+    }
+
+    List<Object> getKeys() {
+      List<Object> keys = new ArrayList<>(measureManager.getMeasureKeys()) ;
+      Collections.sort(keys, new Comparator<Object>() {
+        @Override
+        public int compare(Object key1, Object key2) {
+          return String.valueOf(key1).compareTo(String.valueOf(key2)) ;
+        }
+      });
+      return keys ;
+    }
+
+    Measure<?> getMeasure(Object key) {
+      Measure<?> measure = measureManager.getPullMeasure(key) ;
+      return measure != null ? measure : measureManager.<Object>getPushMeasure(key) ;
+    }
+
+    /** Returns the current value of a measure, or null if it is not a number */
+    Number getValue(Object key) {
+      Object value ;
+      PullMeasure<Object> pull = measureManager.getPullMeasure(key) ;
+      if (pull != null) {
+        value = pull.get() ;
+      } else {
+        PushMeasure<Object> push = measureManager.getPushMeasure(key) ;
+        if (push == null) {
+          return null ;
+        }
+        value = getPushListener(key, push).value ;
+      }
+
+      if (value instanceof Number) {
+        return (Number) value ;
+      } else if (value instanceof Boolean) {
+        return (Boolean) value ? 1 : 0 ;
+      }
+      return null ;
+    }
+
+    private synchronized LastValueListener getPushListener(Object key, PushMeasure<Object> push) {
+      LastValueListener listener = pushListeners.get(key) ;
+      if (listener == null || listener.measure != push) {
+        if (listener != null) {
+          listener.measure.unregister(listener);
+        }
+        listener = new LastValueListener(push) ;
+        push.register(listener);
+        pushListeners.put(key, listener) ;
+      }
+      return listener ;
+    }
+
+    synchronized void close() {
+      for (LastValueListener listener : pushListeners.values()) {
+        listener.measure.unregister(listener);
+      }
+      pushListeners.clear();
+    }
+
+    private Object getKey(String attribute) throws AttributeNotFoundException {
+      for (Object key : measureManager.getMeasureKeys()) {
+        if (String.valueOf(key).equals(attribute)) {
+          return key ;
+        }
+      }
+      throw new AttributeNotFoundException("No measure " + attribute + " in " + name) ;
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+      return getValue(getKey(attribute)) ;
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+      AttributeList list = new AttributeList() ;
+      for (String attribute : attributes) {
+        try {
+          list.add(new Attribute(attribute, getAttribute(attribute))) ;
+        } catch (AttributeNotFoundException e) {
+          // the attributes which are not found are not returned
+        }
+      }
+      return list ;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+      throw new AttributeNotFoundException("The measure " + attribute.getName() + " is read-only") ;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+      return new AttributeList() ;
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+      throw new ReflectionException(new NoSuchMethodException(actionName)) ;
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+      List<Object> keys = getKeys() ;
+      MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[keys.size()] ;
+      for (int i = 0; i < attributes.length; i++) {
+        Measure<?> measure = getMeasure(keys.get(i)) ;
+        String description = measure == null || measure.getDescription() == null ?
+            String.valueOf(keys.get(i)) : measure.getDescription() ;
+        attributes[i] = new MBeanAttributeInfo(String.valueOf(keys.get(i)), Number.class.getName(),
+            description, true, false, false) ;
+      }
+
+      return new MBeanInfo(MeasureManager.class.getName(), "Measures of " + name, attributes,
+          null, null, null) ;
+    }
+  }
+
+  /** Value of a measure read for a scrape */
+  private static class ExportedValue {
+    private static final String COUNTER_SUFFIX = "_total" ;
+
+    private final ExportedManager manager ;
+    private final String key ;
+    private final Measure<?> measure ;
+    private final Number value ;
+
+    ExportedValue(ExportedManager manager, Object key, Measure<?> measure, Number value) {
+      this.manager = manager ;
+      this.key = String.valueOf(key) ;
+      this.measure = measure ;
+      this.value = value ;
+    }
+
+    boolean isCounter() {
+      return measure instanceof CountingMeasure ;
+    }
+
+    /** Returns the name of the metric if no other key gives the same */
+    String getMetricName() {
+      return withSuffix(MeasureExporter.getMetricName(key)) ;
+    }
+
+    /** Tells whether the name of the metric is the key, as it did not need to be sanitized */
+    boolean isUnchanged() {
+      return MeasureExporter.getMetricName(key).equals(METRIC_PREFIX + key) ;
+    }
+
+    String getDisambiguatedMetricName() {
+      return withSuffix(MeasureExporter.getMetricName(key) + "_" + Integer.toHexString(key.hashCode())) ;
+    }
+
+    private String withSuffix(String name) {
+      return isCounter() && !name.endsWith(COUNTER_SUFFIX) ? name + COUNTER_SUFFIX : name ;
+    }
+  }
+
+  /** Listener keeping the last value of a push measure */
+  private static class LastValueListener implements MeasureListener<Object> {
+    private final PushMeasure<Object> measure ;
+    private volatile Object value ;
+
+    LastValueListener(PushMeasure<Object> measure) {
+      this.measure = measure ;
+    }
+
+    @Override
+    public void measureGenerated(Object value) {
+      this.value = value ;
+    }
+  }
+}
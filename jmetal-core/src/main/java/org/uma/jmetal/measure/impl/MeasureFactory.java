@@ -4,15 +4,12 @@ import org.uma.jmetal.measure.Measure;
 import org.uma.jmetal.measure.MeasureListener;
 import org.uma.jmetal.measure.PullMeasure;
 import org.uma.jmetal.measure.PushMeasure;
-import org.uma.jmetal.util.JMetalException;
 
-import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.logging.Logger;
 
 /**
  * The {@link MeasureFactory} provides some useful methods to build specific
@@ -23,8 +20,6 @@ import java.util.logging.Logger;
  */
 public class MeasureFactory {
 
-	private final Logger log = Logger.getLogger(MeasureFactory.class.getName());
-
 	/**
 	 * Create a {@link PullMeasure} to backup the last {@link Value} of a
 	 * {@link PushMeasure}. When the {@link PushMeasure} send a notification
@@ -85,14 +80,18 @@ public class MeasureFactory {
 	 * (or since the creation of the {@link PushMeasure}), a notification will
 	 * be generated by the {@link PushMeasure} with the new {@link Value}.<br/>
 	 * <br/>
-	 * Notice that if the period is two small, the checking process could have a
-	 * significant impact on performances, because a {@link Thread} is run in
-	 * parallel to check regularly the {@link Value} modifications. If the
-	 * period is too big, you could miss relevant notifications, especially if
-	 * the {@link PullMeasure} change to a new {@link Value} and change back to
-	 * its previous {@link Value} between two consecutive checks. In such a
-	 * case, no notification will be sent because the {@link Value} during the
-	 * two checks is equal.
+	 * The checks of all the measures created this way are run by a single
+	 * shared {@link Thread}, which checks together the measures having the
+	 * same period. A measure is only checked while its {@link PushMeasure} has
+	 * listeners, and the {@link Thread} stops when no measure needs to be
+	 * checked. Notice that if the period is two small, the checking process
+	 * could have a significant impact on performances, and slow checks delay
+	 * the checks of the other measures. If the period is too big, you could
+	 * miss relevant notifications, especially if the {@link PullMeasure}
+	 * change to a new {@link Value} and change back to its previous
+	 * {@link Value} between two consecutive checks. In such a case, no
+	 * notification will be sent because the {@link Value} during the two
+	 * checks is equal.
 	 * 
 	 * @param pull
 	 *            the {@link PullMeasure} to cover
@@ -103,73 +102,82 @@ public class MeasureFactory {
 	 */
 	public <Value> PushMeasure<Value> createPushFromPull(
 			PullMeasure<Value> pull, final long period) {
-		SimplePushMeasure<Value> push = new SimplePushMeasure<>(pull.getName(),
-				pull.getDescription());
-		final WeakReference<PullMeasure<Value>> weakPull = new WeakReference<PullMeasure<Value>>(
-				pull);
-		final WeakReference<SimplePushMeasure<Value>> weakPush = new WeakReference<SimplePushMeasure<Value>>(
-				push);
-		final Value initialValue = pull.get();
-		/*
-		 * TODO Use a static thread to run the checks of all the measures
-		 * created that way. Using a WeakHashMap could probably do the trick.
-		 */
-		Thread thread = new Thread(new Runnable() {
-			private Value lastValue = initialValue;
+		return PullMeasurePoller.getInstance().createPushMeasure(pull, period);
+	}
+
+	/**
+	 * Create a {@link PushMeasure} which notifies its listeners in a
+	 * background {@link Thread} of the values pushed by another
+	 * {@link PushMeasure}, so that slow listeners do not slow down the entity
+	 * pushing the values. See {@link AsynchronousPushMeasure} for the details.
+	 * The relay is only registered to the {@link PushMeasure} while the
+	 * {@link AsynchronousPushMeasure} has listeners, so an unused relay neither
+	 * receives values nor is kept in memory by the {@link PushMeasure}.
+	 * 
+	 * @param push
+	 *            the {@link PushMeasure} to relay
+	 * @param capacity
+	 *            the number of values which can wait to be delivered
+	 * @param overflowPolicy
+	 *            what to do with the values pushed when the buffer is full
+	 * @return an {@link AsynchronousPushMeasure} relaying the notifications of
+	 *         the {@link PushMeasure}
+	 */
+	public <Value> AsynchronousPushMeasure<Value> createAsynchronousPushFromPush(
+			PushMeasure<Value> push, int capacity,
+			AsynchronousPushMeasure.OverflowPolicy overflowPolicy) {
+		return new RelayedAsynchronousPushMeasure<>(push, capacity,
+				overflowPolicy);
+	}
 
+	/**
+	 * {@link AsynchronousPushMeasure} relaying the values of another
+	 * {@link PushMeasure}, to which it is registered while it has listeners.
+	 * The source is not serialized: a deserialized relay only notifies the
+	 * values pushed to it directly.
+	 */
+	@SuppressWarnings("serial")
+	private static class RelayedAsynchronousPushMeasure<Value> extends
+			AsynchronousPushMeasure<Value> {
+		private final transient PushMeasure<Value> source;
+		private final transient MeasureListener<Value> relay = new MeasureListener<Value>() {
 			@Override
-			public void run() {
-				boolean isThreadNeeded = true;
-				long alreadyConsumed = 0;
-				while (isThreadNeeded) {
-					if (alreadyConsumed > period) {
-						long realConsumption = alreadyConsumed;
-						long missed = alreadyConsumed / period;
-						alreadyConsumed = alreadyConsumed % period;
-						log.warning("Too much time consumed in the last measuring ("
-								+ realConsumption
-								+ ">"
-								+ period
-								+ "), ignore the "
-								+ missed
-								+ " pushes missed and consider it has consumed "
-								+ alreadyConsumed);
-					} else {
-						// usual case.
-					}
-					try {
-						Thread.sleep(period - alreadyConsumed);
-					} catch (InterruptedException e) {
-						throw new JMetalException("Error in run method: ", e) ;
-					}
+			public void measureGenerated(Value value) {
+				push(value);
+			}
+		};
 
-					long measureStart = System.currentTimeMillis();
+		RelayedAsynchronousPushMeasure(PushMeasure<Value> source, int capacity,
+				OverflowPolicy overflowPolicy) {
+			super(source.getName(), source.getDescription(), capacity,
+					overflowPolicy);
+			this.source = source;
+		}
 
-					PullMeasure<Value> pull = weakPull.get();
-					SimplePushMeasure<Value> push = weakPush.get();
-					if (pull == null || push == null) {
-						isThreadNeeded = false;
-					} else {
-						Value value = pull.get();
-						if (value == lastValue || value != null
-								&& value.equals(lastValue)) {
-							// still the same, don't notify
-						} else {
-							lastValue = value;
-							push.push(value);
-						}
-					}
-					pull = null;
-					push = null;
+		@Override
+		public synchronized void register(MeasureListener<Value> listener) {
+			boolean first = !hasListeners();
+			super.register(listener);
+			if (first && source != null) {
+				source.register(relay);
+			}
+		}
 
-					long measureEnd = System.currentTimeMillis();
-					alreadyConsumed = measureEnd - measureStart;
-				}
+		@Override
+		public synchronized void unregister(MeasureListener<Value> listener) {
+			super.unregister(listener);
+			if (!hasListeners() && source != null) {
+				source.unregister(relay);
+			}
+		}
+
+		@Override
+		public synchronized void close() {
+			if (source != null) {
+				source.unregister(relay);
 			}
-		});
-		thread.setDaemon(true);
-		thread.start();
-		return push;
+			super.close();
+		}
 	}
 
 	/**
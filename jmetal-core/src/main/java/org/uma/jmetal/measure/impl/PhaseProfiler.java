@@ -0,0 +1,222 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm;
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.PullMeasure;
+import org.uma.jmetal.measure.PushMeasure;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the cost of the phases of the generations of an evolutionary algorithm: wall time, CPU
+ * time and bytes allocated by the thread running the algorithm. The profiler is attached with
+ * {@link AbstractEvolutionaryAlgorithm#setPhaseProfiler(PhaseProfiler)}; an algorithm without
+ * profiler uses {@link #DISABLED}, whose methods do nothing.
+ *
+ * The measures are provided by the {@link MeasureManager} of the profiler. For each phase and
+ * metric, the key given by {@link #getMeasureKey(Phase, Metric)} identifies a {@link PushMeasure}
+ * notified with the total of each generation, and the keys given by
+ * {@link #getPercentileKey(Phase, Metric, int)} identify {@link PullMeasure}s with the median and
+ * the 99th percentile of the generations of a rolling window. For example, "evaluation.cpuTime"
+ * pushes the CPU time spent evaluating each offspring population and "evaluation.cpuTime.p99" is
+ * its 99th percentile.
+ *
+ * Times are in nanoseconds. CPU time and allocated bytes only account for the thread calling
+ * {@link #start(Phase)} and {@link #stop(Phase)}, so the work of the threads of a parallel
+ * evaluator is not included in them; they are -1 if the JVM does not support these measures.
+ * Measuring them has to be enabled in the {@link ThreadMXBean} of the JVM, which affects every
+ * thread; the profiler enables it the first time {@link #start(Phase)} is called, so creating a
+ * profiler which is never attached has no effect on the JVM.
+ */
+public class PhaseProfiler implements Measurable {
+  public static final int DEFAULT_WINDOW_SIZE = 100 ;
+  private static final int[] PERCENTILES = {50, 99} ;
+
+  public enum Phase {
+    SELECTION("selection"),
+    REPRODUCTION("reproduction"),
+    EVALUATION("evaluation"),
+    REPLACEMENT("replacement") ;
+
+    private final String key ;
+
+    Phase(String key) {
+      this.key = key ;
+    }
+  }
+
+  public enum Metric {
+    WALL_TIME("wallTime"),
+    CPU_TIME("cpuTime"),
+    ALLOCATED_BYTES("allocatedBytes") ;
+
+    private final String key ;
+
+    Metric(String key) {
+      this.key = key ;
+    }
+  }
+
+  private static final int PHASES = Phase.values().length ;
+  private static final int METRICS = Metric.values().length ;
+
+  /** Profiler measuring nothing, used by the algorithms to which no profiler is attached */
+  public static final PhaseProfiler DISABLED = new PhaseProfiler(1) {
+    @Override
+    public void start(Phase phase) {
+    }
+
+    @Override
+    public void stop(Phase phase) {
+    }
+
+    @Override
+    public void endGeneration() {
+    }
+  } ;
+
+  private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean() ;
+  private final boolean cpuTimeSupported ;
+  private final boolean allocatedBytesSupported ;
+  private boolean measurementEnabled = false ;
+
+  private final long[][] startValues = new long[PHASES][METRICS] ;
+  private final long[][] generationTotals = new long[PHASES][METRICS] ;
+  private final RollingHistogram[][] histograms = new RollingHistogram[PHASES][METRICS] ;
+  private final SimplePushMeasure<Long>[][] pushMeasures ;
+  private final SimpleMeasureManager measureManager = new SimpleMeasureManager() ;
+  private final CountingMeasure generations = new CountingMeasure("generations",
+      "Number of generations measured by the profiler") ;
+
+  public PhaseProfiler() {
+    this(DEFAULT_WINDOW_SIZE) ;
+  }
+
+  /**
+   * Constructor
+   * @param windowSize Number of generations used to compute the percentiles
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public PhaseProfiler(int windowSize) {
+    cpuTimeSupported = threadBean.isCurrentThreadCpuTimeSupported() ;
+    allocatedBytesSupported = threadBean instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported() ;
+
+    pushMeasures = new SimplePushMeasure[PHASES][METRICS] ;
+    for (Phase phase : Phase.values()) {
+      for (Metric metric : Metric.values()) {
+        final RollingHistogram histogram = new RollingHistogram(windowSize) ;
+        histograms[phase.ordinal()][metric.ordinal()] = histogram ;
+
+        String key = getMeasureKey(phase, metric) ;
+        SimplePushMeasure<Long> pushMeasure = new SimplePushMeasure<>(key,
+            "Value of " + metric.key + " in the " + phase.key + " phase of each generation") ;
+        pushMeasures[phase.ordinal()][metric.ordinal()] = pushMeasure ;
+        measureManager.setPushMeasure(key, pushMeasure);
+
+        for (final int percentile : PERCENTILES) {
+          String percentileKey = getPercentileKey(phase, metric, percentile) ;
+          measureManager.setPullMeasure(percentileKey, new SimplePullMeasure<Long>(percentileKey,
+              "Percentile " + percentile + " of " + key + " in the last generations") {
+            @Override
+            public Long get() {
+              return histogram.getPercentile(percentile) ;
+            }
+          });
+        }
+      }
+    }
+    measureManager.setMeasure("generations", generations);
+  }
+
+  /** Returns the key of the {@link PushMeasure} of a metric of a phase, e.g. "selection.wallTime" */
+  public static String getMeasureKey(Phase phase, Metric metric) {
+    return phase.key + "." + metric.key ;
+  }
+
+  /**
+   * Returns the key of the {@link PullMeasure} of a percentile of a metric of a phase, e.g.
+   * "selection.wallTime.p50"; the percentiles provided are 50 and 99
+   */
+  public static String getPercentileKey(Phase phase, Metric metric, int percentile) {
+    return getMeasureKey(phase, metric) + ".p" + percentile ;
+  }
+
+  /** Starts measuring a phase in the current thread */
+  public void start(Phase phase) {
+    if (!measurementEnabled) {
+      enableMeasurement();
+    }
+
+    long[] values = startValues[phase.ordinal()] ;
+    values[Metric.ALLOCATED_BYTES.ordinal()] = allocatedBytes() ;
+    values[Metric.CPU_TIME.ordinal()] = cpuTime() ;
+    values[Metric.WALL_TIME.ordinal()] = System.nanoTime() ;
+  }
+
+  /** Stops measuring a phase, adding its costs since {@link #start(Phase)} to the current generation */
+  public void stop(Phase phase) {
+    long wallTime = System.nanoTime() ;
+    long cpuTime = cpuTime() ;
+    long allocatedBytes = allocatedBytes() ;
+
+    long[] values = startValues[phase.ordinal()] ;
+    long[] totals = generationTotals[phase.ordinal()] ;
+    totals[Metric.WALL_TIME.ordinal()] += wallTime - values[Metric.WALL_TIME.ordinal()] ;
+    totals[Metric.CPU_TIME.ordinal()] += cpuTime - values[Metric.CPU_TIME.ordinal()] ;
+    totals[Metric.ALLOCATED_BYTES.ordinal()] += allocatedBytes - values[Metric.ALLOCATED_BYTES.ordinal()] ;
+  }
+
+  /**
+   * Ends a generation: its totals are added to the rolling histograms and pushed to the listeners
+   * of the measures
+   */
+  public void endGeneration() {
+    for (int phase = 0; phase < PHASES; phase++) {
+      for (int metric = 0; metric < METRICS; metric++) {
+        long value = generationTotals[phase][metric] ;
+        if ((metric == Metric.CPU_TIME.ordinal() && !cpuTimeSupported)
+            || (metric == Metric.ALLOCATED_BYTES.ordinal() && !allocatedBytesSupported)) {
+          value = -1 ;
+        }
+        generationTotals[phase][metric] = 0 ;
+        histograms[phase][metric].add(value);
+        pushMeasures[phase][metric].push(value);
+      }
+    }
+    generations.increment();
+  }
+
+  /** Returns the rolling histogram of a metric of a phase */
+  public RollingHistogram getHistogram(Phase phase, Metric metric) {
+    return histograms[phase.ordinal()][metric.ordinal()] ;
+  }
+
+  @Override
+  public MeasureManager getMeasureManager() {
+    return measureManager ;
+  }
+
+  /** Enables the measurement of the CPU time and allocated bytes of the threads in the JVM */
+  private void enableMeasurement() {
+    if (cpuTimeSupported && !threadBean.isThreadCpuTimeEnabled()) {
+      threadBean.setThreadCpuTimeEnabled(true);
+    }
+    if (allocatedBytesSupported
+        && !((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemoryEnabled()) {
+      ((com.sun.management.ThreadMXBean) threadBean).setThreadAllocatedMemoryEnabled(true);
+    }
+    measurementEnabled = true ;
+  }
+
+  private long cpuTime() {
+    return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : 0 ;
+  }
+
+  private long allocatedBytes() {
+    return allocatedBytesSupported ? ((com.sun.management.ThreadMXBean) threadBean)
+        .getThreadAllocatedBytes(Thread.currentThread().getId()) : 0 ;
+  }
+}
@@ -0,0 +1,230 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.measure.MeasureListener;
+import org.uma.jmetal.measure.PullMeasure;
+import org.uma.jmetal.measure.PushMeasure;
+import org.uma.jmetal.util.JMetalException;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * The {@link PullMeasurePoller} checks at regular intervals the values of
+ * {@link PullMeasure}s to notify their changes through {@link PushMeasure}s,
+ * as required by {@link MeasureFactory#createPushFromPull(PullMeasure, long)}.
+ * All the checks run in a single daemon {@link Thread}, shared by all the
+ * measures: the measures having the same period are checked by the same
+ * periodic task. A measure is only checked while its {@link PushMeasure} has
+ * listeners, and the {@link Thread} terminates when no measure has to be
+ * checked, so the number of threads used does not depend on the number of
+ * measures.<br/>
+ * <br/>
+ * Like the measures created by {@link MeasureFactory}, the poller does not
+ * keep the measures in memory: when a {@link PullMeasure} or a
+ * {@link PushMeasure} is garbage collected, its checks stop.
+ */
+class PullMeasurePoller {
+	private static final long THREAD_KEEP_ALIVE_TIME = 1000;
+	private static final PullMeasurePoller instance = new PullMeasurePoller();
+
+	private final Logger log = Logger.getLogger(PullMeasurePoller.class.getName());
+	private final ScheduledThreadPoolExecutor executor;
+	private final Map<Long, PeriodGroup> groups = new HashMap<>();
+
+	PullMeasurePoller() {
+		executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "jMetal measure poller");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		executor.setKeepAliveTime(THREAD_KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS);
+		executor.allowCoreThreadTimeOut(true);
+		executor.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 *
+	 * @return the poller shared by all the measures
+	 */
+	static PullMeasurePoller getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Create a {@link PushMeasure} notifying the changes of the value of a
+	 * {@link PullMeasure}, checked every period while the {@link PushMeasure}
+	 * has listeners.
+	 *
+	 * @param pull
+	 *            the {@link PullMeasure} to cover
+	 * @param period
+	 *            the number of milliseconds between each check
+	 */
+	<Value> PushMeasure<Value> createPushMeasure(PullMeasure<Value> pull,
+			long period) {
+		if (period <= 0) {
+			throw new JMetalException("The period must be positive: " + period);
+		}
+		return new PolledPushMeasure<>(this, pull, period);
+	}
+
+	/**
+	 *
+	 * @return the number of periodic tasks currently scheduled, one per
+	 *         distinct period of the measures checked
+	 */
+	synchronized int getNumberOfScheduledPeriods() {
+		return groups.size();
+	}
+
+	private synchronized void add(Poll<?> poll) {
+		PeriodGroup group = groups.get(poll.period);
+		if (group == null) {
+			group = new PeriodGroup(poll.period);
+			group.future = executor.scheduleWithFixedDelay(group, poll.period,
+					poll.period, TimeUnit.MILLISECONDS);
+			groups.put(poll.period, group);
+		}
+		if (!group.polls.contains(poll)) {
+			group.polls.add(poll);
+		}
+	}
+
+	private synchronized void remove(Poll<?> poll) {
+		PeriodGroup group = groups.get(poll.period);
+		if (group != null) {
+			group.polls.remove(poll);
+			if (group.polls.isEmpty()) {
+				group.future.cancel(false);
+				groups.remove(poll.period);
+			}
+		}
+	}
+
+	/**
+	 * Periodic task checking all the measures of a given period.
+	 */
+	private class PeriodGroup implements Runnable {
+		private final long period;
+		private final List<Poll<?>> polls = new CopyOnWriteArrayList<>();
+		private ScheduledFuture<?> future;
+
+		PeriodGroup(long period) {
+			this.period = period;
+		}
+
+		@Override
+		public void run() {
+			long measureStart = System.currentTimeMillis();
+			for (Poll<?> poll : polls) {
+				try {
+					if (!poll.check()) {
+						remove(poll);
+					}
+				} catch (RuntimeException e) {
+					log.warning("Error when checking the measure "
+							+ poll.getName() + ": " + e);
+				}
+			}
+			long consumed = System.currentTimeMillis() - measureStart;
+			if (consumed > period) {
+				log.warning("Too much time consumed in the last measuring ("
+						+ consumed + ">" + period + "), the pushes of the "
+						+ "next period will be delayed");
+			}
+		}
+	}
+
+	/**
+	 * Check of a single {@link PullMeasure}.
+	 */
+	private static class Poll<Value> {
+		private final long period;
+		private final WeakReference<PullMeasure<Value>> weakPull;
+		private final WeakReference<PolledPushMeasure<Value>> weakPush;
+		private final String name;
+		private Value lastValue;
+
+		Poll(PullMeasure<Value> pull, PolledPushMeasure<Value> push, long period) {
+			this.period = period;
+			this.weakPull = new WeakReference<>(pull);
+			this.weakPush = new WeakReference<>(push);
+			this.name = pull.getName();
+			this.lastValue = pull.get();
+		}
+
+		String getName() {
+			return name;
+		}
+
+		/**
+		 * Push the value of the {@link PullMeasure} if it has changed since
+		 * the last check.
+		 *
+		 * @return false if one of the measures has been garbage collected
+		 */
+		boolean check() {
+			PullMeasure<Value> pull = weakPull.get();
+			PolledPushMeasure<Value> push = weakPush.get();
+			if (pull == null || push == null) {
+				return false;
+			}
+
+			Value value = pull.get();
+			if (value == lastValue || value != null && value.equals(lastValue)) {
+				// still the same, don't notify
+			} else {
+				lastValue = value;
+				push.push(value);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * {@link PushMeasure} registering its {@link Poll} to the poller while it
+	 * has listeners.
+	 */
+	@SuppressWarnings("serial")
+	private static class PolledPushMeasure<Value> extends SimplePushMeasure<Value> {
+		private final transient PullMeasurePoller poller;
+		private final transient Poll<Value> poll;
+
+		PolledPushMeasure(PullMeasurePoller poller, PullMeasure<Value> pull,
+				long period) {
+			super(pull.getName(), pull.getDescription());
+			this.poller = poller;
+			this.poll = new Poll<>(pull, this, period);
+		}
+
+		@Override
+		public synchronized void register(MeasureListener<Value> listener) {
+			super.register(listener);
+			poller.add(poll);
+		}
+
+		@Override
+		public synchronized void unregister(MeasureListener<Value> listener) {
+			super.unregister(listener);
+			if (!hasListeners()) {
+				poller.remove(poll);
+			}
+		}
+
+		@Override
+		public synchronized void push(Value value) {
+			super.push(value);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package org.uma.jmetal.measure.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@link PushMeasureDispatcher} delivers the values pushed to the
+ * {@link AsynchronousPushMeasure}s. All the deliveries run in a single daemon
+ * {@link Thread}, shared by all the measures, which drains the buffers of the
+ * measures in turn, by batches, so that a measure pushing many values does not
+ * delay the others for long. A measure is drained while it has listeners or
+ * pending values, and the {@link Thread} terminates when no measure has to be
+ * drained, so the number of threads used does not depend on the number of
+ * measures. While all the buffers are empty, the {@link Thread} sleeps until a
+ * value is pushed, so idle measures do not consume CPU.
+ */
+class PushMeasureDispatcher {
+	/**
+	 * Maximum number of values of a measure delivered before draining the
+	 * next one.
+	 */
+	static final int MAXIMUM_BATCH_SIZE = 256;
+	private static final PushMeasureDispatcher instance = new PushMeasureDispatcher();
+
+	private final List<AsynchronousPushMeasure<?>> measures = new CopyOnWriteArrayList<>();
+	private volatile Thread thread;
+	private volatile boolean waiting;
+
+	/**
+	 *
+	 * @return the dispatcher shared by all the measures
+	 */
+	static PushMeasureDispatcher getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Drain a measure until it has neither listeners nor pending values,
+	 * starting the {@link Thread} if needed.
+	 */
+	synchronized void add(AsynchronousPushMeasure<?> measure) {
+		if (!contains(measure)) {
+			measures.add(measure);
+		}
+		if (thread == null) {
+			Thread dispatcher = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					dispatch();
+				}
+			}, "jMetal push measure dispatcher");
+			dispatcher.setDaemon(true);
+			thread = dispatcher;
+			dispatcher.start();
+		} else {
+			wake();
+		}
+	}
+
+	/**
+	 * Wake the {@link Thread} up if it is waiting for values.
+	 */
+	void wake() {
+		if (waiting) {
+			Thread dispatcher = thread;
+			if (dispatcher != null) {
+				LockSupport.unpark(dispatcher);
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if the current {@link Thread} is the one
+	 *         notifying the listeners
+	 */
+	boolean isDispatcherThread() {
+		return Thread.currentThread() == thread;
+	}
+
+	private boolean contains(AsynchronousPushMeasure<?> measure) {
+		for (AsynchronousPushMeasure<?> other : measures) {
+			if (other == measure) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The state of the measure is checked while holding the lock of
+	 * {@link #add(AsynchronousPushMeasure)}, so a listener registered
+	 * concurrently either keeps the measure or adds it again.
+	 */
+	private synchronized void removeIfUnused(AsynchronousPushMeasure<?> measure) {
+		if (measure.isUnused() && measure.isEmpty()) {
+			measures.remove(measure);
+		}
+	}
+
+	/**
+	 * Called by the {@link Thread} when it has nothing to deliver.
+	 *
+	 * @return <code>true</code> if the {@link Thread} must stop
+	 */
+	private synchronized boolean stopIfUnused() {
+		if (measures.isEmpty()) {
+			thread = null;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 *
+	 * @return <code>true</code> if no measure has values to deliver or has to
+	 *         be removed
+	 */
+	private boolean isIdle() {
+		for (AsynchronousPushMeasure<?> measure : measures) {
+			if (!measure.isEmpty() || measure.isUnused()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void dispatch() {
+		Object[] batch = new Object[MAXIMUM_BATCH_SIZE];
+		while (true) {
+			boolean delivered = false;
+			for (AsynchronousPushMeasure<?> measure : measures) {
+				if (measure.dispatch(batch)) {
+					delivered = true;
+				} else if (measure.isUnused()) {
+					removeIfUnused(measure);
+				}
+			}
+
+			if (delivered) {
+				continue;
+			} else if (stopIfUnused()) {
+				return;
+			} else {
+				/*
+				 * The producers unpark this thread after storing a value if
+				 * they see the flag, and the buffers are checked again after
+				 * setting it, so a value can not be missed by an untimed park.
+				 */
+				waiting = true;
+				if (isIdle()) {
+					LockSupport.park(this);
+				}
+				waiting = false;
+			}
+		}
+	}
+}
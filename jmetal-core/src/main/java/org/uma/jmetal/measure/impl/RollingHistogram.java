@@ -0,0 +1,69 @@
+package org.uma.jmetal.measure.impl;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of the last values of a series, used to compute percentiles over a rolling window.
+ * The values are kept in a circular buffer of fixed size, so adding a value does not allocate
+ * memory; the percentiles are computed exactly when they are requested.
+ */
+public class RollingHistogram {
+  private final long[] window ;
+  private int next ;
+  private int count ;
+
+  /**
+   * Constructor
+   * @param windowSize Number of values kept
+   */
+  public RollingHistogram(int windowSize) {
+    if (windowSize <= 0) {
+      throw new JMetalException("The window size must be positive: " + windowSize) ;
+    }
+    window = new long[windowSize] ;
+  }
+
+  public synchronized void add(long value) {
+    window[next] = value ;
+    next = (next + 1) % window.length ;
+    if (count < window.length) {
+      count++ ;
+    }
+  }
+
+  /** Returns the number of values in the window */
+  public synchronized int getCount() {
+    return count ;
+  }
+
+  public int getWindowSize() {
+    return window.length ;
+  }
+
+  /**
+   * Returns a percentile of the values in the window, with the nearest-rank method
+   * @param percentile Percentile, between 0 and 100
+   * @return The percentile, or null if no value has been added
+   */
+  public synchronized Long getPercentile(double percentile) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new JMetalException("The percentile must be between 0 and 100: " + percentile) ;
+    }
+    if (count == 0) {
+      return null ;
+    }
+
+    long[] values = Arrays.copyOf(window, count) ;
+    Arrays.sort(values) ;
+    int rank = (int) Math.ceil(percentile / 100.0 * count) ;
+
+    return values[Math.max(rank, 1) - 1] ;
+  }
+
+  public synchronized void clear() {
+    next = 0 ;
+    count = 0 ;
+  }
+}
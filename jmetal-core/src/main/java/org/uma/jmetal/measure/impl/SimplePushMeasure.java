@@ -70,6 +70,15 @@ public class SimplePushMeasure<Value> extends SimpleMeasure<Value> implements
 		listeners.remove(listener);
 	}
 
+	/**
+	 * 
+	 * @return <code>true</code> if at least one {@link MeasureListener} is
+	 *         registered
+	 */
+	protected boolean hasListeners() {
+		return !listeners.isEmpty();
+	}
+
 	/**
 	 * Notify the observers which has registered a {@link MeasureListener}
 	 * through {@link #register(MeasureListener)} about a value.
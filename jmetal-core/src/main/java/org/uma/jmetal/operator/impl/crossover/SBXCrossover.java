@@ -5,6 +5,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -93,13 +94,20 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
     return doCrossover(crossoverProbability, solutions.get(0), solutions.get(1)) ;
   }
 
-  /** doCrossover method */
+  /**
+   * doCrossover method. The variables are read and written through
+   * {@link SolutionUtils#getVariableValue(DoubleSolution, int)} and
+   * {@link SolutionUtils#setVariableValue(DoubleSolution, int, double)}, so the views of a
+   * {@link org.uma.jmetal.solution.impl.DoublePopulation} are crossed without boxing
+   */
   public List<DoubleSolution> doCrossover(
       double probability, DoubleSolution parent1, DoubleSolution parent2) {
     List<DoubleSolution> offspring = new ArrayList<DoubleSolution>(2);
 
-    offspring.add((DoubleSolution) parent1.copy()) ;
-    offspring.add((DoubleSolution) parent2.copy()) ;
+    DoubleSolution offspring1 = (DoubleSolution) parent1.copy() ;
+    DoubleSolution offspring2 = (DoubleSolution) parent2.copy() ;
+    offspring.add(offspring1) ;
+    offspring.add(offspring2) ;
 
     int i;
     double rand;
@@ -110,8 +118,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
 
     if (randomGenerator.getRandomValue() <= probability) {
       for (i = 0; i < parent1.getNumberOfVariables(); i++) {
-        valueX1 = parent1.getVariableValue(i);
-        valueX2 = parent2.getVariableValue(i);
+        valueX1 = SolutionUtils.getVariableValue(parent1, i);
+        valueX2 = SolutionUtils.getVariableValue(parent2, i);
         if (randomGenerator.getRandomValue() <= 0.5) {
           if (Math.abs(valueX1 - valueX2) > EPS) {
 
@@ -123,8 +131,8 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
               y2 = valueX1;
             }
 
-            lowerBound = parent1.getLowerBound(i);
-            upperBound = parent1.getUpperBound(i);
+            lowerBound = SolutionUtils.getLowerBound(parent1, i);
+            upperBound = SolutionUtils.getUpperBound(parent1, i);
 
             rand = randomGenerator.getRandomValue();
             beta = 1.0 + (2.0 * (y1 - lowerBound) / (y2 - y1));
@@ -153,19 +161,19 @@ public class SBXCrossover implements CrossoverOperator<DoubleSolution> {
             c2 = solutionRepair.repairSolutionVariableValue(c2, lowerBound, upperBound) ;
 
             if (randomGenerator.getRandomValue() <= 0.5) {
-              offspring.get(0).setVariableValue(i, c2);
-              offspring.get(1).setVariableValue(i, c1);
+              SolutionUtils.setVariableValue(offspring1, i, c2);
+              SolutionUtils.setVariableValue(offspring2, i, c1);
             } else {
-              offspring.get(0).setVariableValue(i, c1);
-              offspring.get(1).setVariableValue(i, c2);
+              SolutionUtils.setVariableValue(offspring1, i, c1);
+              SolutionUtils.setVariableValue(offspring2, i, c2);
             }
           } else {
-            offspring.get(0).setVariableValue(i, valueX1);
-            offspring.get(1).setVariableValue(i, valueX2);
+            SolutionUtils.setVariableValue(offspring1, i, valueX1);
+            SolutionUtils.setVariableValue(offspring2, i, valueX2);
           }
         } else {
-          offspring.get(0).setVariableValue(i, valueX1);
-          offspring.get(1).setVariableValue(i, valueX2);
+          SolutionUtils.setVariableValue(offspring1, i, valueX1);
+          SolutionUtils.setVariableValue(offspring2, i, valueX2);
         }
       }
     }
@@ -6,6 +6,7 @@ import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolution;
 import org.uma.jmetal.solution.util.RepairDoubleSolutionAtBounds;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -111,16 +112,19 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
     return solution;
   }
 
-  /** Perform the mutation operation */
+  /**
+   * Perform the mutation operation. The views of a
+   * {@link org.uma.jmetal.solution.impl.DoublePopulation} are mutated without boxing
+   */
   private void doMutation(double probability, DoubleSolution solution) {
     double rnd, delta1, delta2, mutPow, deltaq;
     double y, yl, yu, val, xy;
 
     for (int i = 0; i < solution.getNumberOfVariables(); i++) {
       if (randomGenerator.getRandomValue() <= probability) {
-        y = solution.getVariableValue(i);
-        yl = solution.getLowerBound(i) ;
-        yu = solution.getUpperBound(i) ;
+        y = SolutionUtils.getVariableValue(solution, i);
+        yl = SolutionUtils.getLowerBound(solution, i) ;
+        yu = SolutionUtils.getUpperBound(solution, i) ;
         if (yl == yu) {
           y = yl ;
         } else {
@@ -140,7 +144,7 @@ public class PolynomialMutation implements MutationOperator<DoubleSolution> {
           y = y + deltaq * (yu - yl);
           y = solutionRepair.repairSolutionVariableValue(y, yl, yu);
         }
-        solution.setVariableValue(i, y);
+        SolutionUtils.setVariableValue(solution, i, y);
       }
     }
   }
@@ -0,0 +1,19 @@
+package org.uma.jmetal.problem;
+
+import java.util.List;
+
+/**
+ * Interface representing problems able to evaluate a list of solutions in a single call, which
+ * allows vectorized objective functions or the reuse of buffers among the solutions. The
+ * evaluators of package {@link org.uma.jmetal.util.evaluator} detect this interface and hand lists
+ * of solutions to {@link #evaluate(List)} instead of evaluating them one by one. The constraints of
+ * a {@link ConstrainedProblem} are still evaluated per solution.
+ *
+ * Implementations must produce the same objective values as {@link #evaluate(Object)}, and must
+ * support concurrent calls on disjoint lists.
+ *
+ * @param <S> Encoding
+ */
+public interface BatchEvaluableProblem<S> extends Problem<S> {
+  void evaluate(List<S> solutionList) ;
+}
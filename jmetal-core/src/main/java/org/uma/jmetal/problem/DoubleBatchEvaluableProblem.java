@@ -0,0 +1,50 @@
+package org.uma.jmetal.problem;
+
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.SolutionUtils;
+
+import java.util.List;
+
+/**
+ * Continuous problem able to evaluate a packed block of decision variables, one row after another.
+ * The evaluation of a list of solutions copies their variables into a single block, evaluates it
+ * and writes the objectives back, so implementations only have to provide
+ * {@link #evaluate(double[], double[], int)}. Only two arrays are allocated per batch, whatever its
+ * number of solutions, and the variables of the views of a
+ * {@link org.uma.jmetal.solution.impl.DoublePopulation} are copied without boxing.
+ */
+public interface DoubleBatchEvaluableProblem extends DoubleProblem, BatchEvaluableProblem<DoubleSolution> {
+  /**
+   * Evaluates a batch of solutions
+   * @param variables Block of decision variables; the variables of the i-th solution start at
+   *                  position <code>i * getNumberOfVariables()</code>
+   * @param objectives Block where the objective values are stored; the objectives of the i-th
+   *                   solution start at position <code>i * getNumberOfObjectives()</code>
+   * @param numberOfSolutions Number of solutions of the batch
+   */
+  void evaluate(double[] variables, double[] objectives, int numberOfSolutions) ;
+
+  @Override
+  default void evaluate(List<DoubleSolution> solutionList) {
+    int numberOfVariables = getNumberOfVariables() ;
+    int numberOfObjectives = getNumberOfObjectives() ;
+
+    double[] variables = new double[solutionList.size() * numberOfVariables] ;
+    double[] objectives = new double[solutionList.size() * numberOfObjectives] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfVariables; j++) {
+        variables[i * numberOfVariables + j] = SolutionUtils.getVariableValue(solution, j) ;
+      }
+    }
+
+    evaluate(variables, objectives, solutionList.size());
+
+    for (int i = 0; i < solutionList.size(); i++) {
+      DoubleSolution solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        solution.setObjective(j, objectives[i * numberOfObjectives + j]);
+      }
+    }
+  }
+}
@@ -4,6 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -17,6 +18,9 @@ import java.util.List;
  * typing $java org.uma.jmetal.qualityindicator.impl.Epsilon <solutionFrontFile>
  * <trueFrontFile> <getNumberOfObjectives>
  *
+ * For each point of the reference front, the point of the front with the lowest epsilon value is
+ * found with a {@link FrontIndex}.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
@@ -76,34 +80,15 @@ public class Epsilon<S extends Solution<?>> extends GenericIndicator<S> {
    * @throws JMetalException
    */
   private double epsilon(Front front, Front referenceFront) throws JMetalException {
+    double[] epsilonValues = new FrontIndex(front).distancesToClosestPoints(referenceFront,
+        FrontIndex.Metric.ADDITIVE_EPSILON, getPool()) ;
 
-    double eps, epsJ = 0.0, epsK = 0.0, epsTemp;
-
-    int numberOfObjectives = front.getPointDimensions() ;
-
-    eps = Double.MIN_VALUE;
-
-    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
-      for (int j = 0; j < front.getNumberOfPoints(); j++) {
-        for (int k = 0; k < numberOfObjectives; k++) {
-          epsTemp = front.getPoint(j).getDimensionValue(k)
-              - referenceFront.getPoint(i).getDimensionValue(k);
-          if (k == 0) {
-            epsK = epsTemp;
-          } else if (epsK < epsTemp) {
-            epsK = epsTemp;
-          }
-        }
-        if (j == 0) {
-          epsJ = epsK;
-        } else if (epsJ > epsK) {
-          epsJ = epsK;
-        }
-      }
+    double eps = Double.MIN_VALUE;
+    for (int i = 0; i < epsilonValues.length; i++) {
       if (i == 0) {
-        eps = epsJ;
-      } else if (eps < epsJ) {
-        eps = epsJ;
+        eps = epsilonValues[i];
+      } else if (eps < epsilonValues[i]) {
+        eps = epsilonValues[i];
       }
     }
     return eps;
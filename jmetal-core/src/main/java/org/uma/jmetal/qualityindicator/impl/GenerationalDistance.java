@@ -4,7 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -16,12 +16,20 @@ import java.util.List;
  * Technical Report TR-98-03, Dept. Elec. Comput. Eng., Air Force
  * Inst. Technol. (1998)
  *
+ * The reference front is indexed with a {@link FrontIndex}, which is built the first time the
+ * indicator is applied and kept while the reference front has the same points, so evaluating many
+ * fronts against the same reference front only builds it once. The points are compared with a
+ * copy taken when the index was built, so a reference front modified in place, or replaced by
+ * another one, is indexed again.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
 @SuppressWarnings("serial")
 public class GenerationalDistance<S extends Solution<?>> extends GenericIndicator<S> {
   private double pow = 2.0;
+  private transient double[] indexedValues ;
+  private transient FrontIndex referenceFrontIndex ;
 
   /**
    * Default constructor
@@ -80,10 +88,12 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
    * @param referenceFront The reference pareto front
    */
   public double generationalDistance(Front front, Front referenceFront) {
+    double[] distances = getIndex(referenceFront).distancesToClosestPoints(front,
+        FrontIndex.Metric.EUCLIDEAN, getPool()) ;
+
     double sum = 0.0;
     for (int i = 0; i < front.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(front.getPoint(i),
-          referenceFront), pow);
+      sum += Math.pow(distances[i], pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
@@ -91,6 +101,37 @@ public class GenerationalDistance<S extends Solution<?>> extends GenericIndicato
     return sum / front.getNumberOfPoints();
   }
 
+  private synchronized FrontIndex getIndex(Front referenceFront) {
+    if (referenceFrontIndex == null || !hasIndexedValues(referenceFront)) {
+      int dimensions = referenceFront.getPointDimensions() ;
+      indexedValues = new double[referenceFront.getNumberOfPoints() * dimensions] ;
+      for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+        for (int k = 0; k < dimensions; k++) {
+          indexedValues[i * dimensions + k] = referenceFront.getPoint(i).getDimensionValue(k) ;
+        }
+      }
+      referenceFrontIndex = new FrontIndex(referenceFront) ;
+    }
+    return referenceFrontIndex ;
+  }
+
+  /** Returns true if a front has the points of the front indexed, in the same order */
+  private boolean hasIndexedValues(Front referenceFront) {
+    int dimensions = referenceFront.getPointDimensions() ;
+    if (dimensions != referenceFrontIndex.getPointDimensions()
+        || referenceFront.getNumberOfPoints() != referenceFrontIndex.getNumberOfPoints()) {
+      return false ;
+    }
+    for (int i = 0; i < referenceFront.getNumberOfPoints(); i++) {
+      for (int k = 0; k < dimensions; k++) {
+        if (Double.compare(indexedValues[i * dimensions + k], referenceFront.getPoint(i).getDimensionValue(k)) != 0) {
+          return false ;
+        }
+      }
+    }
+    return true ;
+  }
+
   @Override public String getName() {
     return "GD" ;
   }
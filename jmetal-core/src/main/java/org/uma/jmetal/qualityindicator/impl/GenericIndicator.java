@@ -2,12 +2,14 @@ package org.uma.jmetal.qualityindicator.impl;
 
 import org.uma.jmetal.qualityindicator.QualityIndicator;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SharedForkJoinPools;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
 import org.uma.jmetal.util.naming.impl.SimpleDescribedEntity;
 
 import java.io.FileNotFoundException;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Abstract class representing quality indicators that need a reference front to be computed
@@ -20,6 +22,7 @@ public abstract class GenericIndicator<S>
     implements QualityIndicator<List<S>, Double> {
 
   protected Front referenceParetoFront = null ;
+  private int parallelism = -1 ;
 
   /**
    * Default constructor
@@ -56,6 +59,26 @@ public abstract class GenericIndicator<S>
     referenceParetoFront = referenceFront ;
   }
 
+  public int getParallelism() {
+    return parallelism ;
+  }
+
+  /**
+   * Sets the number of threads of the fork/join pool used by the indicators which can be computed in
+   * parallel; 0 means the common pool and a negative value a sequential computation. The pools are
+   * shared with the other components having the same level (see {@link SharedForkJoinPools})
+   */
+  public synchronized void setParallelism(int parallelism) {
+    this.parallelism = parallelism ;
+  }
+
+  /**
+   * Returns the pool of the parallelism level, or null if the indicator is computed sequentially
+   */
+  protected synchronized ForkJoinPool getPool() {
+    return parallelism < 0 ? null : SharedForkJoinPools.getPool(parallelism) ;
+  }
+
   /**
    * This method returns true if lower indicator values are preferred and false otherwise
    * @return
@@ -3,7 +3,7 @@ package org.uma.jmetal.qualityindicator.impl;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -15,6 +15,9 @@ import java.util.List;
  * Technical Report TR-98-03, Dept. Elec. Comput. Eng., Air Force
  * Inst. Technol. (1998)
  *
+ * The closest point of the front to each point of the reference front is found with a
+ * {@link FrontIndex} built over the front.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  * @author Juan J. Durillo
  */
@@ -76,10 +79,12 @@ public class InvertedGenerationalDistance<S extends Solution<?>> extends Generic
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistance(Front front, Front referenceFront) {
+    double[] distances = new FrontIndex(front).distancesToClosestPoints(referenceFront,
+        FrontIndex.Metric.EUCLIDEAN, getPool()) ;
+
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += Math.pow(FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front), pow);
+      sum += Math.pow(distances[i], pow);
     }
 
     sum = Math.pow(sum, 1.0 / pow);
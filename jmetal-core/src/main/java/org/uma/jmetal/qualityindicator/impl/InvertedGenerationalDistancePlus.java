@@ -4,8 +4,7 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.front.Front;
 import org.uma.jmetal.util.front.imp.ArrayFront;
-import org.uma.jmetal.util.front.util.FrontUtils;
-import org.uma.jmetal.util.point.util.distance.DominanceDistance;
+import org.uma.jmetal.util.front.util.FrontIndex;
 
 import java.io.FileNotFoundException;
 import java.util.List;
@@ -15,6 +14,9 @@ import java.util.List;
  * Reference: Ishibuchi et al 2015, "A Study on Performance Evaluation Ability of a Modified
  * Inverted Generational Distance Indicator", GECCO 2015
  *
+ * The distances from the points of the reference front to the front are computed with a
+ * {@link FrontIndex}.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
@@ -65,11 +67,12 @@ public class InvertedGenerationalDistancePlus<S extends Solution<?>> extends Gen
    * @param referenceFront The reference pareto front
    */
   public double invertedGenerationalDistancePlus(Front front, Front referenceFront) {
+    double[] distances = new FrontIndex(front).distancesToClosestPoints(referenceFront,
+        FrontIndex.Metric.DOMINANCE, getPool()) ;
 
     double sum = 0.0;
     for (int i = 0 ; i < referenceFront.getNumberOfPoints(); i++) {
-      sum += FrontUtils.distanceToClosestPoint(referenceFront.getPoint(i),
-          front, new DominanceDistance());
+      sum += distances[i];
     }
 
     // STEP 4. Divide the sum by the maximum number of points of the reference Pareto front
@@ -0,0 +1,479 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume;
+
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.random.SobolSequenceGenerator;
+import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Estimation of the hypervolume by quasi Monte Carlo sampling, intended for problems with many
+ * objectives, where the exact algorithms are too slow.
+ *
+ * The samples are taken from a Sobol sequence in the box between the ideal point of the front and
+ * the reference point. A number of replicates of the sequence, each one shifted by a random vector
+ * (randomized quasi Monte Carlo), are sampled in parallel in chunks; after each round of chunks,
+ * the Student's t confidence interval of the mean of the replicates is computed. Once a minimum
+ * number of samples has been taken, the sampling stops when the half width of the interval is
+ * lower than a relative error of the estimation or than an absolute error (both relative to the
+ * volume of the sampled box), or when the maximum number of samples is reached; the minimum avoids
+ * stopping on the first chunk when no replicate has hit the volume yet. The shifts are derived from
+ * a seed, so the estimations are reproducible and do not depend on the number of threads.
+ * {@link #estimate(List)} returns the confidence interval with the estimation, so that the
+ * indicator does not keep any state between evaluations and can be shared by several threads.
+ *
+ * As in {@link PISAHypervolume}, {@link #evaluate(List)} expects a normalized front: the reference
+ * point is (1, ..., 1) and the values are truncated to the interval [0, 1].
+ *
+ * The contributions computed by {@link #computeHypervolumeContribution(List, List)} use as reference
+ * point the maximum values of the reference front plus the offset. The exclusive region of each
+ * point is bounded by the box which it shares with no other point (K. Bringmann, T. Friedrich.
+ * Approximating the least hypervolume contributor: NP-hard in general, but fast in practice.
+ * EMO 2009), and the contribution is estimated by sampling that box.
+ */
+@SuppressWarnings("serial")
+public class MonteCarloHypervolume<S extends Solution<?>> extends Hypervolume<S> {
+  private static final double DEFAULT_OFFSET = 100.0 ;
+  private static final double DEFAULT_RELATIVE_ERROR = 0.01 ;
+  private static final double DEFAULT_ABSOLUTE_ERROR = 0.0 ;
+  private static final double DEFAULT_CONFIDENCE_LEVEL = 0.95 ;
+  private static final long DEFAULT_MINIMUM_NUMBER_OF_SAMPLES = 32000 ;
+  private static final long DEFAULT_MAXIMUM_NUMBER_OF_SAMPLES = 1000000 ;
+  private static final int DEFAULT_CHUNK_SIZE = 2000 ;
+  private static final int DEFAULT_NUMBER_OF_REPLICATES = 8 ;
+
+  private double offset = DEFAULT_OFFSET ;
+  private double relativeError = DEFAULT_RELATIVE_ERROR ;
+  private double absoluteError = DEFAULT_ABSOLUTE_ERROR ;
+  private double confidenceLevel = DEFAULT_CONFIDENCE_LEVEL ;
+  private long minimumNumberOfSamples = DEFAULT_MINIMUM_NUMBER_OF_SAMPLES ;
+  private long maximumNumberOfSamples = DEFAULT_MAXIMUM_NUMBER_OF_SAMPLES ;
+  private int chunkSize = DEFAULT_CHUNK_SIZE ;
+  private int numberOfReplicates = DEFAULT_NUMBER_OF_REPLICATES ;
+  private long seed = 0 ;
+
+  /**
+   * Default constructor
+   */
+  public MonteCarloHypervolume() {
+    setParallelism(0) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFrontFile
+   * @throws FileNotFoundException
+   */
+  public MonteCarloHypervolume(String referenceParetoFrontFile) throws FileNotFoundException {
+    super(referenceParetoFrontFile) ;
+    setParallelism(0) ;
+  }
+
+  /**
+   * Constructor
+   *
+   * @param referenceParetoFront
+   */
+  public MonteCarloHypervolume(Front referenceParetoFront) {
+    super(referenceParetoFront) ;
+    setParallelism(0) ;
+  }
+
+  /**
+   * Evaluate() method
+   * @param paretoFrontApproximation
+   * @return The estimation of the hypervolume
+   */
+  @Override public Double evaluate(List<S> paretoFrontApproximation) {
+    return estimate(paretoFrontApproximation).getValue() ;
+  }
+
+  /**
+   * Estimates the hypervolume of a front, as {@link #evaluate(List)} does
+   * @param paretoFrontApproximation
+   * @return The estimation of the hypervolume, with its confidence interval
+   */
+  public Estimation estimate(List<S> paretoFrontApproximation) {
+    if (paretoFrontApproximation == null) {
+      throw new JMetalException("The pareto front approximation is null") ;
+    } else if (paretoFrontApproximation.isEmpty()) {
+      return new Estimation(0.0, 0.0, 0) ;
+    }
+
+    double[][] points = SolutionListUtils.writeObjectivesToMatrix(paretoFrontApproximation) ;
+    int numberOfObjectives = points[0].length ;
+    double[] lowerBound = new double[numberOfObjectives] ;
+    double[] upperBound = new double[numberOfObjectives] ;
+    Arrays.fill(lowerBound, 1.0) ;
+    Arrays.fill(upperBound, 1.0) ;
+    for (double[] point : points) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        point[i] = Math.min(1.0, Math.max(0.0, point[i])) ;
+        lowerBound[i] = Math.min(lowerBound[i], point[i]) ;
+      }
+    }
+
+    return estimate(lowerBound, upperBound, points, null, seed, true) ;
+  }
+
+  @Override
+  public List<S> computeHypervolumeContribution(List<S> solutionList, List<S> referenceFrontList) {
+    if (solutionList.size() > 1) {
+      double[][] points = SolutionListUtils.writeObjectivesToMatrix(solutionList) ;
+      int numberOfObjectives = points[0].length ;
+
+      double[] referencePoint = new double[numberOfObjectives] ;
+      Arrays.fill(referencePoint, Double.NEGATIVE_INFINITY) ;
+      for (S solution : referenceFrontList) {
+        for (int i = 0; i < numberOfObjectives; i++) {
+          referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i)) ;
+        }
+      }
+      for (int i = 0; i < numberOfObjectives; i++) {
+        referencePoint[i] += offset ;
+      }
+
+      double[] contributions = new double[points.length] ;
+      ForkJoinPool pool = getPool() ;
+      if (pool != null) {
+        pool.submit(() -> IntStream.range(0, points.length).parallel().forEach(i ->
+            contributions[i] = estimateContribution(i, points, referencePoint))).join() ;
+      } else {
+        for (int i = 0; i < points.length; i++) {
+          contributions[i] = estimateContribution(i, points, referencePoint) ;
+        }
+      }
+
+      HypervolumeContributionAttribute<S> hvContribution = new HypervolumeContributionAttribute<>() ;
+      for (int i = 0; i < contributions.length; i++) {
+        hvContribution.setDoubleValue(solutionList.get(i), contributions[i]);
+      }
+
+      Collections.sort(solutionList, new HypervolumeContributionComparator<S>());
+    }
+
+    return solutionList ;
+  }
+
+  /**
+   * Estimates the contribution of a point by sampling the box in which no other point dominates the
+   * whole range of any objective
+   */
+  private double estimateContribution(int index, double[][] points, double[] referencePoint) {
+    double[] point = points[index] ;
+    int numberOfObjectives = point.length ;
+    double[] upperBound = referencePoint.clone() ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (point[i] >= referencePoint[i]) {
+        return 0.0 ;
+      }
+    }
+
+    for (int j = 0; j < points.length; j++) {
+      if (j != index) {
+        int worseObjective = -1 ;
+        int numberOfWorseObjectives = 0 ;
+        for (int i = 0; i < numberOfObjectives && numberOfWorseObjectives < 2; i++) {
+          if (points[j][i] > point[i]) {
+            worseObjective = i ;
+            numberOfWorseObjectives++ ;
+          }
+        }
+        if (numberOfWorseObjectives == 0) {
+          return 0.0 ;
+        } else if (numberOfWorseObjectives == 1) {
+          upperBound[worseObjective] = Math.min(upperBound[worseObjective], points[j][worseObjective]) ;
+        }
+      }
+    }
+
+    List<double[]> competitors = new ArrayList<>() ;
+    for (int j = 0; j < points.length; j++) {
+      if (j != index && dominates(points[j], upperBound)) {
+        competitors.add(points[j]) ;
+      }
+    }
+    if (competitors.isEmpty()) {
+      return boxVolume(point, upperBound) ;
+    }
+
+    Estimation estimation = estimate(point, upperBound, competitors.toArray(new double[0][]),
+        point, seed + index + 1, false) ;
+    return estimation.value ;
+  }
+
+  /**
+   * Estimates the volume of the part of a box which is dominated by a set of points (if
+   * <code>point</code> is null) or which is not dominated by them (otherwise). All the replicates
+   * share the points of the Sobol sequence, each one applying its own shift; if
+   * <code>inParallel</code> is true and the indicator is not sequential, the replicates are sampled
+   * by the pool
+   */
+  private Estimation estimate(double[] lowerBound, double[] upperBound, double[][] points,
+      double[] point, long streamSeed, boolean inParallel) {
+    int numberOfObjectives = lowerBound.length ;
+    double boxVolume = boxVolume(lowerBound, upperBound) ;
+    if (boxVolume == 0.0) {
+      return new Estimation(0.0, 0.0, 0) ;
+    }
+
+    boolean countDominated = point == null ;
+    double t = new TDistribution(numberOfReplicates - 1).inverseCumulativeProbability(0.5 + confidenceLevel / 2.0) ;
+    long[] hits = new long[numberOfReplicates] ;
+    long samplesPerReplicate = 0 ;
+    long maximumPerReplicate = Math.max(1, maximumNumberOfSamples / numberOfReplicates) ;
+    long minimumPerReplicate = Math.min(maximumPerReplicate, minimumNumberOfSamples / numberOfReplicates) ;
+
+    double[][] shifts = new double[numberOfReplicates][numberOfObjectives] ;
+    for (int r = 0; r < numberOfReplicates; r++) {
+      SplittableRandomGenerator random = SplittableRandomGenerator.forStream(streamSeed, r) ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        shifts[r][i] = random.nextDouble() ;
+      }
+    }
+    SobolSequenceGenerator sequence = new SobolSequenceGenerator(numberOfObjectives) ;
+    sequence.skipTo(1) ;
+    ForkJoinPool pool = inParallel ? getPool() : null ;
+    double[][] vectors = new double[(int) Math.min(chunkSize, maximumPerReplicate)][] ;
+
+    double mean = 0.0 ;
+    double halfWidth = Double.POSITIVE_INFINITY ;
+    while (samplesPerReplicate < maximumPerReplicate) {
+      int samples = (int) Math.min(chunkSize, maximumPerReplicate - samplesPerReplicate) ;
+      for (int s = 0; s < samples; s++) {
+        vectors[s] = sequence.nextVector() ;
+      }
+      if (pool != null) {
+        pool.submit(() -> IntStream.range(0, numberOfReplicates).parallel().forEach(r ->
+            hits[r] += sampleChunk(vectors, samples, shifts[r], lowerBound, upperBound, points,
+                countDominated))).join() ;
+      } else {
+        for (int r = 0; r < numberOfReplicates; r++) {
+          hits[r] += sampleChunk(vectors, samples, shifts[r], lowerBound, upperBound, points,
+              countDominated) ;
+        }
+      }
+      samplesPerReplicate += samples ;
+
+      double[] fractions = new double[numberOfReplicates] ;
+      mean = 0.0 ;
+      for (int r = 0; r < numberOfReplicates; r++) {
+        fractions[r] = (double) hits[r] / samplesPerReplicate ;
+        mean += fractions[r] ;
+      }
+      mean /= numberOfReplicates ;
+      double variance = 0.0 ;
+      for (int r = 0; r < numberOfReplicates; r++) {
+        variance += (fractions[r] - mean) * (fractions[r] - mean) ;
+      }
+      variance /= (numberOfReplicates - 1) ;
+      halfWidth = t * Math.sqrt(variance / numberOfReplicates) ;
+
+      if (samplesPerReplicate >= minimumPerReplicate
+          && halfWidth <= Math.max(relativeError * mean, absoluteError)) {
+        break ;
+      }
+    }
+
+    return new Estimation(mean * boxVolume, halfWidth * boxVolume,
+        samplesPerReplicate * numberOfReplicates) ;
+  }
+
+  private static long sampleChunk(double[][] vectors, int samples, double[] shift,
+      double[] lowerBound, double[] upperBound, double[][] points, boolean countDominated) {
+    int numberOfObjectives = lowerBound.length ;
+    double[] sample = new double[numberOfObjectives] ;
+    long hits = 0 ;
+    for (int s = 0; s < samples; s++) {
+      double[] vector = vectors[s] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        double value = vector[i] + shift[i] ;
+        if (value >= 1.0) {
+          value -= 1.0 ;
+        }
+        sample[i] = lowerBound[i] + value * (upperBound[i] - lowerBound[i]) ;
+      }
+
+      boolean dominated = false ;
+      for (int j = 0; j < points.length && !dominated; j++) {
+        dominated = weaklyDominates(points[j], sample) ;
+      }
+      if (dominated == countDominated) {
+        hits++ ;
+      }
+    }
+
+    return hits ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static boolean dominates(double[] point, double[] bound) {
+    for (int i = 0; i < point.length; i++) {
+      if (point[i] >= bound[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static double boxVolume(double[] lowerBound, double[] upperBound) {
+    double volume = 1.0 ;
+    for (int i = 0; i < lowerBound.length; i++) {
+      volume *= Math.max(0.0, upperBound[i] - lowerBound[i]) ;
+    }
+    return volume ;
+  }
+
+  /* Getters */
+  @Override
+  public double getOffset() {
+    return offset ;
+  }
+
+  public double getRelativeError() {
+    return relativeError;
+  }
+
+  public double getAbsoluteError() {
+    return absoluteError;
+  }
+
+  public double getConfidenceLevel() {
+    return confidenceLevel;
+  }
+
+  public long getMinimumNumberOfSamples() {
+    return minimumNumberOfSamples;
+  }
+
+  public long getMaximumNumberOfSamples() {
+    return maximumNumberOfSamples;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public int getNumberOfReplicates() {
+    return numberOfReplicates;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /* Setters */
+  @Override
+  public void setOffset(double offset) {
+    this.offset = offset ;
+  }
+
+  public void setRelativeError(double relativeError) {
+    if (relativeError <= 0.0) {
+      throw new JMetalException("The relative error must be positive: " + relativeError) ;
+    }
+    this.relativeError = relativeError ;
+  }
+
+  /**
+   * Sets the half width of the confidence interval below which the sampling stops whatever the
+   * estimation, as a fraction of the volume of the sampled box; 0 to only use the relative error
+   */
+  public void setAbsoluteError(double absoluteError) {
+    if (absoluteError < 0.0) {
+      throw new JMetalException("The absolute error is negative: " + absoluteError) ;
+    }
+    this.absoluteError = absoluteError ;
+  }
+
+  public void setConfidenceLevel(double confidenceLevel) {
+    if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+      throw new JMetalException("The confidence level must be in (0, 1): " + confidenceLevel) ;
+    }
+    this.confidenceLevel = confidenceLevel ;
+  }
+
+  public void setMinimumNumberOfSamples(long minimumNumberOfSamples) {
+    if (minimumNumberOfSamples < 0) {
+      throw new JMetalException("The minimum number of samples is negative: " + minimumNumberOfSamples) ;
+    }
+    this.minimumNumberOfSamples = minimumNumberOfSamples ;
+  }
+
+  public void setMaximumNumberOfSamples(long maximumNumberOfSamples) {
+    if (maximumNumberOfSamples <= 0) {
+      throw new JMetalException("The maximum number of samples must be positive: " + maximumNumberOfSamples) ;
+    }
+    this.maximumNumberOfSamples = maximumNumberOfSamples ;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new JMetalException("The chunk size must be positive: " + chunkSize) ;
+    }
+    this.chunkSize = chunkSize ;
+  }
+
+  public void setNumberOfReplicates(int numberOfReplicates) {
+    if (numberOfReplicates < 2) {
+      throw new JMetalException("The number of replicates must be at least 2: " + numberOfReplicates) ;
+    }
+    this.numberOfReplicates = numberOfReplicates ;
+  }
+
+  public void setSeed(long seed) {
+    this.seed = seed ;
+  }
+
+  @Override public String getDescription() {
+    return "Monte Carlo estimation of the hypervolume quality indicator" ;
+  }
+
+  /** Estimated volume, half width of its confidence interval and number of samples */
+  public static class Estimation {
+    private final double value ;
+    private final double halfWidth ;
+    private final long numberOfSamples ;
+
+    Estimation(double value, double halfWidth, long numberOfSamples) {
+      this.value = value ;
+      this.halfWidth = halfWidth ;
+      this.numberOfSamples = numberOfSamples ;
+    }
+
+    public double getValue() {
+      return value ;
+    }
+
+    /** Returns the half width of the confidence interval of the value, at the confidence level */
+    public double getHalfWidth() {
+      return halfWidth ;
+    }
+
+    public long getNumberOfSamples() {
+      return numberOfSamples ;
+    }
+  }
+}
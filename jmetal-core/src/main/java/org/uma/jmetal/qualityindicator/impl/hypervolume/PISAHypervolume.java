@@ -1,6 +1,7 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeKernel;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
@@ -12,6 +13,7 @@ import org.uma.jmetal.util.point.Point;
 import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -171,6 +173,10 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
   }
 
   public double calculateHypervolume(double[][] front, int noPoints, int noObjectives) {
+    if (noObjectives == 3 || noObjectives == 4) {
+      return calculateHypervolumeWithKernel(front, noPoints, noObjectives) ;
+    }
+
     int n;
     double volume, distance;
 
@@ -200,6 +206,24 @@ public class PISAHypervolume<S extends Solution<?>> extends Hypervolume<S> {
     return volume;
   }
 
+  /**
+   * Computes the hypervolume of a front of three or four objectives with {@link HypervolumeKernel}.
+   * The front is in the maximization form used by Zitzler's code, so the points are negated and
+   * the origin is the reference point
+   */
+  private double calculateHypervolumeWithKernel(double[][] front, int noPoints, int noObjectives) {
+    List<double[]> points = new ArrayList<>(noPoints) ;
+    for (int i = 0; i < noPoints; i++) {
+      double[] point = new double[noObjectives] ;
+      for (int j = 0; j < noObjectives; j++) {
+        point[j] = -front[i][j] ;
+      }
+      points.add(point) ;
+    }
+
+    return HypervolumeKernel.compute(points, noObjectives, new double[noObjectives]) ;
+  }
+
   /**
    * Returns the hypervolume value of a front of points
    *
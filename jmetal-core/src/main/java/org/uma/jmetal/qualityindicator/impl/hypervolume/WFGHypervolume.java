@@ -1,9 +1,10 @@
 package org.uma.jmetal.qualityindicator.impl.hypervolume;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
-import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeFront;
-import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeVersion;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeKernel;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeCalculator;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
 import org.uma.jmetal.util.comparator.ObjectiveComparator;
 import org.uma.jmetal.util.front.Front;
@@ -14,6 +15,7 @@ import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribu
 import java.io.FileNotFoundException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created by ajnebro on 2/2/15.
@@ -26,6 +28,7 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
 
   private static final double DEFAULT_OFFSET = 100.0 ;
   private double offset = DEFAULT_OFFSET ;
+  private WfgHypervolumeCalculator calculator = new WfgHypervolumeCalculator() ;
   /**
    * Default constructor
    */
@@ -73,8 +76,7 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
             ObjectiveComparator.Ordering.DESCENDING));
         hv = get2DHV(solutionList) ;
       } else {
-        WfgHypervolumeVersion wfgHv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size());
-        hv = wfgHv.getHV(new WfgHypervolumeFront(solutionList));
+        hv = computeFromMatrix(solutionList) ;
       }
     }
 
@@ -94,14 +96,35 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
             ObjectiveComparator.Ordering.DESCENDING));
         hv = get2DHV(solutionList) ;
       } else {
-        WfgHypervolumeVersion wfgHv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size());
-        hv = wfgHv.getHV(new WfgHypervolumeFront(solutionList));
+        hv = computeFromMatrix(solutionList) ;
       }
     }
 
     return hv;
   }
 
+  /**
+   * Computes the HV of a solution list with the algorithm of {@link HypervolumeKernel} for its
+   * number of objectives if there is one, or with the {@link WfgHypervolumeCalculator} otherwise,
+   * which uses the pool of the parallelism level if there is one
+   */
+  private double computeFromMatrix(List<S> solutionList) {
+    double[][] points = SolutionListUtils.writeObjectivesToMatrix(solutionList) ;
+    double[] reference = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      reference[i] = referencePoint.getDimensionValue(i) ;
+    }
+
+    if (HypervolumeKernel.isSupported(numberOfObjectives)) {
+      return HypervolumeKernel.compute(points, reference) ;
+    }
+    ForkJoinPool pool = getPool() ;
+    if (pool != null) {
+      return new WfgHypervolumeCalculator(pool).compute(points, reference) ;
+    }
+    return calculator.compute(points, reference) ;
+  }
+
   /**
    * Updates the reference point
    */
@@ -193,10 +216,7 @@ public class WFGHypervolume<S extends Solution<?>> extends Hypervolume<S> {
         if (numberOfObjectives == 2) {
           contributions[i] = solutionSetHV - get2DHV(solutionList);
         } else {
-          //Front front = new Front(solutionSet.size(), numberOfObjectives, solutionSet);
-          WfgHypervolumeFront front = new WfgHypervolumeFront(solutionList);
-          double hv = new WfgHypervolumeVersion(numberOfObjectives, solutionList.size()).getHV(front);
-          contributions[i] = solutionSetHV - hv;
+          contributions[i] = solutionSetHV - computeFromMatrix(solutionList);
         }
 
         solutionList.add(i, currentPoint);
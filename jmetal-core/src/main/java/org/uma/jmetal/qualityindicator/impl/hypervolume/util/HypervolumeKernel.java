@@ -0,0 +1,202 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Exact hypervolume algorithms for fronts of two, three and four objectives, assuming minimization.
+ * The points may be dominated or not dominate the reference point; those points contribute nothing.
+ * <ul>
+ *   <li>Two objectives: the points are sorted by the first objective and the area is accumulated
+ *   in a single pass, O(n log n).</li>
+ *   <li>Three objectives: dimension sweep along the third objective (N. Beume, C.M. Fonseca, M.
+ *   Lopez-Ibanez, L. Paquete, J. Vahrenhold. On the complexity of computing the hypervolume
+ *   indicator. IEEE Transactions on Evolutionary Computation 13(5), 2009). The non-dominated
+ *   points of the first two objectives are kept in a sorted map and the area they dominate is
+ *   updated when each point is inserted, O(n log n).</li>
+ *   <li>Four objectives: sweep along the fourth objective, as in HV4D (A.P. Guerreiro, C.M.
+ *   Fonseca. Computing and updating hypervolume contributions in up to four dimensions. IEEE
+ *   Transactions on Evolutionary Computation 22(3), 2018). The three-dimensional volume of the
+ *   points already swept is updated with the contribution of each new point, computed with the
+ *   three-objective algorithm, O(n<sup>2</sup> log n).</li>
+ * </ul>
+ */
+public class HypervolumeKernel {
+  private HypervolumeKernel() {
+  }
+
+  /** Returns true if there is a specialized algorithm for a number of objectives */
+  public static boolean isSupported(int numberOfObjectives) {
+    return numberOfObjectives >= 2 && numberOfObjectives <= 4 ;
+  }
+
+  /**
+   * Computes the hypervolume of a front
+   * @param points Matrix of objective values, one row per point
+   * @param referencePoint Reference point; its length is the number of objectives
+   */
+  public static double compute(double[][] points, double[] referencePoint) {
+    return compute(Arrays.asList(points), referencePoint.length, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a front considering the first <code>numberOfObjectives</code>
+   * values of the points and of the reference point
+   */
+  public static double compute(List<double[]> points, int numberOfObjectives, double[] referencePoint) {
+    List<double[]> front = new ArrayList<>(points.size()) ;
+    for (double[] point : points) {
+      if (isInside(point, numberOfObjectives, referencePoint)) {
+        front.add(point) ;
+      }
+    }
+
+    double volume ;
+    switch (numberOfObjectives) {
+      case 2:
+        volume = compute2D(front, referencePoint) ;
+        break ;
+      case 3:
+        volume = compute3D(front, referencePoint) ;
+        break ;
+      case 4:
+        volume = compute4D(front, referencePoint) ;
+        break ;
+      default:
+        throw new JMetalException("There is no specialized algorithm for " + numberOfObjectives +
+            " objectives") ;
+    }
+
+    return volume ;
+  }
+
+  private static double compute2D(List<double[]> front, double[] referencePoint) {
+    front.sort(Comparator.comparingDouble((double[] point) -> point[0]).thenComparingDouble(point -> point[1]));
+
+    double volume = 0.0 ;
+    double previous = referencePoint[1] ;
+    for (double[] point : front) {
+      if (point[1] < previous) {
+        volume += (referencePoint[0] - point[0]) * (previous - point[1]) ;
+        previous = point[1] ;
+      }
+    }
+
+    return volume ;
+  }
+
+  private static double compute3D(List<double[]> front, double[] referencePoint) {
+    front.sort(Comparator.comparingDouble(point -> point[2]));
+
+    Staircase staircase = new Staircase(referencePoint) ;
+    double volume = 0.0 ;
+    double previous = 0.0 ;
+    for (double[] point : front) {
+      volume += staircase.area * (point[2] - previous) ;
+      previous = point[2] ;
+      staircase.add(point[0], point[1]) ;
+    }
+    if (!front.isEmpty()) {
+      volume += staircase.area * (referencePoint[2] - previous) ;
+    }
+
+    return volume ;
+  }
+
+  private static double compute4D(List<double[]> front, double[] referencePoint) {
+    front.sort(Comparator.comparingDouble(point -> point[3]));
+
+    List<double[]> swept = new ArrayList<>(front.size()) ;
+    List<double[]> limited = new ArrayList<>(front.size()) ;
+    double volume = 0.0 ;
+    double volume3D = 0.0 ;
+    double previous = 0.0 ;
+    for (double[] point : front) {
+      volume += volume3D * (point[3] - previous) ;
+      previous = point[3] ;
+
+      limited.clear() ;
+      boolean dominated = false ;
+      for (int i = 0; i < swept.size() && !dominated; i++) {
+        double[] current = swept.get(i) ;
+        dominated = current[0] <= point[0] && current[1] <= point[1] && current[2] <= point[2] ;
+        limited.add(new double[] {Math.max(point[0], current[0]), Math.max(point[1], current[1]),
+            Math.max(point[2], current[2])}) ;
+      }
+      if (dominated) {
+        continue ;
+      }
+
+      double inclusive = (referencePoint[0] - point[0]) * (referencePoint[1] - point[1]) *
+          (referencePoint[2] - point[2]) ;
+      volume3D += inclusive - compute(limited, 3, referencePoint) ;
+
+      int last = 0 ;
+      for (double[] current : swept) {
+        if (!(point[0] <= current[0] && point[1] <= current[1] && point[2] <= current[2])) {
+          swept.set(last++, current) ;
+        }
+      }
+      swept.subList(last, swept.size()).clear() ;
+      swept.add(point) ;
+    }
+    if (!front.isEmpty()) {
+      volume += volume3D * (referencePoint[3] - previous) ;
+    }
+
+    return volume ;
+  }
+
+  private static boolean isInside(double[] point, int numberOfObjectives, double[] referencePoint) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (!(point[i] < referencePoint[i])) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Non-dominated points of two objectives sorted by the first one (and therefore in decreasing
+   * order of the second one), together with the area they dominate
+   */
+  private static class Staircase {
+    private final TreeMap<Double, Double> points = new TreeMap<>() ;
+    private final double referenceX ;
+    private final double referenceY ;
+    private double area ;
+
+    Staircase(double[] referencePoint) {
+      referenceX = referencePoint[0] ;
+      referenceY = referencePoint[1] ;
+    }
+
+    void add(double x, double y) {
+      Map.Entry<Double, Double> left = points.floorEntry(x) ;
+      if (left != null && left.getValue() <= y) {
+        return ;
+      }
+
+      double height = left != null ? left.getValue() : referenceY ;
+      double start = x ;
+      Map.Entry<Double, Double> right = points.ceilingEntry(x) ;
+      while (right != null && right.getValue() >= y) {
+        area += (right.getKey() - start) * (height - y) ;
+        start = right.getKey() ;
+        height = right.getValue() ;
+        points.remove(right.getKey()) ;
+        right = points.higherEntry(start) ;
+      }
+      double end = right != null ? right.getKey() : referenceX ;
+      area += (end - start) * (height - y) ;
+
+      points.put(x, y) ;
+    }
+  }
+}
@@ -0,0 +1,359 @@
+package org.uma.jmetal.qualityindicator.impl.hypervolume.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SharedForkJoinPools;
+import org.uma.jmetal.util.ranking.util.RowBlockTask;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of the WFG algorithm (L. While, L. Bradstreet, L. Barone. A Fast Way of
+ * Calculating Exact Hypervolumes. IEEE Transactions on Evolutionary Computation 16(1), 2012) for
+ * minimization problems working on a front packed into a <code>double[]</code>, one row of
+ * objective values after another.
+ *
+ * The points are sorted by the last objective, so the volume of the front is the sum of the
+ * exclusive volume of each point with respect to the previous ones, in one objective less, times
+ * its distance to the reference point in the last objective. The limited sets of each level of the
+ * recursion are written into a stack of scratch buffers allocated once per computation, so the
+ * recursion itself allocates nothing. Fronts of two objectives are computed with a sweep.
+ *
+ * If a level of parallelism is given, the exclusive volumes of the top level of fronts having at
+ * least <code>sequentialThreshold</code> points are computed by a {@link ForkJoinPool}, each task
+ * processing a block of points with its own scratch stack. The terms are added in the order of the
+ * points, so the result is the same as the sequential one.
+ */
+@SuppressWarnings("serial")
+public class WfgHypervolumeCalculator implements Serializable {
+  private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 64 ;
+  private static final int INSERTION_SORT_THRESHOLD = 16 ;
+
+  private final int parallelism ;
+  private final int sequentialThreshold ;
+  private transient ForkJoinPool pool ;
+
+  /** Constructor. The hypervolume is computed sequentially */
+  public WfgHypervolumeCalculator() {
+    this.parallelism = -1 ;
+    this.sequentialThreshold = Integer.MAX_VALUE ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to compute the top level of the
+   *                    recursion, shared with the other components having the same level (see
+   *                    {@link SharedForkJoinPools}); 0 to use the common pool
+   */
+  public WfgHypervolumeCalculator(int parallelism) {
+    this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD) ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to compute the top level of the
+   *                    recursion; 0 to use the common pool
+   * @param sequentialThreshold Fronts with fewer points are processed sequentially
+   */
+  public WfgHypervolumeCalculator(int parallelism, int sequentialThreshold) {
+    if (parallelism < 0) {
+      throw new JMetalException("The parallelism level is negative: " + parallelism) ;
+    }
+    this.parallelism = parallelism ;
+    this.sequentialThreshold = sequentialThreshold ;
+  }
+
+  /**
+   * Constructor
+   * @param pool Pool used to compute the top level of the recursion; it belongs to the caller,
+   *             which has to shut it down
+   */
+  public WfgHypervolumeCalculator(ForkJoinPool pool) {
+    this.parallelism = pool.getParallelism() ;
+    this.sequentialThreshold = DEFAULT_SEQUENTIAL_THRESHOLD ;
+    this.pool = pool ;
+  }
+
+  /**
+   * Computes the hypervolume of a front
+   * @param points Matrix of objective values, one row per point
+   * @param referencePoint Reference point; its length is the number of objectives
+   */
+  public double compute(double[][] points, double[] referencePoint) {
+    int numberOfObjectives = referencePoint.length ;
+    double[] front = new double[points.length * numberOfObjectives] ;
+    int numberOfPoints = 0 ;
+    for (double[] point : points) {
+      if (pack(point, front, numberOfPoints, numberOfObjectives, referencePoint)) {
+        numberOfPoints++ ;
+      }
+    }
+
+    return computePacked(front, numberOfPoints, numberOfObjectives, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a front considering the first <code>numberOfObjectives</code>
+   * values of the points and of the reference point
+   */
+  public double compute(List<double[]> points, int numberOfObjectives, double[] referencePoint) {
+    double[] front = new double[points.size() * numberOfObjectives] ;
+    int numberOfPoints = 0 ;
+    for (double[] point : points) {
+      if (pack(point, front, numberOfPoints, numberOfObjectives, referencePoint)) {
+        numberOfPoints++ ;
+      }
+    }
+
+    return computePacked(front, numberOfPoints, numberOfObjectives, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a packed front. The contents of the array are reordered
+   * @param front Objective values of the points, <code>numberOfObjectives</code> values per point
+   * @param numberOfPoints Number of points of the front
+   * @param numberOfObjectives Number of objectives
+   * @param referencePoint Reference point
+   */
+  public double compute(double[] front, int numberOfPoints, int numberOfObjectives, double[] referencePoint) {
+    int inside = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (isInside(front, i * numberOfObjectives, numberOfObjectives, referencePoint)) {
+        if (inside != i) {
+          System.arraycopy(front, i * numberOfObjectives, front, inside * numberOfObjectives, numberOfObjectives);
+        }
+        inside++ ;
+      }
+    }
+
+    return computePacked(front, inside, numberOfObjectives, referencePoint) ;
+  }
+
+  private double computePacked(double[] front, int numberOfPoints, int numberOfObjectives,
+      double[] referencePoint) {
+    if (numberOfPoints == 0) {
+      return 0.0 ;
+    } else if (numberOfObjectives < 2) {
+      double minimum = referencePoint[0] ;
+      for (int i = 0; i < numberOfPoints; i++) {
+        minimum = Math.min(minimum, front[i]) ;
+      }
+      return referencePoint[0] - minimum ;
+    } else if (numberOfObjectives == 2) {
+      return hypervolume2D(front, numberOfPoints, numberOfObjectives, referencePoint) ;
+    }
+
+    int last = numberOfObjectives - 1 ;
+    sort(front, 0, numberOfPoints, numberOfObjectives, last) ;
+
+    if (parallelism < 0 || numberOfPoints < sequentialThreshold) {
+      double[][] stack = createStack(numberOfPoints, numberOfObjectives) ;
+      double volume = 0.0 ;
+      for (int i = 0; i < numberOfPoints; i++) {
+        volume += (referencePoint[last] - front[i * numberOfObjectives + last]) *
+            exclusiveHypervolume(front, i, last, numberOfObjectives, referencePoint, stack, 0) ;
+      }
+      return volume ;
+    }
+
+    double[] terms = new double[numberOfPoints] ;
+    ForkJoinPool forkJoinPool = getPool() ;
+    forkJoinPool.invoke(new RowBlockTask((from, to) -> {
+      double[][] stack = createStack(numberOfPoints, numberOfObjectives) ;
+      for (int i = from; i < to; i++) {
+        terms[i] = (referencePoint[last] - front[i * numberOfObjectives + last]) *
+            exclusiveHypervolume(front, i, last, numberOfObjectives, referencePoint, stack, 0) ;
+      }
+    }, 0, numberOfPoints, RowBlockTask.blockSize(numberOfPoints, forkJoinPool.getParallelism())));
+
+    double volume = 0.0 ;
+    for (double term : terms) {
+      volume += term ;
+    }
+    return volume ;
+  }
+
+  /**
+   * Returns the volume, in the first <code>dimensions</code> objectives, dominated by the point
+   * <code>index</code> of a front and not dominated by the points preceding it
+   */
+  private static double exclusiveHypervolume(double[] front, int index, int dimensions, int stride,
+      double[] referencePoint, double[][] stack, int depth) {
+    int offset = index * stride ;
+    double volume = 1.0 ;
+    for (int k = 0; k < dimensions; k++) {
+      volume *= referencePoint[k] - front[offset + k] ;
+    }
+    if (index == 0) {
+      return volume ;
+    }
+
+    double[] limited = stack[depth] ;
+    int numberOfLimitedPoints = limit(front, index, dimensions, stride, limited) ;
+
+    return volume - hypervolume(limited, numberOfLimitedPoints, dimensions, stride, referencePoint,
+        stack, depth + 1) ;
+  }
+
+  /** Returns the volume dominated by the points of a front in the first <code>dimensions</code> objectives */
+  private static double hypervolume(double[] front, int numberOfPoints, int dimensions, int stride,
+      double[] referencePoint, double[][] stack, int depth) {
+    if (numberOfPoints == 0) {
+      return 0.0 ;
+    } else if (dimensions == 2) {
+      return hypervolume2D(front, numberOfPoints, stride, referencePoint) ;
+    }
+
+    int last = dimensions - 1 ;
+    sort(front, 0, numberOfPoints, stride, last) ;
+
+    double volume = 0.0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      volume += (referencePoint[last] - front[i * stride + last]) *
+          exclusiveHypervolume(front, i, last, stride, referencePoint, stack, depth) ;
+    }
+    return volume ;
+  }
+
+  private static double hypervolume2D(double[] front, int numberOfPoints, int stride, double[] referencePoint) {
+    sort(front, 0, numberOfPoints, stride, 0) ;
+
+    double volume = 0.0 ;
+    double previous = referencePoint[1] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double value = front[i * stride + 1] ;
+      if (value < previous) {
+        volume += (referencePoint[0] - front[i * stride]) * (previous - value) ;
+        previous = value ;
+      }
+    }
+    return volume ;
+  }
+
+  /**
+   * Writes into <code>limited</code> the points preceding <code>index</code> limited by it (the
+   * worst of both values in each of the first <code>dimensions</code> objectives), discarding the
+   * points weakly dominated by another one
+   * @return The number of limited points
+   */
+  private static int limit(double[] front, int index, int dimensions, int stride, double[] limited) {
+    int pointOffset = index * stride ;
+    int count = 0 ;
+    for (int j = 0; j < index; j++) {
+      int candidate = count * stride ;
+      for (int k = 0; k < dimensions; k++) {
+        limited[candidate + k] = Math.max(front[pointOffset + k], front[j * stride + k]) ;
+      }
+
+      boolean dominated = false ;
+      int kept = 0 ;
+      for (int i = 0; i < count; i++) {
+        int current = i * stride ;
+        if (!dominated && weaklyDominates(limited, current, limited, candidate, dimensions)) {
+          dominated = true ;
+        }
+        if (dominated || !weaklyDominates(limited, candidate, limited, current, dimensions)) {
+          if (kept != i) {
+            System.arraycopy(limited, current, limited, kept * stride, dimensions);
+          }
+          kept++ ;
+        }
+      }
+      if (!dominated) {
+        System.arraycopy(limited, candidate, limited, kept * stride, dimensions);
+        kept++ ;
+      }
+      count = kept ;
+    }
+
+    return count ;
+  }
+
+  private static boolean weaklyDominates(double[] front1, int offset1, double[] front2, int offset2,
+      int dimensions) {
+    for (int k = 0; k < dimensions; k++) {
+      if (front1[offset1 + k] > front2[offset2 + k]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /** Sorts the rows [from, to) of a packed front in ascending order of an objective */
+  private static void sort(double[] front, int from, int to, int stride, int objective) {
+    while (to - from > INSERTION_SORT_THRESHOLD) {
+      double pivot = front[((from + to) >>> 1) * stride + objective] ;
+      int i = from ;
+      int j = to - 1 ;
+      while (i <= j) {
+        while (front[i * stride + objective] < pivot) {
+          i++ ;
+        }
+        while (front[j * stride + objective] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          swap(front, i++, j--, stride) ;
+        }
+      }
+      if (j + 1 - from < to - i) {
+        sort(front, from, j + 1, stride, objective) ;
+        from = i ;
+      } else {
+        sort(front, i, to, stride, objective) ;
+        to = j + 1 ;
+      }
+    }
+
+    for (int i = from + 1; i < to; i++) {
+      for (int j = i; j > from && front[(j - 1) * stride + objective] > front[j * stride + objective]; j--) {
+        swap(front, j - 1, j, stride) ;
+      }
+    }
+  }
+
+  private static void swap(double[] front, int row1, int row2, int stride) {
+    int offset1 = row1 * stride ;
+    int offset2 = row2 * stride ;
+    for (int k = 0; k < stride; k++) {
+      double value = front[offset1 + k] ;
+      front[offset1 + k] = front[offset2 + k] ;
+      front[offset2 + k] = value ;
+    }
+  }
+
+  private static boolean pack(double[] point, double[] front, int row, int numberOfObjectives,
+      double[] referencePoint) {
+    for (int k = 0; k < numberOfObjectives; k++) {
+      if (!(point[k] < referencePoint[k])) {
+        return false ;
+      }
+    }
+    System.arraycopy(point, 0, front, row * numberOfObjectives, numberOfObjectives);
+    return true ;
+  }
+
+  private static boolean isInside(double[] front, int offset, int numberOfObjectives, double[] referencePoint) {
+    for (int k = 0; k < numberOfObjectives; k++) {
+      if (!(front[offset + k] < referencePoint[k])) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /** One scratch buffer per level of the recursion below the top one */
+  private static double[][] createStack(int numberOfPoints, int numberOfObjectives) {
+    double[][] stack = new double[Math.max(0, numberOfObjectives - 2)][] ;
+    for (int i = 0; i < stack.length; i++) {
+      stack[i] = new double[numberOfPoints * numberOfObjectives] ;
+    }
+    return stack ;
+  }
+
+  /** Returns the pool given by the caller, if any, or the shared pool of the parallelism level */
+  private ForkJoinPool getPool() {
+    return pool != null ? pool : SharedForkJoinPools.getPool(parallelism) ;
+  }
+}
@@ -0,0 +1,21 @@
+package org.uma.jmetal.solution;
+
+/**
+ * Interface implemented by solutions able to store attribute values in primitive slots. The slots
+ * are assigned by {@link org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry}; a slot
+ * holding no value behaves as an attribute set to null.
+ *
+ * The values stored in slots are also visible through {@link Solution#getAttribute(Object)} and
+ * {@link Solution#setAttribute(Object, Object)} using the identifier of the attribute.
+ */
+public interface AttributeSlotHolder {
+  boolean hasDoubleAttribute(int slot) ;
+  double getDoubleAttribute(int slot) ;
+  void setDoubleAttribute(int slot, double value) ;
+  void removeDoubleAttribute(int slot) ;
+
+  boolean hasIntAttribute(int slot) ;
+  int getIntAttribute(int slot) ;
+  void setIntAttribute(int slot, int value) ;
+  void removeIntAttribute(int slot) ;
+}
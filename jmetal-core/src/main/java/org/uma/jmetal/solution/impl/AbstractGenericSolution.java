@@ -1,23 +1,30 @@
 package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.AttributeSlotHolder;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.*;
 
 /**
- * Abstract class representing a generic solution
+ * Abstract class representing a generic solution. The attributes having a slot in
+ * {@link org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry} are stored in primitive
+ * arrays; the rest of them are stored in a map.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
-public abstract class AbstractGenericSolution<T, P extends Problem<?>> implements Solution<T> {
+public abstract class AbstractGenericSolution<T, P extends Problem<?>>
+    implements Solution<T>, AttributeSlotHolder {
   private double[] objectives;
   private List<T> variables;
   protected P problem ;
   protected Map<Object, Object> attributes ;
   protected final JMetalRandom randomGenerator ;
+  private AttributeSlotStorage attributeSlots ;
 
   /**
    * Constructor
@@ -25,6 +32,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
   protected AbstractGenericSolution(P problem) {
     this.problem = problem ;
     attributes = new HashMap<>() ;
+    attributeSlots = new AttributeSlotStorage() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -36,12 +44,74 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    if (!attributeSlots.setAttribute(id, value)) {
+      attributes.put(id, value) ;
+    }
   }
 
   @Override
   public Object getAttribute(Object id) {
-    return attributes.get(id) ;
+    Object value = attributeSlots.getAttribute(id) ;
+    return value != null ? value : attributes.get(id) ;
+  }
+
+  /**
+   * Replaces the attributes of this solution by a copy of the attributes of another one. Used by
+   * the copy constructors
+   */
+  protected void copyAttributes(AbstractGenericSolution<?, ?> solution) {
+    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlotStorage(solution.attributeSlots) ;
+  }
+
+  AttributeSlotStorage getAttributeSlots() {
+    return attributeSlots ;
+  }
+
+  /** Moves to the map the attributes which have no slot in this JVM */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    attributeSlots.moveUnresolvedAttributesTo(attributes);
+  }
+
+  @Override
+  public boolean hasDoubleAttribute(int slot) {
+    return attributeSlots.hasDouble(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    return attributeSlots.getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    attributeSlots.setDouble(slot, value) ;
+  }
+
+  @Override
+  public void removeDoubleAttribute(int slot) {
+    attributeSlots.removeDouble(slot) ;
+  }
+
+  @Override
+  public boolean hasIntAttribute(int slot) {
+    return attributeSlots.hasInt(slot) ;
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributeSlots.getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributeSlots.setInt(slot, value) ;
+  }
+
+  @Override
+  public void removeIntAttribute(int slot) {
+    attributeSlots.removeInt(slot) ;
   }
 
   @Override
@@ -91,11 +161,20 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
       result += "" + obj + " " ;
     }
     result += "\t" ;
-    result += "AlgorithmAttributes: " + attributes + "\n" ;
+    result += "AlgorithmAttributes: " + getAllAttributes() + "\n" ;
 
     return result ;
   }
 
+  private Map<Object, Object> getAllAttributes() {
+    if (attributeSlots.isEmpty()) {
+      return attributes ;
+    }
+    Map<Object, Object> allAttributes = new HashMap<>(attributes) ;
+    attributeSlots.addTo(allAttributes);
+    return allAttributes ;
+  }
+
   @Override public boolean equals(Object o) {
     if (this == o)
       return true;
@@ -106,6 +185,8 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
 
     if (!attributes.equals(that.attributes))
       return false;
+    if (!attributeSlots.equals(that.attributeSlots))
+      return false;
     if (!Arrays.equals(objectives, that.objectives))
       return false;
     if (!variables.equals(that.variables))
@@ -118,6 +199,7 @@ public abstract class AbstractGenericSolution<T, P extends Problem<?>> implement
     int result = Arrays.hashCode(objectives);
     result = 31 * result + variables.hashCode();
     result = 31 * result + attributes.hashCode();
+    result = 31 * result + attributeSlots.hashCode();
     return result;
   }
 }
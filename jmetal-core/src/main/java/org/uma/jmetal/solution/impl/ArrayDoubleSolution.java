@@ -1,10 +1,13 @@
 package org.uma.jmetal.solution.impl;
 
 import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.AttributeSlotHolder;
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,12 +18,13 @@ import java.util.Map;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
-public class ArrayDoubleSolution implements DoubleSolution {
+public class ArrayDoubleSolution implements DoubleSolution, AttributeSlotHolder {
   private double[] objectives;
   private double[] variables;
   protected DoubleProblem problem ;
   protected Map<Object, Object> attributes ;
   protected final JMetalRandom randomGenerator ;
+  private AttributeSlotStorage attributeSlots ;
 
   /**
    * Constructor
@@ -28,6 +32,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
   public ArrayDoubleSolution(DoubleProblem problem) {
     this.problem = problem ;
     attributes = new HashMap<>() ;
+    attributeSlots = new AttributeSlotStorage() ;
     randomGenerator = JMetalRandom.getInstance() ;
 
     objectives = new double[problem.getNumberOfObjectives()] ;
@@ -53,6 +58,7 @@ public class ArrayDoubleSolution implements DoubleSolution {
     }
 
     attributes = new HashMap<Object, Object>(solution.attributes) ;
+    attributeSlots = new AttributeSlotStorage(solution.attributeSlots) ;
   }
 
   @Override
@@ -107,12 +113,65 @@ public class ArrayDoubleSolution implements DoubleSolution {
 
   @Override
   public void setAttribute(Object id, Object value) {
-    attributes.put(id, value) ;
+    if (!attributeSlots.setAttribute(id, value)) {
+      attributes.put(id, value) ;
+    }
   }
 
   @Override
   public Object getAttribute(Object id) {
-    return attributes.get(id) ;
+    Object value = attributeSlots.getAttribute(id) ;
+    return value != null ? value : attributes.get(id) ;
+  }
+
+  AttributeSlotStorage getAttributeSlots() {
+    return attributeSlots ;
+  }
+
+  /** Moves to the map the attributes which have no slot in this JVM */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    attributeSlots.moveUnresolvedAttributesTo(attributes);
+  }
+
+  @Override
+  public boolean hasDoubleAttribute(int slot) {
+    return attributeSlots.hasDouble(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    return attributeSlots.getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    attributeSlots.setDouble(slot, value) ;
+  }
+
+  @Override
+  public void removeDoubleAttribute(int slot) {
+    attributeSlots.removeDouble(slot) ;
+  }
+
+  @Override
+  public boolean hasIntAttribute(int slot) {
+    return attributeSlots.hasInt(slot) ;
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributeSlots.getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributeSlots.setInt(slot, value) ;
+  }
+
+  @Override
+  public void removeIntAttribute(int slot) {
+    attributeSlots.removeInt(slot) ;
   }
 
   @Override
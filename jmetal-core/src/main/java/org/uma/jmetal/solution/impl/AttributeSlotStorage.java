@@ -0,0 +1,271 @@
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primitive storage of the attributes of a solution having a slot in
+ * {@link AttributeSlotRegistry}. The arrays grow up to the highest slot used, and a bit mask per
+ * type records which slots hold a value.
+ *
+ * The slots are assigned in the order the attributes are registered, which differs from one JVM to
+ * another, so the storage is serialized as pairs of identifier and value and the slots are resolved
+ * again when it is deserialized. The values whose identifier can not get a slot of its type are
+ * kept apart, to be moved to the map of attributes of the solution with
+ * {@link #moveUnresolvedAttributesTo(Map)}.
+ */
+@SuppressWarnings("serial")
+final class AttributeSlotStorage implements Serializable {
+  private static final double[] EMPTY_DOUBLE_VALUES = new double[0] ;
+  private static final int[] EMPTY_INT_VALUES = new int[0] ;
+
+  private transient double[] doubleValues ;
+  private transient int[] intValues ;
+  private transient long doubleMask ;
+  private transient long intMask ;
+  private transient Map<Object, Object> unresolvedAttributes ;
+
+  AttributeSlotStorage() {
+    doubleValues = EMPTY_DOUBLE_VALUES ;
+    intValues = EMPTY_INT_VALUES ;
+  }
+
+  AttributeSlotStorage(AttributeSlotStorage storage) {
+    doubleValues = storage.doubleValues.length == 0 ? EMPTY_DOUBLE_VALUES : storage.doubleValues.clone() ;
+    intValues = storage.intValues.length == 0 ? EMPTY_INT_VALUES : storage.intValues.clone() ;
+    doubleMask = storage.doubleMask ;
+    intMask = storage.intMask ;
+  }
+
+  /** Replaces the contents of this storage by the ones of another one, reusing the arrays */
+  void copyFrom(AttributeSlotStorage storage) {
+    if (doubleValues.length < storage.doubleValues.length) {
+      doubleValues = new double[storage.doubleValues.length] ;
+    }
+    if (intValues.length < storage.intValues.length) {
+      intValues = new int[storage.intValues.length] ;
+    }
+    System.arraycopy(storage.doubleValues, 0, doubleValues, 0, storage.doubleValues.length);
+    System.arraycopy(storage.intValues, 0, intValues, 0, storage.intValues.length);
+    doubleMask = storage.doubleMask ;
+    intMask = storage.intMask ;
+  }
+
+  void clear() {
+    doubleMask = 0 ;
+    intMask = 0 ;
+  }
+
+  boolean hasDouble(int slot) {
+    return (doubleMask & (1L << slot)) != 0 ;
+  }
+
+  double getDouble(int slot) {
+    return hasDouble(slot) ? doubleValues[slot] : 0.0 ;
+  }
+
+  void setDouble(int slot, double value) {
+    if (slot >= doubleValues.length) {
+      doubleValues = Arrays.copyOf(doubleValues, slot + 1) ;
+    }
+    doubleValues[slot] = value ;
+    doubleMask |= 1L << slot ;
+  }
+
+  void removeDouble(int slot) {
+    doubleMask &= ~(1L << slot) ;
+  }
+
+  boolean hasInt(int slot) {
+    return (intMask & (1L << slot)) != 0 ;
+  }
+
+  int getInt(int slot) {
+    return hasInt(slot) ? intValues[slot] : 0 ;
+  }
+
+  void setInt(int slot, int value) {
+    if (slot >= intValues.length) {
+      intValues = Arrays.copyOf(intValues, slot + 1) ;
+    }
+    intValues[slot] = value ;
+    intMask |= 1L << slot ;
+  }
+
+  void removeInt(int slot) {
+    intMask &= ~(1L << slot) ;
+  }
+
+  /**
+   * Stores the value of an attribute in its slot, if it has one and the value has its type. When
+   * the value can not be stored, the slot is cleared so that it does not hide the value.
+   * @return true if the value has been stored
+   */
+  boolean setAttribute(Object id, Object value) {
+    int slot = AttributeSlotRegistry.getDoubleSlot(id) ;
+    if (slot >= 0) {
+      if (value instanceof Double) {
+        setDouble(slot, (Double) value) ;
+        return true ;
+      }
+      removeDouble(slot) ;
+      return false ;
+    }
+
+    slot = AttributeSlotRegistry.getIntSlot(id) ;
+    if (slot >= 0) {
+      if (value instanceof Integer) {
+        setInt(slot, (Integer) value) ;
+        return true ;
+      }
+      removeInt(slot) ;
+    }
+    return false ;
+  }
+
+  /** Returns the value of an attribute stored in a slot, or null if it is not stored in a slot */
+  Object getAttribute(Object id) {
+    if ((doubleMask | intMask) == 0) {
+      return null ;
+    }
+
+    int slot = AttributeSlotRegistry.getDoubleSlot(id) ;
+    if (slot >= 0) {
+      return hasDouble(slot) ? Double.valueOf(doubleValues[slot]) : null ;
+    }
+    slot = AttributeSlotRegistry.getIntSlot(id) ;
+    if (slot >= 0) {
+      return hasInt(slot) ? Integer.valueOf(intValues[slot]) : null ;
+    }
+    return null ;
+  }
+
+  /** Adds the attributes stored in slots to a map, using their identifiers as keys */
+  void addTo(Map<Object, Object> map) {
+    for (int slot = 0; slot < doubleValues.length; slot++) {
+      if (hasDouble(slot)) {
+        map.put(AttributeSlotRegistry.getDoubleIdentifier(slot), doubleValues[slot]) ;
+      }
+    }
+    for (int slot = 0; slot < intValues.length; slot++) {
+      if (hasInt(slot)) {
+        map.put(AttributeSlotRegistry.getIntIdentifier(slot), intValues[slot]) ;
+      }
+    }
+  }
+
+  boolean isEmpty() {
+    return (doubleMask | intMask) == 0 ;
+  }
+
+  /**
+   * Moves to a map the deserialized values which could not be stored in a slot, as their
+   * identifier has no slot of their type in this JVM
+   */
+  void moveUnresolvedAttributesTo(Map<Object, Object> map) {
+    if (unresolvedAttributes != null) {
+      map.putAll(unresolvedAttributes);
+      unresolvedAttributes = null ;
+    }
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    out.writeInt(Long.bitCount(doubleMask));
+    for (int slot = 0; slot < doubleValues.length; slot++) {
+      if (hasDouble(slot)) {
+        out.writeObject(AttributeSlotRegistry.getDoubleIdentifier(slot));
+        out.writeDouble(doubleValues[slot]);
+      }
+    }
+    out.writeInt(Long.bitCount(intMask));
+    for (int slot = 0; slot < intValues.length; slot++) {
+      if (hasInt(slot)) {
+        out.writeObject(AttributeSlotRegistry.getIntIdentifier(slot));
+        out.writeInt(intValues[slot]);
+      }
+    }
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    doubleValues = EMPTY_DOUBLE_VALUES ;
+    intValues = EMPTY_INT_VALUES ;
+
+    int numberOfDoubleValues = in.readInt() ;
+    for (int i = 0; i < numberOfDoubleValues; i++) {
+      Object identifier = in.readObject() ;
+      double value = in.readDouble() ;
+      int slot = AttributeSlotRegistry.registerDoubleSlot(identifier) ;
+      if (slot >= 0) {
+        setDouble(slot, value);
+      } else {
+        addUnresolvedAttribute(identifier, value);
+      }
+    }
+
+    int numberOfIntValues = in.readInt() ;
+    for (int i = 0; i < numberOfIntValues; i++) {
+      Object identifier = in.readObject() ;
+      int value = in.readInt() ;
+      int slot = AttributeSlotRegistry.registerIntSlot(identifier) ;
+      if (slot >= 0) {
+        setInt(slot, value);
+      } else {
+        addUnresolvedAttribute(identifier, value);
+      }
+    }
+  }
+
+  private void addUnresolvedAttribute(Object identifier, Object value) {
+    if (unresolvedAttributes == null) {
+      unresolvedAttributes = new HashMap<>() ;
+    }
+    unresolvedAttributes.put(identifier, value) ;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    AttributeSlotStorage that = (AttributeSlotStorage) o ;
+    if (doubleMask != that.doubleMask || intMask != that.intMask) return false;
+
+    for (int slot = 0; slot < doubleValues.length; slot++) {
+      if (hasDouble(slot) && Double.compare(doubleValues[slot], that.doubleValues[slot]) != 0) {
+        return false;
+      }
+    }
+    for (int slot = 0; slot < intValues.length; slot++) {
+      if (hasInt(slot) && intValues[slot] != that.intValues[slot]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Long.hashCode(doubleMask) ;
+    result = 31 * result + Long.hashCode(intMask) ;
+    for (int slot = 0; slot < doubleValues.length; slot++) {
+      if (hasDouble(slot)) {
+        result = 31 * result + Double.hashCode(doubleValues[slot]) ;
+      }
+    }
+    for (int slot = 0; slot < intValues.length; slot++) {
+      if (hasInt(slot)) {
+        result = 31 * result + intValues[slot] ;
+      }
+    }
+    return result ;
+  }
+}
@@ -4,7 +4,7 @@ import org.uma.jmetal.problem.BinaryProblem;
 import org.uma.jmetal.solution.BinarySolution;
 import org.uma.jmetal.util.binarySet.BinarySet;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
  * Defines an implementation of a binary solution
@@ -36,7 +36,7 @@ public class DefaultBinarySolution
       setObjective(i, solution.getObjective(i)) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   private BinarySet createNewBitSet(int numberOfBits) {
@@ -75,16 +75,13 @@ public class DefaultBinarySolution
 
   @Override
   public String getVariableValueString(int index) {
-    String result = "" ;
-    for (int i = 0; i < getVariableValue(index).getBinarySetLength() ; i++) {
-      if (getVariableValue(index).get(i)) {
-        result += "1" ;
-      }
-      else {
-        result+= "0" ;
-      }
+    BinarySet binarySet = getVariableValue(index) ;
+    char[] result = new char[binarySet.getBinarySetLength()] ;
+    Arrays.fill(result, '0') ;
+    for (int i = binarySet.nextSetBit(0); i >= 0 && i < result.length; i = binarySet.nextSetBit(i + 1)) {
+      result[i] = '1' ;
     }
-    return result ;
+    return new String(result) ;
   }
   
   private void initializeBinaryVariables() {
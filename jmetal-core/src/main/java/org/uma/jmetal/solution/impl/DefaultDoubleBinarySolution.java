@@ -4,7 +4,6 @@ import org.uma.jmetal.problem.DoubleBinaryProblem;
 import org.uma.jmetal.solution.DoubleBinarySolution;
 
 import java.util.BitSet;
-import java.util.HashMap;
 
 /**
  * Description:
@@ -43,7 +42,7 @@ public class DefaultDoubleBinarySolution
     copyDoubleVariables(solution);
     copyBitSet(solution);
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   private void initializeDoubleVariables() {
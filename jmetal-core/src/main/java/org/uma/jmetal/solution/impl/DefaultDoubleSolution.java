@@ -3,7 +3,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.DoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a double solution
@@ -35,7 +34,7 @@ public class DefaultDoubleSolution
       setObjective(i, solution.getObjective(i)) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   @Override
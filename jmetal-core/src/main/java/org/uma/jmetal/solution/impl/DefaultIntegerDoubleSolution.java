@@ -3,7 +3,6 @@ package org.uma.jmetal.solution.impl;
 import org.uma.jmetal.problem.IntegerDoubleProblem;
 import org.uma.jmetal.solution.IntegerDoubleSolution;
 
-import java.util.HashMap;
 
 /**
  * Defines an implementation of a class for solutions having integers and doubles
@@ -45,7 +44,7 @@ public class DefaultIntegerDoubleSolution
       setVariableValue(i, solution.getVariableValue(i)) ;
     }
 
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   @Override
@@ -4,7 +4,6 @@ import org.uma.jmetal.problem.PermutationProblem;
 import org.uma.jmetal.solution.PermutationSolution;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -45,7 +44,7 @@ public class DefaultIntegerPermutationSolution
       setVariableValue(i, solution.getVariableValue(i));
     }
     
-    attributes = new HashMap<Object, Object>(solution.attributes) ;
+    copyAttributes(solution) ;
   }
 
   @Override public String getVariableValueString(int index) {
@@ -0,0 +1,434 @@
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.problem.DoubleProblem;
+import org.uma.jmetal.solution.DoubleSolution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Struct-of-arrays store for a population of {@link DoubleSolution} objects. The variables,
+ * objectives and constraint values of all the solutions are packed into three contiguous
+ * <code>double[]</code> blocks, and each solution is handed out as a {@link DoubleSolutionView}, a
+ * flyweight which only keeps a reference to this store and the index of its slot.
+ *
+ * Views are created once per slot and reused, so creating, copying and releasing solutions does
+ * not allocate once the store has reached its working size. Slots are recycled when they are given
+ * back with {@link #release(DoubleSolutionView)} or {@link #releaseDiscarded(List, List[])};
+ * {@link org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm} can do it after each
+ * replacement for the solutions which have not survived, if enabled with
+ * {@link org.uma.jmetal.algorithm.impl.AbstractEvolutionaryAlgorithm#setReleaseDiscardedSolutions(boolean)},
+ * so the store of an evolutionary algorithm does not grow beyond the size of its population and
+ * offspring. Otherwise the store grows on demand.
+ *
+ * The store is not thread-safe, with one exception: solutions may be evaluated by other threads
+ * while the owner thread allocates new ones, as long as the evaluating threads hold the read lock of
+ * {@link #getResizeLock()} while they write into their solutions. Growing the store replaces its
+ * blocks, so it takes the write lock and waits for those evaluations to finish, which would
+ * otherwise write into the old blocks.
+ */
+@SuppressWarnings("serial")
+public class DoublePopulation implements Serializable {
+  private static final int DEFAULT_CAPACITY = 100 ;
+
+  private final DoubleProblem problem ;
+  private final int numberOfVariables ;
+  private final int numberOfObjectives ;
+  private final int numberOfConstraints ;
+
+  private final double[] lowerBounds ;
+  private final double[] upperBounds ;
+
+  private double[] variables ;
+  private double[] objectives ;
+  private double[] constraints ;
+  private DoubleSolutionView[] views ;
+
+  private int[] freeSlots ;
+  private int numberOfFreeSlots ;
+  private int numberOfUsedSlots ;
+
+  private JMetalRandom randomGenerator ;
+  private final ReadWriteLock resizeLock = new ReentrantReadWriteLock() ;
+
+  /** Constructor */
+  public DoublePopulation(DoubleProblem problem) {
+    this(problem, DEFAULT_CAPACITY) ;
+  }
+
+  /**
+   * Constructor
+   * @param problem The problem the solutions belong to
+   * @param initialCapacity Number of solutions the store can hold before growing
+   */
+  public DoublePopulation(DoubleProblem problem, int initialCapacity) {
+    if (problem == null) {
+      throw new JMetalException("The problem is null") ;
+    } else if (initialCapacity <= 0) {
+      throw new JMetalException("The initial capacity must be positive: " + initialCapacity) ;
+    }
+
+    this.problem = problem ;
+    this.numberOfVariables = problem.getNumberOfVariables() ;
+    this.numberOfObjectives = problem.getNumberOfObjectives() ;
+    this.numberOfConstraints = problem.getNumberOfConstraints() ;
+
+    lowerBounds = new double[numberOfVariables] ;
+    upperBounds = new double[numberOfVariables] ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      lowerBounds[i] = problem.getLowerBound(i) ;
+      upperBounds[i] = problem.getUpperBound(i) ;
+    }
+
+    variables = new double[initialCapacity * numberOfVariables] ;
+    objectives = new double[initialCapacity * numberOfObjectives] ;
+    constraints = new double[initialCapacity * numberOfConstraints] ;
+    views = new DoubleSolutionView[initialCapacity] ;
+    freeSlots = new int[initialCapacity] ;
+    numberOfFreeSlots = 0 ;
+    numberOfUsedSlots = 0 ;
+
+    randomGenerator = JMetalRandom.getInstance() ;
+  }
+
+  /* Getters */
+  public DoubleProblem getProblem() {
+    return problem;
+  }
+
+  public int getNumberOfVariables() {
+    return numberOfVariables;
+  }
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public int getNumberOfConstraints() {
+    return numberOfConstraints;
+  }
+
+  /** Returns the number of live (not released) solutions in the store */
+  public int size() {
+    return numberOfUsedSlots - numberOfFreeSlots ;
+  }
+
+  /** Returns the number of solutions the store can hold without growing */
+  public int capacity() {
+    return views.length ;
+  }
+
+  /**
+   * Returns the lock guarding the blocks of the store against growth: threads other than the owner
+   * must hold its read lock while writing into their solutions
+   */
+  public ReadWriteLock getResizeLock() {
+    return resizeLock ;
+  }
+
+  /**
+   * Creates a new solution whose variables are randomly initialized within the bounds of the
+   * problem and whose objectives and constraints are set to 0.0
+   */
+  public DoubleSolutionView createSolution() {
+    int slot = allocateSlot() ;
+
+    int offset = slot * numberOfVariables ;
+    for (int i = 0; i < numberOfVariables; i++) {
+      variables[offset + i] = randomGenerator.nextDouble(lowerBounds[i], upperBounds[i]) ;
+    }
+
+    return views[slot] ;
+  }
+
+  /**
+   * Creates a number of new random solutions and returns their views in a list
+   * @param numberOfSolutions
+   */
+  public List<DoubleSolution> createSolutionList(int numberOfSolutions) {
+    List<DoubleSolution> solutionList = new ArrayList<>(numberOfSolutions) ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      solutionList.add(createSolution()) ;
+    }
+
+    return solutionList ;
+  }
+
+  /**
+   * Copies a solution of this store into a new slot. Attributes are copied as well.
+   * @param solution The solution to copy
+   * @return The view of the new solution
+   */
+  public DoubleSolutionView copy(DoubleSolutionView solution) {
+    checkOwnership(solution) ;
+
+    int source = solution.getSlot() ;
+    int target = allocateSlot() ;
+
+    System.arraycopy(variables, source * numberOfVariables,
+        variables, target * numberOfVariables, numberOfVariables);
+    System.arraycopy(objectives, source * numberOfObjectives,
+        objectives, target * numberOfObjectives, numberOfObjectives);
+    System.arraycopy(constraints, source * numberOfConstraints,
+        constraints, target * numberOfConstraints, numberOfConstraints);
+
+    DoubleSolutionView copy = views[target] ;
+    copy.copyAttributesFrom(solution) ;
+
+    return copy ;
+  }
+
+  /**
+   * Copies the contents of any {@link DoubleSolution} into a new slot of the store: variables,
+   * objectives and attributes and, for the views of another population, the constraint values. The
+   * attributes of solutions which are neither views nor {@link AbstractGenericSolution} or
+   * {@link ArrayDoubleSolution} objects can not be enumerated, so they are not copied.
+   * @param solution The solution to import
+   * @return The view of the imported solution
+   */
+  public DoubleSolutionView add(DoubleSolution solution) {
+    if (solution instanceof DoubleSolutionView && ((DoubleSolutionView) solution).getPopulation() == this) {
+      return copy((DoubleSolutionView) solution) ;
+    } else if (solution.getNumberOfVariables() != numberOfVariables) {
+      throw new JMetalException("The solution has " + solution.getNumberOfVariables() +
+          " variables instead of " + numberOfVariables) ;
+    } else if (solution.getNumberOfObjectives() != numberOfObjectives) {
+      throw new JMetalException("The solution has " + solution.getNumberOfObjectives() +
+          " objectives instead of " + numberOfObjectives) ;
+    }
+
+    int slot = allocateSlot() ;
+    DoubleSolutionView view = views[slot] ;
+    if (solution instanceof DoubleSolutionView) {
+      DoubleSolutionView source = (DoubleSolutionView) solution ;
+      for (int i = 0; i < numberOfVariables; i++) {
+        variables[slot * numberOfVariables + i] = source.getVariable(i) ;
+      }
+      int constraintsToCopy = Math.min(numberOfConstraints, source.getPopulation().getNumberOfConstraints()) ;
+      for (int i = 0; i < constraintsToCopy; i++) {
+        constraints[slot * numberOfConstraints + i] = source.getConstraint(i) ;
+      }
+      view.copyAttributesFrom(source) ;
+    } else {
+      for (int i = 0; i < numberOfVariables; i++) {
+        variables[slot * numberOfVariables + i] = solution.getVariableValue(i) ;
+      }
+      if (solution instanceof AbstractGenericSolution) {
+        AbstractGenericSolution<?, ?> source = (AbstractGenericSolution<?, ?>) solution ;
+        view.copyAttributesFrom(source.getAttributeSlots(), source.attributes) ;
+      } else if (solution instanceof ArrayDoubleSolution) {
+        ArrayDoubleSolution source = (ArrayDoubleSolution) solution ;
+        view.copyAttributesFrom(source.getAttributeSlots(), source.attributes) ;
+      }
+    }
+    for (int i = 0; i < numberOfObjectives; i++) {
+      objectives[slot * numberOfObjectives + i] = solution.getObjective(i) ;
+    }
+
+    return view ;
+  }
+
+  /**
+   * Gives a solution back to the store. The view must not be used after calling this method, as
+   * its slot will be handed out again by the next allocation.
+   * @param solution The solution to release
+   */
+  public void release(DoubleSolutionView solution) {
+    checkOwnership(solution) ;
+
+    if (solution.isReleased()) {
+      throw new JMetalException("The solution in slot " + solution.getSlot() + " was already released") ;
+    }
+
+    solution.markAsReleased() ;
+    freeSlots[numberOfFreeSlots++] = solution.getSlot() ;
+  }
+
+  /**
+   * Releases every solution of the list not contained in the list of survivors. Typically invoked
+   * after the replacement step of an evolutionary algorithm.
+   * @param solutionList The solutions to consider
+   * @param survivors The solutions to keep
+   */
+  public void releaseAllBut(List<? extends DoubleSolution> solutionList,
+      List<? extends DoubleSolution> survivors) {
+    for (DoubleSolution survivor : survivors) {
+      if (survivor instanceof DoubleSolutionView) {
+        ((DoubleSolutionView) survivor).setMark(true) ;
+      }
+    }
+
+    for (DoubleSolution solution : solutionList) {
+      if (solution instanceof DoubleSolutionView) {
+        DoubleSolutionView view = (DoubleSolutionView) solution ;
+        if (view.getPopulation() == this && !view.isMarked() && !view.isReleased()) {
+          release(view) ;
+        }
+      }
+    }
+
+    for (DoubleSolution survivor : survivors) {
+      if (survivor instanceof DoubleSolutionView) {
+        ((DoubleSolutionView) survivor).setMark(false) ;
+      }
+    }
+  }
+
+  /**
+   * Releases the views contained in the candidate lists but not in the list of survivors, whatever
+   * their population. Solutions which are not views, and views already released, are ignored.
+   * @param survivors The solutions to keep
+   * @param candidates The solutions which may be released
+   */
+  public static void releaseDiscarded(List<?> survivors, List<?>... candidates) {
+    for (Object survivor : survivors) {
+      if (survivor instanceof DoubleSolutionView) {
+        ((DoubleSolutionView) survivor).setMark(true) ;
+      }
+    }
+
+    for (List<?> solutionList : candidates) {
+      for (Object solution : solutionList) {
+        if (solution instanceof DoubleSolutionView) {
+          DoubleSolutionView view = (DoubleSolutionView) solution ;
+          if (!view.isMarked() && !view.isReleased()) {
+            view.getPopulation().release(view) ;
+          }
+        }
+      }
+    }
+
+    for (Object survivor : survivors) {
+      if (survivor instanceof DoubleSolutionView) {
+        ((DoubleSolutionView) survivor).setMark(false) ;
+      }
+    }
+  }
+
+  /** Releases all the solutions of the store */
+  public void clear() {
+    for (int i = 0; i < numberOfUsedSlots; i++) {
+      views[i].markAsReleased() ;
+    }
+    numberOfUsedSlots = 0 ;
+    numberOfFreeSlots = 0 ;
+  }
+
+  /* Primitive accessors */
+  public double getVariableValue(int slot, int index) {
+    return variables[slot * numberOfVariables + index] ;
+  }
+
+  public void setVariableValue(int slot, int index, double value) {
+    variables[slot * numberOfVariables + index] = value ;
+  }
+
+  public double getObjective(int slot, int index) {
+    return objectives[slot * numberOfObjectives + index] ;
+  }
+
+  public void setObjective(int slot, int index, double value) {
+    objectives[slot * numberOfObjectives + index] = value ;
+  }
+
+  public double getConstraint(int slot, int index) {
+    return constraints[slot * numberOfConstraints + index] ;
+  }
+
+  public void setConstraint(int slot, int index, double value) {
+    constraints[slot * numberOfConstraints + index] = value ;
+  }
+
+  public double getLowerBound(int index) {
+    return lowerBounds[index] ;
+  }
+
+  public double getUpperBound(int index) {
+    return upperBounds[index] ;
+  }
+
+  /**
+   * Returns the backing block of variables. The variables of the solution in slot <code>s</code>
+   * start at position <code>s * getNumberOfVariables()</code>. The reference is only valid until
+   * the store grows.
+   */
+  public double[] getVariableBlock() {
+    return variables ;
+  }
+
+  /**
+   * Returns the backing block of objectives. The objectives of the solution in slot <code>s</code>
+   * start at position <code>s * getNumberOfObjectives()</code>. The reference is only valid until
+   * the store grows.
+   */
+  public double[] getObjectiveBlock() {
+    return objectives ;
+  }
+
+  /**
+   * Returns the backing block of constraint values. The constraints of the solution in slot
+   * <code>s</code> start at position <code>s * getNumberOfConstraints()</code>. The reference is
+   * only valid until the store grows.
+   */
+  public double[] getConstraintBlock() {
+    return constraints ;
+  }
+
+  /** Returns the view of a slot */
+  public DoubleSolutionView getView(int slot) {
+    if (slot < 0 || slot >= numberOfUsedSlots) {
+      throw new JMetalException("Invalid slot: " + slot) ;
+    }
+    return views[slot] ;
+  }
+
+  private int allocateSlot() {
+    int slot ;
+    if (numberOfFreeSlots > 0) {
+      slot = freeSlots[--numberOfFreeSlots] ;
+    } else {
+      if (numberOfUsedSlots == views.length) {
+        grow() ;
+      }
+      slot = numberOfUsedSlots++ ;
+      if (views[slot] == null) {
+        views[slot] = new DoubleSolutionView(this, slot) ;
+      }
+    }
+
+    Arrays.fill(objectives, slot * numberOfObjectives, (slot + 1) * numberOfObjectives, 0.0);
+    Arrays.fill(constraints, slot * numberOfConstraints, (slot + 1) * numberOfConstraints, 0.0);
+    views[slot].markAsAllocated() ;
+
+    return slot ;
+  }
+
+  private void grow() {
+    int newCapacity = views.length + (views.length >> 1) + 1 ;
+
+    resizeLock.writeLock().lock() ;
+    try {
+      variables = Arrays.copyOf(variables, newCapacity * numberOfVariables) ;
+      objectives = Arrays.copyOf(objectives, newCapacity * numberOfObjectives) ;
+      constraints = Arrays.copyOf(constraints, newCapacity * numberOfConstraints) ;
+    } finally {
+      resizeLock.writeLock().unlock() ;
+    }
+    views = Arrays.copyOf(views, newCapacity) ;
+    freeSlots = Arrays.copyOf(freeSlots, newCapacity) ;
+  }
+
+  private void checkOwnership(DoubleSolutionView solution) {
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    } else if (solution.getPopulation() != this) {
+      throw new JMetalException("The solution does not belong to this population") ;
+    }
+  }
+}
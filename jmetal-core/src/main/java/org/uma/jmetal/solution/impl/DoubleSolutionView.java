@@ -0,0 +1,273 @@
+package org.uma.jmetal.solution.impl;
+
+import org.uma.jmetal.solution.AttributeSlotHolder;
+import org.uma.jmetal.solution.DoubleSolution;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Flyweight {@link DoubleSolution} backed by a slot of a {@link DoublePopulation}. Variables,
+ * objectives and constraints live in the packed blocks of the population; the view only stores its
+ * slot index, the attributes having a primitive slot and, when needed, a map of attributes.
+ *
+ * Views are owned and recycled by their population, so they are obtained from
+ * {@link DoublePopulation#createSolution()} or {@link #copy()} instead of being constructed.
+ */
+@SuppressWarnings("serial")
+public class DoubleSolutionView implements DoubleSolution, AttributeSlotHolder {
+  private final DoublePopulation population ;
+  private final int slot ;
+  private Map<Object, Object> attributes ;
+  private AttributeSlotStorage attributeSlots ;
+  private boolean released ;
+  private boolean mark ;
+
+  DoubleSolutionView(DoublePopulation population, int slot) {
+    this.population = population ;
+    this.slot = slot ;
+    this.attributeSlots = new AttributeSlotStorage() ;
+    this.released = true ;
+  }
+
+  /* Getters */
+  public DoublePopulation getPopulation() {
+    return population;
+  }
+
+  public int getSlot() {
+    return slot;
+  }
+
+  public boolean isReleased() {
+    return released;
+  }
+
+  /* Primitive accessors */
+  public double getVariable(int index) {
+    return population.getVariableValue(slot, index) ;
+  }
+
+  public void setVariable(int index, double value) {
+    population.setVariableValue(slot, index, value) ;
+  }
+
+  public double getConstraint(int index) {
+    return population.getConstraint(slot, index) ;
+  }
+
+  public void setConstraint(int index, double value) {
+    population.setConstraint(slot, index, value) ;
+  }
+
+  @Override
+  public void setObjective(int index, double value) {
+    population.setObjective(slot, index, value) ;
+  }
+
+  @Override
+  public double getObjective(int index) {
+    return population.getObjective(slot, index) ;
+  }
+
+  @Override
+  public Double getVariableValue(int index) {
+    return population.getVariableValue(slot, index) ;
+  }
+
+  @Override
+  public void setVariableValue(int index, Double value) {
+    population.setVariableValue(slot, index, value) ;
+  }
+
+  @Override
+  public String getVariableValueString(int index) {
+    return Double.toString(population.getVariableValue(slot, index)) ;
+  }
+
+  @Override
+  public int getNumberOfVariables() {
+    return population.getNumberOfVariables() ;
+  }
+
+  @Override
+  public int getNumberOfObjectives() {
+    return population.getNumberOfObjectives() ;
+  }
+
+  @Override
+  public Double getLowerBound(int index) {
+    return population.getLowerBound(index) ;
+  }
+
+  @Override
+  public Double getUpperBound(int index) {
+    return population.getUpperBound(index) ;
+  }
+
+  @Override
+  public DoubleSolutionView copy() {
+    return population.copy(this) ;
+  }
+
+  @Override
+  public void setAttribute(Object id, Object value) {
+    if (attributeSlots.setAttribute(id, value)) {
+      return ;
+    }
+    if (attributes == null) {
+      attributes = new HashMap<>() ;
+    }
+    attributes.put(id, value) ;
+  }
+
+  @Override
+  public Object getAttribute(Object id) {
+    Object value = attributeSlots.getAttribute(id) ;
+    if (value != null) {
+      return value ;
+    }
+    return attributes == null ? null : attributes.get(id) ;
+  }
+
+  @Override
+  public boolean hasDoubleAttribute(int slot) {
+    return attributeSlots.hasDouble(slot) ;
+  }
+
+  @Override
+  public double getDoubleAttribute(int slot) {
+    return attributeSlots.getDouble(slot) ;
+  }
+
+  @Override
+  public void setDoubleAttribute(int slot, double value) {
+    attributeSlots.setDouble(slot, value) ;
+  }
+
+  @Override
+  public void removeDoubleAttribute(int slot) {
+    attributeSlots.removeDouble(slot) ;
+  }
+
+  @Override
+  public boolean hasIntAttribute(int slot) {
+    return attributeSlots.hasInt(slot) ;
+  }
+
+  @Override
+  public int getIntAttribute(int slot) {
+    return attributeSlots.getInt(slot) ;
+  }
+
+  @Override
+  public void setIntAttribute(int slot, int value) {
+    attributeSlots.setInt(slot, value) ;
+  }
+
+  @Override
+  public void removeIntAttribute(int slot) {
+    attributeSlots.removeInt(slot) ;
+  }
+
+  void copyAttributesFrom(DoubleSolutionView solution) {
+    copyAttributesFrom(solution.attributeSlots, solution.attributes) ;
+  }
+
+  void copyAttributesFrom(AttributeSlotStorage slots, Map<Object, Object> attributes) {
+    attributeSlots.copyFrom(slots) ;
+    if (attributes != null && !attributes.isEmpty()) {
+      if (this.attributes == null) {
+        this.attributes = new HashMap<>(attributes) ;
+      } else {
+        this.attributes.putAll(attributes);
+      }
+    }
+  }
+
+  /** Moves to the map the attributes which have no slot in this JVM */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    Map<Object, Object> unresolvedAttributes = new HashMap<>() ;
+    attributeSlots.moveUnresolvedAttributesTo(unresolvedAttributes);
+    if (!unresolvedAttributes.isEmpty()) {
+      if (attributes == null) {
+        attributes = unresolvedAttributes ;
+      } else {
+        attributes.putAll(unresolvedAttributes);
+      }
+    }
+  }
+
+  void markAsAllocated() {
+    released = false ;
+    attributeSlots.clear() ;
+    if (attributes != null) {
+      attributes.clear();
+    }
+  }
+
+  void markAsReleased() {
+    released = true ;
+  }
+
+  boolean isMarked() {
+    return mark ;
+  }
+
+  void setMark(boolean mark) {
+    this.mark = mark ;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("Variables: ") ;
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      result.append(getVariable(i)).append(' ') ;
+    }
+    result.append("Objectives: ") ;
+    for (int i = 0; i < getNumberOfObjectives(); i++) {
+      result.append(getObjective(i)).append(' ') ;
+    }
+    Map<Object, Object> allAttributes = attributes == null ? new HashMap<>() : new HashMap<>(attributes) ;
+    attributeSlots.addTo(allAttributes);
+    result.append("\tAlgorithmAttributes: ").append(allAttributes).append('\n') ;
+
+    return result.toString() ;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    DoubleSolutionView that = (DoubleSolutionView) o;
+
+    if (getNumberOfVariables() != that.getNumberOfVariables()) return false;
+    if (getNumberOfObjectives() != that.getNumberOfObjectives()) return false;
+
+    for (int i = 0; i < getNumberOfObjectives(); i++) {
+      if (Double.compare(getObjective(i), that.getObjective(i)) != 0) return false;
+    }
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      if (Double.compare(getVariable(i), that.getVariable(i)) != 0) return false;
+    }
+    return population.getProblem().equals(that.population.getProblem());
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1 ;
+    for (int i = 0; i < getNumberOfObjectives(); i++) {
+      long bits = Double.doubleToLongBits(getObjective(i)) ;
+      result = 31 * result + (int) (bits ^ (bits >>> 32)) ;
+    }
+    for (int i = 0; i < getNumberOfVariables(); i++) {
+      long bits = Double.doubleToLongBits(getVariable(i)) ;
+      result = 31 * result + (int) (bits ^ (bits >>> 32)) ;
+    }
+    return result ;
+  }
+}
@@ -0,0 +1,38 @@
+package org.uma.jmetal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fork/join pools shared by the components computed in parallel (sorting engines, density
+ * estimators, quality indicators), one per level of parallelism. The components ask for a pool
+ * each time they need one instead of creating their own, so no pool has to be shut down and the
+ * number of threads does not grow with the number of components. The workers of a pool are
+ * daemon threads which terminate after some time without tasks.
+ */
+public class SharedForkJoinPools {
+  private static final Map<Integer, ForkJoinPool> pools = new HashMap<>() ;
+
+  private SharedForkJoinPools() {
+  }
+
+  /**
+   * Returns the pool of a level of parallelism, which is created the first time it is needed
+   * @param parallelism Number of threads of the pool; 0 for the common pool
+   */
+  public static synchronized ForkJoinPool getPool(int parallelism) {
+    if (parallelism < 0) {
+      throw new JMetalException("The parallelism level is negative: " + parallelism) ;
+    } else if (parallelism == 0) {
+      return ForkJoinPool.commonPool() ;
+    }
+
+    ForkJoinPool pool = pools.get(parallelism) ;
+    if (pool == null) {
+      pool = new ForkJoinPool(parallelism) ;
+      pools.put(parallelism, pool) ;
+    }
+    return pool ;
+  }
+}
@@ -2,6 +2,7 @@ package org.uma.jmetal.util;
 
 import org.uma.jmetal.solution.DoubleSolution;
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.solution.impl.DoubleSolutionView;
 import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 import org.uma.jmetal.util.pseudorandom.RandomGenerator;
 
@@ -55,6 +56,45 @@ public class SolutionUtils {
     return result;
   }
 
+  /**
+   * Returns the value of a variable of a {@link DoubleSolution}. The variables of a
+   * {@link DoubleSolutionView} are read from its population without boxing.
+   */
+  public static double getVariableValue(DoubleSolution solution, int index) {
+    if (solution instanceof DoubleSolutionView) {
+      return ((DoubleSolutionView) solution).getVariable(index) ;
+    }
+    return solution.getVariableValue(index) ;
+  }
+
+  /**
+   * Sets the value of a variable of a {@link DoubleSolution}, without boxing if it is a
+   * {@link DoubleSolutionView}
+   */
+  public static void setVariableValue(DoubleSolution solution, int index, double value) {
+    if (solution instanceof DoubleSolutionView) {
+      ((DoubleSolutionView) solution).setVariable(index, value) ;
+    } else {
+      solution.setVariableValue(index, value) ;
+    }
+  }
+
+  /** Returns the lower bound of a variable, without boxing if the solution is a {@link DoubleSolutionView} */
+  public static double getLowerBound(DoubleSolution solution, int index) {
+    if (solution instanceof DoubleSolutionView) {
+      return ((DoubleSolutionView) solution).getPopulation().getLowerBound(index) ;
+    }
+    return solution.getLowerBound(index) ;
+  }
+
+  /** Returns the upper bound of a variable, without boxing if the solution is a {@link DoubleSolutionView} */
+  public static double getUpperBound(DoubleSolution solution, int index) {
+    if (solution instanceof DoubleSolutionView) {
+      return ((DoubleSolutionView) solution).getPopulation().getUpperBound(index) ;
+    }
+    return solution.getUpperBound(index) ;
+  }
+
   /**
    * Returns the euclidean distance between a pair of solutions in the objective space
    */
@@ -105,7 +145,7 @@ public class SolutionUtils {
 
     double diff;
     for (int i = 0; i < solutionI.getNumberOfVariables(); i++) {
-      diff = solutionI.getVariableValue(i) - solutionJ.getVariableValue(i);
+      diff = getVariableValue(solutionI, i) - getVariableValue(solutionJ, i);
       distance += Math.pow(diff, 2.0);
     }
 
@@ -1,33 +1,84 @@
 package org.uma.jmetal.util.archive.impl;
 
 import org.uma.jmetal.qualityindicator.impl.Hypervolume;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.MonteCarloHypervolume;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.SolutionListUtils;
 import org.uma.jmetal.util.comparator.HypervolumeContributionComparator;
+import org.uma.jmetal.util.densityestimator.HypervolumeContributionEngine;
+import org.uma.jmetal.util.solutionattribute.impl.HypervolumeContributionAttribute;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 
 /**
+ * Bounded archive which, when full, discards the solution with the lowest hypervolume
+ * contribution. The reference point is given by the maximum value of each objective in the
+ * archive plus the offset of the {@link Hypervolume} indicator; once the contributions are kept,
+ * the reference point only grows, so it does not move back when an extreme solution is discarded.
+ *
+ * The contributions are kept by a {@link HypervolumeContributionEngine}, which is created the first
+ * time the archive overflows and then updated incrementally as solutions are inserted and removed,
+ * also when the reference point grows. If the indicator is a
+ * {@link MonteCarloHypervolume}, intended for many objectives, the contributions are instead
+ * estimated by the indicator each time the archive overflows.
+ *
  * Created by Antonio J. Nebro on 24/09/14.
  */
 @SuppressWarnings("serial")
 public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedArchive<S> {
   private Comparator<S> comparator;
   Hypervolume<S> hypervolume ;
+  private HypervolumeContributionAttribute<S> hvContribution ;
+  private HypervolumeContributionEngine<S> engine ;
 
   public HypervolumeArchive(int maxSize, Hypervolume<S> hypervolume) {
     super(maxSize);
     comparator = new HypervolumeContributionComparator<S>() ;
     this.hypervolume = hypervolume ;
+    hvContribution = new HypervolumeContributionAttribute<S>() ;
+  }
+
+  @Override
+  public boolean add(S solution) {
+    int previousSize = archive.size() ;
+    boolean success = archive.add(solution);
+    if (success) {
+      if (engine != null) {
+        if (archive.size() != previousSize + 1) {
+          engine.retainAll(getSolutionList()) ;
+        }
+        engine.setReferencePoint(computeReferencePoint()) ;
+        engine.add(solution, getObjectives(solution)) ;
+      }
+      prune();
+    }
+
+    return success;
   }
 
   @Override
   public void prune() {
     if (getSolutionList().size() > getMaxSize()) {
-      computeDensityEstimator() ;
-      S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator) ;
-      getSolutionList().remove(worst);
+      if (isEstimated()) {
+        computeDensityEstimator() ;
+        S worst = new SolutionListUtils().findWorstSolution(getSolutionList(), comparator) ;
+        getSolutionList().remove(worst);
+        return ;
+      }
+      updateEngine() ;
+      S worst = engine.getLeastContributor() ;
+      Iterator<S> iterator = getSolutionList().iterator() ;
+      while (iterator.hasNext()) {
+        if (iterator.next() == worst) {
+          iterator.remove() ;
+          break ;
+        }
+      }
+      engine.remove(worst) ;
     }
   }
 
@@ -38,11 +89,67 @@ public class HypervolumeArchive<S extends Solution<?>> extends AbstractBoundedAr
 
   @Override
   public void computeDensityEstimator() {
-    hypervolume.computeHypervolumeContribution(archive.getSolutionList(), archive.getSolutionList()) ;
+    if (getSolutionList().isEmpty()) {
+      return ;
+    } else if (isEstimated()) {
+      hypervolume.computeHypervolumeContribution(getSolutionList(), getSolutionList()) ;
+      return ;
+    }
+    updateEngine() ;
+    hvContribution.setContributions(getSolutionList(), engine) ;
   }
 
   @Override
   public void sortByDensityEstimator() {
     Collections.sort(getSolutionList(), new HypervolumeContributionComparator<S>());
   }
+
+  private boolean isEstimated() {
+    return hypervolume instanceof MonteCarloHypervolume ;
+  }
+
+  /** Creates the engine if needed, and updates its reference point */
+  private void updateEngine() {
+    double[] referencePoint = computeReferencePoint() ;
+    if (engine == null) {
+      engine = new HypervolumeContributionEngine<>(referencePoint) ;
+      List<double[]> points = new ArrayList<>(getSolutionList().size()) ;
+      for (S solution : getSolutionList()) {
+        points.add(getObjectives(solution)) ;
+      }
+      engine.addAll(getSolutionList(), points) ;
+    } else {
+      engine.setReferencePoint(referencePoint) ;
+    }
+  }
+
+  private double[] computeReferencePoint() {
+    int numberOfObjectives = getSolutionList().get(0).getNumberOfObjectives() ;
+    double[] referencePoint = new double[numberOfObjectives] ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] = Double.NEGATIVE_INFINITY ;
+    }
+    for (S solution : getSolutionList()) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        referencePoint[i] = Math.max(referencePoint[i], solution.getObjective(i)) ;
+      }
+    }
+    double[] currentReferencePoint = engine != null ? engine.getReferencePoint() : null ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      referencePoint[i] += hypervolume.getOffset() ;
+      if (currentReferencePoint != null) {
+        referencePoint[i] = Math.max(referencePoint[i], currentReferencePoint[i]) ;
+      }
+    }
+
+    return referencePoint ;
+  }
+
+  private double[] getObjectives(S solution) {
+    double[] objectives = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = solution.getObjective(i) ;
+    }
+    return objectives ;
+  }
 }
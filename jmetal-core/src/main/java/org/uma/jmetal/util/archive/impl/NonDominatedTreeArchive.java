@@ -0,0 +1,434 @@
+package org.uma.jmetal.util.archive.impl;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.archive.Archive;
+import org.uma.jmetal.util.comparator.EqualSolutionsComparator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Archive of non-dominated solutions backed by an ND-Tree (A. Jaszkiewicz, T. Lust. ND-Tree-based
+ * update: a fast algorithm for the dynamic nondominance problem. IEEE Transactions on Evolutionary
+ * Computation 22(5), 2018).
+ *
+ * Every node of the tree keeps the ideal and nadir points of the solutions below it. When a
+ * solution is added, the nodes whose nadir point dominates it (the solution is rejected) or whose
+ * ideal point is dominated by it (the whole subtree is discarded) are resolved without visiting
+ * their solutions, and the nodes not overlapping the region where the solution may dominate or be
+ * dominated are skipped. This way, the cost of an insertion is usually sub-linear in the size of
+ * the archive, which pays off for large unbounded archives.
+ *
+ * The archive behaves as {@link NonDominatedSolutionListArchive} with its default comparator on
+ * unconstrained problems: solutions are compared by Pareto dominance on their objectives
+ * (minimization), and a solution having the same objective values as a solution of the archive
+ * (according to {@link EqualSolutionsComparator}) is not inserted. The constraint violation degree
+ * is not taken into account. The order of the solutions in {@link #getSolutionList()} is not the
+ * order of insertion.
+ */
+@SuppressWarnings("serial")
+public class NonDominatedTreeArchive<S extends Solution<?>> implements Archive<S> {
+  private static final int DEFAULT_MAX_LEAF_SIZE = 20 ;
+
+  private final int maxLeafSize ;
+  private final int numberOfChildren ;
+  private final Comparator<S> equalSolutions = new EqualSolutionsComparator<S>() ;
+
+  private Node root ;
+  private int size ;
+  private List<S> solutionList ;
+
+  /** Constructor */
+  public NonDominatedTreeArchive() {
+    this(DEFAULT_MAX_LEAF_SIZE, -1) ;
+  }
+
+  /**
+   * Constructor
+   * @param maxLeafSize Maximum number of solutions of a leaf before it is split
+   * @param numberOfChildren Number of children of the nodes resulting from splitting a leaf; a
+   *                         non-positive value to use the number of objectives plus one
+   */
+  public NonDominatedTreeArchive(int maxLeafSize, int numberOfChildren) {
+    if (maxLeafSize < 2) {
+      throw new JMetalException("The maximum size of a leaf must be at least 2: " + maxLeafSize) ;
+    } else if (numberOfChildren == 1) {
+      throw new JMetalException("The number of children must be at least 2") ;
+    }
+
+    this.maxLeafSize = maxLeafSize ;
+    this.numberOfChildren = numberOfChildren ;
+  }
+
+  /**
+   * Inserts a solution in the archive
+   *
+   * @param solution The solution to be inserted.
+   * @return true if the operation success, and false if the solution is dominated or if an
+   * identical individual exists
+   */
+  @Override
+  public boolean add(S solution) {
+    if (solution == null) {
+      throw new JMetalException("The solution is null") ;
+    }
+
+    double[] point = new double[solution.getNumberOfObjectives()] ;
+    for (int i = 0; i < point.length; i++) {
+      point[i] = solution.getObjective(i) ;
+    }
+
+    if (root == null) {
+      root = new Node(point) ;
+    } else if (root.ideal.length != point.length) {
+      throw new JMetalException("The solution has " + point.length + " objectives instead of " +
+          root.ideal.length) ;
+    } else if (!update(root, solution, point)) {
+      return false ;
+    } else if (root.isEmpty()) {
+      root = new Node(point) ;
+    }
+
+    insert(root, solution, point) ;
+    size++ ;
+    solutionList = null ;
+
+    return true ;
+  }
+
+  public Archive<S> join(Archive<S> archive) {
+    for (S solution : archive.getSolutionList()) {
+      this.add(solution) ;
+    }
+
+    return this ;
+  }
+
+  /**
+   * Returns the solutions of the archive. The list is built on demand, it cannot be modified and it
+   * is not updated by later insertions
+   */
+  @Override
+  public List<S> getSolutionList() {
+    if (solutionList == null) {
+      List<S> list = new ArrayList<>(size) ;
+      if (root != null) {
+        root.collect(list) ;
+      }
+      solutionList = Collections.unmodifiableList(list) ;
+    }
+    return solutionList ;
+  }
+
+  @Override
+  public int size() {
+    return size ;
+  }
+
+  @Override
+  public S get(int index) {
+    return getSolutionList().get(index) ;
+  }
+
+  /**
+   * Checks a solution against the solutions below a node, removing those dominated by it
+   * @return false if the solution is dominated by or equal to a solution of the node
+   */
+  private boolean update(Node node, S solution, double[] point) {
+    if (weaklyDominates(node.nadir, point)) {
+      return false ;
+    } else if (!weaklyDominates(node.ideal, point) && !weaklyDominates(point, node.nadir)) {
+      return true ;
+    }
+
+    boolean accepted = true ;
+    if (node.isLeaf()) {
+      List<S> solutions = node.solutions ;
+      List<double[]> points = node.points ;
+      int last = 0 ;
+      for (int i = 0; i < solutions.size(); i++) {
+        double[] current = points.get(i) ;
+        if (accepted) {
+          int flag = dominanceTest(point, current) ;
+          if (flag == 1) {
+            accepted = false ;
+          } else if (flag == 0 && equalSolutions.compare(solution, solutions.get(i)) == 0) {
+            accepted = false ;
+          } else if (flag == -1) {
+            size-- ;
+            continue ;
+          }
+        }
+        solutions.set(last, solutions.get(i)) ;
+        points.set(last, current) ;
+        last++ ;
+      }
+      if (last < solutions.size()) {
+        solutions.subList(last, solutions.size()).clear() ;
+        points.subList(last, points.size()).clear() ;
+        if (last > 0) {
+          node.updateBounds() ;
+        }
+      }
+    } else {
+      int previousSize = size ;
+      List<Node> children = node.children ;
+      int last = 0 ;
+      for (int i = 0; i < children.size(); i++) {
+        Node child = children.get(i) ;
+        if (accepted) {
+          if (dominates(point, child.ideal)) {
+            size -= child.count() ;
+            continue ;
+          }
+          accepted = update(child, solution, point) ;
+          if (child.isEmpty()) {
+            continue ;
+          }
+        }
+        children.set(last++, child) ;
+      }
+      children.subList(last, children.size()).clear() ;
+      if (size < previousSize) {
+        if (children.size() == 1) {
+          node.become(children.get(0)) ;
+        } else if (!children.isEmpty()) {
+          node.updateBounds() ;
+        }
+      }
+    }
+
+    return accepted ;
+  }
+
+  private void insert(Node node, S solution, double[] point) {
+    while (!node.isLeaf()) {
+      node.extendBounds(point) ;
+
+      Node closest = null ;
+      double minDistance = Double.MAX_VALUE ;
+      for (Node child : node.children) {
+        double distance = child.distanceToMidpoint(point) ;
+        if (closest == null || distance < minDistance) {
+          minDistance = distance ;
+          closest = child ;
+        }
+      }
+      node = closest ;
+    }
+
+    node.extendBounds(point) ;
+    node.solutions.add(solution) ;
+    node.points.add(point) ;
+    if (node.solutions.size() > maxLeafSize) {
+      split(node) ;
+    }
+  }
+
+  /**
+   * Splits a leaf. The seeds of the new children are chosen iteratively as the solution having the
+   * largest average distance to the seeds chosen before (to all the solutions, for the first one);
+   * the rest of solutions are added to the child whose midpoint is the closest
+   */
+  private void split(Node leaf) {
+    List<S> solutions = leaf.solutions ;
+    List<double[]> points = leaf.points ;
+    int numberOfPoints = points.size() ;
+    int childrenCount = numberOfChildren > 0 ? numberOfChildren : leaf.ideal.length + 1 ;
+    childrenCount = Math.min(childrenCount, numberOfPoints) ;
+
+    boolean[] assigned = new boolean[numberOfPoints] ;
+    double[] accumulatedDistance = new double[numberOfPoints] ;
+    int seed = 0 ;
+    double maxDistance = -1.0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double distance = 0.0 ;
+      for (int j = 0; j < numberOfPoints; j++) {
+        distance += distance(points.get(i), points.get(j)) ;
+      }
+      if (distance > maxDistance) {
+        maxDistance = distance ;
+        seed = i ;
+      }
+    }
+
+    List<Node> children = new ArrayList<>(childrenCount) ;
+    for (int c = 0; c < childrenCount; c++) {
+      if (c > 0) {
+        maxDistance = -1.0 ;
+        for (int i = 0; i < numberOfPoints; i++) {
+          if (!assigned[i] && accumulatedDistance[i] > maxDistance) {
+            maxDistance = accumulatedDistance[i] ;
+            seed = i ;
+          }
+        }
+      }
+      assigned[seed] = true ;
+      Node child = new Node(points.get(seed)) ;
+      child.solutions.add(solutions.get(seed)) ;
+      child.points.add(points.get(seed)) ;
+      children.add(child) ;
+      for (int i = 0; i < numberOfPoints; i++) {
+        if (!assigned[i]) {
+          accumulatedDistance[i] += distance(points.get(i), points.get(seed)) ;
+        }
+      }
+    }
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (!assigned[i]) {
+        Node closest = null ;
+        double minDistance = Double.MAX_VALUE ;
+        for (Node child : children) {
+          double distance = child.distanceToMidpoint(points.get(i)) ;
+          if (closest == null || distance < minDistance) {
+            minDistance = distance ;
+            closest = child ;
+          }
+        }
+        closest.extendBounds(points.get(i)) ;
+        closest.solutions.add(solutions.get(i)) ;
+        closest.points.add(points.get(i)) ;
+      }
+    }
+
+    leaf.solutions = null ;
+    leaf.points = null ;
+    leaf.children = children ;
+  }
+
+  /** Returns -1, 0 or 1 if point1 dominates point2, both are non-dominated or point2 dominates point1 */
+  private static int dominanceTest(double[] point1, double[] point2) {
+    boolean bestIsOne = false ;
+    boolean bestIsTwo = false ;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i]) {
+        bestIsOne = true ;
+      } else if (point2[i] < point1[i]) {
+        bestIsTwo = true ;
+      }
+    }
+    if (bestIsOne == bestIsTwo) {
+      return 0 ;
+    }
+    return bestIsOne ? -1 : 1 ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static boolean dominates(double[] point1, double[] point2) {
+    return dominanceTest(point1, point2) == -1 ;
+  }
+
+  private static double distance(double[] point1, double[] point2) {
+    double distance = 0.0 ;
+    for (int i = 0; i < point1.length; i++) {
+      double diff = point1[i] - point2[i] ;
+      distance += diff * diff ;
+    }
+    return Math.sqrt(distance) ;
+  }
+
+  /** Node of the tree. Leaves store solutions with their objective values, inner nodes children */
+  private class Node implements Serializable {
+    private double[] ideal ;
+    private double[] nadir ;
+    private List<S> solutions ;
+    private List<double[]> points ;
+    private List<Node> children ;
+
+    Node(double[] point) {
+      ideal = point.clone() ;
+      nadir = point.clone() ;
+      solutions = new ArrayList<>() ;
+      points = new ArrayList<>() ;
+    }
+
+    boolean isLeaf() {
+      return children == null ;
+    }
+
+    boolean isEmpty() {
+      return isLeaf() ? solutions.isEmpty() : children.isEmpty() ;
+    }
+
+    int count() {
+      if (isLeaf()) {
+        return solutions.size() ;
+      }
+      int count = 0 ;
+      for (Node child : children) {
+        count += child.count() ;
+      }
+      return count ;
+    }
+
+    void collect(List<S> list) {
+      if (isLeaf()) {
+        list.addAll(solutions) ;
+      } else {
+        for (Node child : children) {
+          child.collect(list) ;
+        }
+      }
+    }
+
+    void extendBounds(double[] point) {
+      for (int i = 0; i < point.length; i++) {
+        if (point[i] < ideal[i]) {
+          ideal[i] = point[i] ;
+        }
+        if (point[i] > nadir[i]) {
+          nadir[i] = point[i] ;
+        }
+      }
+    }
+
+    /** Recomputes the bounds after removing solutions. The node must not be empty */
+    void updateBounds() {
+      if (isLeaf()) {
+        System.arraycopy(points.get(0), 0, ideal, 0, ideal.length) ;
+        System.arraycopy(points.get(0), 0, nadir, 0, nadir.length) ;
+        for (int i = 1; i < points.size(); i++) {
+          extendBounds(points.get(i)) ;
+        }
+      } else {
+        System.arraycopy(children.get(0).ideal, 0, ideal, 0, ideal.length) ;
+        System.arraycopy(children.get(0).nadir, 0, nadir, 0, nadir.length) ;
+        for (int i = 1; i < children.size(); i++) {
+          extendBounds(children.get(i).ideal) ;
+          extendBounds(children.get(i).nadir) ;
+        }
+      }
+    }
+
+    /** Replaces the contents of this node by those of its only child */
+    void become(Node child) {
+      ideal = child.ideal ;
+      nadir = child.nadir ;
+      solutions = child.solutions ;
+      points = child.points ;
+      children = child.children ;
+    }
+
+    double distanceToMidpoint(double[] point) {
+      double distance = 0.0 ;
+      for (int i = 0; i < point.length; i++) {
+        double diff = point[i] - (ideal[i] + nadir[i]) / 2.0 ;
+        distance += diff * diff ;
+      }
+      return distance ;
+    }
+  }
+}
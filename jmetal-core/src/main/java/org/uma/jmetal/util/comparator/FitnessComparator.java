@@ -33,8 +33,8 @@ public class FitnessComparator<S extends Solution<?>> implements Comparator<S>,
       return -1;
     }
 
-    double fitness1 = solutionFitness.getAttribute(solution1);
-    double fitness2 = solutionFitness.getAttribute(solution2);
+    double fitness1 = solutionFitness.getDoubleValue(solution1);
+    double fitness2 = solutionFitness.getDoubleValue(solution2);
     if (fitness1 < fitness2) {
       return -1;
     }
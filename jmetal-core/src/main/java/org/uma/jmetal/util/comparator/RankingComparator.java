@@ -1,7 +1,6 @@
 package org.uma.jmetal.util.comparator;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.solutionattribute.Ranking;
 import org.uma.jmetal.util.solutionattribute.impl.DominanceRanking;
 
 import java.io.Serializable;
@@ -14,7 +13,7 @@ import java.util.Comparator;
  */
 @SuppressWarnings("serial")
 public class RankingComparator<S extends Solution<?>> implements Comparator<S>, Serializable {
-  private Ranking<S> ranking = new DominanceRanking<S>() ;
+  private DominanceRanking<S> ranking = new DominanceRanking<S>() ;
 
   /**
    * Compares two solutions according to the ranking attribute. The lower the ranking the better
@@ -36,16 +35,8 @@ public class RankingComparator<S extends Solution<?>> implements Comparator<S>,
     } else if (solution2 == null) {
       result =  -1;
     } else {
-      int rank1 = Integer.MAX_VALUE;
-      int rank2 = Integer.MAX_VALUE;
-
-      if (ranking.getAttribute(solution1) != null) {
-        rank1 = (int) ranking.getAttribute(solution1);
-      }
-
-      if (ranking.getAttribute(solution2) != null) {
-        rank2 = (int) ranking.getAttribute(solution2);
-      }
+      int rank1 = ranking.getIntValue(solution1, Integer.MAX_VALUE) ;
+      int rank2 = ranking.getIntValue(solution2, Integer.MAX_VALUE) ;
 
       if (rank1 < rank2) {
         result =  -1;
@@ -0,0 +1,146 @@
+package org.uma.jmetal.util.densityestimator;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SharedForkJoinPools;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Computes the crowding distance of a set of points given as a matrix of objective values. For
+ * each objective, an array of indices is sorted and the normalized distances between the
+ * neighbours of each point are accumulated into a <code>double[]</code>; the points at the
+ * extremes of any objective get an infinite distance.
+ *
+ * The points tied in an objective are ordered by the previous objectives in reverse order
+ * (objective k-1, then k-2, ..., then 0) and finally by their index. This is the order which
+ * results from sorting a list stably by each objective in turn, as {@link
+ * org.uma.jmetal.util.solutionattribute.impl.CrowdingDistance} did, so the distances are the same,
+ * but the objectives do not depend on each other and can be processed in parallel. Duplicated
+ * points are therefore handled deterministically. Objectives having the same value in all the
+ * points (zero range) do not contribute to the distance of the interior points.
+ *
+ * If a level of parallelism is given, sets having at least three objectives and
+ * <code>sequentialThreshold</code> points are processed by a {@link ForkJoinPool}, one objective
+ * per task. The contributions are added in the order of the objectives, so the results are the
+ * same as the sequential ones.
+ */
+@SuppressWarnings("serial")
+public class CrowdingDistanceEngine implements Serializable {
+  private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1000 ;
+  private static final int MINIMUM_NUMBER_OF_OBJECTIVES_IN_PARALLEL = 3 ;
+
+  private final int parallelism ;
+  private final int sequentialThreshold ;
+
+  /** Constructor. The distances are computed sequentially */
+  public CrowdingDistanceEngine() {
+    this.parallelism = -1 ;
+    this.sequentialThreshold = Integer.MAX_VALUE ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to process the objectives, shared with
+   *                    the other components having the same level (see
+   *                    {@link SharedForkJoinPools}); 0 to use the common pool
+   */
+  public CrowdingDistanceEngine(int parallelism) {
+    this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD) ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to process the objectives; 0 to use the
+   *                    common pool
+   * @param sequentialThreshold Sets with fewer points are processed sequentially
+   */
+  public CrowdingDistanceEngine(int parallelism, int sequentialThreshold) {
+    if (parallelism < 0) {
+      throw new JMetalException("The parallelism level is negative: " + parallelism) ;
+    }
+    this.parallelism = parallelism ;
+    this.sequentialThreshold = sequentialThreshold ;
+  }
+
+  /**
+   * Computes the crowding distances
+   * @param objectives Matrix of objective values, one row per point
+   * @return The crowding distance of each point
+   */
+  public double[] computeDistances(double[][] objectives) {
+    int size = objectives.length ;
+    double[] distance = new double[size] ;
+
+    if (size <= 2) {
+      Arrays.fill(distance, Double.POSITIVE_INFINITY);
+      return distance ;
+    }
+
+    int numberOfObjectives = objectives[0].length ;
+    double[][] contributions = new double[numberOfObjectives][] ;
+    int[][] extremes = new int[numberOfObjectives][] ;
+
+    if (parallelism >= 0 && size >= sequentialThreshold &&
+        numberOfObjectives >= MINIMUM_NUMBER_OF_OBJECTIVES_IN_PARALLEL) {
+      getPool().submit(() -> IntStream.range(0, numberOfObjectives).parallel().forEach(
+          objective -> computeObjective(objectives, objective, contributions, extremes))).join() ;
+    } else {
+      for (int objective = 0; objective < numberOfObjectives; objective++) {
+        computeObjective(objectives, objective, contributions, extremes);
+      }
+    }
+
+    for (int objective = 0; objective < numberOfObjectives; objective++) {
+      double[] contribution = contributions[objective] ;
+      for (int i = 0; i < size; i++) {
+        distance[i] += contribution[i] ;
+      }
+    }
+    for (int objective = 0; objective < numberOfObjectives; objective++) {
+      distance[extremes[objective][0]] = Double.POSITIVE_INFINITY ;
+      distance[extremes[objective][1]] = Double.POSITIVE_INFINITY ;
+    }
+
+    return distance ;
+  }
+
+  private void computeObjective(double[][] objectives, int objective, double[][] contributions,
+      int[][] extremes) {
+    int size = objectives.length ;
+    int[] order = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    NonDominatedSortingUtils.sort(order, 0, size, (point1, point2) -> {
+      for (int k = objective; k >= 0; k--) {
+        int result = Double.compare(objectives[point1][k], objectives[point2][k]) ;
+        if (result != 0) {
+          return result ;
+        }
+      }
+      return 0 ;
+    });
+
+    double[] contribution = new double[size] ;
+    double minimum = objectives[order[0]][objective] ;
+    double maximum = objectives[order[size - 1]][objective] ;
+    double range = maximum - minimum ;
+    if (range != 0.0) {
+      for (int j = 1; j < size - 1; j++) {
+        contribution[order[j]] =
+            (objectives[order[j + 1]][objective] - objectives[order[j - 1]][objective]) / range ;
+      }
+    }
+
+    contributions[objective] = contribution ;
+    extremes[objective] = new int[]{order[0], order[size - 1]} ;
+  }
+
+  private ForkJoinPool getPool() {
+    return SharedForkJoinPools.getPool(parallelism) ;
+  }
+}
@@ -0,0 +1,715 @@
+package org.uma.jmetal.util.densityestimator;
+
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.HypervolumeKernel;
+import org.uma.jmetal.qualityindicator.impl.hypervolume.util.WfgHypervolumeCalculator;
+import org.uma.jmetal.util.JMetalException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Keeps the hypervolume contribution (the volume dominated only by a point) of every point of a
+ * set which changes one point at a time, for minimization problems and a fixed reference point.
+ * Points are identified by a key, typically the solution they belong to, compared by identity.
+ *
+ * When a point is added or removed, only the contributions of the points sharing dominated volume
+ * with it are updated:
+ * <ul>
+ *   <li>With two objectives the points are kept sorted by the first objective, and the affected
+ *   points are the two neighbours of the point, so each update costs O(log n). The points must be
+ *   mutually non-dominated.</li>
+ *   <li>With more objectives, the volume which a point p loses when q is added (or gains when q is
+ *   removed) is the part of the box dominated by both that no other point dominates, that is, the
+ *   contribution of the point bounded by q (the worst of p and q in each objective) among the rest
+ *   of points bounded by q. The contributions of all the bounded points are computed at once: the
+ *   dominated ones, which are most of them and contribute nothing, are found by a sweep
+ *   (O(n log n) with three objectives), and only the few remaining ones, the neighbours of q,
+ *   require a hypervolume computation, over the other neighbours and the points dominated by no
+ *   other neighbour.</li>
+ * </ul>
+ * As the contributions of more than two objectives are updated by adding and subtracting volumes,
+ * they are computed again from scratch after as many updates as points, which bounds the rounding
+ * errors at an amortized cost of one contribution per update.
+ *
+ * The least contributor is obtained in O(log n). When the reference point grows, the new region is
+ * split into a slab per objective; the volume a point gains in the slab of an objective is the
+ * width of the slab times the contribution of the point projected onto the other objectives, so
+ * only the contributions of the points bounding the set in that objective change. Any other change
+ * of the reference point computes all the contributions again.
+ */
+@SuppressWarnings("serial")
+public class HypervolumeContributionEngine<T> implements Serializable {
+  private static final int MINIMUM_UPDATES_BETWEEN_REFRESHES = 32 ;
+
+  private final int numberOfObjectives ;
+  private double[] referencePoint ;
+
+  private final Map<T, Entry<T>> entries ;
+  private final TreeSet<Entry<T>> entriesByContribution ;
+  private final TreeMap<Double, Entry<T>> entriesByFirstObjective ;
+  private long counter ;
+  private int updatesSinceRefresh ;
+
+  /**
+   * Constructor
+   * @param referencePoint Reference point; its length is the number of objectives
+   */
+  public HypervolumeContributionEngine(double[] referencePoint) {
+    if (referencePoint == null) {
+      throw new JMetalException("The reference point is null") ;
+    } else if (referencePoint.length < 2) {
+      throw new JMetalException("The number of objectives must be at least 2: " + referencePoint.length) ;
+    }
+
+    this.numberOfObjectives = referencePoint.length ;
+    this.referencePoint = referencePoint.clone() ;
+
+    entries = new IdentityHashMap<>() ;
+    entriesByContribution = new TreeSet<>(new EntryComparator<T>()) ;
+    entriesByFirstObjective = numberOfObjectives == 2 ? new TreeMap<Double, Entry<T>>() : null ;
+  }
+
+  /* Getters */
+  public int getNumberOfObjectives() {
+    return numberOfObjectives;
+  }
+
+  public double[] getReferencePoint() {
+    return referencePoint.clone() ;
+  }
+
+  public int size() {
+    return entries.size() ;
+  }
+
+  public boolean contains(T key) {
+    return entries.containsKey(key) ;
+  }
+
+  /**
+   * Returns the contribution of a point
+   * @throws JMetalException if the key is unknown
+   */
+  public double getContribution(T key) {
+    return getEntry(key).contribution ;
+  }
+
+  /** Returns the key of the point having the lowest contribution, or null if the set is empty */
+  public T getLeastContributor() {
+    return entries.isEmpty() ? null : entriesByContribution.first().key ;
+  }
+
+  /**
+   * Changes the reference point. If it only grows and the points do not lie beyond the current one,
+   * the contributions of the points bounding the new region are corrected; otherwise all the
+   * contributions are computed again
+   */
+  public void setReferencePoint(double[] referencePoint) {
+    if (referencePoint.length != numberOfObjectives) {
+      throw new JMetalException("The reference point has " + referencePoint.length +
+          " objectives instead of " + numberOfObjectives) ;
+    }
+    if (Arrays.equals(this.referencePoint, referencePoint)) {
+      return ;
+    }
+
+    if (!canGrowTo(referencePoint)) {
+      this.referencePoint = referencePoint.clone() ;
+      recomputeContributions() ;
+    } else if (numberOfObjectives == 2) {
+      this.referencePoint = referencePoint.clone() ;
+      if (!entriesByFirstObjective.isEmpty()) {
+        Entry<T> first = entriesByFirstObjective.firstEntry().getValue() ;
+        Entry<T> last = entriesByFirstObjective.lastEntry().getValue() ;
+        setContribution(first, contribution2D(first)) ;
+        setContribution(last, contribution2D(last)) ;
+      }
+    } else {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        if (referencePoint[i] > this.referencePoint[i]) {
+          growReferencePoint(i, referencePoint[i]) ;
+        }
+      }
+      countUpdate() ;
+    }
+  }
+
+  /**
+   * Adds a point
+   * @param key Identifier of the point
+   * @param point Objective values; the array is copied
+   */
+  public void add(T key, double[] point) {
+    Entry<T> entry = createEntry(key, point) ;
+
+    if (numberOfObjectives == 2) {
+      add2D(entry) ;
+    } else {
+      List<Entry<T>> neighbours = new ArrayList<>(entries.values()) ;
+      List<double[]> boundedPoints = boundPoints(neighbours, entry.point) ;
+      double[] sharedVolumes = contributions(boundedPoints, numberOfObjectives, referencePoint) ;
+      for (int i = 0; i < sharedVolumes.length; i++) {
+        if (sharedVolumes[i] != 0.0) {
+          setContribution(neighbours.get(i), neighbours.get(i).contribution - sharedVolumes[i]) ;
+        }
+      }
+
+      entry.contribution = boxVolume(entry.point, numberOfObjectives, referencePoint) -
+          hypervolume(boundedPoints, numberOfObjectives, referencePoint) ;
+      entries.put(key, entry) ;
+      entriesByContribution.add(entry) ;
+      countUpdate() ;
+    }
+  }
+
+  /**
+   * Adds a number of points, computing the contributions of the whole set again
+   * @param keys Identifiers of the points
+   * @param points Objective values of the points
+   */
+  public void addAll(List<? extends T> keys, List<double[]> points) {
+    if (keys.size() != points.size()) {
+      throw new JMetalException("There are " + keys.size() + " keys and " + points.size() + " points") ;
+    }
+
+    for (int i = 0; i < keys.size(); i++) {
+      Entry<T> entry = createEntry(keys.get(i), points.get(i)) ;
+      if (numberOfObjectives == 2) {
+        insertSorted(entry) ;
+      }
+      entries.put(entry.key, entry) ;
+    }
+    recomputeContributions() ;
+  }
+
+  /**
+   * Removes a point
+   * @return false if the key is unknown
+   */
+  public boolean remove(T key) {
+    Entry<T> entry = entries.remove(key) ;
+    if (entry == null) {
+      return false ;
+    }
+    entriesByContribution.remove(entry) ;
+
+    if (numberOfObjectives == 2) {
+      entriesByFirstObjective.remove(entry.point[0]) ;
+      Map.Entry<Double, Entry<T>> lower = entriesByFirstObjective.lowerEntry(entry.point[0]) ;
+      Map.Entry<Double, Entry<T>> higher = entriesByFirstObjective.higherEntry(entry.point[0]) ;
+      if (lower != null) {
+        setContribution(lower.getValue(), contribution2D(lower.getValue())) ;
+      }
+      if (higher != null) {
+        setContribution(higher.getValue(), contribution2D(higher.getValue())) ;
+      }
+    } else {
+      List<Entry<T>> neighbours = new ArrayList<>(entries.values()) ;
+      double[] sharedVolumes = contributions(boundPoints(neighbours, entry.point), numberOfObjectives,
+          referencePoint) ;
+      for (int i = 0; i < sharedVolumes.length; i++) {
+        if (sharedVolumes[i] != 0.0) {
+          setContribution(neighbours.get(i), neighbours.get(i).contribution + sharedVolumes[i]) ;
+        }
+      }
+      countUpdate() ;
+    }
+
+    return true ;
+  }
+
+  /** Removes the points whose keys are not contained in a collection */
+  public void retainAll(Collection<? extends T> keys) {
+    Map<T, Boolean> retained = new IdentityHashMap<>() ;
+    for (T key : keys) {
+      retained.put(key, Boolean.TRUE) ;
+    }
+
+    List<T> removed = new ArrayList<>() ;
+    for (T key : entries.keySet()) {
+      if (!retained.containsKey(key)) {
+        removed.add(key) ;
+      }
+    }
+    for (T key : removed) {
+      remove(key) ;
+    }
+  }
+
+  /** Removes all the points */
+  public void clear() {
+    entries.clear() ;
+    entriesByContribution.clear() ;
+    if (entriesByFirstObjective != null) {
+      entriesByFirstObjective.clear() ;
+    }
+  }
+
+  /**
+   * Computes the hypervolume contributions of a set of points
+   * @param points Matrix of objective values, one row per point
+   * @param referencePoint Reference point
+   * @return The contribution of each point
+   */
+  public static double[] computeContributions(double[][] points, double[] referencePoint) {
+    return contributions(Arrays.asList(points), referencePoint.length, referencePoint) ;
+  }
+
+  /**
+   * Computes the hypervolume of a set of points, which can contain dominated points and points not
+   * dominating the reference point
+   */
+  public static double computeHypervolume(double[][] points, double[] referencePoint) {
+    return hypervolume(Arrays.asList(points), referencePoint.length, referencePoint) ;
+  }
+
+  private Entry<T> createEntry(T key, double[] point) {
+    if (key == null) {
+      throw new JMetalException("The key is null") ;
+    } else if (point.length != numberOfObjectives) {
+      throw new JMetalException("The point has " + point.length + " objectives instead of " +
+          numberOfObjectives) ;
+    } else if (entries.containsKey(key)) {
+      throw new JMetalException("The key has already been added: " + key) ;
+    }
+
+    return new Entry<>(key, point.clone(), counter++) ;
+  }
+
+  private void add2D(Entry<T> entry) {
+    insertSorted(entry) ;
+    entries.put(entry.key, entry) ;
+
+    entry.contribution = contribution2D(entry) ;
+    entriesByContribution.add(entry) ;
+
+    Map.Entry<Double, Entry<T>> lower = entriesByFirstObjective.lowerEntry(entry.point[0]) ;
+    Map.Entry<Double, Entry<T>> higher = entriesByFirstObjective.higherEntry(entry.point[0]) ;
+    if (lower != null) {
+      setContribution(lower.getValue(), contribution2D(lower.getValue())) ;
+    }
+    if (higher != null) {
+      setContribution(higher.getValue(), contribution2D(higher.getValue())) ;
+    }
+  }
+
+  private void insertSorted(Entry<T> entry) {
+    double[] point = entry.point ;
+    Map.Entry<Double, Entry<T>> lower = entriesByFirstObjective.floorEntry(point[0]) ;
+    Map.Entry<Double, Entry<T>> higher = entriesByFirstObjective.higherEntry(point[0]) ;
+    if ((lower != null && lower.getValue().point[1] <= point[1]) ||
+        (higher != null && higher.getValue().point[1] >= point[1])) {
+      throw new JMetalException("The point " + Arrays.toString(point) +
+          " is dominated by or dominates a point of the set") ;
+    }
+    entriesByFirstObjective.put(point[0], entry) ;
+  }
+
+  private double contribution2D(Entry<T> entry) {
+    Map.Entry<Double, Entry<T>> lower = entriesByFirstObjective.lowerEntry(entry.point[0]) ;
+    Map.Entry<Double, Entry<T>> higher = entriesByFirstObjective.higherEntry(entry.point[0]) ;
+    double upper0 = higher != null ? higher.getKey() : referencePoint[0] ;
+    double upper1 = lower != null ? lower.getValue().point[1] : referencePoint[1] ;
+
+    return box2D(entry.point, upper0, upper1, referencePoint) ;
+  }
+
+  private static double box2D(double[] point, double upper0, double upper1, double[] referencePoint) {
+    double width = Math.min(upper0, referencePoint[0]) - point[0] ;
+    double height = Math.min(upper1, referencePoint[1]) - point[1] ;
+    return width > 0.0 && height > 0.0 ? width * height : 0.0 ;
+  }
+
+  /** Returns the points of a list of entries bounded by a point: the worst of both in each objective */
+  private List<double[]> boundPoints(List<Entry<T>> entryList, double[] bound) {
+    List<double[]> boundedPoints = new ArrayList<>(entryList.size()) ;
+    for (Entry<T> current : entryList) {
+      double[] bounded = new double[numberOfObjectives] ;
+      for (int i = 0; i < numberOfObjectives; i++) {
+        bounded[i] = Math.max(current.point[i], bound[i]) ;
+      }
+      boundedPoints.add(bounded) ;
+    }
+    return boundedPoints ;
+  }
+
+  /**
+   * Returns true if the reference point can be grown to a new one by correcting the contributions:
+   * no objective decreases and no point lies beyond the current reference point in an objective
+   * which increases
+   */
+  private boolean canGrowTo(double[] newReferencePoint) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (newReferencePoint[i] < referencePoint[i]) {
+        return false ;
+      }
+    }
+    for (Entry<T> entry : entries.values()) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        if (newReferencePoint[i] > referencePoint[i] && entry.point[i] > referencePoint[i]) {
+          return false ;
+        }
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Grows an objective of the reference point. Every point dominates the new slab of the objective,
+   * so the volume a point gains is the width of the slab times its contribution in the other
+   * objectives
+   */
+  private void growReferencePoint(int objective, double value) {
+    List<Entry<T>> entryList = new ArrayList<>(entries.values()) ;
+    List<double[]> projections = new ArrayList<>(entryList.size()) ;
+    for (Entry<T> entry : entryList) {
+      projections.add(removeObjective(entry.point, objective)) ;
+    }
+
+    double[] areas = contributions(projections, numberOfObjectives - 1,
+        removeObjective(referencePoint, objective)) ;
+    double width = value - referencePoint[objective] ;
+    for (int i = 0; i < areas.length; i++) {
+      if (areas[i] != 0.0) {
+        setContribution(entryList.get(i), entryList.get(i).contribution + width * areas[i]) ;
+      }
+    }
+    referencePoint[objective] = value ;
+  }
+
+  private static double[] removeObjective(double[] point, int objective) {
+    double[] projection = new double[point.length - 1] ;
+    System.arraycopy(point, 0, projection, 0, objective) ;
+    System.arraycopy(point, objective + 1, projection, objective, point.length - objective - 1) ;
+    return projection ;
+  }
+
+  /** Computes all the contributions again after as many incremental updates as points */
+  private void countUpdate() {
+    updatesSinceRefresh++ ;
+    if (updatesSinceRefresh >= Math.max(MINIMUM_UPDATES_BETWEEN_REFRESHES, entries.size())) {
+      recomputeContributions() ;
+    }
+  }
+
+  private void recomputeContributions() {
+    updatesSinceRefresh = 0 ;
+    entriesByContribution.clear() ;
+
+    if (numberOfObjectives == 2) {
+      for (Entry<T> entry : entriesByFirstObjective.values()) {
+        entry.contribution = contribution2D(entry) ;
+      }
+    } else {
+      List<Entry<T>> entryList = new ArrayList<>(entries.values()) ;
+      double[][] points = new double[entryList.size()][] ;
+      for (int i = 0; i < points.length; i++) {
+        points[i] = entryList.get(i).point ;
+      }
+      double[] contributions = computeContributions(points, referencePoint) ;
+      for (int i = 0; i < points.length; i++) {
+        entryList.get(i).contribution = contributions[i] ;
+      }
+    }
+
+    entriesByContribution.addAll(entries.values()) ;
+  }
+
+  private void setContribution(Entry<T> entry, double contribution) {
+    entriesByContribution.remove(entry) ;
+    entry.contribution = contribution ;
+    entriesByContribution.add(entry) ;
+  }
+
+  private Entry<T> getEntry(T key) {
+    Entry<T> entry = entries.get(key) ;
+    if (entry == null) {
+      throw new JMetalException("Unknown key: " + key) ;
+    }
+    return entry ;
+  }
+
+  /**
+   * Returns the contribution of each point of a list, which can contain dominated and repeated
+   * points and points not dominating the reference point; these points contribute nothing. The
+   * points which are not dominated are found first, so only their contributions require a
+   * hypervolume computation, over the rest of points of the front bounded by each one and the
+   * dominated points only it dominates. With two objectives and no
+   * dominated points, each contribution is the box up to the neighbours of the point
+   */
+  private static double[] contributions(List<double[]> points, int numberOfObjectives,
+      double[] referencePoint) {
+    double[] contributions = new double[points.size()] ;
+    List<Integer> inside = new ArrayList<>(points.size()) ;
+    for (int index = 0; index < points.size(); index++) {
+      if (boxVolume(points.get(index), numberOfObjectives, referencePoint) > 0.0) {
+        inside.add(index) ;
+      }
+    }
+    boolean[] repeated = new boolean[points.size()] ;
+    List<Integer> front = nonDominatedIndices(points, inside, numberOfObjectives, repeated) ;
+
+    if (numberOfObjectives == 2 && front.size() == inside.size()) {
+      // the front is sorted by the first objective and, then, by decreasing second objective
+      for (int i = 0; i < front.size(); i++) {
+        int index = front.get(i) ;
+        if (!repeated[index]) {
+          double upper0 = i < front.size() - 1 ? points.get(front.get(i + 1))[0] : referencePoint[0] ;
+          double upper1 = i > 0 ? points.get(front.get(i - 1))[1] : referencePoint[1] ;
+          contributions[index] = box2D(points.get(index), upper0, upper1, referencePoint) ;
+        }
+      }
+      return contributions ;
+    }
+
+    // a dominated point only bounds the contribution of a point of the front if no other point of
+    // the front dominates it; otherwise, this other point bounds a larger volume
+    Map<Integer, List<double[]>> ownedPoints = new HashMap<>() ;
+    if (front.size() < inside.size()) {
+      boolean[] isInFront = new boolean[points.size()] ;
+      for (int index : front) {
+        isInFront[index] = true ;
+      }
+      for (int index : inside) {
+        if (isInFront[index]) {
+          continue ;
+        }
+        int owner = -1 ;
+        for (int i = 0; i < front.size() && owner != -2; i++) {
+          if (weaklyDominates(points.get(front.get(i)), points.get(index), numberOfObjectives)) {
+            owner = owner == -1 ? front.get(i) : -2 ;
+          }
+        }
+        if (owner >= 0) {
+          ownedPoints.computeIfAbsent(owner, key -> new ArrayList<>()).add(points.get(index)) ;
+        }
+      }
+    }
+
+    List<double[]> boundedPoints = new ArrayList<>(front.size()) ;
+    for (int index : front) {
+      if (repeated[index]) {
+        continue ;
+      }
+      double[] point = points.get(index) ;
+      boundedPoints.clear() ;
+      for (int other : front) {
+        if (other != index) {
+          double[] bounded = new double[numberOfObjectives] ;
+          for (int i = 0; i < numberOfObjectives; i++) {
+            bounded[i] = Math.max(point[i], points.get(other)[i]) ;
+          }
+          boundedPoints.add(bounded) ;
+        }
+      }
+      if (ownedPoints.containsKey(index)) {
+        boundedPoints.addAll(ownedPoints.get(index)) ;
+      }
+      contributions[index] = boxVolume(point, numberOfObjectives, referencePoint) -
+          hypervolume(boundedPoints, numberOfObjectives, referencePoint) ;
+    }
+
+    return contributions ;
+  }
+
+  private static double boxVolume(double[] point, int numberOfObjectives, double[] referencePoint) {
+    double volume = 1.0 ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (point[i] >= referencePoint[i]) {
+        return 0.0 ;
+      }
+      volume *= referencePoint[i] - point[i] ;
+    }
+    return volume ;
+  }
+
+  /**
+   * Computes the hypervolume of a list of points considering their first
+   * <code>numberOfObjectives</code> objectives. Fronts of up to four objectives are computed by
+   * {@link HypervolumeKernel}, and larger ones by a {@link WfgHypervolumeCalculator}; with more than
+   * three objectives, the dominated points are discarded first
+   */
+  private static double hypervolume(List<double[]> points, int numberOfObjectives, double[] referencePoint) {
+    if (numberOfObjectives <= 3) {
+      return HypervolumeKernel.compute(points, numberOfObjectives, referencePoint) ;
+    }
+
+    List<double[]> front = nonDominatedPoints(points, numberOfObjectives, referencePoint) ;
+    if (front.isEmpty()) {
+      return 0.0 ;
+    } else if (HypervolumeKernel.isSupported(numberOfObjectives)) {
+      return HypervolumeKernel.compute(front, numberOfObjectives, referencePoint) ;
+    }
+    return new WfgHypervolumeCalculator().compute(front, numberOfObjectives, referencePoint) ;
+  }
+
+  /**
+   * Returns the indices of the points of a list of points dominating the reference point which are
+   * not weakly dominated by another point. Of a group of repeated points only one is returned, which is marked
+   * in <code>repeated</code>, as it contributes nothing. With two objectives, the indices are sorted
+   * by the first objective; with three, the points are swept by the last objective keeping the
+   * non-dominated points of the first two sorted in a map, in O(n log n)
+   */
+  private static List<Integer> nonDominatedIndices(List<double[]> points, List<Integer> insideIndices,
+      int numberOfObjectives, boolean[] repeated) {
+    List<Integer> inside = new ArrayList<>(insideIndices) ;
+
+    List<Integer> front = new ArrayList<>() ;
+    if (numberOfObjectives <= 3) {
+      final int last = numberOfObjectives - 1 ;
+      Collections.sort(inside, (i, j) -> {
+        double[] point1 = points.get(i) ;
+        double[] point2 = points.get(j) ;
+        int result = Double.compare(point1[last], point2[last]) ;
+        for (int k = 0; k < last && result == 0; k++) {
+          result = Double.compare(point1[k], point2[k]) ;
+        }
+        return result ;
+      });
+
+      // points of the first two objectives, by increasing first and decreasing second objective
+      TreeMap<Double, Integer> staircase = new TreeMap<>() ;
+      for (int index : inside) {
+        double[] point = points.get(index) ;
+        double x = point[0] ;
+        double y = yOf(point, numberOfObjectives) ;
+        Map.Entry<Double, Integer> floor = staircase.floorEntry(x) ;
+        if (floor != null && yOf(points.get(floor.getValue()), numberOfObjectives) <= y) {
+          if (Arrays.equals(points.get(floor.getValue()), point)) {
+            repeated[floor.getValue()] = true ;
+          }
+          continue ;
+        }
+
+        front.add(index) ;
+        Map.Entry<Double, Integer> ceiling = staircase.ceilingEntry(x) ;
+        while (ceiling != null && yOf(points.get(ceiling.getValue()), numberOfObjectives) >= y) {
+          staircase.remove(ceiling.getKey()) ;
+          ceiling = staircase.higherEntry(ceiling.getKey()) ;
+        }
+        staircase.put(x, index) ;
+      }
+
+      if (numberOfObjectives == 2) {
+        Collections.sort(front, (i, j) -> Double.compare(points.get(i)[0], points.get(j)[0])) ;
+      }
+      return front ;
+    }
+
+    final double[] sums = new double[points.size()] ;
+    for (int index : inside) {
+      for (int i = 0; i < numberOfObjectives; i++) {
+        sums[index] += points.get(index)[i] ;
+      }
+    }
+    Collections.sort(inside, (i, j) -> Double.compare(sums[i], sums[j])) ;
+
+    for (int index : inside) {
+      double[] point = points.get(index) ;
+      boolean dominated = false ;
+      for (int i = 0; i < front.size() && !dominated; i++) {
+        double[] frontPoint = points.get(front.get(i)) ;
+        dominated = weaklyDominates(frontPoint, point, numberOfObjectives) ;
+        if (dominated && Arrays.equals(frontPoint, point)) {
+          repeated[front.get(i)] = true ;
+        }
+      }
+      if (!dominated) {
+        front.add(index) ;
+      }
+    }
+
+    return front ;
+  }
+
+  /**
+   * Returns the second objective of a point of three objectives, the last one being swept; with two
+   * objectives the sweep only keeps the point with the lowest first objective
+   */
+  private static double yOf(double[] point, int numberOfObjectives) {
+    return numberOfObjectives == 2 ? Double.NEGATIVE_INFINITY : point[1] ;
+  }
+
+  /**
+   * Returns the points which dominate the reference point and are not weakly dominated by another
+   * point, keeping one copy of duplicated points
+   */
+  private static List<double[]> nonDominatedPoints(List<double[]> points, int numberOfObjectives,
+      double[] referencePoint) {
+    List<double[]> candidates = new ArrayList<>(points.size()) ;
+    List<Double> sums = new ArrayList<>(points.size()) ;
+    for (double[] point : points) {
+      double sum = 0.0 ;
+      boolean inside = true ;
+      for (int i = 0; i < numberOfObjectives && inside; i++) {
+        inside = point[i] < referencePoint[i] ;
+        sum += point[i] ;
+      }
+      if (inside) {
+        candidates.add(point) ;
+        sums.add(sum) ;
+      }
+    }
+
+    Integer[] order = new Integer[candidates.size()] ;
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i ;
+    }
+    Arrays.sort(order, (i, j) -> Double.compare(sums.get(i), sums.get(j))) ;
+
+    List<double[]> front = new ArrayList<>() ;
+    for (int index : order) {
+      double[] point = candidates.get(index) ;
+      boolean dominated = false ;
+      for (int i = 0; i < front.size() && !dominated; i++) {
+        dominated = weaklyDominates(front.get(i), point, numberOfObjectives) ;
+      }
+      if (!dominated) {
+        front.add(point) ;
+      }
+    }
+
+    return front ;
+  }
+
+  private static boolean weaklyDominates(double[] point1, double[] point2, int numberOfObjectives) {
+    for (int i = 0; i < numberOfObjectives; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  private static class Entry<T> implements Serializable {
+    private final T key ;
+    private final double[] point ;
+    private final long order ;
+    private double contribution ;
+
+    Entry(T key, double[] point, long order) {
+      this.key = key ;
+      this.point = point ;
+      this.order = order ;
+    }
+  }
+
+  /** Orders the entries by contribution and then by order of insertion */
+  private static class EntryComparator<T> implements Comparator<Entry<T>>, Serializable {
+    @Override
+    public int compare(Entry<T> entry1, Entry<T> entry2) {
+      int result = Double.compare(entry1.contribution, entry2.contribution) ;
+      return result != 0 ? result : Long.compare(entry1.order, entry2.order) ;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.measure.Measurable;
+import org.uma.jmetal.measure.MeasureManager;
+import org.uma.jmetal.measure.impl.CountingMeasure;
+import org.uma.jmetal.measure.impl.SimpleMeasureManager;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+import org.uma.jmetal.util.solutionattribute.impl.NumberOfViolatedConstraints;
+import org.uma.jmetal.util.solutionattribute.impl.OverallConstraintViolation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorator of a {@link SolutionListEvaluator} which avoids evaluating again solutions whose
+ * variables have already been evaluated. The values of the variables are the key of a bounded LRU
+ * cache storing the objectives and the constraint attributes ({@link OverallConstraintViolation}
+ * and {@link NumberOfViolatedConstraints}) of the evaluated solutions. Only the solutions not found
+ * in the cache are passed to the decorated evaluator; solutions of the same list sharing their
+ * variables are evaluated once.
+ *
+ * The cache is split into segments, each one protected by its own lock, so it can be shared by
+ * several threads. It is intended for problems with discrete encodings (integer, binary,
+ * permutation) and costly evaluations, where identical genotypes appear frequently; the problem
+ * must be deterministic.
+ *
+ * The number of hits and misses are available through the measures <code>cacheHits</code> and
+ * <code>cacheMisses</code> of {@link #getMeasureManager()}.
+ */
+@SuppressWarnings("serial")
+public class CachingSolutionListEvaluator<S extends Solution<?>>
+    implements SolutionListEvaluator<S>, Measurable {
+  private static final int NUMBER_OF_SEGMENTS = 16 ;
+
+  private final SolutionListEvaluator<S> evaluator ;
+  private final int capacity ;
+  private final List<Segment> segments ;
+
+  private final OverallConstraintViolation<S> overallConstraintViolation ;
+  private final NumberOfViolatedConstraints<S> numberOfViolatedConstraints ;
+
+  private final CountingMeasure cacheHits ;
+  private final CountingMeasure cacheMisses ;
+  private final SimpleMeasureManager measureManager ;
+
+  /**
+   * Constructor
+   * @param evaluator The evaluator of the solutions not found in the cache
+   * @param capacity Maximum number of entries of the cache
+   */
+  public CachingSolutionListEvaluator(SolutionListEvaluator<S> evaluator, int capacity) {
+    if (evaluator == null) {
+      throw new JMetalException("The evaluator is null") ;
+    } else if (capacity <= 0) {
+      throw new JMetalException("The capacity must be positive: " + capacity) ;
+    }
+
+    this.evaluator = evaluator ;
+    this.capacity = capacity ;
+
+    int numberOfSegments = Math.min(NUMBER_OF_SEGMENTS, capacity) ;
+    segments = new ArrayList<>(numberOfSegments) ;
+    for (int i = 0; i < numberOfSegments; i++) {
+      int segmentCapacity = capacity / numberOfSegments + (i < capacity % numberOfSegments ? 1 : 0) ;
+      segments.add(new Segment(segmentCapacity)) ;
+    }
+
+    overallConstraintViolation = new OverallConstraintViolation<S>() ;
+    numberOfViolatedConstraints = new NumberOfViolatedConstraints<S>() ;
+
+    cacheHits = new CountingMeasure("Cache hits",
+        "Number of solutions whose evaluation has been taken from the cache") ;
+    cacheMisses = new CountingMeasure("Cache misses",
+        "Number of solutions evaluated by the decorated evaluator") ;
+    measureManager = new SimpleMeasureManager() ;
+    measureManager.setMeasure("cacheHits", cacheHits);
+    measureManager.setMeasure("cacheMisses", cacheMisses);
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    Map<VariableKey, List<S>> duplicates = new HashMap<>() ;
+    List<VariableKey> missingKeys = new ArrayList<>() ;
+    List<S> missingSolutions = new ArrayList<>() ;
+    long hits = 0 ;
+
+    for (S solution : solutionList) {
+      VariableKey key = new VariableKey(solution) ;
+      Evaluation evaluation = segmentOf(key).get(key) ;
+      if (evaluation != null) {
+        evaluation.copyTo(solution) ;
+        hits++ ;
+      } else if (duplicates.containsKey(key)) {
+        duplicates.get(key).add(solution) ;
+        hits++ ;
+      } else {
+        duplicates.put(key, new ArrayList<S>(1)) ;
+        missingKeys.add(key) ;
+        missingSolutions.add(solution) ;
+      }
+    }
+
+    if (!missingSolutions.isEmpty()) {
+      evaluator.evaluate(missingSolutions, problem) ;
+
+      for (int i = 0; i < missingSolutions.size(); i++) {
+        VariableKey key = missingKeys.get(i) ;
+        Evaluation evaluation = new Evaluation(missingSolutions.get(i)) ;
+        segmentOf(key).put(key, evaluation) ;
+        for (S duplicate : duplicates.get(key)) {
+          evaluation.copyTo(duplicate) ;
+        }
+      }
+    }
+
+    cacheHits.increment(hits) ;
+    cacheMisses.increment(missingSolutions.size()) ;
+
+    return solutionList ;
+  }
+
+  @Override
+  public void shutdown() {
+    evaluator.shutdown() ;
+  }
+
+  @Override
+  public MeasureManager getMeasureManager() {
+    return measureManager ;
+  }
+
+  /* Getters */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getCacheHits() {
+    return cacheHits.get() ;
+  }
+
+  public long getCacheMisses() {
+    return cacheMisses.get() ;
+  }
+
+  /** Returns the number of entries of the cache */
+  public int size() {
+    int size = 0 ;
+    for (Segment segment : segments) {
+      size += segment.size() ;
+    }
+    return size ;
+  }
+
+  /** Removes all the entries of the cache */
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear() ;
+    }
+  }
+
+  /**
+   * Returns the segment of a key. The hash is multiplied by the golden ratio constant before folding
+   * its high bits, because the hashes of the keys of small integer variables differ in multiples of
+   * 31 and would otherwise crowd a few segments
+   */
+  private Segment segmentOf(VariableKey key) {
+    int hash = key.hashCode() * 0x9E3779B9 ;
+    hash ^= (hash >>> 16) ;
+    return segments.get((hash & 0x7fffffff) % segments.size()) ;
+  }
+
+  /**
+   * Immutable copy of the values of the variables of a solution. Values which are immutable are
+   * stored as they are, bit sets are cloned and any other value is represented by its string.
+   */
+  private static class VariableKey implements Serializable {
+    private final Object[] values ;
+    private final int hash ;
+
+    VariableKey(Solution<?> solution) {
+      values = new Object[solution.getNumberOfVariables()] ;
+      for (int i = 0; i < values.length; i++) {
+        Object value = solution.getVariableValue(i) ;
+        if (value instanceof BitSet) {
+          values[i] = ((BitSet) value).clone() ;
+        } else if (value == null || value instanceof Number || value instanceof Boolean ||
+            value instanceof Character || value instanceof String) {
+          values[i] = value ;
+        } else {
+          values[i] = solution.getVariableValueString(i) ;
+        }
+      }
+      hash = Arrays.hashCode(values) ;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash ;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+
+      VariableKey that = (VariableKey) o ;
+      return hash == that.hash && Arrays.equals(values, that.values) ;
+    }
+  }
+
+  /** Objectives and constraint attributes of an evaluated solution */
+  private class Evaluation implements Serializable {
+    private final double[] objectives ;
+    private final Double overallConstraintViolationDegree ;
+    private final Integer numberOfViolatedConstraintsValue ;
+
+    Evaluation(S solution) {
+      objectives = new double[solution.getNumberOfObjectives()] ;
+      for (int i = 0; i < objectives.length; i++) {
+        objectives[i] = solution.getObjective(i) ;
+      }
+      overallConstraintViolationDegree = overallConstraintViolation.getAttribute(solution) ;
+      numberOfViolatedConstraintsValue = numberOfViolatedConstraints.getAttribute(solution) ;
+    }
+
+    void copyTo(S solution) {
+      for (int i = 0; i < objectives.length; i++) {
+        solution.setObjective(i, objectives[i]);
+      }
+      if (overallConstraintViolationDegree != null) {
+        overallConstraintViolation.setAttribute(solution, overallConstraintViolationDegree);
+      }
+      if (numberOfViolatedConstraintsValue != null) {
+        numberOfViolatedConstraints.setAttribute(solution, numberOfViolatedConstraintsValue);
+      }
+    }
+  }
+
+  /** Segment of the cache: a map in access order evicting its least recently used entry */
+  private class Segment extends LinkedHashMap<VariableKey, Evaluation> {
+    private final int segmentCapacity ;
+
+    Segment(int segmentCapacity) {
+      super(16, 0.75f, true) ;
+      this.segmentCapacity = segmentCapacity ;
+    }
+
+    @Override
+    public synchronized Evaluation get(Object key) {
+      return super.get(key) ;
+    }
+
+    @Override
+    public synchronized Evaluation put(VariableKey key, Evaluation value) {
+      return super.put(key, value) ;
+    }
+
+    @Override
+    public synchronized int size() {
+      return super.size() ;
+    }
+
+    @Override
+    public synchronized void clear() {
+      super.clear() ;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<VariableKey, Evaluation> eldest) {
+      return size() > segmentCapacity ;
+    }
+  }
+}
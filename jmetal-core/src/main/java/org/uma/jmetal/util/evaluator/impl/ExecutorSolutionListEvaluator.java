@@ -0,0 +1,183 @@
+package org.uma.jmetal.util.evaluator.impl;
+
+import org.uma.jmetal.problem.BatchEvaluableProblem;
+import org.uma.jmetal.problem.ConstrainedProblem;
+import org.uma.jmetal.problem.Problem;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.JMetalLogger;
+import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluator owning its {@link ExecutorService}. The solution list is partitioned into chunks of
+ * consecutive solutions, each chunk being evaluated by a single task. Three kinds of executors are
+ * supported:
+ *
+ * - {@link ExecutorType#FIXED_THREAD_POOL}: a pool with a fixed number of threads.
+ * - {@link ExecutorType#FORK_JOIN_POOL}: a work-stealing pool, which balances chunks with
+ * different costs better.
+ * - {@link ExecutorType#VIRTUAL_THREADS}: one virtual thread per chunk, intended for I/O-bound
+ * evaluations (e.g. calls to external simulators). Virtual threads need Java 21; on older JVMs an
+ * unbounded cached thread pool is used instead.
+ *
+ * If the batch size is 0, chunks are sized to give four of them per thread (one solution per
+ * chunk with virtual threads). If the problem is a {@link BatchEvaluableProblem}, each chunk is
+ * evaluated with a single call to {@link BatchEvaluableProblem#evaluate(List)}. The executor is
+ * created when it is first needed and shut down by {@link #shutdown()}; a later call to
+ * {@link #evaluate(List, Problem)} creates a new one.
+ */
+@SuppressWarnings("serial")
+public class ExecutorSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  public enum ExecutorType {FIXED_THREAD_POOL, FORK_JOIN_POOL, VIRTUAL_THREADS}
+
+  private final ExecutorType executorType ;
+  private final int numberOfThreads ;
+  private final int batchSize ;
+  private transient ExecutorService executor ;
+
+  /**
+   * Constructor. Creates a fixed thread pool with automatic batch size
+   * @param numberOfThreads Number of threads; 0 to use the number of available processors
+   */
+  public ExecutorSolutionListEvaluator(int numberOfThreads) {
+    this(ExecutorType.FIXED_THREAD_POOL, numberOfThreads, 0) ;
+  }
+
+  /**
+   * Constructor
+   * @param executorType Kind of executor to create
+   * @param numberOfThreads Number of threads; 0 to use the number of available processors. It is
+   *                        ignored with virtual threads
+   * @param batchSize Number of solutions evaluated by each task; 0 to compute it automatically
+   */
+  public ExecutorSolutionListEvaluator(ExecutorType executorType, int numberOfThreads, int batchSize) {
+    if (executorType == null) {
+      throw new JMetalException("The executor type is null") ;
+    } else if (numberOfThreads < 0) {
+      throw new JMetalException("The number of threads is negative: " + numberOfThreads) ;
+    } else if (batchSize < 0) {
+      throw new JMetalException("The batch size is negative: " + batchSize) ;
+    }
+
+    this.executorType = executorType ;
+    this.numberOfThreads = numberOfThreads == 0 ?
+        Runtime.getRuntime().availableProcessors() : numberOfThreads ;
+    this.batchSize = batchSize ;
+  }
+
+  /* Getters */
+  public ExecutorType getExecutorType() {
+    return executorType;
+  }
+
+  public int getNumberOfThreads() {
+    return numberOfThreads;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
+    int size = solutionList.size() ;
+    if (size == 0) {
+      return solutionList ;
+    }
+
+    ExecutorService executorService = getExecutor() ;
+    int chunkSize = computeChunkSize(size) ;
+
+    List<Future<?>> tasks = new ArrayList<>((size + chunkSize - 1) / chunkSize) ;
+    for (int from = 0; from < size; from += chunkSize) {
+      List<S> chunk = solutionList.subList(from, Math.min(from + chunkSize, size)) ;
+      tasks.add(executorService.submit(() -> evaluateChunk(chunk, problem))) ;
+    }
+
+    for (Future<?> task : tasks) {
+      try {
+        task.get() ;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JMetalException("Interrupted while evaluating the solutions", e) ;
+      } catch (ExecutionException e) {
+        throw new JMetalException("Error evaluating the solutions", e) ;
+      }
+    }
+
+    return solutionList ;
+  }
+
+  /**
+   * Evaluates a chunk of consecutive solutions in the calling thread
+   */
+  protected void evaluateChunk(List<S> chunk, Problem<S> problem) {
+    if (problem instanceof BatchEvaluableProblem) {
+      ((BatchEvaluableProblem<S>) problem).evaluate(chunk);
+      if (problem instanceof ConstrainedProblem) {
+        for (S solution : chunk) {
+          ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+        }
+      }
+    } else if (problem instanceof ConstrainedProblem) {
+      for (S solution : chunk) {
+        problem.evaluate(solution);
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(solution);
+      }
+    } else {
+      for (S solution : chunk) {
+        problem.evaluate(solution);
+      }
+    }
+  }
+
+  private int computeChunkSize(int size) {
+    if (batchSize > 0) {
+      return batchSize ;
+    } else if (executorType == ExecutorType.VIRTUAL_THREADS) {
+      return 1 ;
+    }
+    return Math.max(1, (size + 4 * numberOfThreads - 1) / (4 * numberOfThreads)) ;
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      executor = createExecutor() ;
+    }
+    return executor ;
+  }
+
+  private ExecutorService createExecutor() {
+    switch (executorType) {
+      case FORK_JOIN_POOL:
+        return new ForkJoinPool(numberOfThreads) ;
+      case VIRTUAL_THREADS:
+        try {
+          return (ExecutorService) Executors.class
+              .getMethod("newVirtualThreadPerTaskExecutor")
+              .invoke(null) ;
+        } catch (ReflectiveOperationException e) {
+          JMetalLogger.logger.warning("Virtual threads are not available in this JVM; " +
+              "using a cached thread pool instead");
+          return Executors.newCachedThreadPool() ;
+        }
+      default:
+        return Executors.newFixedThreadPool(numberOfThreads) ;
+    }
+  }
+
+  @Override
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null ;
+    }
+  }
+}
@@ -1,50 +1,87 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import org.uma.jmetal.problem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.ConstrainedProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
+ * Evaluates the solutions with a parallel stream. The stream runs in a {@link ForkJoinPool} owned
+ * by the evaluator, so the number of threads is the one requested, and evaluators of concurrent
+ * algorithms do not compete for the common pool. The pool is released by {@link #shutdown()}.
+ *
+ * If the problem is a {@link BatchEvaluableProblem}, the list is split into four batches per
+ * thread, which are evaluated in parallel.
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class MultithreadedSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
   private int numberOfThreads ;
+  private transient ForkJoinPool pool ;
 
   public MultithreadedSolutionListEvaluator(int numberOfThreads, Problem<S> problem) {
     if (numberOfThreads == 0) {
       this.numberOfThreads = Runtime.getRuntime().availableProcessors();
     } else {
       this.numberOfThreads = numberOfThreads;
-      System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-              "" + this.numberOfThreads);
     }
-    JMetalLogger.logger.info("Number of cores: " + numberOfThreads);
+    JMetalLogger.logger.info("Number of cores: " + this.numberOfThreads);
   }
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) {
-      if (problem instanceof ConstrainedProblem) {
-        solutionList.parallelStream().forEach(s -> {
-          problem.evaluate(s);
-          ((ConstrainedProblem<S>) problem).evaluateConstraints(s);
-        });
-      } else {
-        solutionList.parallelStream().forEach(s -> problem.evaluate(s));
-      }
+    ForkJoinPool forkJoinPool = getPool() ;
+    if (problem instanceof BatchEvaluableProblem) {
+      evaluateInBatches(solutionList, (BatchEvaluableProblem<S>) problem, forkJoinPool);
+    } else if (problem instanceof ConstrainedProblem) {
+      forkJoinPool.submit(() -> solutionList.parallelStream().forEach(s -> {
+        problem.evaluate(s);
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(s);
+      })).join();
+    } else {
+      forkJoinPool.submit(() -> solutionList.parallelStream().forEach(s -> problem.evaluate(s))).join();
+    }
 
     return solutionList;
   }
 
+  private void evaluateInBatches(List<S> solutionList, BatchEvaluableProblem<S> problem,
+      ForkJoinPool forkJoinPool) {
+    int size = solutionList.size() ;
+    int batchSize = Math.max(1, (size + 4 * numberOfThreads - 1) / (4 * numberOfThreads)) ;
+    int numberOfBatches = (size + batchSize - 1) / batchSize ;
+
+    forkJoinPool.submit(() -> IntStream.range(0, numberOfBatches).parallel().forEach(i -> {
+      List<S> batch = solutionList.subList(i * batchSize, Math.min((i + 1) * batchSize, size)) ;
+      problem.evaluate(batch);
+      if (problem instanceof ConstrainedProblem) {
+        batch.forEach(s -> ((ConstrainedProblem<S>) problem).evaluateConstraints(s));
+      }
+    })).join();
+  }
+
   public int getNumberOfThreads() {
   	return numberOfThreads ;
   }
-  
-  @Override public void shutdown() {
-    ;
+
+  private synchronized ForkJoinPool getPool() {
+    if (pool == null) {
+      pool = new ForkJoinPool(numberOfThreads) ;
+    }
+    return pool ;
+  }
+
+  @Override public synchronized void shutdown() {
+    if (pool != null) {
+      pool.shutdown();
+      pool = null ;
+    }
   }
 
 }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.evaluator.impl;
 
+import org.uma.jmetal.problem.BatchEvaluableProblem;
 import org.uma.jmetal.problem.ConstrainedProblem;
 import org.uma.jmetal.problem.Problem;
 import org.uma.jmetal.util.JMetalException;
@@ -8,21 +9,52 @@ import org.uma.jmetal.util.evaluator.SolutionListEvaluator;
 import java.util.List;
 
 /**
+ * Evaluates the solutions one after another. If the problem is a {@link BatchEvaluableProblem},
+ * the list is evaluated in batches of <code>batchSize</code> solutions (the whole list if the
+ * batch size is 0).
+ *
  * @author Antonio J. Nebro
  */
 @SuppressWarnings("serial")
 public class SequentialSolutionListEvaluator<S> implements SolutionListEvaluator<S> {
+  private final int batchSize ;
+
+  /** Constructor */
+  public SequentialSolutionListEvaluator() {
+    this(0) ;
+  }
+
+  /**
+   * Constructor
+   * @param batchSize Number of solutions of the batches given to a {@link BatchEvaluableProblem};
+   *                  0 to evaluate the whole list in one call
+   */
+  public SequentialSolutionListEvaluator(int batchSize) {
+    if (batchSize < 0) {
+      throw new JMetalException("The batch size is negative: " + batchSize) ;
+    }
+    this.batchSize = batchSize ;
+  }
 
   @Override
   public List<S> evaluate(List<S> solutionList, Problem<S> problem) throws JMetalException {
+    if (problem instanceof BatchEvaluableProblem) {
+      int size = solutionList.size() ;
+      int step = batchSize == 0 ? Math.max(1, size) : batchSize ;
+      for (int from = 0; from < size; from += step) {
+        ((BatchEvaluableProblem<S>) problem).evaluate(solutionList.subList(from, Math.min(from + step, size)));
+      }
       if (problem instanceof ConstrainedProblem) {
-        solutionList.stream().forEach(s -> {
-          problem.evaluate(s);
-          ((ConstrainedProblem<S>) problem).evaluateConstraints(s);
-        });
-      } else {
-        solutionList.stream().forEach(s -> problem.evaluate(s));
+        solutionList.stream().forEach(s -> ((ConstrainedProblem<S>) problem).evaluateConstraints(s));
       }
+    } else if (problem instanceof ConstrainedProblem) {
+      solutionList.stream().forEach(s -> {
+        problem.evaluate(s);
+        ((ConstrainedProblem<S>) problem).evaluateConstraints(s);
+      });
+    } else {
+      solutionList.stream().forEach(s -> problem.evaluate(s));
+    }
 
     return solutionList;
   }
@@ -29,6 +29,8 @@ public class Experiment<S extends Solution<?>, Result> {
   private List<GenericIndicator<S>> indicatorList ;
 
   private int numberOfCores ;
+  private long seed ;
+  private boolean binaryOutput ;
 
 	/** Constructor */
 	public Experiment(ExperimentBuilder<S, Result> builder) {
@@ -40,6 +42,8 @@ public class Experiment<S extends Solution<?>, Result> {
     this.outputParetoFrontFileName = builder.getOutputParetoFrontFileName() ;
     this.outputParetoSetFileName = builder.getOutputParetoSetFileName() ;
     this.numberOfCores = builder.getNumberOfCores() ;
+    this.seed = builder.getSeed() ;
+    this.binaryOutput = builder.isBinaryOutput() ;
     this.referenceFrontDirectory = builder.getReferenceFrontDirectory() ;
     this.referenceFrontFileNames = builder.getReferenceFrontFileNames() ;
     this.indicatorList = builder.getIndicatorList() ;
@@ -78,6 +82,19 @@ public class Experiment<S extends Solution<?>, Result> {
     return numberOfCores ;
   }
 
+  public long getSeed() {
+    return seed ;
+  }
+
+  public boolean isBinaryOutput() {
+    return binaryOutput ;
+  }
+
+  /** Returns the extension of the FUN and VAR files: ".bin" if they are binary, ".tsv" otherwise */
+  public String getOutputFileExtension() {
+    return binaryOutput ? ".bin" : ".tsv" ;
+  }
+
   public List<String> getReferenceFrontFileNames() {
     return referenceFrontFileNames;
   }
@@ -4,6 +4,7 @@ import org.uma.jmetal.qualityindicator.impl.GenericIndicator;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,11 +28,14 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
   private List<GenericIndicator<S>> indicatorList ;
 
   private int numberOfCores ;
+  private long seed ;
+  private boolean binaryOutput ;
 
   public ExperimentBuilder(String experimentName) {
     this.experimentName = experimentName ;
     this.independentRuns = 1 ;
     this.numberOfCores = 1 ;
+    this.seed = JMetalRandom.getInstance().getSeed() ;
     this.referenceFrontFileNames = null ;
     this.referenceFrontDirectory = null ;
   }
@@ -97,6 +101,28 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
     return this ;
   }
 
+  /**
+   * Sets the master seed of the experiment. Each run of each algorithm gets its own random stream
+   * derived from this seed, so the results do not depend on the number of cores or on the order in
+   * which the runs are scheduled. By default, the seed of {@link JMetalRandom} is used.
+   */
+  public ExperimentBuilder<S, Result> setSeed(long seed) {
+    this.seed = seed ;
+
+    return this ;
+  }
+
+  /**
+   * If true, the FUN and VAR files are written in the binary format of
+   * {@link org.uma.jmetal.util.front.util.BinaryFrontFormat}, with extension ".bin", instead of as
+   * text. By default they are written as text
+   */
+  public ExperimentBuilder<S, Result> setBinaryOutput(boolean binaryOutput) {
+    this.binaryOutput = binaryOutput ;
+
+    return this ;
+  }
+
   public Experiment<S, Result> build() {
     return new Experiment<S, Result>(this);
   }
@@ -134,6 +160,14 @@ public class ExperimentBuilder<S extends Solution<?>, Result> {
     return numberOfCores;
   }
 
+  public boolean isBinaryOutput() {
+    return binaryOutput ;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
   public List<String> getReferenceFrontFileNames() {
     return referenceFrontFileNames;
   }
@@ -1,5 +1,6 @@
 package org.uma.jmetal.util.experiment.component;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.uma.jmetal.qualityindicator.QualityIndicator;
@@ -12,12 +13,13 @@ import org.uma.jmetal.util.experiment.Experiment;
 import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
 import org.uma.jmetal.util.front.util.FrontNormalizer;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.util.PointSolution;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -25,6 +27,8 @@ import java.nio.file.*;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING ;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * This class computes the {@link QualityIndicator}s of an experiment. Once the algorithms of an
@@ -34,6 +38,15 @@ import java.util.*;
  * the resulting values are store in a file called as {@link QualityIndicator #getName()}, which is located
  * in the same directory of the FUN files.
  *
+ * The work runs in a {@link ForkJoinPool} sized with {@link Experiment#getNumberOfCores()}. The
+ * reference front of each problem is read and normalized once; then each value, that is each
+ * indicator applied to each run of each algorithm and problem, is computed by its own task, which
+ * reads and normalizes the FUN file of the run when it starts, so that only the fronts being
+ * evaluated are kept in memory. Indicators are not required to be thread-safe (they keep the
+ * reference front, and some of them intermediate results, in fields, and some of them sort the
+ * reference front), so each task applies its own copy of the indicator, made by serialization. The
+ * values of each indicator file are written at once, when all the tasks are done.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class ComputeQualityIndicators<S extends Solution<?>, Result> implements ExperimentComponent {
@@ -46,54 +59,115 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result> implements
 
   @Override
   public void run() throws IOException {
-    for (GenericIndicator<S> indicator : experiment.getIndicatorList()) {
-      JMetalLogger.logger.info("Computing indicator: " + indicator.getName()); ;
-
-      for (ExperimentAlgorithm<?,Result> algorithm : experiment.getAlgorithmList()) {
-        String algorithmDirectory ;
-        algorithmDirectory = experiment.getExperimentBaseDirectory() + "/data/" +
-            algorithm.getAlgorithmTag() ;
-
-        for (int problemId = 0; problemId < experiment.getProblemList().size(); problemId++) {
-          String problemDirectory = algorithmDirectory + "/" + experiment.getProblemList().get(problemId).getTag() ;
-
-          String referenceFrontDirectory = experiment.getReferenceFrontDirectory() ;
-          String referenceFrontName = referenceFrontDirectory +
-              "/" + experiment.getReferenceFrontFileNames().get(problemId) ;
-
-          JMetalLogger.logger.info("RF: " + referenceFrontName); ;
-          Front referenceFront = new ArrayFront(referenceFrontName) ;
+    List<GenericIndicator<S>> indicators = experiment.getIndicatorList() ;
+    int numberOfIndicators = indicators.size() ;
+    int numberOfProblems = experiment.getProblemList().size() ;
+    int numberOfAlgorithms = experiment.getAlgorithmList().size() ;
+    int numberOfRuns = experiment.getIndependentRuns() ;
 
-          FrontNormalizer frontNormalizer = new FrontNormalizer(referenceFront) ;
-          Front normalizedReferenceFront = frontNormalizer.normalize(referenceFront) ;
+    ForkJoinPool pool = new ForkJoinPool(Math.max(1, experiment.getNumberOfCores())) ;
+    try {
+      FrontNormalizer[] frontNormalizers = new FrontNormalizer[numberOfProblems] ;
+      List<List<GenericIndicator<S>>> prototypes = new ArrayList<>(numberOfProblems) ;
+      for (int problemId = 0; problemId < numberOfProblems; problemId++) {
+        prototypes.add(new ArrayList<>(Collections.nCopies(numberOfIndicators, (GenericIndicator<S>) null))) ;
+      }
 
-          String qualityIndicatorFile = problemDirectory + "/" + indicator.getName();
-          resetFile(qualityIndicatorFile);
+      pool.submit(() -> IntStream.range(0, numberOfProblems)
+          .parallel()
+          .forEach(problemId -> {
+            String referenceFrontName = experiment.getReferenceFrontDirectory() +
+                "/" + experiment.getReferenceFrontFileNames().get(problemId) ;
 
-          indicator.setReferenceParetoFront(normalizedReferenceFront);
-          for (int i = 0; i < experiment.getIndependentRuns(); i++) {
-            String frontFileName = problemDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + i + ".tsv";
+            JMetalLogger.logger.info("RF: " + referenceFrontName); ;
+            Front referenceFront = readFront(referenceFrontName) ;
 
-            Front front = new ArrayFront(frontFileName) ;
-            Front normalizedFront = frontNormalizer.normalize(front) ;
-            List<PointSolution> normalizedPopulation = FrontUtils.convertFrontToSolutionList(normalizedFront) ;
-            Double indicatorValue = (Double)indicator.evaluate((List<S>) normalizedPopulation) ;
-            JMetalLogger.logger.info(indicator.getName() + ": " + indicatorValue) ;
+            frontNormalizers[problemId] = new FrontNormalizer(referenceFront) ;
+            Front normalizedReferenceFront = frontNormalizers[problemId].normalize(referenceFront) ;
+            for (int indicatorId = 0; indicatorId < numberOfIndicators; indicatorId++) {
+              prototypes.get(problemId).set(indicatorId,
+                  createPrototype(indicators.get(indicatorId), normalizedReferenceFront)) ;
+            }
+          })).join() ;
+
+      double[] values = new double[numberOfIndicators * numberOfProblems * numberOfAlgorithms * numberOfRuns] ;
+      pool.submit(() -> IntStream.range(0, values.length)
+          .parallel()
+          .forEach(task -> {
+            int indicatorId = task / (numberOfProblems * numberOfAlgorithms * numberOfRuns) ;
+            int problemId = (task / (numberOfAlgorithms * numberOfRuns)) % numberOfProblems ;
+            int algorithmId = (task / numberOfRuns) % numberOfAlgorithms ;
+            int run = task % numberOfRuns ;
+
+            String frontFileName = getProblemDirectory(algorithmId, problemId) + "/" +
+                experiment.getOutputParetoFrontFileName() + run + experiment.getOutputFileExtension();
+            Front normalizedFront = frontNormalizers[problemId].normalize(readFront(frontFileName)) ;
+
+            GenericIndicator<S> indicator = SerializationUtils.clone(prototypes.get(problemId).get(indicatorId)) ;
+            values[task] = (Double)indicator.evaluate(
+                (List<S>)(List<?>) FrontUtils.convertFrontToSolutionList(normalizedFront)) ;
+            JMetalLogger.logger.info(indicator.getName() + ": " + values[task]) ;
+          })).join() ;
+
+      for (int indicatorId = 0; indicatorId < numberOfIndicators; indicatorId++) {
+        for (int problemId = 0; problemId < numberOfProblems; problemId++) {
+          for (int algorithmId = 0; algorithmId < numberOfAlgorithms; algorithmId++) {
+            String qualityIndicatorFile = getProblemDirectory(algorithmId, problemId) + "/" +
+                indicators.get(indicatorId).getName();
+            resetFile(qualityIndicatorFile);
+
+            StringBuilder indicatorValues = new StringBuilder() ;
+            int first = ((indicatorId * numberOfProblems + problemId) * numberOfAlgorithms + algorithmId) * numberOfRuns ;
+            for (int run = 0; run < numberOfRuns; run++) {
+              indicatorValues.append(values[first + run]).append("\n") ;
+            }
 
-            writeQualityIndicatorValueToFile(indicatorValue, qualityIndicatorFile) ;
+            writeQualityIndicatorValuesToFile(indicatorValues.toString(), qualityIndicatorFile) ;
           }
         }
       }
+    } finally {
+      pool.shutdown();
     }
+
     findBestIndicatorFronts(experiment) ;
   }
 
-  private void writeQualityIndicatorValueToFile(Double indicatorValue, String qualityIndicatorFile) {
+  /**
+   * Returns a copy of an indicator having the normalized reference front of a problem, which is
+   * copied again by each task. The copies are computed sequentially, since the tasks already use
+   * all the cores of the experiment
+   */
+  private GenericIndicator<S> createPrototype(GenericIndicator<S> indicator, Front normalizedReferenceFront) {
+    GenericIndicator<S> prototype = SerializationUtils.clone(indicator) ;
+    prototype.setParallelism(-1) ;
+    try {
+      prototype.setReferenceParetoFront(normalizedReferenceFront);
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Error setting the reference front", e) ;
+    }
+    return prototype ;
+  }
+
+  private String getProblemDirectory(int algorithmId, int problemId) {
+    return experiment.getExperimentBaseDirectory() + "/data/" +
+        experiment.getAlgorithmList().get(algorithmId).getAlgorithmTag() + "/" +
+        experiment.getProblemList().get(problemId).getTag() ;
+  }
+
+  private Front readFront(String fileName) {
+    try {
+      return BinaryFrontFormat.readFront(fileName) ;
+    } catch (FileNotFoundException e) {
+      throw new JMetalException("Error reading front file " + fileName, e) ;
+    }
+  }
+
+  private void writeQualityIndicatorValuesToFile(String values, String qualityIndicatorFile) {
     FileWriter os;
     try {
-      os = new FileWriter(qualityIndicatorFile, true);
-      os.write("" + indicatorValue + "\n");
+      os = new FileWriter(qualityIndicatorFile);
+      os.write(values);
       os.close();
     } catch (IOException ex) {
       throw new JMetalException("Error writing indicator file" + ex) ;
@@ -174,23 +248,23 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result> implements
 
           String outputDirectory = algorithmDirectory + "/" + problem.getTag() ;
 
-          bestFunFileName = outputDirectory + "/BEST_" + indicator.getName() + "_FUN.tsv" ;
-          bestVarFileName = outputDirectory + "/BEST_" + indicator.getName() + "_VAR.tsv" ;
-          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_FUN.tsv" ;
-          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_VAR.tsv" ;
+          bestFunFileName = outputDirectory + "/BEST_" + indicator.getName() + "_FUN" + experiment.getOutputFileExtension() ;
+          bestVarFileName = outputDirectory + "/BEST_" + indicator.getName() + "_VAR" + experiment.getOutputFileExtension() ;
+          medianFunFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_FUN" + experiment.getOutputFileExtension() ;
+          medianVarFileName = outputDirectory + "/MEDIAN_" + indicator.getName() + "_VAR" + experiment.getOutputFileExtension() ;
           if (indicator.isTheLowerTheIndicatorValueTheBetter()) {
             String bestFunFile = outputDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + ".tsv";
+                experiment.getOutputParetoFrontFileName() + list.get(0).getRight() + experiment.getOutputFileExtension();
             String bestVarFile = outputDirectory + "/" +
-                experiment.getOutputParetoSetFileName() + list.get(0).getRight() + ".tsv";
+                experiment.getOutputParetoSetFileName() + list.get(0).getRight() + experiment.getOutputFileExtension();
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING) ;
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING) ;
           } else {
             String bestFunFile = outputDirectory + "/" +
-                experiment.getOutputParetoFrontFileName() + list.get(list.size()-1).getRight() + ".tsv";
+                experiment.getOutputParetoFrontFileName() + list.get(list.size()-1).getRight() + experiment.getOutputFileExtension();
             String bestVarFile = outputDirectory + "/" +
-                experiment.getOutputParetoSetFileName() + list.get(list.size()-1).getRight() + ".tsv";
+                experiment.getOutputParetoSetFileName() + list.get(list.size()-1).getRight() + experiment.getOutputFileExtension();
 
             Files.copy(Paths.get(bestFunFile), Paths.get(bestFunFileName), REPLACE_EXISTING) ;
             Files.copy(Paths.get(bestVarFile), Paths.get(bestVarFileName), REPLACE_EXISTING) ;
@@ -198,9 +272,9 @@ public class ComputeQualityIndicators<S extends Solution<?>, Result> implements
 
           int medianIndex = list.size() / 2 ;
           String medianFunFile = outputDirectory + "/" +
-              experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + ".tsv";
+              experiment.getOutputParetoFrontFileName() + list.get(medianIndex).getRight() + experiment.getOutputFileExtension();
           String medianVarFile = outputDirectory + "/" +
-              experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + ".tsv";
+              experiment.getOutputParetoSetFileName() + list.get(medianIndex).getRight() + experiment.getOutputFileExtension();
 
           Files.copy(Paths.get(medianFunFile), Paths.get(medianFunFileName), REPLACE_EXISTING) ;
           Files.copy(Paths.get(medianVarFile), Paths.get(medianVarFileName), REPLACE_EXISTING) ;
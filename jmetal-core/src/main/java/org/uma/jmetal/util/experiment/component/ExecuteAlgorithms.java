@@ -7,13 +7,16 @@ import org.uma.jmetal.util.experiment.ExperimentComponent;
 import org.uma.jmetal.util.experiment.Experiment;
 
 import java.io.File;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class executes the algorithms the have been configured with a instance of class
- * {@link Experiment}. Java 8 parallel streams are used to run the algorithms in parallel.
+ * {@link Experiment}. Java 8 parallel streams are used to run the algorithms in parallel, inside a
+ * {@link ForkJoinPool} sized with {@link Experiment#getNumberOfCores()}, so that the experiment
+ * neither depends on nor competes for the common pool.
  *
- * The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per experiment,
- * which are stored in the directory
+ * The result of the execution is a pair of files FUNrunId.tsv and VARrunID.tsv per experiment
+ * (FUNrunId.bin and VARrunId.bin if {@link Experiment#isBinaryOutput()}), which are stored in the directory
  * {@link Experiment #getExperimentBaseDirectory()}/algorithmName/problemName.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
@@ -31,15 +34,17 @@ public class ExecuteAlgorithms<S extends Solution<?>, Result> implements Experim
     JMetalLogger.logger.info("ExecuteAlgorithms: Preparing output directory");
     prepareOutputDirectory() ;
 
-    System.setProperty("java.util.concurrent.ForkJoinPool.common.parallelism",
-            "" + this.experiment.getNumberOfCores());
-
-    for (int i = 0; i < experiment.getIndependentRuns(); i++) {
-      final int id = i ;
-
-      experiment.getAlgorithmList()
-              .parallelStream()
-              .forEach(algorithm -> algorithm.runAlgorithm(id, experiment)) ;
+    ForkJoinPool pool = new ForkJoinPool(Math.max(1, experiment.getNumberOfCores())) ;
+    try {
+      for (int i = 0; i < experiment.getIndependentRuns(); i++) {
+        final int id = i ;
+
+        pool.submit(() -> experiment.getAlgorithmList()
+                .parallelStream()
+                .forEach(algorithm -> algorithm.runAlgorithm(id, experiment))).join() ;
+      }
+    } finally {
+      pool.shutdown();
     }
   }
 
@@ -9,7 +9,7 @@ import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
 import org.uma.jmetal.util.front.util.FrontUtils;
 import org.uma.jmetal.util.point.util.PointSolution;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
@@ -60,8 +60,8 @@ public class GenerateReferenceParetoFront implements ExperimentComponent{
 
         for (int i = 0; i < experiment.getIndependentRuns(); i++) {
           String frontFileName = problemDirectory + "/" + experiment.getOutputParetoFrontFileName() +
-              i + ".tsv";
-          Front front = new ArrayFront(frontFileName) ;
+              i + experiment.getOutputFileExtension();
+          Front front = BinaryFrontFormat.readFront(frontFileName) ;
           List<PointSolution> solutionList = FrontUtils.convertFrontToSolutionList(front) ;
           GenericSolutionAttribute<PointSolution, String> solutionAttribute = new GenericSolutionAttribute<PointSolution, String>()  ;
 
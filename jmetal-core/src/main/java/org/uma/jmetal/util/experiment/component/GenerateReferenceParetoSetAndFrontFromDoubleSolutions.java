@@ -14,7 +14,7 @@ import org.uma.jmetal.util.experiment.util.ExperimentAlgorithm;
 import org.uma.jmetal.util.experiment.util.ExperimentProblem;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
 import org.uma.jmetal.util.front.Front;
-import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
 import org.uma.jmetal.util.solutionattribute.impl.GenericSolutionAttribute;
 
 import java.io.File;
@@ -138,11 +138,11 @@ public class GenerateReferenceParetoSetAndFrontFromDoubleSolutions implements Ex
 
       for (int i = 0; i < experiment.getIndependentRuns(); i++) {
         String frontFileName = problemDirectory + "/" + experiment.getOutputParetoFrontFileName() +
-            i + ".tsv";
+            i + experiment.getOutputFileExtension();
         String paretoSetFileName = problemDirectory + "/" + experiment.getOutputParetoSetFileName() +
-            i + ".tsv";
-        Front frontWithObjectiveValues = new ArrayFront(frontFileName) ;
-        Front frontWithVariableValues = new ArrayFront(paretoSetFileName) ;
+            i + experiment.getOutputFileExtension();
+        Front frontWithObjectiveValues = BinaryFrontFormat.readFront(frontFileName) ;
+        Front frontWithVariableValues = BinaryFrontFormat.readFront(paretoSetFileName) ;
         List<DoubleSolution> solutionList =
             createSolutionListFrontFiles(algorithm.getAlgorithmTag(), frontWithVariableValues, frontWithObjectiveValues) ;
         for (DoubleSolution solution : solutionList) {
@@ -4,8 +4,12 @@ import org.uma.jmetal.algorithm.Algorithm;
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalLogger;
 import org.uma.jmetal.util.experiment.Experiment;
+import org.uma.jmetal.util.fileoutput.FileOutputContext;
 import org.uma.jmetal.util.fileoutput.SolutionListOutput;
+import org.uma.jmetal.util.fileoutput.impl.BinaryFileOutputContext;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+import org.uma.jmetal.util.pseudorandom.JMetalRandom;
+import org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator;
 
 import java.io.File;
 import java.util.List;
@@ -38,6 +42,11 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result>  {
     this(algorithm, algorithm.getName(), problemTag) ;
   }
 
+  /**
+   * Runs the algorithm and writes its result. While the algorithm is running, the calling thread
+   * uses a random stream derived from the seed of the experiment, the tags of the algorithm and the
+   * problem and the run identifier, so that each run can be reproduced independently of the others.
+   */
   public void runAlgorithm(int id, Experiment<?, ?> experimentData) {
     String outputDirectoryName = experimentData.getExperimentBaseDirectory()
             + "/data/"
@@ -55,8 +64,8 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result>  {
       }
     }
 
-    String funFile = outputDirectoryName + "/FUN" + id + ".tsv";
-    String varFile = outputDirectoryName + "/VAR" + id + ".tsv";
+    String funFile = outputDirectoryName + "/FUN" + id + experimentData.getOutputFileExtension();
+    String varFile = outputDirectoryName + "/VAR" + id + experimentData.getOutputFileExtension();
     JMetalLogger.logger.info(
             " Running algorithm: " + algorithmTag +
                     ", problem: " + problemTag +
@@ -64,16 +73,33 @@ public class ExperimentAlgorithm<S extends Solution<?>, Result>  {
                     ", funFile: " + funFile);
 
 
-    algorithm.run();
-    Result population = algorithm.getResult();
+    JMetalRandom.getInstance().runWithRandomGenerator(
+            SplittableRandomGenerator.forStream(experimentData.getSeed(), getStreamId(id)),
+            () -> algorithm.run());
+    @SuppressWarnings("unchecked")
+    List<S> population = (List<S>) algorithm.getResult();
+
+    FileOutputContext varContext ;
+    FileOutputContext funContext ;
+    if (experimentData.isBinaryOutput()) {
+      varContext = new BinaryFileOutputContext(varFile) ;
+      funContext = new BinaryFileOutputContext(funFile) ;
+    } else {
+      varContext = new DefaultFileOutputContext(varFile) ;
+      funContext = new DefaultFileOutputContext(funFile) ;
+    }
 
-    new SolutionListOutput((List<S>) population)
+    new SolutionListOutput(population)
             .setSeparator("\t")
-            .setVarFileOutputContext(new DefaultFileOutputContext(varFile))
-            .setFunFileOutputContext(new DefaultFileOutputContext(funFile))
+            .setVarFileOutputContext(varContext)
+            .setFunFileOutputContext(funContext)
             .print();
   }
 
+  private long getStreamId(int id) {
+    return SplittableRandomGenerator.streamId(algorithmTag.hashCode(), problemTag.hashCode(), id) ;
+  }
+
   public Algorithm<Result> getAlgorithm() {
     return algorithm;
   }
@@ -0,0 +1,254 @@
+package org.uma.jmetal.util.fileoutput;
+
+import java.math.BigInteger;
+
+/**
+ * Formats doubles into a char array with the shortest decimal which is read back as the same
+ * double, choosing the closest to the double when there are several, and the layout of
+ * {@link Double#toString(double)}: plain notation from 10<sup>-3</sup> to 10<sup>7</sup> and
+ * computerized scientific notation otherwise.
+ *
+ * The decimal is computed with the Schubfach algorithm (R. Giulietti, "The Schubfach way to render
+ * doubles", 2020), which is also the algorithm of {@link Double#toString(double)} since Java 19;
+ * older versions of Java sometimes produce a longer decimal than needed. No object is created per
+ * value: the powers of ten needed by the algorithm are computed once, when the class is loaded.
+ */
+final class DoubleFormatter {
+  /** Maximum number of characters written for a double, such as -2.2250738585072014E-308 */
+  static final int MAXIMUM_LENGTH = 24 ;
+
+  private static final int P = 53 ;
+  private static final int Q_MIN = -1074 ;
+  private static final long C_MIN = 1L << (P - 1) ;
+  private static final long C_TINY = 3 ;
+  private static final int BQ_MASK = 0x7ff ;
+  private static final long T_MASK = (1L << (P - 1)) - 1 ;
+  private static final long MASK_63 = (1L << 63) - 1 ;
+
+  private static final int K_MIN = -324 ;
+  private static final int K_MAX = 292 ;
+
+  /**
+   * For each k, the 126-bit integer g = floor(10<sup>-k</sup> 2<sup>-r</sup>) + 1, where r is
+   * such that 2<sup>125</sup> &le; 10<sup>-k</sup> 2<sup>-r</sup> &lt; 2<sup>126</sup>, split
+   * into its high and low 63 bits
+   */
+  private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)] ;
+
+  static {
+    BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE) ;
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      int r = flog2pow10(-k) - 125 ;
+      BigInteger numerator = BigInteger.ONE ;
+      BigInteger denominator = BigInteger.ONE ;
+      if (k <= 0) {
+        numerator = BigInteger.TEN.pow(-k) ;
+      } else {
+        denominator = BigInteger.TEN.pow(k) ;
+      }
+      if (r >= 0) {
+        denominator = denominator.shiftLeft(r) ;
+      } else {
+        numerator = numerator.shiftLeft(-r) ;
+      }
+      BigInteger g = numerator.divide(denominator).add(BigInteger.ONE) ;
+      G[2 * (k - K_MIN)] = g.shiftRight(63).longValue() ;
+      G[2 * (k - K_MIN) + 1] = g.and(mask63).longValue() ;
+    }
+  }
+
+  private DoubleFormatter() {
+  }
+
+  /**
+   * Writes a double into a char array
+   * @param value The double to format
+   * @param buffer The destination array, with at least {@link #MAXIMUM_LENGTH} characters
+   *               available from <code>position</code>
+   * @param position Position where the first character is written
+   * @return The position following the last character written
+   */
+  static int format(double value, char[] buffer, int position) {
+    long bits = Double.doubleToRawLongBits(value) ;
+    int bq = (int) (bits >>> (P - 1)) & BQ_MASK ;
+    long t = bits & T_MASK ;
+
+    if (bq == BQ_MASK) {
+      return appendString(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", buffer, position) ;
+    }
+    if (bits < 0) {
+      buffer[position++] = '-' ;
+    }
+    if (bq != 0) {
+      int mq = -Q_MIN + 1 - bq ;
+      long c = C_MIN | t ;
+      if (0 < mq && mq < P) {
+        long f = c >> mq ;
+        if (f << mq == c) {
+          return appendDecimal(f, 0, buffer, position) ;
+        }
+      }
+      return toDecimal(-mq, c, 0, buffer, position) ;
+    }
+    if (t != 0) {
+      // subnormals below 3 ulps are computed with one more digit, as Double.toString does
+      return t < C_TINY ? toDecimal(Q_MIN, 10 * t, -1, buffer, position) : toDecimal(Q_MIN, t, 0, buffer, position) ;
+    }
+    return appendString("0.0", buffer, position) ;
+  }
+
+  /** Computes the shortest decimal of the double c 2<sup>q</sup> and writes it */
+  private static int toDecimal(int q, long c, int dk, char[] buffer, int position) {
+    int out = (int) c & 0x1 ;
+    long cb = c << 2 ;
+    long cbr = cb + 2 ;
+    long cbl ;
+    int k ;
+    if (c != C_MIN || q == Q_MIN) {
+      cbl = cb - 2 ;
+      k = flog10pow2(q) ;
+    } else {
+      cbl = cb - 1 ;
+      k = flog10threeQuartersPow2(q) ;
+    }
+    int h = q + flog2pow10(-k) + 2 ;
+
+    long g1 = G[2 * (k - K_MIN)] ;
+    long g0 = G[2 * (k - K_MIN) + 1] ;
+    long vb = roundToOdd(g1, g0, cb << h) ;
+    long vbl = roundToOdd(g1, g0, cbl << h) ;
+    long vbr = roundToOdd(g1, g0, cbr << h) ;
+
+    long s = vb >> 2 ;
+    if (s >= 100) {
+      // a decimal with one digit less, if any, is the shortest
+      long sp10 = s / 10 * 10 ;
+      long tp10 = sp10 + 10 ;
+      boolean upin = vbl + out <= sp10 << 2 ;
+      boolean wpin = (tp10 << 2) + out <= vbr ;
+      if (upin != wpin) {
+        return appendDecimal(upin ? sp10 : tp10, k, buffer, position) ;
+      }
+    }
+    long t = s + 1 ;
+    boolean uin = vbl + out <= s << 2 ;
+    boolean win = (t << 2) + out <= vbr ;
+    if (uin != win) {
+      return appendDecimal(uin ? s : t, k + dk, buffer, position) ;
+    }
+    long cmp = vb - ((s + t) << 1) ;
+    return appendDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buffer, position) ;
+  }
+
+  /** Returns the product g cp 2<sup>-128</sup>, rounded to odd */
+  private static long roundToOdd(long g1, long g0, long cp) {
+    long x1 = multiplyHigh(g0, cp) ;
+    long y0 = g1 * cp ;
+    long y1 = multiplyHigh(g1, cp) ;
+    long z = (y0 >>> 1) + x1 ;
+    long vbp = y1 + (z >>> 63) ;
+    return vbp | ((z & MASK_63) + MASK_63) >>> 63 ;
+  }
+
+  /** Writes the decimal f 10<sup>e</sup>, f being positive, with the layout of Double.toString */
+  private static int appendDecimal(long f, int e, char[] buffer, int position) {
+    while (f % 10 == 0) {
+      f /= 10 ;
+      e++ ;
+    }
+
+    int start = position ;
+    int length = 0 ;
+    for (long remaining = f; remaining != 0; remaining /= 10) {
+      length++ ;
+    }
+    for (int i = length - 1; i >= 0; i--) {
+      buffer[start + i] = (char) ('0' + f % 10) ;
+      f /= 10 ;
+    }
+
+    // the value is d.ddd 10^exponent
+    int exponent = e + length - 1 ;
+    if (0 <= exponent && exponent < 7) {
+      int integerDigits = exponent + 1 ;
+      if (length <= integerDigits) {
+        for (int i = length; i < integerDigits; i++) {
+          buffer[start + i] = '0' ;
+        }
+        buffer[start + integerDigits] = '.' ;
+        buffer[start + integerDigits + 1] = '0' ;
+        return start + integerDigits + 2 ;
+      }
+      System.arraycopy(buffer, start + integerDigits, buffer, start + integerDigits + 1, length - integerDigits) ;
+      buffer[start + integerDigits] = '.' ;
+      return start + length + 1 ;
+    } else if (-3 <= exponent && exponent < 0) {
+      int zeros = -exponent - 1 ;
+      System.arraycopy(buffer, start, buffer, start + 2 + zeros, length) ;
+      buffer[start] = '0' ;
+      buffer[start + 1] = '.' ;
+      for (int i = 0; i < zeros; i++) {
+        buffer[start + 2 + i] = '0' ;
+      }
+      return start + 2 + zeros + length ;
+    }
+
+    int end ;
+    if (length == 1) {
+      buffer[start + 1] = '.' ;
+      buffer[start + 2] = '0' ;
+      end = start + 3 ;
+    } else {
+      System.arraycopy(buffer, start + 1, buffer, start + 2, length - 1) ;
+      buffer[start + 1] = '.' ;
+      end = start + length + 1 ;
+    }
+    buffer[end++] = 'E' ;
+    if (exponent < 0) {
+      buffer[end++] = '-' ;
+      exponent = -exponent ;
+    }
+    if (exponent >= 100) {
+      buffer[end++] = (char) ('0' + exponent / 100) ;
+    }
+    if (exponent >= 10) {
+      buffer[end++] = (char) ('0' + exponent / 10 % 10) ;
+    }
+    buffer[end++] = (char) ('0' + exponent % 10) ;
+    return end ;
+  }
+
+  private static int appendString(String value, char[] buffer, int position) {
+    value.getChars(0, value.length(), buffer, position) ;
+    return position + value.length() ;
+  }
+
+  /** Returns floor(e log<sub>10</sub>2) */
+  private static int flog10pow2(int e) {
+    return (int) (e * 661_971_961_083L >> 41) ;
+  }
+
+  /** Returns floor(e log<sub>10</sub>2 + log<sub>10</sub>(3/4)) */
+  private static int flog10threeQuartersPow2(int e) {
+    return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41) ;
+  }
+
+  /** Returns floor(e log<sub>2</sub>10) */
+  private static int flog2pow10(int e) {
+    return (int) (e * 913_124_641_741L >> 38) ;
+  }
+
+  /** Returns the high 64 bits of the 128-bit product of two longs, as Math.multiplyHigh in Java 9 */
+  private static long multiplyHigh(long x, long y) {
+    long x1 = x >> 32 ;
+    long x2 = x & 0xFFFFFFFFL ;
+    long y1 = y >> 32 ;
+    long y2 = y & 0xFFFFFFFFL ;
+    long z2 = x2 * y2 ;
+    long t = x1 * y2 + (z2 >>> 32) ;
+    long z1 = t & 0xFFFFFFFFL ;
+    long z0 = t >> 32 ;
+    z1 += x2 * y1 ;
+    return x1 * y1 + z0 + (z1 >> 32) ;
+  }
+}
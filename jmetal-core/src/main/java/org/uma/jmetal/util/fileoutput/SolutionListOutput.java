@@ -2,13 +2,18 @@ package org.uma.jmetal.util.fileoutput;
 
 import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileoutput.impl.BinaryFileOutputContext;
 import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.util.List;
 
 /**
+ * Writes the variables and objectives of a list of solutions. The files are written as text,
+ * unless the output context is a {@link BinaryFileOutputContext}; in that case the variables must
+ * be numbers. To append the solutions of several generations to the same files, see
+ * {@link StreamingSolutionListOutput}.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 public class SolutionListOutput {
@@ -65,20 +70,30 @@ public class SolutionListOutput {
   }
 
   public void printVariablesToFile(FileOutputContext context, List<? extends Solution<?>> solutionList) {
-    BufferedWriter bufferedWriter = context.getFileWriter();
-
-    try {
-      if (solutionList.size() > 0) {
-        int numberOfVariables = solutionList.get(0).getNumberOfVariables();
-        for (int i = 0; i < solutionList.size(); i++) {
-          for (int j = 0; j < numberOfVariables; j++) {
-            bufferedWriter.write(solutionList.get(i).getVariableValueString(j) + context.getSeparator());
+    if (context instanceof BinaryFileOutputContext) {
+      int numberOfVariables = solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfVariables() ;
+      double[] values = new double[solutionList.size() * numberOfVariables] ;
+      for (int i = 0; i < solutionList.size(); i++) {
+        for (int j = 0; j < numberOfVariables; j++) {
+          Object value = solutionList.get(i).getVariableValue(j) ;
+          if (!(value instanceof Number)) {
+            throw new JMetalException("The variables must be numbers to be written in binary format: " + value) ;
           }
-          bufferedWriter.newLine();
+          values[i * numberOfVariables + j] = ((Number) value).doubleValue() ;
         }
       }
+      ((BinaryFileOutputContext) context).write(values, solutionList.size(), numberOfVariables);
+      return ;
+    }
+
+    SolutionTextWriter writer = new SolutionTextWriter(context.getFileWriter());
+
+    try {
+      for (Solution<?> solution : solutionList) {
+        writer.writeVariables(solution, context.getSeparator());
+      }
 
-      bufferedWriter.close();
+      writer.close();
     } catch (IOException e) {
       throw new JMetalException("Error writing data ", e) ;
     }
@@ -86,20 +101,19 @@ public class SolutionListOutput {
   }
 
   public void printObjectivesToFile(FileOutputContext context, List<? extends Solution<?>> solutionList) {
-    BufferedWriter bufferedWriter = context.getFileWriter();
+    if (context instanceof BinaryFileOutputContext) {
+      writeObjectives((BinaryFileOutputContext) context, solutionList, null);
+      return ;
+    }
+
+    SolutionTextWriter writer = new SolutionTextWriter(context.getFileWriter());
 
     try {
-      if (solutionList.size() > 0) {
-        int numberOfObjectives = solutionList.get(0).getNumberOfObjectives();
-        for (int i = 0; i < solutionList.size(); i++) {
-          for (int j = 0; j < numberOfObjectives; j++) {
-            bufferedWriter.write(solutionList.get(i).getObjective(j) + context.getSeparator());
-          }
-          bufferedWriter.newLine();
-        }
+      for (Solution<?> solution : solutionList) {
+        writer.writeObjectives(solution, context.getSeparator(), null);
       }
 
-      bufferedWriter.close();
+      writer.close();
     } catch (IOException e) {
       throw new JMetalException("Error printing objecives to file: ", e);
     }
@@ -108,7 +122,12 @@ public class SolutionListOutput {
   public void printObjectivesToFile(FileOutputContext context,
                                     List<? extends Solution<?>> solutionList,
                                     List<Boolean> minimizeObjective) {
-    BufferedWriter bufferedWriter = context.getFileWriter();
+    if (context instanceof BinaryFileOutputContext) {
+      writeObjectives((BinaryFileOutputContext) context, solutionList, minimizeObjective);
+      return ;
+    }
+
+    SolutionTextWriter writer = new SolutionTextWriter(context.getFileWriter());
 
     try {
       if (solutionList.size() > 0) {
@@ -116,24 +135,40 @@ public class SolutionListOutput {
         if (numberOfObjectives != minimizeObjective.size()) {
           throw new JMetalException("The size of list minimizeObjective is not correct: " + minimizeObjective.size()) ;
         }
-        for (int i = 0; i < solutionList.size(); i++) {
-          for (int j = 0; j < numberOfObjectives; j++) {
-            if (minimizeObjective.get(j)) {
-              bufferedWriter.write(solutionList.get(i).getObjective(j) + context.getSeparator());
-            } else {
-              bufferedWriter.write(-1.0 * solutionList.get(i).getObjective(j) + context.getSeparator());
-            }
-          }
-          bufferedWriter.newLine();
+        for (Solution<?> solution : solutionList) {
+          writer.writeObjectives(solution, context.getSeparator(), minimizeObjective);
         }
       }
 
-      bufferedWriter.close();
+      writer.close();
     } catch (IOException e) {
       throw new JMetalException("Error printing objecives to file: ", e);
     }
   }
 
+  /**
+   * Writes the objectives in binary format; those to be maximized, if <code>minimizeObjective</code>
+   * is not null, are written negated
+   */
+  private void writeObjectives(BinaryFileOutputContext context,
+                               List<? extends Solution<?>> solutionList,
+                               List<Boolean> minimizeObjective) {
+    int numberOfObjectives = solutionList.isEmpty() ? 0 : solutionList.get(0).getNumberOfObjectives() ;
+    if (minimizeObjective != null && !solutionList.isEmpty() && numberOfObjectives != minimizeObjective.size()) {
+      throw new JMetalException("The size of list minimizeObjective is not correct: " + minimizeObjective.size()) ;
+    }
+
+    double[] values = new double[solutionList.size() * numberOfObjectives] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        double value = solutionList.get(i).getObjective(j) ;
+        values[i * numberOfObjectives + j] =
+            minimizeObjective == null || minimizeObjective.get(j) ? value : -1.0 * value ;
+      }
+    }
+    context.write(values, solutionList.size(), numberOfObjectives);
+  }
+
   /*
    * Wrappers for printing with default configuration
    */
@@ -0,0 +1,152 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.binarySet.BinarySet;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes the objectives and variables of solutions as text. The characters are formatted into a
+ * reusable buffer which is passed to the underlying {@link Writer} when it is full, so no string is
+ * created per value:
+ * <ul>
+ *   <li>Doubles are formatted by {@link DoubleFormatter} with the shortest decimal read back as the
+ *   same double, in the layout of {@link Double#toString(double)}. The text is the same as that of
+ *   {@link Double#toString(double)} in Java 19 and later; older versions of Java sometimes write
+ *   more digits than needed.</li>
+ *   <li>Integer and long values are formatted directly.</li>
+ *   <li>{@link BinarySet}s are written as strings of '0' and '1', visiting only the bits set.</li>
+ *   <li>Any other variable is written with {@link Solution#getVariableValueString(int)}.</li>
+ * </ul>
+ */
+class SolutionTextWriter {
+  private static final int BUFFER_SIZE = 1 << 16 ;
+  private static final String LINE_SEPARATOR = System.lineSeparator() ;
+
+  private final Writer writer ;
+  private final char[] buffer = new char[BUFFER_SIZE] ;
+  private final char[] digits = new char[20] ;
+  private int position ;
+
+  SolutionTextWriter(Writer writer) {
+    this.writer = writer ;
+  }
+
+  /**
+   * Writes a line with the objectives of a solution
+   * @param minimizeObjective If not null, the objectives which are not minimized are negated
+   */
+  void writeObjectives(Solution<?> solution, String separator, List<Boolean> minimizeObjective)
+      throws IOException {
+    for (int j = 0; j < solution.getNumberOfObjectives(); j++) {
+      double value = solution.getObjective(j) ;
+      if (minimizeObjective != null && !minimizeObjective.get(j)) {
+        value = -1.0 * value ;
+      }
+      writeDouble(value) ;
+      writeString(separator) ;
+    }
+    writeString(LINE_SEPARATOR) ;
+  }
+
+  /** Writes a line with the variables of a solution */
+  void writeVariables(Solution<?> solution, String separator) throws IOException {
+    for (int j = 0; j < solution.getNumberOfVariables(); j++) {
+      Object value = solution.getVariableValue(j) ;
+      if (value instanceof Double) {
+        writeDouble((Double) value) ;
+      } else if (value instanceof Integer || value instanceof Long) {
+        writeLong(((Number) value).longValue()) ;
+      } else if (value instanceof BinarySet) {
+        writeBits((BinarySet) value) ;
+      } else {
+        writeString(solution.getVariableValueString(j)) ;
+      }
+      writeString(separator) ;
+    }
+    writeString(LINE_SEPARATOR) ;
+  }
+
+  void writeDouble(double value) throws IOException {
+    ensureCapacity(DoubleFormatter.MAXIMUM_LENGTH) ;
+    position = DoubleFormatter.format(value, buffer, position) ;
+  }
+
+  void writeLong(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      writeString(Long.toString(value)) ;
+      return ;
+    }
+
+    int count = 0 ;
+    long remaining = Math.abs(value) ;
+    do {
+      digits[count++] = (char) ('0' + remaining % 10) ;
+      remaining /= 10 ;
+    } while (remaining != 0) ;
+
+    ensureCapacity(count + 1) ;
+    if (value < 0) {
+      buffer[position++] = '-' ;
+    }
+    while (count > 0) {
+      buffer[position++] = digits[--count] ;
+    }
+  }
+
+  void writeBits(BinarySet bits) throws IOException {
+    int length = bits.getBinarySetLength() ;
+    int start = 0 ;
+    while (start < length) {
+      if (position == buffer.length) {
+        flushBuffer() ;
+      }
+      int end = Math.min(length, start + buffer.length - position) ;
+      Arrays.fill(buffer, position, position + end - start, '0') ;
+      for (int i = bits.nextSetBit(start); i >= 0 && i < end; i = bits.nextSetBit(i + 1)) {
+        buffer[position + i - start] = '1' ;
+      }
+      position += end - start ;
+      start = end ;
+    }
+  }
+
+  void writeString(String value) throws IOException {
+    int start = 0 ;
+    while (start < value.length()) {
+      if (position == buffer.length) {
+        flushBuffer() ;
+      }
+      int end = Math.min(value.length(), start + buffer.length - position) ;
+      value.getChars(start, end, buffer, position) ;
+      position += end - start ;
+      start = end ;
+    }
+  }
+
+  void flush() throws IOException {
+    flushBuffer() ;
+    writer.flush() ;
+  }
+
+  void close() throws IOException {
+    flushBuffer() ;
+    writer.close() ;
+  }
+
+  private void ensureCapacity(int count) throws IOException {
+    if (buffer.length - position < count) {
+      flushBuffer() ;
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      writer.write(buffer, 0, position) ;
+      position = 0 ;
+    }
+  }
+}
@@ -0,0 +1,134 @@
+package org.uma.jmetal.util.fileoutput;
+
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.fileoutput.impl.DefaultFileOutputContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes lists of solutions to a pair of FUN and VAR text files which are kept open, so that the
+ * populations of successive generations can be appended to the same files. The format of each line
+ * is the same as the one of {@link SolutionListOutput}. Using contexts created with
+ * {@link DefaultFileOutputContext#DefaultFileOutputContext(String, boolean)} in append mode, the
+ * solutions are added to the existing contents of the files.
+ *
+ * Example:
+ * <pre>
+ * try (StreamingSolutionListOutput output = new StreamingSolutionListOutput(
+ *     new DefaultFileOutputContext("FUN.tsv"), new DefaultFileOutputContext("VAR.tsv"))) {
+ *   ...
+ *   output.write(population) ;
+ * }
+ * </pre>
+ */
+public class StreamingSolutionListOutput implements Closeable {
+  private final FileOutputContext funFileContext ;
+  private final FileOutputContext varFileContext ;
+  private SolutionTextWriter funWriter ;
+  private SolutionTextWriter varWriter ;
+  private List<Boolean> isObjectiveToBeMinimized ;
+  private boolean separateGenerations ;
+  private boolean closed ;
+
+  /**
+   * Constructor
+   * @param funFileContext Context of the file of objectives; if null, the objectives are not written
+   * @param varFileContext Context of the file of variables; if null, the variables are not written
+   */
+  public StreamingSolutionListOutput(FileOutputContext funFileContext, FileOutputContext varFileContext) {
+    this.funFileContext = funFileContext ;
+    this.varFileContext = varFileContext ;
+    isObjectiveToBeMinimized = null ;
+    separateGenerations = false ;
+  }
+
+  /** The objectives for which the value is false are written negated */
+  public StreamingSolutionListOutput setObjectiveMinimizingObjectiveList(List<Boolean> isObjectiveToBeMinimized) {
+    this.isObjectiveToBeMinimized = isObjectiveToBeMinimized ;
+
+    return this ;
+  }
+
+  /** If true, an empty line is written after the solutions of each call to {@link #write(List)} */
+  public StreamingSolutionListOutput setSeparateGenerations(boolean separateGenerations) {
+    this.separateGenerations = separateGenerations ;
+
+    return this ;
+  }
+
+  /**
+   * Appends the objectives and the variables of a list of solutions to the files. The data are
+   * buffered; they are guaranteed to be in the files after {@link #flush()} or {@link #close()}
+   */
+  public void write(List<? extends Solution<?>> solutionList) {
+    if (closed) {
+      throw new JMetalException("The output is closed") ;
+    }
+
+    try {
+      if (funFileContext != null) {
+        if (funWriter == null) {
+          funWriter = new SolutionTextWriter(funFileContext.getFileWriter()) ;
+        }
+        if (isObjectiveToBeMinimized != null && !solutionList.isEmpty()
+            && solutionList.get(0).getNumberOfObjectives() != isObjectiveToBeMinimized.size()) {
+          throw new JMetalException("The size of list minimizeObjective is not correct: " + isObjectiveToBeMinimized.size()) ;
+        }
+        for (Solution<?> solution : solutionList) {
+          funWriter.writeObjectives(solution, funFileContext.getSeparator(), isObjectiveToBeMinimized);
+        }
+        if (separateGenerations) {
+          funWriter.writeString(System.lineSeparator());
+        }
+      }
+
+      if (varFileContext != null) {
+        if (varWriter == null) {
+          varWriter = new SolutionTextWriter(varFileContext.getFileWriter()) ;
+        }
+        for (Solution<?> solution : solutionList) {
+          varWriter.writeVariables(solution, varFileContext.getSeparator());
+        }
+        if (separateGenerations) {
+          varWriter.writeString(System.lineSeparator());
+        }
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing data ", e) ;
+    }
+  }
+
+  /** Writes the buffered data to the files */
+  public void flush() {
+    try {
+      if (funWriter != null) {
+        funWriter.flush();
+      }
+      if (varWriter != null) {
+        varWriter.flush();
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error writing data ", e) ;
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true ;
+    try {
+      if (funWriter != null) {
+        funWriter.close();
+        funWriter = null ;
+      }
+      if (varWriter != null) {
+        varWriter.close();
+        varWriter = null ;
+      }
+    } catch (IOException e) {
+      throw new JMetalException("Error closing files ", e) ;
+    }
+  }
+}
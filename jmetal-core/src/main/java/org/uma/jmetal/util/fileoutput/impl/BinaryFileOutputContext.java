@@ -0,0 +1,90 @@
+package org.uma.jmetal.util.fileoutput.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Output context writing files in the binary format described in {@link BinaryFrontFormat} instead
+ * of text. The values are written with {@link #write(double[], int, int)}; there is no text writer,
+ * so {@link #getFileWriter()} raises an exception. By default the values are stored as 64-bit
+ * floating point numbers; single precision halves the size of the files.
+ */
+@SuppressWarnings("serial")
+public class BinaryFileOutputContext extends DefaultFileOutputContext {
+  private static final int BUFFER_SIZE = 1 << 16 ;
+
+  private final boolean singlePrecision ;
+
+  public BinaryFileOutputContext(String fileName) {
+    this(fileName, false) ;
+  }
+
+  /**
+   * Constructor
+   * @param fileName Name of the file
+   * @param singlePrecision If true, the values are stored as 32-bit floating point numbers
+   */
+  public BinaryFileOutputContext(String fileName, boolean singlePrecision) {
+    super(fileName) ;
+    this.singlePrecision = singlePrecision ;
+  }
+
+  @Override
+  public BufferedWriter getFileWriter() {
+    throw new JMetalException("The file " + fileName + " is written in binary format") ;
+  }
+
+  /**
+   * Writes a matrix of values
+   * @param values Values of the matrix, row after row
+   * @param numberOfRows Number of rows (points)
+   * @param numberOfColumns Number of columns (dimensions)
+   */
+  public void write(double[] values, int numberOfRows, int numberOfColumns) {
+    if ((long) numberOfRows * numberOfColumns > values.length) {
+      throw new JMetalException("The array has " + values.length + " values, but " +
+          numberOfRows + " x " + numberOfColumns + " are required") ;
+    }
+
+    byte bytesPerValue = singlePrecision ? BinaryFrontFormat.FLOAT32 : BinaryFrontFormat.FLOAT64 ;
+    try (FileOutputStream outputStream = new FileOutputStream(fileName);
+         FileChannel channel = outputStream.getChannel()) {
+      writeFully(channel, BinaryFrontFormat.createHeader(numberOfRows, numberOfColumns, bytesPerValue)) ;
+
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(BinaryFrontFormat.BYTE_ORDER) ;
+      int numberOfValues = numberOfRows * numberOfColumns ;
+      for (int i = 0; i < numberOfValues; i++) {
+        if (buffer.remaining() < bytesPerValue) {
+          buffer.flip() ;
+          writeFully(channel, buffer) ;
+          buffer.clear() ;
+        }
+        if (singlePrecision) {
+          buffer.putFloat((float) values[i]) ;
+        } else {
+          buffer.putDouble(values[i]) ;
+        }
+      }
+      buffer.flip() ;
+      writeFully(channel, buffer) ;
+    } catch (IOException e) {
+      throw new JMetalException("Error writing file " + fileName, e) ;
+    }
+  }
+
+  public boolean isSinglePrecision() {
+    return singlePrecision ;
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer) ;
+    }
+  }
+}
@@ -19,17 +19,29 @@ public class  DefaultFileOutputContext implements FileOutputContext {
 
   protected String fileName;
   protected String separator;
+  protected boolean append;
 
   public DefaultFileOutputContext(String fileName) {
+    this(fileName, false) ;
+  }
+
+  /**
+   * Constructor
+   * @param fileName Name of the file
+   * @param append If true, the data are written at the end of the file instead of replacing its
+   *               contents
+   */
+  public DefaultFileOutputContext(String fileName, boolean append) {
     this.fileName = fileName ;
     this.separator = DEFAULT_SEPARATOR ;
+    this.append = append ;
   }
 
   @Override
   public BufferedWriter getFileWriter() {
     FileOutputStream outputStream ;
     try {
-      outputStream = new FileOutputStream(fileName);
+      outputStream = new FileOutputStream(fileName, append);
     } catch (FileNotFoundException e) {
       throw new JMetalException("Exception when calling method getFileWriter()", e) ;
     }
@@ -112,7 +112,7 @@ public class ArrayFront implements Front {
 
         Point point = new ArrayPoint(numberOfObjectives) ;
         while (tokenizer.hasMoreTokens()) {
-          double value = new Double(tokenizer.nextToken());
+          double value = Double.parseDouble(tokenizer.nextToken());
           point.setDimensionValue(i, value);
           i++;
         }
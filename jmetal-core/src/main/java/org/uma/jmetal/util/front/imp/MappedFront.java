@@ -0,0 +1,212 @@
+package org.uma.jmetal.util.front.imp;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.util.BinaryFrontFormat;
+import org.uma.jmetal.util.point.Point;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class implements the {@link Front} interface on a file in the format described in
+ * {@link BinaryFrontFormat}, which is mapped into memory instead of being parsed. The points are
+ * views of the mapped buffer, so reading a front does not copy its values; files larger than the
+ * size of a single mapping are mapped in several segments.
+ *
+ * The front is read-only: {@link #setPoint(int, Point)} and the setters of the points raise an
+ * exception. Sorting the front reorders an index of the points, leaving the file untouched. When
+ * serialized, the front is replaced by an {@link ArrayFront} with the same points.
+ */
+@SuppressWarnings("serial")
+public class MappedFront implements Front {
+  private static final long MAXIMUM_SEGMENT_SIZE = 1L << 30 ;
+
+  private final String fileName ;
+  private final int numberOfPoints ;
+  private final int pointDimensions ;
+  private final int bytesPerValue ;
+  private final int pointsPerSegment ;
+  private final transient ByteBuffer[] segments ;
+  private int[] order ;
+
+  /**
+   * Constructor
+   * @param fileName File in binary format
+   * @throws FileNotFoundException
+   */
+  public MappedFront(String fileName) throws FileNotFoundException {
+    this.fileName = fileName ;
+    try (RandomAccessFile file = new RandomAccessFile(fileName, "r");
+         FileChannel channel = file.getChannel()) {
+      ByteBuffer header = ByteBuffer.allocate(BinaryFrontFormat.HEADER_SIZE)
+          .order(BinaryFrontFormat.BYTE_ORDER) ;
+      while (header.hasRemaining()) {
+        if (channel.read(header) < 0) {
+          throw new JMetalException("The file " + fileName + " is too short to be a binary front file") ;
+        }
+      }
+      header.flip() ;
+
+      byte[] magic = new byte[BinaryFrontFormat.MAGIC.length] ;
+      header.get(magic) ;
+      if (!Arrays.equals(magic, BinaryFrontFormat.MAGIC)) {
+        throw new JMetalException("The file " + fileName + " is not a binary front file") ;
+      }
+      byte version = header.get() ;
+      if (version != BinaryFrontFormat.VERSION) {
+        throw new JMetalException("Unsupported version of the binary front format: " + version) ;
+      }
+      bytesPerValue = header.get() ;
+      if (bytesPerValue != BinaryFrontFormat.FLOAT64 && bytesPerValue != BinaryFrontFormat.FLOAT32) {
+        throw new JMetalException("Invalid number of bytes per value: " + bytesPerValue) ;
+      }
+      header.getShort() ;
+      long points = header.getLong() ;
+      pointDimensions = header.getInt() ;
+      if (points < 0 || points > Integer.MAX_VALUE || pointDimensions < 0) {
+        throw new JMetalException("Invalid size of the front: " + points + " x " + pointDimensions) ;
+      }
+      numberOfPoints = (int) points ;
+
+      long pointSize = Math.max(1, (long) pointDimensions * bytesPerValue) ;
+      long dataSize = numberOfPoints * pointSize ;
+      if (channel.size() < BinaryFrontFormat.HEADER_SIZE + dataSize) {
+        throw new JMetalException("The file " + fileName + " is truncated") ;
+      }
+
+      pointsPerSegment = (int) Math.max(1, Math.min(Integer.MAX_VALUE, MAXIMUM_SEGMENT_SIZE / pointSize)) ;
+      int numberOfSegments = (numberOfPoints + pointsPerSegment - 1) / pointsPerSegment ;
+      segments = new ByteBuffer[numberOfSegments] ;
+      for (int i = 0; i < numberOfSegments; i++) {
+        long first = (long) i * pointsPerSegment ;
+        long count = Math.min(pointsPerSegment, numberOfPoints - first) ;
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+            BinaryFrontFormat.HEADER_SIZE + first * pointSize, count * pointSize)
+            .order(BinaryFrontFormat.BYTE_ORDER) ;
+      }
+    } catch (FileNotFoundException e) {
+      throw e ;
+    } catch (IOException e) {
+      throw new JMetalException("Error reading file " + fileName, e) ;
+    }
+  }
+
+  @Override public int getNumberOfPoints() {
+    return numberOfPoints ;
+  }
+
+  @Override public int getPointDimensions() {
+    return pointDimensions ;
+  }
+
+  /**
+   * Returns a value of a point without creating a {@link Point} object
+   * @param index Position of the point
+   * @param dimension Dimension
+   */
+  public double getValue(int index, int dimension) {
+    int row = order == null ? index : order[index] ;
+    ByteBuffer segment = segments[row / pointsPerSegment] ;
+    int offset = ((row % pointsPerSegment) * pointDimensions + dimension) * bytesPerValue ;
+
+    return bytesPerValue == BinaryFrontFormat.FLOAT64 ? segment.getDouble(offset) : segment.getFloat(offset) ;
+  }
+
+  @Override public Point getPoint(int index) {
+    if (index < 0) {
+      throw new JMetalException("The index value is negative") ;
+    } else if (index >= numberOfPoints) {
+      throw new JMetalException(
+          "The index value (" + index + ") is greater than the number of " + "points (" + numberOfPoints + ")");
+    }
+    return new MappedPoint(order == null ? index : order[index]) ;
+  }
+
+  @Override public void setPoint(int index, Point point) {
+    throw new JMetalException("The front of file " + fileName + " is read-only") ;
+  }
+
+  @Override public void sort(Comparator<Point> comparator) {
+    Integer[] positions = new Integer[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      positions[i] = order == null ? i : order[i] ;
+    }
+    Arrays.sort(positions, (row1, row2) -> comparator.compare(new MappedPoint(row1), new MappedPoint(row2)));
+
+    int[] newOrder = new int[numberOfPoints] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      newOrder[i] = positions[i] ;
+    }
+    order = newOrder ;
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
+    return new ArrayFront(this) ;
+  }
+
+  @Override public String toString() {
+    return "MappedFront{" + "fileName='" + fileName + '\'' + ", numberOfPoints=" + numberOfPoints
+        + ", pointDimensions=" + pointDimensions + '}';
+  }
+
+  /** Point reading its values from the mapped buffer */
+  private class MappedPoint implements Point {
+    private final ByteBuffer segment ;
+    private final int offset ;
+
+    MappedPoint(int row) {
+      segment = segments[row / pointsPerSegment] ;
+      offset = (row % pointsPerSegment) * pointDimensions * bytesPerValue ;
+    }
+
+    @Override public int getNumberOfDimensions() {
+      return pointDimensions ;
+    }
+
+    @Override public double[] getValues() {
+      double[] values = new double[pointDimensions] ;
+      for (int i = 0; i < pointDimensions; i++) {
+        values[i] = getDimensionValue(i) ;
+      }
+      return values ;
+    }
+
+    @Override public double getDimensionValue(int index) {
+      if (index < 0 || index >= pointDimensions) {
+        throw new JMetalException("Index value invalid: " + index +
+            ". The point length is " + pointDimensions) ;
+      }
+      int position = offset + index * bytesPerValue ;
+      return bytesPerValue == BinaryFrontFormat.FLOAT64 ? segment.getDouble(position) : segment.getFloat(position) ;
+    }
+
+    @Override public void setDimensionValue(int index, double value) {
+      throw new JMetalException("The front of file " + fileName + " is read-only") ;
+    }
+
+    @Override public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Point)) {
+        return false;
+      }
+      return Arrays.equals(getValues(), ((Point) o).getValues()) ;
+    }
+
+    @Override public int hashCode() {
+      return Arrays.hashCode(getValues()) ;
+    }
+
+    @Override public String toString() {
+      return Arrays.toString(getValues()) ;
+    }
+  }
+}
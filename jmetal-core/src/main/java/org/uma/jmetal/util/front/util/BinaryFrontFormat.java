@@ -0,0 +1,100 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.front.imp.ArrayFront;
+import org.uma.jmetal.util.front.imp.MappedFront;
+
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Binary format of front files (FUN, VAR and reference front files). A file is made of a header of
+ * {@link #HEADER_SIZE} bytes followed by the values of the points, stored row after row in little
+ * endian byte order:
+ * <ul>
+ *   <li>bytes 0-3: the characters "JMFB"</li>
+ *   <li>byte 4: version of the format ({@link #VERSION})</li>
+ *   <li>byte 5: bytes per value: {@link #FLOAT64} or {@link #FLOAT32}</li>
+ *   <li>bytes 6-7: reserved</li>
+ *   <li>bytes 8-15: number of points (long)</li>
+ *   <li>bytes 16-19: number of dimensions (int)</li>
+ *   <li>bytes 20-23: reserved</li>
+ * </ul>
+ * The header size is a multiple of eight, so the values are aligned in a mapped file.
+ */
+public class BinaryFrontFormat {
+  public static final byte[] MAGIC = {'J', 'M', 'F', 'B'} ;
+  public static final byte VERSION = 1 ;
+  public static final byte FLOAT64 = 8 ;
+  public static final byte FLOAT32 = 4 ;
+  public static final int HEADER_SIZE = 24 ;
+  public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN ;
+
+  private BinaryFrontFormat() {
+  }
+
+  /**
+   * Returns a buffer with the header of a file, ready to be written
+   * @param numberOfPoints Number of points
+   * @param dimensions Number of values of each point
+   * @param bytesPerValue {@link #FLOAT64} or {@link #FLOAT32}
+   */
+  public static ByteBuffer createHeader(long numberOfPoints, int dimensions, byte bytesPerValue) {
+    if (bytesPerValue != FLOAT64 && bytesPerValue != FLOAT32) {
+      throw new JMetalException("Invalid number of bytes per value: " + bytesPerValue) ;
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER) ;
+    header.put(MAGIC) ;
+    header.put(VERSION) ;
+    header.put(bytesPerValue) ;
+    header.putShort((short) 0) ;
+    header.putLong(numberOfPoints) ;
+    header.putInt(dimensions) ;
+    header.putInt(0) ;
+    header.flip() ;
+
+    return header ;
+  }
+
+  /** Returns true if a file starts with the header of the binary format */
+  public static boolean isBinaryFile(String fileName) {
+    byte[] bytes = new byte[MAGIC.length] ;
+    try (InputStream inputStream = new FileInputStream(fileName)) {
+      int read = 0 ;
+      while (read < bytes.length) {
+        int count = inputStream.read(bytes, read, bytes.length - read) ;
+        if (count < 0) {
+          return false ;
+        }
+        read += count ;
+      }
+    } catch (IOException e) {
+      return false ;
+    }
+
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (bytes[i] != MAGIC[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Reads a front file, either in binary format, which is mapped into memory, or in text format
+   * @param fileName Name of the file
+   * @throws FileNotFoundException
+   */
+  public static Front readFront(String fileName) throws FileNotFoundException {
+    if (isBinaryFile(fileName)) {
+      return new MappedFront(fileName) ;
+    }
+    return new ArrayFront(fileName) ;
+  }
+}
@@ -0,0 +1,351 @@
+package org.uma.jmetal.util.front.util;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.front.Front;
+import org.uma.jmetal.util.ranking.util.RowBlockTask;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Kd-tree over the points of a {@link Front}, used to find the closest point of the front to a
+ * given one without comparing it against all of them. The points are copied into a single
+ * <code>double[]</code>, reordered so that the points of each node of the tree are contiguous,
+ * and every node stores the bounding box of its points. A query visits first the child whose box
+ * is closest and skips the nodes whose box cannot contain a point closer than the best one found.
+ *
+ * Besides the Euclidean distance, the index supports the distances used by the IGD+ indicator and
+ * by the additive epsilon indicator (see {@link Metric}). The index is immutable once built, so it
+ * can be queried from several threads.
+ */
+public class FrontIndex {
+  /**
+   * Distances from a query point <code>a</code> to a point <code>b</code> of the front
+   */
+  public enum Metric {
+    /** Euclidean distance */
+    EUCLIDEAN,
+    /**
+     * Distance of the IGD+ indicator: sqrt(sum max(b<sub>i</sub> - a<sub>i</sub>, 0)<sup>2</sup>),
+     * as computed by {@link org.uma.jmetal.util.point.util.distance.DominanceDistance}
+     */
+    DOMINANCE,
+    /** Additive epsilon: max(b<sub>i</sub> - a<sub>i</sub>) */
+    ADDITIVE_EPSILON
+  }
+
+  private static final int LEAF_SIZE = 8 ;
+
+  private final int numberOfPoints ;
+  private final int dimensions ;
+  private final double[] points ;
+
+  private int numberOfNodes ;
+  private int[] start ;
+  private int[] end ;
+  private int[] left ;
+  private int[] right ;
+  private double[] lower ;
+  private double[] upper ;
+
+  /**
+   * Constructor
+   * @param front Front to index
+   */
+  public FrontIndex(Front front) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    } else if (front.getNumberOfPoints() == 0) {
+      throw new JMetalException("The front is empty") ;
+    }
+
+    numberOfPoints = front.getNumberOfPoints() ;
+    dimensions = front.getPointDimensions() ;
+    points = new double[numberOfPoints * dimensions] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      for (int k = 0; k < dimensions; k++) {
+        points[i * dimensions + k] = front.getPoint(i).getDimensionValue(k) ;
+      }
+    }
+
+    build() ;
+  }
+
+  /**
+   * Constructor
+   * @param front Matrix of points, one row per point
+   */
+  public FrontIndex(double[][] front) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    } else if (front.length == 0) {
+      throw new JMetalException("The front is empty") ;
+    }
+
+    numberOfPoints = front.length ;
+    dimensions = front[0].length ;
+    points = new double[numberOfPoints * dimensions] ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      System.arraycopy(front[i], 0, points, i * dimensions, dimensions);
+    }
+
+    build() ;
+  }
+
+  public int getNumberOfPoints() {
+    return numberOfPoints ;
+  }
+
+  public int getPointDimensions() {
+    return dimensions ;
+  }
+
+  /**
+   * Returns the distance between a point and the closest one of the indexed front
+   * @param point The point
+   * @param metric The distance
+   */
+  public double distanceToClosestPoint(double[] point, Metric metric) {
+    if (point == null) {
+      throw new JMetalException("The point is null") ;
+    } else if (point.length != dimensions) {
+      throw new JMetalException("The dimensions of the points are different: "
+          + point.length + ", " + dimensions) ;
+    }
+
+    double cost = search(0, point, metric, Double.POSITIVE_INFINITY) ;
+
+    return metric == Metric.ADDITIVE_EPSILON ? cost : Math.sqrt(cost) ;
+  }
+
+  /**
+   * Returns the distances between the points of a front and their closest ones of the indexed
+   * front
+   * @param front The points to look for
+   * @param metric The distance
+   * @param pool Pool used to process blocks of points in parallel; if null, the points are
+   *             processed sequentially
+   */
+  public double[] distancesToClosestPoints(Front front, Metric metric, ForkJoinPool pool) {
+    if (front == null) {
+      throw new JMetalException("The front is null") ;
+    }
+
+    double[] distances = new double[front.getNumberOfPoints()] ;
+    RowBlockTask.RowBlockFunction function = (from, to) -> {
+      for (int i = from; i < to; i++) {
+        distances[i] = distanceToClosestPoint(front.getPoint(i).getValues(), metric) ;
+      }
+    } ;
+
+    if (pool == null) {
+      function.apply(0, distances.length);
+    } else {
+      pool.invoke(new RowBlockTask(function, 0, distances.length,
+          RowBlockTask.blockSize(distances.length, pool.getParallelism()))) ;
+    }
+
+    return distances ;
+  }
+
+  /**
+   * Returns the lowest cost (the squared distance for the Euclidean and dominance distances) of
+   * the points of a node, or <code>best</code> if none is lower
+   */
+  private double search(int node, double[] point, Metric metric, double best) {
+    if (left[node] < 0) {
+      for (int i = start[node]; i < end[node]; i++) {
+        double cost = cost(i * dimensions, point, metric, best) ;
+        if (cost < best) {
+          best = cost ;
+        }
+      }
+      return best ;
+    }
+
+    int first = left[node] ;
+    int second = right[node] ;
+    double firstBound = bound(first, point, metric) ;
+    double secondBound = bound(second, point, metric) ;
+    if (secondBound < firstBound) {
+      int node1 = first ;
+      first = second ;
+      second = node1 ;
+      double bound1 = firstBound ;
+      firstBound = secondBound ;
+      secondBound = bound1 ;
+    }
+
+    if (firstBound < best) {
+      best = search(first, point, metric, best) ;
+    }
+    if (secondBound < best) {
+      best = search(second, point, metric, best) ;
+    }
+
+    return best ;
+  }
+
+  /** Returns the cost of a point of the front, or a value not lower than <code>best</code> */
+  private double cost(int offset, double[] point, Metric metric, double best) {
+    double cost ;
+    switch (metric) {
+      case EUCLIDEAN:
+        cost = 0.0 ;
+        for (int k = 0; k < dimensions && cost < best; k++) {
+          double difference = point[k] - points[offset + k] ;
+          cost += difference * difference ;
+        }
+        break ;
+      case DOMINANCE:
+        cost = 0.0 ;
+        for (int k = 0; k < dimensions && cost < best; k++) {
+          double difference = Math.max(points[offset + k] - point[k], 0.0) ;
+          cost += difference * difference ;
+        }
+        break ;
+      default:
+        cost = points[offset] - point[0] ;
+        for (int k = 1; k < dimensions; k++) {
+          cost = Math.max(cost, points[offset + k] - point[k]) ;
+        }
+    }
+
+    return cost ;
+  }
+
+  /** Returns a lower bound of the cost of the points of a node */
+  private double bound(int node, double[] point, Metric metric) {
+    int offset = node * dimensions ;
+    double bound ;
+    switch (metric) {
+      case EUCLIDEAN:
+        bound = 0.0 ;
+        for (int k = 0; k < dimensions; k++) {
+          double difference = 0.0 ;
+          if (point[k] < lower[offset + k]) {
+            difference = lower[offset + k] - point[k] ;
+          } else if (point[k] > upper[offset + k]) {
+            difference = point[k] - upper[offset + k] ;
+          }
+          bound += difference * difference ;
+        }
+        break ;
+      case DOMINANCE:
+        bound = 0.0 ;
+        for (int k = 0; k < dimensions; k++) {
+          double difference = Math.max(lower[offset + k] - point[k], 0.0) ;
+          bound += difference * difference ;
+        }
+        break ;
+      default:
+        bound = lower[offset] - point[0] ;
+        for (int k = 1; k < dimensions; k++) {
+          bound = Math.max(bound, lower[offset + k] - point[k]) ;
+        }
+    }
+
+    return bound ;
+  }
+
+  private void build() {
+    int maximumNumberOfNodes = 2 * numberOfPoints ;
+    start = new int[maximumNumberOfNodes] ;
+    end = new int[maximumNumberOfNodes] ;
+    left = new int[maximumNumberOfNodes] ;
+    right = new int[maximumNumberOfNodes] ;
+    lower = new double[maximumNumberOfNodes * dimensions] ;
+    upper = new double[maximumNumberOfNodes * dimensions] ;
+
+    numberOfNodes = 0 ;
+    build(0, numberOfPoints) ;
+
+    start = Arrays.copyOf(start, numberOfNodes) ;
+    end = Arrays.copyOf(end, numberOfNodes) ;
+    left = Arrays.copyOf(left, numberOfNodes) ;
+    right = Arrays.copyOf(right, numberOfNodes) ;
+    lower = Arrays.copyOf(lower, numberOfNodes * dimensions) ;
+    upper = Arrays.copyOf(upper, numberOfNodes * dimensions) ;
+  }
+
+  /** Builds the node of the points [from, to) and returns its position */
+  private int build(int from, int to) {
+    int node = numberOfNodes++ ;
+    start[node] = from ;
+    end[node] = to ;
+
+    int offset = node * dimensions ;
+    Arrays.fill(lower, offset, offset + dimensions, Double.POSITIVE_INFINITY);
+    Arrays.fill(upper, offset, offset + dimensions, Double.NEGATIVE_INFINITY);
+    for (int i = from; i < to; i++) {
+      for (int k = 0; k < dimensions; k++) {
+        double value = points[i * dimensions + k] ;
+        lower[offset + k] = Math.min(lower[offset + k], value) ;
+        upper[offset + k] = Math.max(upper[offset + k], value) ;
+      }
+    }
+
+    int splitDimension = 0 ;
+    for (int k = 1; k < dimensions; k++) {
+      if (upper[offset + k] - lower[offset + k] >
+          upper[offset + splitDimension] - lower[offset + splitDimension]) {
+        splitDimension = k ;
+      }
+    }
+
+    if (to - from <= LEAF_SIZE || upper[offset + splitDimension] == lower[offset + splitDimension]) {
+      left[node] = -1 ;
+      right[node] = -1 ;
+    } else {
+      int middle = (from + to) >>> 1 ;
+      select(from, to, middle, splitDimension) ;
+      left[node] = build(from, middle) ;
+      right[node] = build(middle, to) ;
+    }
+
+    return node ;
+  }
+
+  /**
+   * Reorders the points [from, to) so that the one at position <code>k</code> is the one it would
+   * have if they were sorted by a dimension, with no greater values before it and no lower ones
+   * after it
+   */
+  private void select(int from, int to, int k, int dimension) {
+    int low = from ;
+    int high = to - 1 ;
+    while (low < high) {
+      double pivot = points[((low + high) >>> 1) * dimensions + dimension] ;
+      int i = low ;
+      int j = high ;
+      while (i <= j) {
+        while (points[i * dimensions + dimension] < pivot) {
+          i++ ;
+        }
+        while (points[j * dimensions + dimension] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          swap(i++, j--) ;
+        }
+      }
+      if (k <= j) {
+        high = j ;
+      } else if (k >= i) {
+        low = i ;
+      } else {
+        break ;
+      }
+    }
+  }
+
+  private void swap(int row1, int row2) {
+    int offset1 = row1 * dimensions ;
+    int offset2 = row2 * dimensions ;
+    for (int k = 0; k < dimensions; k++) {
+      double value = points[offset1 + k] ;
+      points[offset1 + k] = points[offset2 + k] ;
+      points[offset2 + k] = value ;
+    }
+  }
+}
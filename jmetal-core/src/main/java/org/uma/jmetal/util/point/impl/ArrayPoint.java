@@ -8,17 +8,20 @@ import java.io.BufferedReader;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.StringTokenizer;
 
 /**
- * Class representing a point (i.e, an array of double values)
+ * Class representing a point (i.e, an array of double values). It is serializable, as the
+ * {@link org.uma.jmetal.util.front.Front}s made of points.
  *
  * @author Antonio J. Nebro
  */
-public class ArrayPoint implements Point {
+@SuppressWarnings("serial")
+public class ArrayPoint implements Point, Serializable {
   protected double[] point;
 
 
@@ -5,53 +5,98 @@ import org.uma.jmetal.util.pseudorandom.impl.JavaRandomGenerator;
 import java.io.Serializable;
 
 /**
+ * Entry point to the pseudo-random numbers used by jMetal. By default all the threads share a
+ * single generator, which can be replaced with {@link #setRandomGenerator(PseudoRandomGenerator)}.
+ *
+ * A thread can bind its own generator with
+ * {@link #setThreadRandomGenerator(PseudoRandomGenerator)}; from then on, the numbers requested by
+ * that thread (by the operators, the solution constructors, etc.) are taken from it, without
+ * contention with other threads and without changing how the generator is invoked. Combined with
+ * {@link org.uma.jmetal.util.pseudorandom.impl.SplittableRandomGenerator#forStream(long, long)},
+ * this allows parallel runs to be reproducible.
+ *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class JMetalRandom implements Serializable {
-  private static JMetalRandom instance ;
-  private PseudoRandomGenerator randomGenerator ;
+  private static final JMetalRandom instance = new JMetalRandom() ;
+  private static final ThreadLocal<PseudoRandomGenerator> threadRandomGenerator = new ThreadLocal<>() ;
+
+  private volatile PseudoRandomGenerator randomGenerator ;
 
   private JMetalRandom() {
     randomGenerator = new JavaRandomGenerator() ;
   }
 
   public static JMetalRandom getInstance() {
-    if (instance == null) {
-      instance = new JMetalRandom() ;
-    }
     return instance ;
   }
 
+  /** Sets the generator shared by the threads not having their own generator */
   public void setRandomGenerator(PseudoRandomGenerator randomGenerator) {
     this.randomGenerator = randomGenerator;
   }
 
+  /** Returns the generator used by the calling thread */
   public PseudoRandomGenerator getRandomGenerator() {
-    return randomGenerator ;
+    PseudoRandomGenerator generator = threadRandomGenerator.get() ;
+    return generator != null ? generator : randomGenerator ;
+  }
+
+  /**
+   * Binds a generator to the calling thread
+   * @param randomGenerator The generator; null to use again the shared one
+   */
+  public void setThreadRandomGenerator(PseudoRandomGenerator randomGenerator) {
+    if (randomGenerator == null) {
+      threadRandomGenerator.remove();
+    } else {
+      threadRandomGenerator.set(randomGenerator);
+    }
+  }
+
+  /** Returns the generator bound to the calling thread, or null if it uses the shared one */
+  public PseudoRandomGenerator getThreadRandomGenerator() {
+    return threadRandomGenerator.get() ;
+  }
+
+  /**
+   * Runs a task in the calling thread with a generator bound to it. The generator previously bound
+   * to the thread, if any, is restored afterwards.
+   * @param randomGenerator The generator to use
+   * @param task The task to run
+   */
+  public void runWithRandomGenerator(PseudoRandomGenerator randomGenerator, Runnable task) {
+    PseudoRandomGenerator previousGenerator = threadRandomGenerator.get() ;
+    setThreadRandomGenerator(randomGenerator);
+    try {
+      task.run();
+    } finally {
+      setThreadRandomGenerator(previousGenerator);
+    }
   }
 
   public int nextInt(int lowerBound, int upperBound) {
-    return randomGenerator.nextInt(lowerBound, upperBound) ;
+    return getRandomGenerator().nextInt(lowerBound, upperBound) ;
   }
 
   public double nextDouble() {
-    return randomGenerator.nextDouble() ;
+    return getRandomGenerator().nextDouble() ;
   }
 
   public double nextDouble(double lowerBound, double upperBound) {
-    return randomGenerator.nextDouble(lowerBound, upperBound) ;
+    return getRandomGenerator().nextDouble(lowerBound, upperBound) ;
   }
 
   public void setSeed(long seed) {
-    randomGenerator.setSeed(seed);
+    getRandomGenerator().setSeed(seed);
   }
 
   public long getSeed() {
-    return randomGenerator.getSeed() ;
+    return getRandomGenerator().getSeed() ;
   }
 
   public String getGeneratorName() {
-    return randomGenerator.getName() ;
+    return getRandomGenerator().getName() ;
   }
 }
@@ -0,0 +1,108 @@
+package org.uma.jmetal.util.pseudorandom.impl;
+
+import org.uma.jmetal.util.pseudorandom.PseudoRandomGenerator;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generator based on {@link SplittableRandom}. It is not thread-safe, but it can be split into
+ * statistically independent generators, one per thread or per algorithm run, which do not share
+ * any state. Streams can also be derived deterministically from a master seed and a stream
+ * identifier with {@link #forStream(long, long)}, which is the basis of reproducible parallel runs.
+ *
+ * @see org.uma.jmetal.util.pseudorandom.JMetalRandom#setThreadRandomGenerator(PseudoRandomGenerator)
+ */
+@SuppressWarnings("serial")
+public class SplittableRandomGenerator implements PseudoRandomGenerator {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L ;
+  private static final String name = "SplittableRandomGenerator" ;
+
+  private SplittableRandom rnd ;
+  private long seed ;
+
+  /** Constructor */
+  public SplittableRandomGenerator() {
+    this(System.currentTimeMillis());
+  }
+
+  /** Constructor */
+  public SplittableRandomGenerator(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  private SplittableRandomGenerator(SplittableRandom rnd, long seed) {
+    this.rnd = rnd ;
+    this.seed = seed ;
+  }
+
+  /**
+   * Returns the generator of a stream derived from a master seed. The same pair of arguments
+   * always yields the same sequence, and different stream identifiers yield unrelated sequences.
+   * @param seed Master seed
+   * @param streamId Identifier of the stream (e.g. the index of a run or of a thread)
+   */
+  public static SplittableRandomGenerator forStream(long seed, long streamId) {
+    return new SplittableRandomGenerator(mix(mix(seed) + GOLDEN_GAMMA * (streamId + 1))) ;
+  }
+
+  /**
+   * Combines several keys (e.g. the tags of an algorithm and a problem and the index of a run) into
+   * a stream identifier for {@link #forStream(long, long)}. Every key is mixed with the result of
+   * the previous ones by the finalizer of SplitMix64, so all the bits of all the keys affect the
+   * identifier and keys given in a different order yield a different identifier.
+   * @param keys Keys identifying the stream
+   */
+  public static long streamId(long... keys) {
+    long streamId = 0 ;
+    for (long key : keys) {
+      streamId = mix(streamId + GOLDEN_GAMMA + mix(key)) ;
+    }
+    return streamId ;
+  }
+
+  /**
+   * Returns a new generator, independent of this one, and advances the state of this generator.
+   * The seed of the new generator is reported as the one of this generator.
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(rnd.split(), seed) ;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed ;
+  }
+
+  @Override
+  public int nextInt(int lowerBound, int upperBound) {
+    return lowerBound + rnd.nextInt((upperBound - lowerBound) + 1) ;
+  }
+
+  @Override
+  public double nextDouble(double lowerBound, double upperBound) {
+    return lowerBound + rnd.nextDouble()*(upperBound - lowerBound) ;
+  }
+
+  @Override public double nextDouble() {
+    return nextDouble(0.0, 1.0);
+  }
+
+  @Override
+  public void setSeed(long seed) {
+    this.seed = seed ;
+    rnd = new SplittableRandom(seed) ;
+  }
+
+  @Override
+  public String getName() {
+    return name ;
+  }
+
+  /* Finalizer of SplitMix64 */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L ;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL ;
+    return z ^ (z >>> 31) ;
+  }
+}
@@ -0,0 +1,16 @@
+package org.uma.jmetal.util.ranking;
+
+import java.io.Serializable;
+
+/**
+ * Interface representing algorithms to compute the non-dominated sorting of a set of points. The
+ * points are given as a packed objective matrix (one row per point, all objectives minimized) and
+ * the result is the rank of each point: 0 for the non-dominated points, 1 for the points which are
+ * non-dominated once those of rank 0 are removed, and so on.
+ *
+ * Two points with the same objective values do not dominate each other, so they always get the
+ * same rank. Implementations must not modify the matrix.
+ */
+public interface NonDominatedSortingEngine extends Serializable {
+  int[] computeRanks(double[][] objectives) ;
+}
@@ -0,0 +1,28 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+
+/**
+ * {@link NonDominatedSortingEngine} choosing the algorithm according to the size of the problem:
+ * {@link FastNonDominatedSortingEngine} for small sets, {@link DivideAndConquerSortingEngine} for
+ * two and three objectives and {@link BestOrderSortEngine} for many objectives.
+ */
+@SuppressWarnings("serial")
+public class AdaptiveNonDominatedSortingEngine implements NonDominatedSortingEngine {
+  private static final int SMALL_SET_SIZE = 32 ;
+
+  private final NonDominatedSortingEngine smallSetEngine = new FastNonDominatedSortingEngine() ;
+  private final NonDominatedSortingEngine fewObjectivesEngine = new DivideAndConquerSortingEngine() ;
+  private final NonDominatedSortingEngine manyObjectivesEngine = new BestOrderSortEngine() ;
+
+  @Override
+  public int[] computeRanks(double[][] objectives) {
+    if (objectives.length <= SMALL_SET_SIZE) {
+      return smallSetEngine.computeRanks(objectives) ;
+    } else if (objectives[0].length <= 3) {
+      return fewObjectivesEngine.computeRanks(objectives) ;
+    } else {
+      return manyObjectivesEngine.computeRanks(objectives) ;
+    }
+  }
+}
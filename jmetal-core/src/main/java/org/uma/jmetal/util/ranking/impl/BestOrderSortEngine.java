@@ -0,0 +1,99 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+
+import java.util.Arrays;
+
+/**
+ * Best Order Sort (BOS), as described in: P. C. Roy, M. M. Islam, K. Deb. "Best Order Sort: A New
+ * Algorithm to Non-dominated Sorting for Evolutionary Multi-objective Optimization". GECCO 2016
+ * Companion: 1113-1120.
+ *
+ * The points are sorted once per objective. The sorted lists are then traversed in parallel, one
+ * position at a time; when a point is found for the first time in the list of objective j, only
+ * the points already found in that same list can dominate it, so its rank is obtained by comparing
+ * it with them, rank by rank. This pays off with many objectives, where most comparisons of the
+ * classical algorithms are wasted.
+ *
+ * Complexity: O(M N log N) in the best case and O(M N^2) in the worst case
+ */
+@SuppressWarnings("serial")
+public class BestOrderSortEngine implements NonDominatedSortingEngine {
+
+  @Override
+  public int[] computeRanks(double[][] objectives) {
+    int numberOfPoints = objectives.length ;
+    int[] ranks = new int[numberOfPoints] ;
+    if (numberOfPoints == 0) {
+      return ranks ;
+    }
+    int numberOfObjectives = objectives[0].length ;
+
+    int[][] sortedLists = new int[numberOfObjectives][] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      sortedLists[j] = NonDominatedSortingUtils.objectiveOrder(objectives, j) ;
+    }
+
+    // sets[j][r] contains the points of rank r already found in the sorted list of objective j
+    int[][][] sets = new int[numberOfObjectives][8][] ;
+    int[][] setSizes = new int[numberOfObjectives][8] ;
+    boolean[] ranked = new boolean[numberOfPoints] ;
+    int numberOfRankedPoints = 0 ;
+    int numberOfFronts = 0 ;
+
+    for (int i = 0; i < numberOfPoints && numberOfRankedPoints < numberOfPoints; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        int index = sortedLists[j][i] ;
+        if (!ranked[index]) {
+          double[] point = objectives[index] ;
+          int rank = 0 ;
+          while (rank < numberOfFronts &&
+              isDominatedBySet(point, objectives, sets[j], setSizes[j], rank)) {
+            rank++ ;
+          }
+          ranks[index] = rank ;
+          ranked[index] = true ;
+          numberOfRankedPoints++ ;
+          if (rank == numberOfFronts) {
+            numberOfFronts++ ;
+          }
+        }
+        addToSet(sets, setSizes, j, ranks[index], index);
+      }
+    }
+
+    return ranks ;
+  }
+
+  private boolean isDominatedBySet(double[] point, double[][] objectives, int[][] sets,
+      int[] setSizes, int rank) {
+    if (rank >= sets.length || sets[rank] == null) {
+      return false ;
+    }
+    int[] set = sets[rank] ;
+    for (int i = setSizes[rank] - 1; i >= 0; i--) {
+      if (NonDominatedSortingUtils.dominates(objectives[set[i]], point)) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+
+  private void addToSet(int[][][] sets, int[][] setSizes, int objective, int rank, int index) {
+    if (rank >= sets[objective].length) {
+      int newLength = Math.max(rank + 1, sets[objective].length * 2) ;
+      sets[objective] = Arrays.copyOf(sets[objective], newLength) ;
+      setSizes[objective] = Arrays.copyOf(setSizes[objective], newLength) ;
+    }
+    int[] set = sets[objective][rank] ;
+    if (set == null) {
+      set = new int[4] ;
+      sets[objective][rank] = set ;
+    } else if (setSizes[objective][rank] == set.length) {
+      set = Arrays.copyOf(set, set.length * 2) ;
+      sets[objective][rank] = set ;
+    }
+    set[setSizes[objective][rank]++] = index ;
+  }
+}
@@ -0,0 +1,370 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+
+import java.util.Arrays;
+
+/**
+ * Divide-and-conquer non-dominated sorting based on the algorithm of Jensen, generalized by Fortin
+ * et al. to handle points sharing objective values, in the formulation of: M. Buzdalov, A.
+ * Shalyto. "A Provably Asymptotically Fast Version of the Generalized Jensen Algorithm for
+ * Non-dominated Sorting". PPSN XIII: 528-537 (2014).
+ *
+ * Duplicated points are merged and the remaining ones are sorted lexicographically, so the first
+ * objective is handled by the order of the points. The other objectives are split recursively by
+ * their median, down to a sweep line over the second objective which uses a Fenwick tree of
+ * maximum ranks. It is the fastest choice for two and three objectives.
+ *
+ * Complexity: O(N log^(M-1) N)
+ */
+@SuppressWarnings("serial")
+public class DivideAndConquerSortingEngine implements NonDominatedSortingEngine {
+  private static final int BRUTE_FORCE_THRESHOLD = 16 ;
+
+  private transient double[][] points ;
+  private transient int[] ranks ;
+  private transient double[] medianBuffer ;
+
+  @Override
+  public synchronized int[] computeRanks(double[][] objectives) {
+    int numberOfPoints = objectives.length ;
+    int[] result = new int[numberOfPoints] ;
+    if (numberOfPoints == 0) {
+      return result ;
+    }
+    int numberOfObjectives = objectives[0].length ;
+
+    int[] order = NonDominatedSortingUtils.lexicographicOrder(objectives) ;
+
+    // Merge duplicated points: representative[i] is the position of the point order[i]
+    int[] representative = new int[numberOfPoints] ;
+    points = new double[numberOfPoints][] ;
+    int numberOfDistinctPoints = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      double[] point = objectives[order[i]] ;
+      if (numberOfDistinctPoints == 0 ||
+          !NonDominatedSortingUtils.sameValues(points[numberOfDistinctPoints - 1], point)) {
+        points[numberOfDistinctPoints++] = point ;
+      }
+      representative[i] = numberOfDistinctPoints - 1 ;
+    }
+
+    ranks = new int[numberOfDistinctPoints] ;
+    medianBuffer = new double[numberOfDistinctPoints] ;
+
+    if (numberOfObjectives == 1) {
+      for (int i = 0; i < numberOfDistinctPoints; i++) {
+        ranks[i] = i ;
+      }
+    } else if (numberOfDistinctPoints > 1) {
+      int[] all = new int[numberOfDistinctPoints] ;
+      for (int i = 0; i < numberOfDistinctPoints; i++) {
+        all[i] = i ;
+      }
+      helperA(all, numberOfObjectives - 1);
+    }
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      result[order[i]] = ranks[representative[i]] ;
+    }
+
+    points = null ;
+    ranks = null ;
+    medianBuffer = null ;
+
+    return result ;
+  }
+
+  /**
+   * Propagates ranks between the points of a set, taking into account objectives 1..k. The
+   * caller guarantees that for every pair i &lt; j in the set, the objectives above k of point i
+   * are not worse than those of point j, and that the set has already received the ranks coming
+   * from points outside it. Sets are arrays of positions in increasing order.
+   */
+  private void helperA(int[] set, int k) {
+    int size = set.length ;
+    if (size < 2) {
+      return ;
+    } else if (size <= BRUTE_FORCE_THRESHOLD) {
+      for (int j = 1; j < size; j++) {
+        for (int i = 0; i < j; i++) {
+          updateIfWeaklyDominates(set[i], set[j], k);
+        }
+      }
+    } else if (k == 1) {
+      sweepA(set);
+    } else {
+      double median = median(set, null, k) ;
+      if (Double.isNaN(median)) {
+        helperA(set, k - 1);
+      } else {
+        int[] lower = filter(set, k, median, -1) ;
+        int[] equal = filter(set, k, median, 0) ;
+        int[] higher = filter(set, k, median, 1) ;
+
+        helperA(lower, k);
+        helperB(lower, equal, k - 1);
+        helperA(equal, k - 1);
+        helperB(merge(lower, equal), higher, k - 1);
+        helperA(higher, k);
+      }
+    }
+  }
+
+  /**
+   * Propagates ranks from the points of set <code>from</code>, whose ranks are final, to the
+   * points of set <code>to</code>, taking into account objectives 1..k. The caller guarantees that
+   * the objectives above k of any point of <code>from</code> are not worse than those of any point
+   * of <code>to</code>.
+   */
+  private void helperB(int[] from, int[] to, int k) {
+    if (from.length == 0 || to.length == 0) {
+      return ;
+    } else if ((long)from.length * to.length <= BRUTE_FORCE_THRESHOLD * BRUTE_FORCE_THRESHOLD) {
+      for (int target : to) {
+        for (int source : from) {
+          if (source >= target) {
+            break ;
+          }
+          updateIfWeaklyDominates(source, target, k);
+        }
+      }
+    } else if (k == 1) {
+      sweepB(from, to);
+    } else {
+      double minFrom = Double.POSITIVE_INFINITY ;
+      double maxFrom = Double.NEGATIVE_INFINITY ;
+      for (int source : from) {
+        minFrom = Math.min(minFrom, points[source][k]) ;
+        maxFrom = Math.max(maxFrom, points[source][k]) ;
+      }
+      double minTo = Double.POSITIVE_INFINITY ;
+      double maxTo = Double.NEGATIVE_INFINITY ;
+      for (int target : to) {
+        minTo = Math.min(minTo, points[target][k]) ;
+        maxTo = Math.max(maxTo, points[target][k]) ;
+      }
+
+      if (maxFrom <= minTo) {
+        helperB(from, to, k - 1);
+      } else if (minFrom <= maxTo) {
+        double median = median(from, to, k) ;
+        int[] fromLower = filter(from, k, median, -1) ;
+        int[] fromEqual = filter(from, k, median, 0) ;
+        int[] fromHigher = filter(from, k, median, 1) ;
+        int[] toLower = filter(to, k, median, -1) ;
+        int[] toEqual = filter(to, k, median, 0) ;
+        int[] toHigher = filter(to, k, median, 1) ;
+
+        helperB(fromLower, toLower, k);
+        helperB(merge(fromLower, fromEqual), merge(toEqual, toHigher), k - 1);
+        helperB(fromHigher, toHigher, k);
+      }
+    }
+  }
+
+  /** Sweep line over objective 1 inside a set, in increasing order of positions */
+  private void sweepA(int[] set) {
+    int[] coordinates = compress(set, null) ;
+    int[] tree = newTree(coordinates.length) ;
+    for (int i = 0; i < set.length; i++) {
+      int position = set[i] ;
+      int best = query(tree, coordinates[i]) ;
+      if (best >= ranks[position]) {
+        ranks[position] = best + 1 ;
+      }
+      update(tree, coordinates[i], ranks[position]);
+    }
+  }
+
+  /** Sweep line over objective 1 from one set to another, in increasing order of positions */
+  private void sweepB(int[] from, int[] to) {
+    int[] coordinates = compress(from, to) ;
+    int[] tree = newTree(coordinates.length) ;
+    int i = 0 ;
+    for (int j = 0; j < to.length; j++) {
+      int target = to[j] ;
+      while (i < from.length && from[i] < target) {
+        update(tree, coordinates[i], ranks[from[i]]);
+        i++ ;
+      }
+      int best = query(tree, coordinates[from.length + j]) ;
+      if (best >= ranks[target]) {
+        ranks[target] = best + 1 ;
+      }
+    }
+  }
+
+  private void updateIfWeaklyDominates(int source, int target, int k) {
+    double[] sourcePoint = points[source] ;
+    double[] targetPoint = points[target] ;
+    for (int objective = 1; objective <= k; objective++) {
+      if (sourcePoint[objective] > targetPoint[objective]) {
+        return ;
+      }
+    }
+    if (ranks[source] >= ranks[target]) {
+      ranks[target] = ranks[source] + 1 ;
+    }
+  }
+
+  /**
+   * Returns the median of objective k of the points of both sets, or NaN if all of them have the
+   * same value
+   */
+  private double median(int[] set1, int[] set2, int k) {
+    int size = 0 ;
+    for (int position : set1) {
+      medianBuffer[size++] = points[position][k] ;
+    }
+    if (set2 != null) {
+      for (int position : set2) {
+        medianBuffer[size++] = points[position][k] ;
+      }
+    }
+
+    double min = medianBuffer[0] ;
+    double max = medianBuffer[0] ;
+    for (int i = 1; i < size; i++) {
+      min = Math.min(min, medianBuffer[i]) ;
+      max = Math.max(max, medianBuffer[i]) ;
+    }
+    if (min == max) {
+      return Double.NaN ;
+    }
+
+    return select(medianBuffer, 0, size - 1, size / 2) ;
+  }
+
+  /** Quickselect of the n-th smallest value in buffer[from..to] */
+  private static double select(double[] buffer, int from, int to, int n) {
+    while (from < to) {
+      double pivot = buffer[(from + to) >>> 1] ;
+      int i = from ;
+      int j = to ;
+      while (i <= j) {
+        while (buffer[i] < pivot) {
+          i++ ;
+        }
+        while (buffer[j] > pivot) {
+          j-- ;
+        }
+        if (i <= j) {
+          double tmp = buffer[i] ;
+          buffer[i] = buffer[j] ;
+          buffer[j] = tmp ;
+          i++ ;
+          j-- ;
+        }
+      }
+      if (n <= j) {
+        to = j ;
+      } else if (n >= i) {
+        from = i ;
+      } else {
+        return buffer[n] ;
+      }
+    }
+    return buffer[n] ;
+  }
+
+  /** Keeps the positions whose objective k is lower than (-1), equal to (0) or higher than (1) the value */
+  private int[] filter(int[] set, int k, double value, int side) {
+    int count = 0 ;
+    for (int position : set) {
+      if (side(points[position][k], value) == side) {
+        count++ ;
+      }
+    }
+    int[] result = new int[count] ;
+    count = 0 ;
+    for (int position : set) {
+      if (side(points[position][k], value) == side) {
+        result[count++] = position ;
+      }
+    }
+    return result ;
+  }
+
+  private static int side(double x, double value) {
+    if (x < value) {
+      return -1 ;
+    } else if (x > value) {
+      return 1 ;
+    }
+    return 0 ;
+  }
+
+  private static int[] merge(int[] set1, int[] set2) {
+    int[] result = new int[set1.length + set2.length] ;
+    int i = 0 ;
+    int j = 0 ;
+    int k = 0 ;
+    while (i < set1.length && j < set2.length) {
+      result[k++] = set1[i] < set2[j] ? set1[i++] : set2[j++] ;
+    }
+    while (i < set1.length) {
+      result[k++] = set1[i++] ;
+    }
+    while (j < set2.length) {
+      result[k++] = set2[j++] ;
+    }
+    return result ;
+  }
+
+  /**
+   * Returns the 1-based rank of objective 1 of each point of both sets (concatenated), equal values
+   * sharing the same rank
+   */
+  private int[] compress(int[] set1, int[] set2) {
+    int size = set1.length + (set2 == null ? 0 : set2.length) ;
+    int[] positions = new int[size] ;
+    System.arraycopy(set1, 0, positions, 0, set1.length);
+    if (set2 != null) {
+      System.arraycopy(set2, 0, positions, set1.length, set2.length);
+    }
+
+    int[] order = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    NonDominatedSortingUtils.sort(order, 0, size,
+        (index1, index2) -> side(points[positions[index1]][1], points[positions[index2]][1]));
+
+    int[] coordinates = new int[size] ;
+    int coordinate = 0 ;
+    for (int i = 0; i < size; i++) {
+      if (i == 0 || points[positions[order[i]]][1] != points[positions[order[i - 1]]][1]) {
+        coordinate++ ;
+      }
+      coordinates[order[i]] = coordinate ;
+    }
+    return coordinates ;
+  }
+
+  /* Fenwick tree of maximum values, -1 meaning empty */
+  private static int[] newTree(int size) {
+    int[] tree = new int[size + 1] ;
+    Arrays.fill(tree, -1);
+    return tree ;
+  }
+
+  private static void update(int[] tree, int coordinate, int value) {
+    for (int i = coordinate; i < tree.length; i += i & -i) {
+      if (tree[i] < value) {
+        tree[i] = value ;
+      }
+    }
+  }
+
+  private static int query(int[] tree, int coordinate) {
+    int result = -1 ;
+    for (int i = coordinate; i > 0; i -= i & -i) {
+      if (tree[i] > result) {
+        result = tree[i] ;
+      }
+    }
+    return result ;
+  }
+}
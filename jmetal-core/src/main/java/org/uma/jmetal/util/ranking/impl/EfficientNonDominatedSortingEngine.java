@@ -0,0 +1,103 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+
+import java.util.Arrays;
+
+/**
+ * Efficient Non-dominated Sort (ENS), as described in: X. Zhang, Y. Tian, R. Cheng, Y. Jin.
+ * "An Efficient Approach to Nondominated Sorting for Evolutionary Multiobjective Optimization".
+ * IEEE Transactions on Evolutionary Computation 19(2): 201-213 (2015).
+ *
+ * Points are processed in lexicographic order, so a point can only be dominated by points already
+ * assigned to a front. The front of each point is found either by a sequential search (ENS-SS) or
+ * by a binary search (ENS-BS) over the fronts; the members of a front are checked from the last
+ * one added, which is the most likely to dominate the point.
+ *
+ * Complexity: O(M N log N) in the best case and O(M N^2) in the worst case
+ */
+@SuppressWarnings("serial")
+public class EfficientNonDominatedSortingEngine implements NonDominatedSortingEngine {
+  public enum SearchStrategy {SEQUENTIAL, BINARY}
+
+  private SearchStrategy searchStrategy ;
+
+  /** Constructor */
+  public EfficientNonDominatedSortingEngine() {
+    this(SearchStrategy.BINARY) ;
+  }
+
+  /** Constructor */
+  public EfficientNonDominatedSortingEngine(SearchStrategy searchStrategy) {
+    this.searchStrategy = searchStrategy ;
+  }
+
+  public SearchStrategy getSearchStrategy() {
+    return searchStrategy;
+  }
+
+  @Override
+  public int[] computeRanks(double[][] objectives) {
+    int numberOfPoints = objectives.length ;
+    int[] ranks = new int[numberOfPoints] ;
+    int[] order = NonDominatedSortingUtils.lexicographicOrder(objectives) ;
+
+    int[][] fronts = new int[8][] ;
+    int[] frontSizes = new int[8] ;
+    int numberOfFronts = 0 ;
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      int index = order[i] ;
+      double[] point = objectives[index] ;
+
+      int rank ;
+      if (searchStrategy == SearchStrategy.SEQUENTIAL) {
+        rank = 0 ;
+        while (rank < numberOfFronts &&
+            isDominatedByFront(point, objectives, fronts[rank], frontSizes[rank])) {
+          rank++ ;
+        }
+      } else {
+        int low = 0 ;
+        int high = numberOfFronts ;
+        while (low < high) {
+          int middle = (low + high) >>> 1 ;
+          if (isDominatedByFront(point, objectives, fronts[middle], frontSizes[middle])) {
+            low = middle + 1 ;
+          } else {
+            high = middle ;
+          }
+        }
+        rank = low ;
+      }
+
+      if (rank == numberOfFronts) {
+        if (numberOfFronts == fronts.length) {
+          fronts = Arrays.copyOf(fronts, numberOfFronts * 2) ;
+          frontSizes = Arrays.copyOf(frontSizes, numberOfFronts * 2) ;
+        }
+        fronts[numberOfFronts] = new int[4] ;
+        frontSizes[numberOfFronts] = 0 ;
+        numberOfFronts++ ;
+      }
+
+      if (frontSizes[rank] == fronts[rank].length) {
+        fronts[rank] = Arrays.copyOf(fronts[rank], frontSizes[rank] * 2) ;
+      }
+      fronts[rank][frontSizes[rank]++] = index ;
+      ranks[index] = rank ;
+    }
+
+    return ranks ;
+  }
+
+  private boolean isDominatedByFront(double[] point, double[][] objectives, int[] front, int size) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (NonDominatedSortingUtils.dominates(objectives[front[i]], point)) {
+        return true ;
+      }
+    }
+    return false ;
+  }
+}
@@ -0,0 +1,68 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+
+/**
+ * Fast non-dominated sorting algorithm of NSGA-II (Deb et al., 2002) working on primitive arrays.
+ * The number of dominators of each point is kept in an <code>int[]</code> and fronts are stored as
+ * blocks of an <code>int[]</code> of indices. Instead of keeping the list of points dominated by
+ * each point, which takes O(N^2) memory, dominance is tested again while peeling the fronts, so the
+ * memory used is O(N) and the number of comparisons is at most N^2.
+ *
+ * Complexity: O(M N^2)
+ */
+@SuppressWarnings("serial")
+public class FastNonDominatedSortingEngine implements NonDominatedSortingEngine {
+
+  @Override
+  public int[] computeRanks(double[][] objectives) {
+    int numberOfPoints = objectives.length ;
+    int[] ranks = new int[numberOfPoints] ;
+    int[] dominateMe = new int[numberOfPoints] ;
+
+    for (int p = 0; p < numberOfPoints - 1; p++) {
+      for (int q = p + 1; q < numberOfPoints; q++) {
+        int flagDominate = NonDominatedSortingUtils.dominanceTest(objectives[p], objectives[q]) ;
+        if (flagDominate == -1) {
+          dominateMe[q]++ ;
+        } else if (flagDominate == 1) {
+          dominateMe[p]++ ;
+        }
+      }
+    }
+
+    // fronts[frontStart..frontEnd) is the current front, the next one is appended after it
+    int[] fronts = new int[numberOfPoints] ;
+    int frontEnd = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (dominateMe[i] == 0) {
+        fronts[frontEnd++] = i ;
+        ranks[i] = 0 ;
+      }
+    }
+
+    int frontStart = 0 ;
+    int rank = 0 ;
+    while (frontEnd < numberOfPoints) {
+      int nextFrontEnd = frontEnd ;
+      rank++ ;
+      for (int i = frontStart; i < frontEnd; i++) {
+        double[] point = objectives[fronts[i]] ;
+        for (int q = 0; q < numberOfPoints; q++) {
+          if (dominateMe[q] > 0 && NonDominatedSortingUtils.dominates(point, objectives[q])) {
+            dominateMe[q]-- ;
+            if (dominateMe[q] == 0) {
+              fronts[nextFrontEnd++] = q ;
+              ranks[q] = rank ;
+            }
+          }
+        }
+      }
+      frontStart = frontEnd ;
+      frontEnd = nextFrontEnd ;
+    }
+
+    return ranks ;
+  }
+}
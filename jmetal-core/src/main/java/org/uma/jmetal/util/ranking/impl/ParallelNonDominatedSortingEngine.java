@@ -0,0 +1,161 @@
+package org.uma.jmetal.util.ranking.impl;
+
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SharedForkJoinPools;
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
+import org.uma.jmetal.util.ranking.util.RowBlockTask;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Parallel version of the fast non-dominated sorting algorithm based on a {@link ForkJoinPool}.
+ * The domination matrix is never stored: it is processed in tiles of rows and columns, each row
+ * block being computed by a different task.
+ *
+ * - First, the number of points dominating each point is computed row by row.
+ * - Then the fronts are peeled one after the other; for each pending point, the number of its
+ * dominators in the current front is subtracted from its counter, the pending points being split
+ * in blocks among the threads.
+ *
+ * Every counter is only written by the task owning its row, so the ranks are the same as the ones
+ * of the sequential algorithms whatever the level of parallelism. Sets smaller than the
+ * sequential threshold are sorted by a sequential engine.
+ */
+@SuppressWarnings("serial")
+public class ParallelNonDominatedSortingEngine implements NonDominatedSortingEngine {
+  private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 2000 ;
+  private static final int COLUMN_TILE_SIZE = 256 ;
+
+  private final int parallelism ;
+  private final int sequentialThreshold ;
+  private final NonDominatedSortingEngine sequentialEngine ;
+
+  /** Constructor. Uses the common fork/join pool */
+  public ParallelNonDominatedSortingEngine() {
+    this(0, DEFAULT_SEQUENTIAL_THRESHOLD, new AdaptiveNonDominatedSortingEngine()) ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool of the engine, shared with the other
+   *                    components having the same level (see {@link SharedForkJoinPools}); 0 to
+   *                    use the common pool
+   */
+  public ParallelNonDominatedSortingEngine(int parallelism) {
+    this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD, new AdaptiveNonDominatedSortingEngine()) ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool of the engine; 0 to use the common pool
+   * @param sequentialThreshold Sets with fewer points are sorted sequentially
+   * @param sequentialEngine Engine used below the threshold
+   */
+  public ParallelNonDominatedSortingEngine(int parallelism, int sequentialThreshold,
+      NonDominatedSortingEngine sequentialEngine) {
+    if (parallelism < 0) {
+      throw new JMetalException("The parallelism level is negative: " + parallelism) ;
+    } else if (sequentialEngine == null) {
+      throw new JMetalException("The sequential engine is null") ;
+    }
+    this.parallelism = parallelism ;
+    this.sequentialThreshold = sequentialThreshold ;
+    this.sequentialEngine = sequentialEngine ;
+  }
+
+  /* Getters */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public int getSequentialThreshold() {
+    return sequentialThreshold;
+  }
+
+  @Override
+  public int[] computeRanks(double[][] objectives) {
+    int numberOfPoints = objectives.length ;
+    if (numberOfPoints < sequentialThreshold || numberOfPoints < 2) {
+      return sequentialEngine.computeRanks(objectives) ;
+    }
+
+    ForkJoinPool forkJoinPool = getPool() ;
+    int blockSize = RowBlockTask.blockSize(numberOfPoints, forkJoinPool.getParallelism()) ;
+
+    int[] ranks = new int[numberOfPoints] ;
+    int[] dominateMe = new int[numberOfPoints] ;
+
+    forkJoinPool.invoke(new RowBlockTask((from, to) -> {
+      for (int columnTile = 0; columnTile < numberOfPoints; columnTile += COLUMN_TILE_SIZE) {
+        int columnTileEnd = Math.min(columnTile + COLUMN_TILE_SIZE, numberOfPoints) ;
+        for (int p = from; p < to; p++) {
+          double[] point = objectives[p] ;
+          int count = 0 ;
+          for (int q = columnTile; q < columnTileEnd; q++) {
+            if (NonDominatedSortingUtils.dominates(objectives[q], point)) {
+              count++ ;
+            }
+          }
+          dominateMe[p] += count ;
+        }
+      }
+    }, 0, numberOfPoints, blockSize));
+
+    int[] front = new int[numberOfPoints] ;
+    int frontSize = 0 ;
+    int[] pending = new int[numberOfPoints] ;
+    int pendingSize = 0 ;
+    for (int i = 0; i < numberOfPoints; i++) {
+      if (dominateMe[i] == 0) {
+        front[frontSize++] = i ;
+      } else {
+        pending[pendingSize++] = i ;
+      }
+    }
+
+    int rank = 0 ;
+    while (pendingSize > 0) {
+      rank++ ;
+      int[] currentFront = front ;
+      int currentFrontSize = frontSize ;
+      int[] currentPending = pending ;
+      int currentRank = rank ;
+
+      forkJoinPool.invoke(new RowBlockTask((from, to) -> {
+        for (int i = from; i < to; i++) {
+          int q = currentPending[i] ;
+          double[] point = objectives[q] ;
+          int count = 0 ;
+          for (int j = 0; j < currentFrontSize; j++) {
+            if (NonDominatedSortingUtils.dominates(objectives[currentFront[j]], point)) {
+              count++ ;
+            }
+          }
+          dominateMe[q] -= count ;
+          if (dominateMe[q] == 0) {
+            ranks[q] = currentRank ;
+          }
+        }
+      }, 0, pendingSize, RowBlockTask.blockSize(pendingSize, forkJoinPool.getParallelism())));
+
+      frontSize = 0 ;
+      int newPendingSize = 0 ;
+      for (int i = 0; i < pendingSize; i++) {
+        int q = pending[i] ;
+        if (dominateMe[q] == 0) {
+          front[frontSize++] = q ;
+        } else {
+          pending[newPendingSize++] = q ;
+        }
+      }
+      pendingSize = newPendingSize ;
+    }
+
+    return ranks ;
+  }
+
+  private ForkJoinPool getPool() {
+    return SharedForkJoinPools.getPool(parallelism) ;
+  }
+}
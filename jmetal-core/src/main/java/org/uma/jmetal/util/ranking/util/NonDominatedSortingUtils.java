@@ -0,0 +1,162 @@
+package org.uma.jmetal.util.ranking.util;
+
+/**
+ * Primitive helpers shared by the {@link org.uma.jmetal.util.ranking.NonDominatedSortingEngine}
+ * implementations. Points are rows of an objective matrix and all objectives are minimized.
+ */
+public class NonDominatedSortingUtils {
+
+  /**
+   * Comparator of positions in an array of indices, used to sort <code>int[]</code> without boxing
+   */
+  public interface IndexComparator {
+    int compare(int index1, int index2) ;
+  }
+
+  /**
+   * Dominance test with the same semantics as
+   * {@link org.uma.jmetal.util.comparator.DominanceComparator}
+   *
+   * @return -1, or 0, or 1 if point1 dominates point2, both are non-dominated, or point1 is
+   * dominated by point2, respectively.
+   */
+  public static int dominanceTest(double[] point1, double[] point2) {
+    boolean bestIsOne = false ;
+    boolean bestIsTwo = false ;
+    for (int i = 0; i < point1.length; i++) {
+      double value1 = point1[i] ;
+      double value2 = point2[i] ;
+      if (value1 < value2) {
+        bestIsOne = true ;
+      } else if (value2 < value1) {
+        bestIsTwo = true ;
+      }
+    }
+
+    if (bestIsOne == bestIsTwo) {
+      return 0 ;
+    }
+    return bestIsOne ? -1 : 1 ;
+  }
+
+  /** Returns true if point1 dominates point2 */
+  public static boolean dominates(double[] point1, double[] point2) {
+    boolean strictlyBetter = false ;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i]) {
+        return false ;
+      } else if (point1[i] < point2[i]) {
+        strictlyBetter = true ;
+      }
+    }
+    return strictlyBetter ;
+  }
+
+  /** Returns true if both points have the same objective values */
+  public static boolean sameValues(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] != point2[i]) {
+        return false ;
+      }
+    }
+    return true ;
+  }
+
+  /**
+   * Compares two points lexicographically, starting by objective <code>firstObjective</code> and
+   * wrapping around the remaining ones
+   */
+  public static int compareLexicographically(double[] point1, double[] point2, int firstObjective) {
+    int numberOfObjectives = point1.length ;
+    for (int i = 0; i < numberOfObjectives; i++) {
+      int objective = (firstObjective + i) % numberOfObjectives ;
+      if (point1[objective] < point2[objective]) {
+        return -1 ;
+      } else if (point1[objective] > point2[objective]) {
+        return 1 ;
+      }
+    }
+    return 0 ;
+  }
+
+  /**
+   * Returns the indices 0..n-1 of the points sorted lexicographically. Equal points keep their
+   * original relative order.
+   */
+  public static int[] lexicographicOrder(double[][] points) {
+    return objectiveOrder(points, 0) ;
+  }
+
+  /**
+   * Returns the indices 0..n-1 of the points sorted by objective <code>objective</code>, ties
+   * being broken lexicographically by the remaining objectives. If a point dominates another one,
+   * it precedes it in the order returned, whatever the objective.
+   */
+  public static int[] objectiveOrder(double[][] points, int objective) {
+    int[] order = new int[points.length] ;
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i ;
+    }
+    sort(order, 0, order.length,
+        (index1, index2) -> compareLexicographically(points[index1], points[index2], objective));
+
+    return order ;
+  }
+
+  /**
+   * Stable sort of a range of an array of indices
+   * @param indices The array to sort
+   * @param from First position (inclusive)
+   * @param to Last position (exclusive)
+   * @param comparator The comparator of indices
+   */
+  public static void sort(int[] indices, int from, int to, IndexComparator comparator) {
+    if (to - from < 2) {
+      return ;
+    }
+    int[] buffer = new int[to - from] ;
+    mergeSort(indices, from, to, buffer, comparator);
+  }
+
+  private static void mergeSort(int[] indices, int from, int to, int[] buffer,
+      IndexComparator comparator) {
+    int length = to - from ;
+    if (length < 16) {
+      for (int i = from + 1; i < to; i++) {
+        int value = indices[i] ;
+        int j = i - 1 ;
+        while (j >= from && comparator.compare(indices[j], value) > 0) {
+          indices[j + 1] = indices[j] ;
+          j-- ;
+        }
+        indices[j + 1] = value ;
+      }
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    mergeSort(indices, from, middle, buffer, comparator);
+    mergeSort(indices, middle, to, buffer, comparator);
+    if (comparator.compare(indices[middle - 1], indices[middle]) <= 0) {
+      return ;
+    }
+
+    System.arraycopy(indices, from, buffer, 0, length);
+    int left = 0 ;
+    int right = middle - from ;
+    int position = from ;
+    while (left < middle - from && right < length) {
+      if (comparator.compare(buffer[right], buffer[left]) < 0) {
+        indices[position++] = buffer[right++] ;
+      } else {
+        indices[position++] = buffer[left++] ;
+      }
+    }
+    while (left < middle - from) {
+      indices[position++] = buffer[left++] ;
+    }
+    while (right < length) {
+      indices[position++] = buffer[right++] ;
+    }
+  }
+}
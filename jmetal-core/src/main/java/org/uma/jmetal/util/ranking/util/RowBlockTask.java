@@ -0,0 +1,54 @@
+package org.uma.jmetal.util.ranking.util;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task applying a function to the rows of a matrix, split into blocks of consecutive
+ * rows. Each row is processed by exactly one thread, so as long as the function only writes
+ * data of its own row, the result does not depend on the number of threads.
+ */
+@SuppressWarnings("serial")
+public class RowBlockTask extends RecursiveAction {
+  /** Function applied to a block of rows [from, to) */
+  public interface RowBlockFunction {
+    void apply(int from, int to) ;
+  }
+
+  private final RowBlockFunction function ;
+  private final int from ;
+  private final int to ;
+  private final int blockSize ;
+
+  /**
+   * Constructor
+   * @param function Function applied to the blocks
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   * @param blockSize Maximum number of rows processed by a single task
+   */
+  public RowBlockTask(RowBlockFunction function, int from, int to, int blockSize) {
+    this.function = function ;
+    this.from = from ;
+    this.to = to ;
+    this.blockSize = Math.max(1, blockSize) ;
+  }
+
+  @Override
+  protected void compute() {
+    if (to - from <= blockSize) {
+      function.apply(from, to);
+    } else {
+      int middle = (from + to) >>> 1 ;
+      invokeAll(new RowBlockTask(function, from, middle, blockSize),
+          new RowBlockTask(function, middle, to, blockSize));
+    }
+  }
+
+  /**
+   * Returns a block size giving a few blocks per thread, so that the work stays balanced when
+   * rows have different costs
+   */
+  public static int blockSize(int numberOfRows, int parallelism) {
+    return Math.max(1, numberOfRows / (4 * Math.max(1, parallelism))) ;
+  }
+}
@@ -0,0 +1,97 @@
+package org.uma.jmetal.util.solutionattribute;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry assigning primitive storage slots to attribute identifiers. Solutions implementing
+ * {@link org.uma.jmetal.solution.AttributeSlotHolder} keep the values of the registered attributes
+ * in <code>double[]</code> and <code>int[]</code> arrays indexed by these slots, instead of boxing
+ * them into their map of attributes.
+ *
+ * Slots are assigned once per identifier and never released. There are {@link #MAXIMUM_NUMBER_OF_SLOTS}
+ * slots of each type; when they are exhausted, or when the identifier already has a slot of the
+ * other type, -1 is returned and the attribute is stored in the map of attributes, as any other
+ * one.
+ */
+public final class AttributeSlotRegistry {
+  public static final int MAXIMUM_NUMBER_OF_SLOTS = 64 ;
+
+  private static final Map<Object, Integer> doubleSlots = new ConcurrentHashMap<>() ;
+  private static final Map<Object, Integer> intSlots = new ConcurrentHashMap<>() ;
+  private static final Object[] doubleIdentifiers = new Object[MAXIMUM_NUMBER_OF_SLOTS] ;
+  private static final Object[] intIdentifiers = new Object[MAXIMUM_NUMBER_OF_SLOTS] ;
+  private static int numberOfDoubleSlots = 0 ;
+  private static int numberOfIntSlots = 0 ;
+
+  private AttributeSlotRegistry() {
+  }
+
+  /**
+   * Returns the slot of a double-valued attribute, registering it if needed
+   * @param identifier Identifier of the attribute
+   * @return The slot, or -1 if there are no free slots or the attribute is registered as
+   * integer-valued
+   */
+  public static synchronized int registerDoubleSlot(Object identifier) {
+    if (intSlots.containsKey(identifier)) {
+      return -1 ;
+    }
+
+    Integer slot = doubleSlots.get(identifier) ;
+    if (slot == null) {
+      if (numberOfDoubleSlots == MAXIMUM_NUMBER_OF_SLOTS) {
+        return -1 ;
+      }
+      slot = numberOfDoubleSlots++ ;
+      doubleIdentifiers[slot] = identifier ;
+      doubleSlots.put(identifier, slot) ;
+    }
+    return slot ;
+  }
+
+  /**
+   * Returns the slot of an integer-valued attribute, registering it if needed
+   * @param identifier Identifier of the attribute
+   * @return The slot, or -1 if there are no free slots or the attribute is registered as
+   * double-valued
+   */
+  public static synchronized int registerIntSlot(Object identifier) {
+    if (doubleSlots.containsKey(identifier)) {
+      return -1 ;
+    }
+
+    Integer slot = intSlots.get(identifier) ;
+    if (slot == null) {
+      if (numberOfIntSlots == MAXIMUM_NUMBER_OF_SLOTS) {
+        return -1 ;
+      }
+      slot = numberOfIntSlots++ ;
+      intIdentifiers[slot] = identifier ;
+      intSlots.put(identifier, slot) ;
+    }
+    return slot ;
+  }
+
+  /** Returns the slot of a double-valued attribute, or -1 if it is not registered */
+  public static int getDoubleSlot(Object identifier) {
+    Integer slot = doubleSlots.get(identifier) ;
+    return slot == null ? -1 : slot ;
+  }
+
+  /** Returns the slot of an integer-valued attribute, or -1 if it is not registered */
+  public static int getIntSlot(Object identifier) {
+    Integer slot = intSlots.get(identifier) ;
+    return slot == null ? -1 : slot ;
+  }
+
+  /** Returns the identifier of the attribute stored in a double slot */
+  public static synchronized Object getDoubleIdentifier(int slot) {
+    return doubleIdentifiers[slot] ;
+  }
+
+  /** Returns the identifier of the attribute stored in an integer slot */
+  public static synchronized Object getIntIdentifier(int slot) {
+    return intIdentifiers[slot] ;
+  }
+}
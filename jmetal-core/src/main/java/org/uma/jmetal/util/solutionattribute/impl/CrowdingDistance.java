@@ -1,21 +1,43 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
-import org.uma.jmetal.util.comparator.ObjectiveComparator;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.densityestimator.CrowdingDistanceEngine;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
- * This class implements the crowding distance
+ * This class implements the crowding distance. The objective values are copied into a matrix and
+ * the distances are computed by a {@link CrowdingDistanceEngine}, which sorts arrays of indices
+ * instead of the list of solutions.
  *
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class CrowdingDistance<S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
+    extends DoubleValuedAttribute<S> implements DensityEstimator<S>{
+  private final CrowdingDistanceEngine engine ;
+
+  /** Constructor */
+  public CrowdingDistance() {
+    this(new CrowdingDistanceEngine()) ;
+  }
+
+  /**
+   * Constructor
+   * @param engine The engine computing the distances
+   */
+  public CrowdingDistance(CrowdingDistanceEngine engine) {
+    if (engine == null) {
+      throw new JMetalException("The engine is null") ;
+    }
+    this.engine = engine ;
+  }
+
+  public CrowdingDistanceEngine getEngine() {
+    return engine ;
+  }
 
   /**
    * Assigns crowding distances to all solutions in a <code>SolutionSet</code>.
@@ -32,50 +54,18 @@ public class CrowdingDistance<S extends Solution<?>>
       return;
     }
 
-    if (size == 1) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      return;
-    }
-
-    if (size == 2) {
-      solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      solutionList.get(1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-
-      return;
-    }
-
-    // Use a new SolutionSet to avoid altering the original solutionSet
-    List<S> front = new ArrayList<>(size);
-    for (S solution : solutionList) {
-      front.add(solution);
-    }
-
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[][] objectives = new double[size][numberOfObjectives] ;
     for (int i = 0; i < size; i++) {
-      front.get(i).setAttribute(getAttributeIdentifier(), 0.0);
+      S solution = solutionList.get(i) ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives[i][j] = solution.getObjective(j) ;
+      }
     }
 
-    double objetiveMaxn;
-    double objetiveMinn;
-    double distance;
-
-    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
-
-    for (int i = 0; i < numberOfObjectives; i++) {
-      // Sort the population by Obj n
-      Collections.sort(front, new ObjectiveComparator<S>(i)) ;
-      objetiveMinn = front.get(0).getObjective(i);
-      objetiveMaxn = front.get(front.size() - 1).getObjective(i);
-
-      // Set de crowding distance
-      front.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-      front.get(size - 1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-
-      for (int j = 1; j < size - 1; j++) {
-        distance = front.get(j + 1).getObjective(i) - front.get(j - 1).getObjective(i);
-        distance = distance / (objetiveMaxn - objetiveMinn);
-        distance += (double)front.get(j).getAttribute(getAttributeIdentifier());
-        front.get(j).setAttribute(getAttributeIdentifier(), distance);
-      }
+    double[] distance = engine.computeDistances(objectives) ;
+    for (int i = 0; i < size; i++) {
+      setDoubleValue(solutionList.get(i), distance[i]);
     }
   }
 
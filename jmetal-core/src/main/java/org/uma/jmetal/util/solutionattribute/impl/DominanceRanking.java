@@ -4,6 +4,9 @@ import org.uma.jmetal.solution.Solution;
 import org.uma.jmetal.util.JMetalException;
 import org.uma.jmetal.util.comparator.DominanceComparator;
 import org.uma.jmetal.util.comparator.impl.OverallConstraintViolationComparator;
+import org.uma.jmetal.util.ranking.NonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.impl.AdaptiveNonDominatedSortingEngine;
+import org.uma.jmetal.util.ranking.util.NonDominatedSortingUtils;
 import org.uma.jmetal.util.solutionattribute.Ranking;
 
 import java.util.*;
@@ -22,28 +25,253 @@ import java.util.*;
  */
 @SuppressWarnings("serial")
 public class DominanceRanking <S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Integer> implements Ranking<S> {
+    extends IntegerValuedAttribute<S> implements Ranking<S> {
 
   private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
   private static final Comparator<Solution<?>> CONSTRAINT_VIOLATION_COMPARATOR =
       new OverallConstraintViolationComparator<Solution<?>>();
 
+  private static final OverallConstraintViolation<Solution<?>> OVERALL_CONSTRAINT_VIOLATION =
+      new OverallConstraintViolation<Solution<?>>();
+
   private List<ArrayList<S>> rankedSubPopulations;
+  private NonDominatedSortingEngine engine ;
 
   /**
    * Constructor
    */
   public DominanceRanking() {
-    rankedSubPopulations = new ArrayList<>();
+    this(new AdaptiveNonDominatedSortingEngine()) ;
   }
 
   public DominanceRanking(Object id) {
+    this(id, new AdaptiveNonDominatedSortingEngine()) ;
+  }
+
+  /**
+   * Constructor
+   * @param engine Algorithm used to compute the ranks
+   */
+  public DominanceRanking(NonDominatedSortingEngine engine) {
+    if (engine == null) {
+      throw new JMetalException("The non-dominated sorting engine is null") ;
+    }
+    this.engine = engine ;
+    rankedSubPopulations = new ArrayList<>();
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   * @param engine Algorithm used to compute the ranks
+   */
+  public DominanceRanking(Object id, NonDominatedSortingEngine engine) {
     super(id) ;
+    if (engine == null) {
+      throw new JMetalException("The non-dominated sorting engine is null") ;
+    }
+    this.engine = engine ;
     rankedSubPopulations = new ArrayList<>();
   }
 
+  public NonDominatedSortingEngine getEngine() {
+    return engine;
+  }
+
   @Override
   public Ranking<S> computeRanking(List<S> solutionSet) {
+    int size = solutionSet.size() ;
+    if (size == 0) {
+      rankedSubPopulations = new ArrayList<>();
+      return this ;
+    }
+
+    double[][] objectives = objectiveMatrix(solutionSet) ;
+    int[] groups = objectives == null ? null : constraintViolationGroups(solutionSet) ;
+    if (groups == null) {
+      return computeRankingByPairwiseComparison(solutionSet) ;
+    }
+
+    int[] ranks = computeRanks(objectives, groups) ;
+    int[][] fronts = sortFronts(objectives, groups, ranks) ;
+
+    rankedSubPopulations = new ArrayList<>(fronts.length);
+    for (int rank = 0; rank < fronts.length; rank++) {
+      ArrayList<S> subPopulation = new ArrayList<S>(fronts[rank].length) ;
+      for (int index : fronts[rank]) {
+        S solution = solutionSet.get(index) ;
+        setIntValue(solution, rank);
+        subPopulation.add(solution) ;
+      }
+      rankedSubPopulations.add(subPopulation) ;
+    }
+
+    return this;
+  }
+
+  /**
+   * Returns the objective matrix of the solutions, or null if they cannot be handled by the
+   * engines (different number of objectives or NaN values)
+   */
+  private double[][] objectiveMatrix(List<S> solutionList) {
+    int numberOfObjectives = solutionList.get(0).getNumberOfObjectives() ;
+    double[][] objectives = new double[solutionList.size()][] ;
+    for (int i = 0; i < solutionList.size(); i++) {
+      S solution = solutionList.get(i) ;
+      if (solution.getNumberOfObjectives() != numberOfObjectives) {
+        return null ;
+      }
+      double[] point = new double[numberOfObjectives] ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        point[j] = solution.getObjective(j) ;
+        if (Double.isNaN(point[j])) {
+          return null ;
+        }
+      }
+      objectives[i] = point ;
+    }
+    return objectives ;
+  }
+
+  /**
+   * Groups the solutions by overall constraint violation. Group 0 contains the solutions with the
+   * lowest violation; every solution of a group dominates all the solutions of the next ones.
+   * Returns null if the violation degrees do not define such an order.
+   */
+  private int[] constraintViolationGroups(List<S> solutionList) {
+    int size = solutionList.size() ;
+    int[] groups = new int[size] ;
+
+    if (OVERALL_CONSTRAINT_VIOLATION.getAttribute(solutionList.get(0)) == null) {
+      for (S solution : solutionList) {
+        if (OVERALL_CONSTRAINT_VIOLATION.getAttribute(solution) != null) {
+          return null ;
+        }
+      }
+      return groups ;
+    }
+
+    double[] violations = new double[size] ;
+    for (int i = 0; i < size; i++) {
+      Double violation = OVERALL_CONSTRAINT_VIOLATION.getAttribute(solutionList.get(i)) ;
+      if (violation == null || Double.isNaN(violation) || violation > 0) {
+        return null ;
+      }
+      violations[i] = violation ;
+    }
+
+    int[] order = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      order[i] = i ;
+    }
+    NonDominatedSortingUtils.sort(order, 0, size,
+        (index1, index2) -> Double.compare(violations[index2] + 0.0, violations[index1] + 0.0));
+
+    int group = 0 ;
+    for (int i = 0; i < size; i++) {
+      if (i > 0 && violations[order[i]] != violations[order[i - 1]]) {
+        group++ ;
+      }
+      groups[order[i]] = group ;
+    }
+
+    return groups ;
+  }
+
+  private int[] computeRanks(double[][] objectives, int[] groups) {
+    int size = objectives.length ;
+    int numberOfGroups = 0 ;
+    for (int group : groups) {
+      numberOfGroups = Math.max(numberOfGroups, group + 1) ;
+    }
+
+    if (numberOfGroups == 1) {
+      return engine.computeRanks(objectives) ;
+    }
+
+    int[] ranks = new int[size] ;
+    int[] members = new int[size] ;
+    int rankOffset = 0 ;
+    for (int group = 0; group < numberOfGroups; group++) {
+      int numberOfMembers = 0 ;
+      for (int i = 0; i < size; i++) {
+        if (groups[i] == group) {
+          members[numberOfMembers++] = i ;
+        }
+      }
+
+      double[][] groupObjectives = new double[numberOfMembers][] ;
+      for (int i = 0; i < numberOfMembers; i++) {
+        groupObjectives[i] = objectives[members[i]] ;
+      }
+
+      int[] groupRanks = engine.computeRanks(groupObjectives) ;
+      int numberOfFronts = 0 ;
+      for (int i = 0; i < numberOfMembers; i++) {
+        ranks[members[i]] = groupRanks[i] + rankOffset ;
+        numberOfFronts = Math.max(numberOfFronts, groupRanks[i] + 1) ;
+      }
+      rankOffset += numberOfFronts ;
+    }
+
+    return ranks ;
+  }
+
+  /**
+   * Builds the fronts from the ranks, ordering their members as the classical algorithm does:
+   * front 0 in increasing order of index, and the members of any other front by the position of
+   * their last dominator in the previous front, then by index.
+   */
+  private int[][] sortFronts(double[][] objectives, int[] groups, int[] ranks) {
+    int size = ranks.length ;
+    int numberOfFronts = 0 ;
+    for (int rank : ranks) {
+      numberOfFronts = Math.max(numberOfFronts, rank + 1) ;
+    }
+
+    int[] frontSizes = new int[numberOfFronts] ;
+    for (int rank : ranks) {
+      frontSizes[rank]++ ;
+    }
+    int[][] fronts = new int[numberOfFronts][] ;
+    for (int rank = 0; rank < numberOfFronts; rank++) {
+      fronts[rank] = new int[frontSizes[rank]] ;
+      frontSizes[rank] = 0 ;
+    }
+    for (int i = 0; i < size; i++) {
+      fronts[ranks[i]][frontSizes[ranks[i]]++] = i ;
+    }
+
+    int[] lastDominator = new int[size] ;
+    for (int rank = 1; rank < numberOfFronts; rank++) {
+      int[] previousFront = fronts[rank - 1] ;
+      int[] front = fronts[rank] ;
+      for (int index : front) {
+        int position = previousFront.length - 1 ;
+        while (!dominates(previousFront[position], index, objectives, groups)) {
+          position-- ;
+        }
+        lastDominator[index] = position ;
+      }
+      NonDominatedSortingUtils.sort(front, 0, front.length,
+          (index1, index2) -> Integer.compare(lastDominator[index1], lastDominator[index2]));
+    }
+
+    return fronts ;
+  }
+
+  private boolean dominates(int index1, int index2, double[][] objectives, int[] groups) {
+    if (groups[index1] != groups[index2]) {
+      return groups[index1] < groups[index2] ;
+    }
+    return NonDominatedSortingUtils.dominates(objectives[index1], objectives[index2]) ;
+  }
+
+  /**
+   * Classical fast non-dominated sorting algorithm, comparing the solutions with
+   * {@link DominanceComparator} and {@link OverallConstraintViolationComparator}
+   */
+  private Ranking<S> computeRankingByPairwiseComparison(List<S> solutionSet) {
     List<S> population = solutionSet;
 
     // dominateMe[i] contains the number of solutions dominating i
@@ -91,7 +319,7 @@ public class DominanceRanking <S extends Solution<?>>
     for (int i = 0; i < population.size(); i++) {
       if (dominateMe[i] == 0) {
         front.get(0).add(i);
-        solutionSet.get(i).setAttribute(getAttributeIdentifier(), 0);
+        setIntValue(solutionSet.get(i), 0);
       }
     }
 
@@ -109,7 +337,7 @@ public class DominanceRanking <S extends Solution<?>>
           if (dominateMe[index] == 0) {
             front.get(i).add(index);
             //RankingAndCrowdingAttr.getAttributes(solutionSet.get(index)).setRank(i);
-            solutionSet.get(index).setAttribute(getAttributeIdentifier(), i);
+            setIntValue(solutionSet.get(index), i);
           }
         }
       }
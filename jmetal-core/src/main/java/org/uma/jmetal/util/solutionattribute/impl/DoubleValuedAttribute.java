@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.AttributeSlotHolder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+/**
+ * Attribute whose values are doubles. Its identifier gets a slot in {@link AttributeSlotRegistry},
+ * so in solutions implementing {@link AttributeSlotHolder} the value is kept in a primitive array
+ * and can be accessed with {@link #getDoubleValue(Solution)} and
+ * {@link #setDoubleValue(Solution, double)} without boxing nor hashing. With other solutions, or
+ * if no slot is available, the map of attributes of the solution is used.
+ */
+@SuppressWarnings("serial")
+public class DoubleValuedAttribute<S extends Solution<?>> extends GenericSolutionAttribute<S, Double> {
+  private transient int slot ;
+
+  /**
+   * Constructor
+   */
+  public DoubleValuedAttribute() {
+    super() ;
+    slot = AttributeSlotRegistry.registerDoubleSlot(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   */
+  public DoubleValuedAttribute(Object id) {
+    super(id) ;
+    slot = AttributeSlotRegistry.registerDoubleSlot(getAttributeIdentifier()) ;
+  }
+
+  /** Returns true if the solution has a value of this attribute */
+  public boolean hasValue(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      return ((AttributeSlotHolder) solution).hasDoubleAttribute(slot) ;
+    }
+    return solution.getAttribute(getAttributeIdentifier()) != null ;
+  }
+
+  /**
+   * Returns the value of the attribute
+   * @throws JMetalException if the solution has no value of this attribute
+   */
+  public double getDoubleValue(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      if (holder.hasDoubleAttribute(slot)) {
+        return holder.getDoubleAttribute(slot) ;
+      }
+    } else {
+      Object value = solution.getAttribute(getAttributeIdentifier()) ;
+      if (value != null) {
+        return ((Number) value).doubleValue() ;
+      }
+    }
+    throw new JMetalException("The solution has no value of the attribute " + getAttributeIdentifier()) ;
+  }
+
+  /** Returns the value of the attribute, or a default value if the solution has none */
+  public double getDoubleValue(S solution, double defaultValue) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      return holder.hasDoubleAttribute(slot) ? holder.getDoubleAttribute(slot) : defaultValue ;
+    }
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value != null ? ((Number) value).doubleValue() : defaultValue ;
+  }
+
+  public void setDoubleValue(S solution, double value) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      ((AttributeSlotHolder) solution).setDoubleAttribute(slot, value) ;
+    } else {
+      solution.setAttribute(getAttributeIdentifier(), value) ;
+    }
+  }
+
+  @Override
+  public Double getAttribute(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      return holder.hasDoubleAttribute(slot) ? holder.getDoubleAttribute(slot) : null ;
+    }
+    return super.getAttribute(solution) ;
+  }
+
+  @Override
+  public void setAttribute(S solution, Double value) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      if (value == null) {
+        ((AttributeSlotHolder) solution).removeDoubleAttribute(slot) ;
+      } else {
+        ((AttributeSlotHolder) solution).setDoubleAttribute(slot, value) ;
+      }
+    } else {
+      super.setAttribute(solution, value) ;
+    }
+  }
+
+  /** The slots depend on the JVM, so the one of the identifier is looked up again */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    slot = AttributeSlotRegistry.registerDoubleSlot(getAttributeIdentifier()) ;
+  }
+}
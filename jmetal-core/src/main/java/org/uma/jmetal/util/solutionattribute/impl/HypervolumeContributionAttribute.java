@@ -1,11 +1,40 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.densityestimator.HypervolumeContributionEngine;
+
+import java.util.List;
 
 /**
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
 public class HypervolumeContributionAttribute<S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Double>  {
+    extends DoubleValuedAttribute<S>  {
+
+  /**
+   * Assigns to each solution of a list its hypervolume contribution, computed by
+   * {@link HypervolumeContributionEngine}
+   * @param solutionList The solutions
+   * @param referencePoint The reference point
+   */
+  public void computeContributions(List<S> solutionList, double[] referencePoint) {
+    double[][] points = SolutionListUtils.writeObjectivesToMatrix(solutionList) ;
+    double[] contributions = HypervolumeContributionEngine.computeContributions(points, referencePoint) ;
+    for (int i = 0; i < contributions.length; i++) {
+      setDoubleValue(solutionList.get(i), contributions[i]);
+    }
+  }
+
+  /**
+   * Assigns to each solution of a list the hypervolume contribution kept by an engine
+   * @param solutionList The solutions, which must have been added to the engine
+   * @param engine The engine
+   */
+  public void setContributions(List<S> solutionList, HypervolumeContributionEngine<? super S> engine) {
+    for (S solution : solutionList) {
+      setDoubleValue(solution, engine.getContribution(solution));
+    }
+  }
 }
@@ -0,0 +1,111 @@
+package org.uma.jmetal.util.solutionattribute.impl;
+
+import org.uma.jmetal.solution.AttributeSlotHolder;
+import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.solutionattribute.AttributeSlotRegistry;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+/**
+ * Attribute whose values are integers. Its identifier gets a slot in {@link AttributeSlotRegistry},
+ * so in solutions implementing {@link AttributeSlotHolder} the value is kept in a primitive array
+ * and can be accessed with {@link #getIntValue(Solution)} and
+ * {@link #setIntValue(Solution, int)} without boxing nor hashing. With other solutions, or
+ * if no slot is available, the map of attributes of the solution is used.
+ */
+@SuppressWarnings("serial")
+public class IntegerValuedAttribute<S extends Solution<?>> extends GenericSolutionAttribute<S, Integer> {
+  private transient int slot ;
+
+  /**
+   * Constructor
+   */
+  public IntegerValuedAttribute() {
+    super() ;
+    slot = AttributeSlotRegistry.registerIntSlot(getAttributeIdentifier()) ;
+  }
+
+  /**
+   * Constructor
+   * @param id Attribute identifier
+   */
+  public IntegerValuedAttribute(Object id) {
+    super(id) ;
+    slot = AttributeSlotRegistry.registerIntSlot(getAttributeIdentifier()) ;
+  }
+
+  /** Returns true if the solution has a value of this attribute */
+  public boolean hasValue(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      return ((AttributeSlotHolder) solution).hasIntAttribute(slot) ;
+    }
+    return solution.getAttribute(getAttributeIdentifier()) != null ;
+  }
+
+  /**
+   * Returns the value of the attribute
+   * @throws JMetalException if the solution has no value of this attribute
+   */
+  public int getIntValue(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      if (holder.hasIntAttribute(slot)) {
+        return holder.getIntAttribute(slot) ;
+      }
+    } else {
+      Object value = solution.getAttribute(getAttributeIdentifier()) ;
+      if (value != null) {
+        return ((Number) value).intValue() ;
+      }
+    }
+    throw new JMetalException("The solution has no value of the attribute " + getAttributeIdentifier()) ;
+  }
+
+  /** Returns the value of the attribute, or a default value if the solution has none */
+  public int getIntValue(S solution, int defaultValue) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      return holder.hasIntAttribute(slot) ? holder.getIntAttribute(slot) : defaultValue ;
+    }
+    Object value = solution.getAttribute(getAttributeIdentifier()) ;
+    return value != null ? ((Number) value).intValue() : defaultValue ;
+  }
+
+  public void setIntValue(S solution, int value) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      ((AttributeSlotHolder) solution).setIntAttribute(slot, value) ;
+    } else {
+      solution.setAttribute(getAttributeIdentifier(), value) ;
+    }
+  }
+
+  @Override
+  public Integer getAttribute(S solution) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      AttributeSlotHolder holder = (AttributeSlotHolder) solution ;
+      return holder.hasIntAttribute(slot) ? holder.getIntAttribute(slot) : null ;
+    }
+    return super.getAttribute(solution) ;
+  }
+
+  @Override
+  public void setAttribute(S solution, Integer value) {
+    if (slot >= 0 && solution instanceof AttributeSlotHolder) {
+      if (value == null) {
+        ((AttributeSlotHolder) solution).removeIntAttribute(slot) ;
+      } else {
+        ((AttributeSlotHolder) solution).setIntAttribute(slot, value) ;
+      }
+    } else {
+      super.setAttribute(solution, value) ;
+    }
+  }
+
+  /** The slots depend on the JVM, so the one of the identifier is looked up again */
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    slot = AttributeSlotRegistry.registerIntSlot(getAttributeIdentifier()) ;
+  }
+}
@@ -6,11 +6,11 @@ import java.util.List;
 
 @SuppressWarnings("serial")
 public class LocationAttribute <S extends Solution<?>>
-		extends GenericSolutionAttribute<S, Integer> {
+		extends IntegerValuedAttribute<S> {
 
 	public LocationAttribute(List<S> source) {
 		int location = 0;
 		for (S s : source)
-			s.setAttribute(getAttributeIdentifier(), location++);
+			setIntValue(s, location++);
 	}
 }
@@ -6,5 +6,5 @@ import org.uma.jmetal.solution.Solution;
  * @author Antonio J. Nebro <antonio@lcc.uma.es>
  */
 @SuppressWarnings("serial")
-public class NumberOfViolatedConstraints<S extends Solution<?>> extends GenericSolutionAttribute<S, Integer> {
+public class NumberOfViolatedConstraints<S extends Solution<?>> extends IntegerValuedAttribute<S> {
 }
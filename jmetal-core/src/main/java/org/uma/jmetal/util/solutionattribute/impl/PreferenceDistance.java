@@ -7,7 +7,7 @@ import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
 import java.util.*;
 
-public class PreferenceDistance<S extends Solution<?>> extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S> {
+public class PreferenceDistance<S extends Solution<?>> extends DoubleValuedAttribute<S> implements DensityEstimator<S> {
     private  List<Double> interestPoint;
 
     private List<Double> weights = null;
@@ -39,13 +39,13 @@ public class PreferenceDistance<S extends Solution<?>> extends GenericSolutionAt
         }
 
         if (size == 1) {
-            solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+            setDoubleValue(solutionList.get(0), Double.POSITIVE_INFINITY);
             return;
         }
 
         if (size == 2) {
-            solutionList.get(0).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
-            solutionList.get(1).setAttribute(getAttributeIdentifier(), Double.POSITIVE_INFINITY);
+            setDoubleValue(solutionList.get(0), Double.POSITIVE_INFINITY);
+            setDoubleValue(solutionList.get(1), Double.POSITIVE_INFINITY);
 
             return;
         }
@@ -57,7 +57,7 @@ public class PreferenceDistance<S extends Solution<?>> extends GenericSolutionAt
         }
 
         for (int i = 0; i < size; i++) {
-            front.get(i).setAttribute(getAttributeIdentifier(), 0.0);
+            setDoubleValue(front.get(i), 0.0);
         }
 
         double objetiveMaxn;
@@ -85,7 +85,7 @@ public class PreferenceDistance<S extends Solution<?>> extends GenericSolutionAt
                     distance += weights.get(j) * Math.pow(normalizeDiff, 2.0D);
                 }
                 distance = Math.sqrt(distance);
-                front.get(i).setAttribute(getAttributeIdentifier(), distance);
+                setDoubleValue(front.get(i), distance);
 
             }
 
@@ -120,7 +120,7 @@ public class PreferenceDistance<S extends Solution<?>> extends GenericSolutionAt
                 }
 
                 if (sum < epsilon) {
-                    temporalList.get(indexOfSolution).setAttribute(getAttributeIdentifier(),Double.MAX_VALUE);
+                    setDoubleValue(temporalList.get(indexOfSolution), Double.MAX_VALUE);
                     preference.add(temporalList.get(indexOfSolution));
                     temporalList.remove(indexOfSolution);
                 }
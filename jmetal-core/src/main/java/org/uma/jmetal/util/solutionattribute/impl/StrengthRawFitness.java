@@ -1,21 +1,74 @@
 package org.uma.jmetal.util.solutionattribute.impl;
 
 import org.uma.jmetal.solution.Solution;
+import org.uma.jmetal.util.JMetalException;
+import org.uma.jmetal.util.SharedForkJoinPools;
 import org.uma.jmetal.util.SolutionListUtils;
+import org.uma.jmetal.util.SolutionUtils;
 import org.uma.jmetal.util.comparator.DominanceComparator;
+import org.uma.jmetal.util.ranking.util.RowBlockTask;
 import org.uma.jmetal.util.solutionattribute.DensityEstimator;
 
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Strength raw fitness of SPEA2, plus the density term based on the distance to the k-th nearest
+ * solution.
+ *
+ * If a level of parallelism is given, lists having at least <code>sequentialThreshold</code>
+ * solutions are processed by a {@link ForkJoinPool}, each task computing a block of rows of the
+ * distance and domination matrices. Each value is computed by a single thread in the same order
+ * as in the sequential version, so the results are identical.
+ */
 @SuppressWarnings("serial")
 public class StrengthRawFitness <S extends Solution<?>>
-    extends GenericSolutionAttribute<S, Double> implements DensityEstimator<S>{
+    extends DoubleValuedAttribute<S> implements DensityEstimator<S>{
   private static final Comparator<Solution<?>> DOMINANCE_COMPARATOR = new DominanceComparator<Solution<?>>();
+  private static final int DEFAULT_SEQUENTIAL_THRESHOLD = 500 ;
+
+  private final int parallelism ;
+  private final int sequentialThreshold ;
+
+  /** Constructor */
+  public StrengthRawFitness() {
+    this.parallelism = -1 ;
+    this.sequentialThreshold = Integer.MAX_VALUE ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to compute the fitness, shared with the
+   *                    other components having the same level (see {@link SharedForkJoinPools});
+   *                    0 to use the common pool
+   */
+  public StrengthRawFitness(int parallelism) {
+    this(parallelism, DEFAULT_SEQUENTIAL_THRESHOLD) ;
+  }
+
+  /**
+   * Constructor
+   * @param parallelism Number of threads of the pool used to compute the fitness; 0 to use the
+   *                    common pool
+   * @param sequentialThreshold Lists with fewer solutions are processed sequentially
+   */
+  public StrengthRawFitness(int parallelism, int sequentialThreshold) {
+    if (parallelism < 0) {
+      throw new JMetalException("The parallelism level is negative: " + parallelism) ;
+    }
+    this.parallelism = parallelism ;
+    this.sequentialThreshold = sequentialThreshold ;
+  }
 
   @Override
   public void computeDensityEstimator(List<S> solutionSet) {
+    if (parallelism >= 0 && solutionSet.size() >= sequentialThreshold) {
+      computeDensityEstimatorInParallel(solutionSet);
+      return;
+    }
+
     double [][] distance = SolutionListUtils.distanceMatrix(solutionSet);
     double []   strength    = new double[solutionSet.size()];
     double []   rawFitness  = new double[solutionSet.size()];
@@ -47,7 +100,52 @@ public class StrengthRawFitness <S extends Solution<?>>
     for (int i = 0; i < distance.length; i++) {
       Arrays.sort(distance[i]);
       kDistance = 1.0 / (distance[i][k] + 2.0);
-      solutionSet.get(i).setAttribute(getAttributeIdentifier(), rawFitness[i] + kDistance);
+      setDoubleValue(solutionSet.get(i), rawFitness[i] + kDistance);
+    }
+  }
+
+  private void computeDensityEstimatorInParallel(List<S> solutionSet) {
+    int size = solutionSet.size() ;
+    double []   kDistance   = new double[size];
+    double []   strength    = new double[size];
+    double []   rawFitness  = new double[size];
+
+    ForkJoinPool forkJoinPool = getPool() ;
+    int blockSize = RowBlockTask.blockSize(size, forkJoinPool.getParallelism()) ;
+
+    // strength(i) and the distance to the k-th individual (k = 1, see above)
+    forkJoinPool.invoke(new RowBlockTask((from, to) -> {
+      double[] distance = new double[size] ;
+      for (int i = from; i < to; i++) {
+        S solution = solutionSet.get(i) ;
+        for (int j = 0; j < size; j++) {
+          distance[j] = SolutionUtils.distanceBetweenObjectives(solution, solutionSet.get(j)) ;
+          if (DOMINANCE_COMPARATOR.compare(solution, solutionSet.get(j)) == -1) {
+            strength[i] += 1.0;
+          }
+        }
+        Arrays.sort(distance);
+        kDistance[i] = 1.0 / (distance[1] + 2.0);
+      }
+    }, 0, size, blockSize));
+
+    // rawFitness(i) = |{sum strenght(j) | j <- SolutionSet and j dominate i}|
+    forkJoinPool.invoke(new RowBlockTask((from, to) -> {
+      for (int i = from; i < to; i++) {
+        for (int j = 0; j < size; j++) {
+          if (DOMINANCE_COMPARATOR.compare(solutionSet.get(i), solutionSet.get(j)) == 1) {
+            rawFitness[i] += strength[j];
+          }
+        }
+      }
+    }, 0, size, blockSize));
+
+    for (int i = 0; i < size; i++) {
+      setDoubleValue(solutionSet.get(i), rawFitness[i] + kDistance[i]);
     }
   }
+
+  private ForkJoinPool getPool() {
+    return SharedForkJoinPools.getPool(parallelism) ;
+  }
 }
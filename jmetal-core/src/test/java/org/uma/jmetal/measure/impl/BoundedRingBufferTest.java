@@ -0,0 +1,138 @@
+package org.uma.jmetal.measure.impl;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.uma.jmetal.util.JMetalException;
+
+public class BoundedRingBufferTest {
+	@Test
+	public void testCapacityIsRoundedUpToAPowerOfTwo() {
+		assertEquals(1, new BoundedRingBuffer(1).getCapacity());
+		assertEquals(4, new BoundedRingBuffer(3).getCapacity());
+		assertEquals(1024, new BoundedRingBuffer(1024).getCapacity());
+		assertEquals(2048, new BoundedRingBuffer(1025).getCapacity());
+	}
+
+	@Test(expected = JMetalException.class)
+	public void testZeroCapacityIsRejected() {
+		new BoundedRingBuffer(0);
+	}
+
+	@Test
+	public void testValuesArePolledInOrderUntilEmpty() {
+		BoundedRingBuffer buffer = new BoundedRingBuffer(8);
+		assertTrue(buffer.isEmpty());
+		assertSame(BoundedRingBuffer.EMPTY, buffer.poll());
+
+		// several rounds, so that the positions wrap around the slots
+		int next = 0;
+		for (int round = 0; round < 10; round++) {
+			int first = next;
+			for (int i = 0; i < 8; i++) {
+				assertTrue(buffer.offer(i == 3 ? null : next));
+				next++;
+			}
+			assertFalse(buffer.offer(-1));
+			assertFalse(buffer.isEmpty());
+
+			for (int i = 0; i < 8; i++) {
+				assertEquals(i == 3 ? null : first + i, buffer.poll());
+			}
+			assertTrue(buffer.isEmpty());
+			assertSame(BoundedRingBuffer.EMPTY, buffer.poll());
+		}
+	}
+
+	@Test
+	public void testSlotsAreReusedOnePerPoll() {
+		BoundedRingBuffer buffer = new BoundedRingBuffer(4);
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+		for (int i = 4; i < 100; i++) {
+			assertEquals(i - 4, buffer.poll());
+			assertTrue(buffer.offer(i));
+			assertFalse(buffer.offer(-1));
+		}
+	}
+
+	@Test(timeout = 30000)
+	public void testConcurrentProducersAndConsumers() throws InterruptedException {
+		final int producers = 4;
+		final int consumers = 3;
+		final int valuesPerProducer = 100000;
+		final BoundedRingBuffer buffer = new BoundedRingBuffer(64);
+		final AtomicInteger remaining = new AtomicInteger(producers * valuesPerProducer);
+		final int[][] received = new int[consumers][];
+		final List<String> errors = new ArrayList<>();
+
+		List<Thread> threads = new ArrayList<>();
+		for (int p = 0; p < producers; p++) {
+			final int producer = p;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for (int i = 0; i < valuesPerProducer; i++) {
+						long value = (long) producer << 32 | i;
+						while (!buffer.offer(value)) {
+							Thread.yield();
+						}
+					}
+				}
+			});
+		}
+		for (int c = 0; c < consumers; c++) {
+			final int consumer = c;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					// each consumer sees the values of a producer in increasing order
+					int[] last = new int[producers];
+					int[] count = new int[producers];
+					Arrays.fill(last, -1);
+					while (remaining.get() > 0) {
+						Object value = buffer.poll();
+						if (value == BoundedRingBuffer.EMPTY) {
+							Thread.yield();
+							continue;
+						}
+						remaining.decrementAndGet();
+						long code = (Long) value;
+						int producer = (int) (code >>> 32);
+						int index = (int) code;
+						if (index <= last[producer]) {
+							synchronized (errors) {
+								errors.add(index + " polled after " + last[producer]);
+							}
+						}
+						last[producer] = index;
+						count[producer]++;
+					}
+					received[consumer] = count;
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(new ArrayList<String>(), errors);
+		for (int p = 0; p < producers; p++) {
+			int total = 0;
+			for (int c = 0; c < consumers; c++) {
+				total += received[c][p];
+			}
+			assertEquals(valuesPerProducer, total);
+		}
+		assertTrue(buffer.isEmpty());
+	}
+}
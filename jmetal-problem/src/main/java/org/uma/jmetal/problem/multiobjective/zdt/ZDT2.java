@@ -21,6 +21,7 @@
 
 package org.uma.jmetal.problem.multiobjective.zdt;
 
+import org.uma.jmetal.problem.DoubleBatchEvaluableProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -29,7 +30,7 @@ import java.util.List;
 
 /** Class representing problem ZDT2 */
 @SuppressWarnings("serial")
-public class ZDT2 extends AbstractDoubleProblem {
+public class ZDT2 extends AbstractDoubleProblem implements DoubleBatchEvaluableProblem {
 
   /** Constructor. Creates default instance of problem ZDT2 (30 decision variables) */
   public ZDT2()  {
@@ -72,6 +73,25 @@ public class ZDT2 extends AbstractDoubleProblem {
     solution.setObjective(1, f[1]);
   }
 
+  /** Evaluates a batch of solutions. The results are the same as those of evaluate(DoubleSolution) */
+  @Override
+  public void evaluate(double[] variables, double[] objectives, int numberOfSolutions) {
+    double constant = 9.0 / (getNumberOfVariables() - 1);
+    int numberOfVariables = getNumberOfVariables() ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      int offset = i * numberOfVariables ;
+      double g = 0.0;
+      for (int j = 1; j < numberOfVariables; j++) {
+        g += variables[offset + j];
+      }
+      g = constant * g;
+      g = g + 1.0;
+
+      objectives[2 * i] = variables[offset];
+      objectives[2 * i + 1] = this.evalH(variables[offset], g) * g;
+    }
+  }
+
   /**
    * Returns the value of the ZDT2 function G.
    *
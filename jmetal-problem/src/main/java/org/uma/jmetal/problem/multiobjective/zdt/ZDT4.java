@@ -21,6 +21,7 @@
 
 package org.uma.jmetal.problem.multiobjective.zdt;
 
+import org.uma.jmetal.problem.DoubleBatchEvaluableProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -31,7 +32,7 @@ import java.util.List;
  * Class representing problem ZDT4
  */
 @SuppressWarnings("serial")
-public class ZDT4 extends AbstractDoubleProblem {
+public class ZDT4 extends AbstractDoubleProblem implements DoubleBatchEvaluableProblem {
 
   /** Constructor. Creates a default instance of problem ZDT4 (10 decision variables */
   public ZDT4() {
@@ -75,6 +76,25 @@ public class ZDT4 extends AbstractDoubleProblem {
     solution.setObjective(1, f[1]);
   }
 
+  /** Evaluates a batch of solutions. The results are the same as those of evaluate(DoubleSolution) */
+  @Override
+  public void evaluate(double[] variables, double[] objectives, int numberOfSolutions) {
+    double constant = 1.0 + 10.0 * (getNumberOfVariables() - 1);
+    int numberOfVariables = getNumberOfVariables() ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      int offset = i * numberOfVariables ;
+      double g = 0.0;
+      for (int j = 1; j < numberOfVariables; j++) {
+        double x = variables[offset + j];
+        g += Math.pow(x, 2.0) + -10.0 * Math.cos(4.0 * Math.PI * x);
+      }
+      g = g + constant;
+
+      objectives[2 * i] = variables[offset];
+      objectives[2 * i + 1] = this.evalH(variables[offset], g) * g;
+    }
+  }
+
   /**
    * Returns the value of the ZDT4 function G.
    *
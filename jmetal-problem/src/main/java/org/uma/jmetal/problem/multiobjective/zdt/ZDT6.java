@@ -21,6 +21,7 @@
 
 package org.uma.jmetal.problem.multiobjective.zdt;
 
+import org.uma.jmetal.problem.DoubleBatchEvaluableProblem;
 import org.uma.jmetal.problem.impl.AbstractDoubleProblem;
 import org.uma.jmetal.solution.DoubleSolution;
 
@@ -31,7 +32,7 @@ import java.util.List;
  * Class representing problem ZDT6
  */
 @SuppressWarnings("serial")
-public class ZDT6 extends AbstractDoubleProblem {
+public class ZDT6 extends AbstractDoubleProblem implements DoubleBatchEvaluableProblem {
 
   /** Constructor. Creates a default instance of problem ZDT6 (10 decision variables) */
   public ZDT6()  {
@@ -74,6 +75,28 @@ public class ZDT6 extends AbstractDoubleProblem {
     solution.setObjective(1, f[1]);
   }
 
+  /** Evaluates a batch of solutions. The results are the same as those of evaluate(DoubleSolution) */
+  @Override
+  public void evaluate(double[] variables, double[] objectives, int numberOfSolutions) {
+    int numberOfVariables = getNumberOfVariables() ;
+    for (int i = 0; i < numberOfSolutions; i++) {
+      int offset = i * numberOfVariables ;
+      double x = variables[offset];
+      double f = 1.0 - Math.exp((-4.0) * x) * Math.pow(Math.sin(6.0 * Math.PI * x), 6.0);
+      double g = 0.0;
+      for (int j = 1; j < numberOfVariables; j++) {
+        g += variables[offset + j];
+      }
+      g = g / (numberOfVariables - 1);
+      g = Math.pow(g, 0.25);
+      g = 9.0 * g;
+      g = 1.0 + g;
+
+      objectives[2 * i] = f;
+      objectives[2 * i + 1] = this.evalH(f, g) * g;
+    }
+  }
+
   /**
    * Returns the value of the ZDT6 function G.
    *